@@ -0,0 +1,69 @@
+package com.upkeep.benchmark;
+
+import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import com.upkeep.infrastructure.adapter.out.security.JwtTokenService;
+import com.upkeep.infrastructure.adapter.out.security.VerifiedTokenCache;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares access-token validation with a full RSA signature check against a verified-token cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenValidationBenchmark {
+
+    private JwtTokenService coldService;
+    private JwtTokenService cachedService;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        PrivateKey privateKey = KeyUtils.readPrivateKey("privateKey.pem");
+        PublicKey publicKey = KeyUtils.readPublicKey("publicKey.pem");
+        DefaultJWTParser parser = new DefaultJWTParser(new JWTAuthContextInfo(publicKey, "upkeep"));
+
+        coldService = new JwtTokenService(null, parser, new VerifiedTokenCache(0), null, null, null);
+        cachedService = new JwtTokenService(null, parser, new VerifiedTokenCache(10_000), null, null, null);
+
+        token = Jwt.issuer("upkeep")
+                .subject(UUID.randomUUID().toString())
+                .claim("email", "bench@example.com")
+                .claim("accountType", "COMPANY")
+                .expiresIn(Duration.ofHours(1))
+                .sign(privateKey);
+        cachedService.validateAccessToken(token);
+    }
+
+    @Benchmark
+    public TokenClaims cold() {
+        return coldService.validateAccessToken(token);
+    }
+
+    @Benchmark
+    public TokenClaims cached() {
+        return cachedService.validateAccessToken(token);
+    }
+}
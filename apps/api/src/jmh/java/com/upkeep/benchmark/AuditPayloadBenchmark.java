@@ -0,0 +1,96 @@
+package com.upkeep.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.upkeep.domain.model.audit.AuditEvent;
+import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditPayload;
+import com.upkeep.domain.model.budget.Budget;
+import com.upkeep.domain.model.budget.Currency;
+import com.upkeep.domain.model.budget.Money;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.infrastructure.adapter.out.persistence.audit.AuditEventEntity;
+import com.upkeep.infrastructure.adapter.out.persistence.audit.AuditEventMapper;
+import com.upkeep.infrastructure.adapter.out.persistence.audit.AuditPayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares audit payload writes and reads through the typed codec against the previous {@code Map<String, Object>}
+ * payloads with a standalone {@link ObjectMapper}. {@code readLazy} maps a row without touching its payload, as a
+ * listing that only needs the event metadata does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditPayloadBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<>() {};
+
+    private ObjectMapper legacyMapper;
+    private AuditPayloadCodec codec;
+    private AuditEvent event;
+    private AuditEventEntity entity;
+
+    @Setup
+    public void setUp() {
+        legacyMapper = new ObjectMapper();
+        codec = new AuditPayloadCodec(new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+        CompanyId companyId = CompanyId.generate();
+        event = AuditEvent.budgetUpdated(companyId, CustomerId.generate(),
+                Budget.create(companyId, new Money(60000, Currency.EUR)), 50000);
+        entity = AuditEventMapper.toEntity(event, codec);
+    }
+
+    @Benchmark
+    public String writeLegacyMap() throws JsonProcessingException {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("previousAmountCents", 50000L);
+        payload.put("newAmountCents", 60000L);
+        payload.put("currency", Currency.EUR.name());
+        return legacyMapper.writeValueAsString(new HashMap<>(payload));
+    }
+
+    @Benchmark
+    public AuditEventEntity writeTyped() {
+        return AuditEventMapper.toEntity(event, codec);
+    }
+
+    @Benchmark
+    public Map<String, Object> readLegacyMap() throws JsonProcessingException {
+        Map<String, Object> payload = legacyMapper.readValue(entity.payload, MAP_TYPE_REF);
+        return new HashMap<>(payload);
+    }
+
+    @Benchmark
+    public AuditPayload readTyped() {
+        return AuditEventMapper.toDomain(entity, codec).getPayload();
+    }
+
+    @Benchmark
+    public AuditEventId readLazy() {
+        return AuditEventMapper.toDomain(entity, codec).getId();
+    }
+}
@@ -0,0 +1,99 @@
+package com.upkeep.benchmark;
+
+import io.smallrye.jwt.algorithm.SignatureAlgorithm;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access-token sign and verify throughput per signature algorithm. {@code RS256-pem} uses the repository's
+ * current RSA key pair; the others use freshly generated keys of the usual size for the algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256-pem", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private SignatureAlgorithm signatureAlgorithm;
+    private PrivateKey privateKey;
+    private DefaultJWTParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        PublicKey publicKey;
+        switch (algorithm) {
+            case "RS256-pem" -> {
+                signatureAlgorithm = SignatureAlgorithm.RS256;
+                privateKey = KeyUtils.readPrivateKey("privateKey.pem");
+                publicKey = KeyUtils.readPublicKey("publicKey.pem");
+            }
+            case "ES256" -> {
+                signatureAlgorithm = SignatureAlgorithm.ES256;
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(256);
+                KeyPair keyPair = generator.generateKeyPair();
+                privateKey = keyPair.getPrivate();
+                publicKey = keyPair.getPublic();
+            }
+            case "EdDSA" -> {
+                signatureAlgorithm = SignatureAlgorithm.EDDSA;
+                KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                privateKey = keyPair.getPrivate();
+                publicKey = keyPair.getPublic();
+            }
+            default -> throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+
+        JWTAuthContextInfo verification = new JWTAuthContextInfo(publicKey, "upkeep");
+        verification.setSignatureAlgorithm(Set.of(signatureAlgorithm));
+        parser = new DefaultJWTParser(verification);
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwt.issuer("upkeep")
+                .subject(UUID.randomUUID().toString())
+                .claim("email", "bench@example.com")
+                .claim("accountType", "COMPANY")
+                .expiresIn(Duration.ofHours(1))
+                .jws()
+                .algorithm(signatureAlgorithm)
+                .keyId("bench-key")
+                .sign(privateKey);
+    }
+
+    @Benchmark
+    public JsonWebToken verify() throws Exception {
+        return parser.parse(token);
+    }
+}
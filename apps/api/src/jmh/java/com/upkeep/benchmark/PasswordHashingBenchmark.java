@@ -0,0 +1,68 @@
+package com.upkeep.benchmark;
+
+import com.upkeep.domain.model.customer.Password;
+import com.upkeep.domain.model.customer.PasswordHash;
+import com.upkeep.infrastructure.adapter.out.security.Argon2idPasswordHasher;
+import com.upkeep.infrastructure.adapter.out.security.BcryptPasswordHasher;
+import com.upkeep.infrastructure.adapter.out.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares password verification time of BCrypt at several costs against memory-hard Argon2id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final Password PASSWORD = new Password("SecurePass123");
+
+    @Param({"10", "12"})
+    public int bcryptCost;
+
+    @Param({"19456"})
+    public int argon2MemoryKib;
+
+    @Param({"2"})
+    public int argon2Iterations;
+
+    private BcryptPasswordHasher bcrypt;
+    private Argon2idPasswordHasher argon2id;
+    private PasswordHash bcryptHash;
+    private PasswordHash argon2idHash;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 4, 1, new SimpleMeterRegistry());
+        bcrypt = new BcryptPasswordHasher(executor, bcryptCost);
+        argon2id = new Argon2idPasswordHasher(executor, bcrypt, argon2MemoryKib, argon2Iterations, 1);
+        bcryptHash = bcrypt.hash(PASSWORD);
+        argon2idHash = argon2id.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean bcryptVerify() {
+        return bcrypt.verify(PASSWORD, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean argon2idVerify() {
+        return argon2id.verify(PASSWORD, argon2idHash);
+    }
+}
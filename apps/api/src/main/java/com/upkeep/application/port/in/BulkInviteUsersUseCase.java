@@ -0,0 +1,46 @@
+package com.upkeep.application.port.in;
+
+import java.util.List;
+
+public interface BulkInviteUsersUseCase {
+
+    int MAX_ROWS = 1000;
+
+    BulkInviteResult execute(BulkInviteCommand command);
+
+    record BulkInviteCommand(
+            String customerId,
+            String companyId,
+            List<InviteeRow> invitees
+    ) {}
+
+    /**
+     * One requested invitation as submitted; a blank role means {@code MEMBER}.
+     */
+    record InviteeRow(
+            String email,
+            String role
+    ) {}
+
+    record BulkInviteResult(
+            int invited,
+            int skipped,
+            List<RowResult> rows
+    ) {}
+
+    record RowResult(
+            int row,
+            String email,
+            RowStatus status,
+            String invitationId,
+            String message
+    ) {}
+
+    enum RowStatus {
+        INVITED,
+        ALREADY_PENDING,
+        ALREADY_MEMBER,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -0,0 +1,29 @@
+package com.upkeep.application.port.in;
+
+import java.time.Duration;
+
+public interface DispatchEmailOutboxUseCase {
+
+    DispatchResult execute(DispatchCommand command);
+
+    record DispatchCommand(
+            int batchSize,
+            int maxBatches,
+            int maxAttempts,
+            Duration lease,
+            Duration initialBackoff,
+            Duration maxBackoff
+    ) {
+    }
+
+    /**
+     * {@code outboxLag} is the age of the oldest email still pending after the run.
+     */
+    record DispatchResult(
+            int sent,
+            int retried,
+            int failed,
+            Duration outboxLag
+    ) {
+    }
+}
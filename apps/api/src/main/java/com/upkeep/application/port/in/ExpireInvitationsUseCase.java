@@ -0,0 +1,21 @@
+package com.upkeep.application.port.in;
+
+import java.time.Duration;
+
+public interface ExpireInvitationsUseCase {
+
+    ExpireResult execute(ExpireCommand command);
+
+    record ExpireCommand(
+            int batchSize,
+            int maxBatches,
+            Duration pauseBetweenBatches
+    ) {
+    }
+
+    record ExpireResult(
+            int expired,
+            boolean lockAcquired
+    ) {
+    }
+}
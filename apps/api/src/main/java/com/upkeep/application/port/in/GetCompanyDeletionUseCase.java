@@ -0,0 +1,10 @@
+package com.upkeep.application.port.in;
+
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.CompanyDeletionStatus;
+
+public interface GetCompanyDeletionUseCase {
+
+    CompanyDeletionStatus execute(GetCompanyDeletionQuery query);
+
+    record GetCompanyDeletionQuery(String customerId, String companyId) {}
+}
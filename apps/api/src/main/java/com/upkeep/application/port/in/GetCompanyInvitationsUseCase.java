@@ -0,0 +1,50 @@
+package com.upkeep.application.port.in;
+
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public interface GetCompanyInvitationsUseCase {
+
+    int DEFAULT_LIMIT = 50;
+    int MAX_LIMIT = 200;
+
+    InvitationPage execute(GetCompanyInvitationsQuery query);
+
+    /**
+     * @param statuses optional status filter, empty for every status
+     * @param cursor   opaque {@link InvitationPage#nextCursor()} of the previous page, {@code null} for the first page
+     */
+    record GetCompanyInvitationsQuery(
+            String customerId,
+            String companyId,
+            Set<InvitationStatus> statuses,
+            String cursor,
+            int limit
+    ) {
+        public GetCompanyInvitationsQuery(String customerId, String companyId) {
+            this(customerId, companyId, Set.of(), null, DEFAULT_LIMIT);
+        }
+    }
+
+    record InvitationInfo(
+            String invitationId,
+            String email,
+            Role role,
+            InvitationStatus status,
+            String invitedBy,
+            Instant createdAt,
+            Instant expiresAt
+    ) {}
+
+    /**
+     * Invitations newest first; {@code nextCursor} is {@code null} on the last page.
+     */
+    record InvitationPage(
+            List<InvitationInfo> invitations,
+            String nextCursor
+    ) {}
+}
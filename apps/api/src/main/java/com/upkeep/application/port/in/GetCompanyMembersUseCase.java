@@ -7,12 +7,26 @@ import java.util.List;
 
 public interface GetCompanyMembersUseCase {
 
-    List<MemberInfo> execute(GetCompanyMembersQuery query);
+    int DEFAULT_LIMIT = 50;
+    int MAX_LIMIT = 200;
 
+    MemberPage execute(GetCompanyMembersQuery query);
+
+    /**
+     * @param role   optional role filter, {@code null} for every role
+     * @param cursor opaque {@link MemberPage#nextCursor()} of the previous page, {@code null} for the first page
+     */
     record GetCompanyMembersQuery(
             String customerId,
-            String companyId
-    ) {}
+            String companyId,
+            Role role,
+            String cursor,
+            int limit
+    ) {
+        public GetCompanyMembersQuery(String customerId, String companyId) {
+            this(customerId, companyId, null, null, DEFAULT_LIMIT);
+        }
+    }
 
     record MemberInfo(
             String membershipId,
@@ -21,4 +35,12 @@ public interface GetCompanyMembersUseCase {
             Role role,
             Instant joinedAt
     ) {}
+
+    /**
+     * Members ordered by join date; {@code nextCursor} is {@code null} on the last page.
+     */
+    record MemberPage(
+            List<MemberInfo> members,
+            String nextCursor
+    ) {}
 }
@@ -0,0 +1,22 @@
+package com.upkeep.application.port.in;
+
+import java.time.Duration;
+
+public interface ProcessCompanyDeletionsUseCase {
+
+    ProcessResult execute(ProcessCommand command);
+
+    record ProcessCommand(
+            int batchSize,
+            int maxBatches,
+            Duration pauseBetweenBatches
+    ) {
+    }
+
+    record ProcessResult(
+            long rowsDeleted,
+            int companiesDeleted,
+            boolean lockAcquired
+    ) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.upkeep.application.port.in;
+
+import java.time.Duration;
+
+public interface PurgeEmailOutboxUseCase {
+
+    int execute(PurgeCommand command);
+
+    record PurgeCommand(
+            Duration retention,
+            int batchSize,
+            int maxBatches
+    ) {
+    }
+}
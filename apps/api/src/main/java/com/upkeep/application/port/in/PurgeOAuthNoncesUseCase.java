@@ -0,0 +1,12 @@
+package com.upkeep.application.port.in;
+
+public interface PurgeOAuthNoncesUseCase {
+
+    int execute(PurgeCommand command);
+
+    record PurgeCommand(
+            int batchSize,
+            int maxBatches
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.upkeep.application.port.in;
+
+import java.time.Duration;
+
+public interface PurgeRefreshTokensUseCase {
+
+    PurgeResult execute(PurgeCommand command);
+
+    record PurgeCommand(
+            int batchSize,
+            int maxBatches,
+            Duration pauseBetweenBatches
+    ) {
+    }
+
+    record PurgeResult(
+            int expiredDeleted,
+            int revokedDeleted,
+            boolean lockAcquired
+    ) {
+        public int totalDeleted() {
+            return expiredDeleted + revokedDeleted;
+        }
+    }
+}
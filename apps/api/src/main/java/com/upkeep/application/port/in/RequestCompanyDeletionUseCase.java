@@ -0,0 +1,20 @@
+package com.upkeep.application.port.in;
+
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+
+import java.time.Instant;
+
+public interface RequestCompanyDeletionUseCase {
+
+    CompanyDeletionStatus execute(RequestCompanyDeletionCommand command);
+
+    record RequestCompanyDeletionCommand(String customerId, String companyId) {}
+
+    record CompanyDeletionStatus(
+            String companyId,
+            CompanyDeletionStep step,
+            long rowsDeleted,
+            Instant requestedAt,
+            Instant completedAt
+    ) {}
+}
@@ -0,0 +1,38 @@
+package com.upkeep.application.port.in.audit;
+
+import com.upkeep.domain.model.audit.AuditExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+public interface ExportCompanyAuditEventsUseCase {
+
+    /**
+     * Validates and authorizes the export up front; the rows are only read once {@link AuditExport#body()} is written.
+     */
+    AuditExport execute(ExportCompanyAuditEventsQuery query);
+
+    /**
+     * @param from inclusive start of the period
+     * @param to   exclusive end of the period
+     */
+    record ExportCompanyAuditEventsQuery(
+            String customerId,
+            String companyId,
+            Instant from,
+            Instant to,
+            AuditExportFormat format
+    ) {}
+
+    record AuditExport(
+            String fileName,
+            AuditExportFormat format,
+            Body body
+    ) {}
+
+    @FunctionalInterface
+    interface Body {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,54 @@
+package com.upkeep.application.port.in.audit;
+
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.AuditPayload;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public interface GetCompanyAuditEventsUseCase {
+
+    int DEFAULT_LIMIT = 50;
+    int MAX_LIMIT = 200;
+
+    AuditEventPage execute(GetCompanyAuditEventsQuery query);
+
+    /**
+     * @param eventTypes optional type filter, empty for every type
+     * @param from       optional inclusive start of the time range
+     * @param to         optional exclusive end of the time range
+     * @param cursor     opaque {@link AuditEventPage#nextCursor()} of the previous page, {@code null} for the first page
+     */
+    record GetCompanyAuditEventsQuery(
+            String customerId,
+            String companyId,
+            Set<AuditEventType> eventTypes,
+            Instant from,
+            Instant to,
+            String cursor,
+            int limit
+    ) {
+        public GetCompanyAuditEventsQuery(String customerId, String companyId) {
+            this(customerId, companyId, Set.of(), null, null, null, DEFAULT_LIMIT);
+        }
+    }
+
+    record AuditEventInfo(
+            String auditEventId,
+            AuditEventType eventType,
+            String actorId,
+            String targetType,
+            String targetId,
+            AuditPayload payload,
+            Instant timestamp
+    ) {}
+
+    /**
+     * Audit events newest first; {@code nextCursor} is {@code null} on the last page.
+     */
+    record AuditEventPage(
+            List<AuditEventInfo> events,
+            String nextCursor
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.upkeep.application.port.in.audit;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface MaintainAuditPartitionsUseCase {
+
+    MaintainResult execute(MaintainCommand command);
+
+    /**
+     * @param monthsAhead     future months that must already have a partition
+     * @param retentionMonths months kept attached before the current one, 0 to never detach
+     * @param blockSize       events per sealed checkpoint, as for the audit chain verification
+     */
+    record MaintainCommand(int monthsAhead, int retentionMonths, int blockSize) {}
+
+    /**
+     * @param lockAcquired  {@code false} when another node was already maintaining the partitions
+     * @param monthsCovered consecutive months, starting with the current one, that have a partition; read on every
+     *                      node whether or not it held the lock. At 0, every audited write fails
+     */
+    record MaintainResult(List<YearMonth> created, List<YearMonth> detached, boolean lockAcquired, int monthsCovered) {}
+}
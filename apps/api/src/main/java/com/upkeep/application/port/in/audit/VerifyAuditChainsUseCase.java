@@ -0,0 +1,31 @@
+package com.upkeep.application.port.in.audit;
+
+import com.upkeep.domain.model.audit.AuditChainBreak;
+
+import java.util.List;
+
+public interface VerifyAuditChainsUseCase {
+
+    VerifyResult execute(VerifyCommand command);
+
+    /**
+     * @param parallelism   companies verified at the same time, each on its own connection
+     * @param blockSize     events per sealed checkpoint
+     * @param recheckBlocks least recently verified checkpoints re-verified per company and run
+     * @param maxTailBlocks tail blocks verified per company and run, each in its own transaction
+     */
+    record VerifyCommand(int parallelism, int blockSize, int recheckBlocks, int maxTailBlocks) {}
+
+    /**
+     * @param companiesSkipped companies another node was verifying at the time
+     * @param companiesFailed  companies whose verification threw before it could finish
+     */
+    record VerifyResult(
+            int companiesVerified,
+            int companiesSkipped,
+            int companiesFailed,
+            int checkpointsSealed,
+            int checkpointsRechecked,
+            List<AuditChainBreak> breaks
+    ) {}
+}
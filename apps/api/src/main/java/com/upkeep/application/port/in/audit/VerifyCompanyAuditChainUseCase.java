@@ -0,0 +1,47 @@
+package com.upkeep.application.port.in.audit;
+
+import com.upkeep.domain.model.audit.AuditChainBreak;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Verifies a company's audit chain over a time range. Events in sealed blocks are proven against their checkpoint's
+ * Merkle root with an audit path, so the work is the events in the range plus O(log block size) stored nodes per
+ * overlapping checkpoint. Unsealed events in the range are checked link by link, plus up to a block more to reach the
+ * chain head.
+ */
+public interface VerifyCompanyAuditChainUseCase {
+
+    VerificationReport execute(VerifyCompanyAuditChainQuery query);
+
+    /**
+     * @param from optional inclusive start of the time range
+     * @param to   optional exclusive end of the time range
+     */
+    record VerifyCompanyAuditChainQuery(
+            String customerId,
+            String companyId,
+            Instant from,
+            Instant to
+    ) {}
+
+    /**
+     * @param firstSequence       first chained sequence in the range, {@code null} when the range has no chained events
+     * @param checkpointsVerified sealed blocks overlapping the range, the part in the range proven against each one's
+     *                            Merkle root
+     * @param tailEventsVerified  events after the last checkpoint, checked link by link
+     * @param tailReachedHead     {@code false} when the range ends more than a block before the head of a chain that is
+     *                            not sealed that far yet: its unsealed events were checked against one another but not
+     *                            followed to the head
+     */
+    record VerificationReport(
+            boolean intact,
+            Long firstSequence,
+            Long lastSequence,
+            int checkpointsVerified,
+            long tailEventsVerified,
+            boolean tailReachedHead,
+            List<AuditChainBreak> breaks
+    ) {}
+}
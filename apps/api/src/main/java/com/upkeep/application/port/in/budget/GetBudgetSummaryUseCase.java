@@ -2,7 +2,12 @@ package com.upkeep.application.port.in.budget;
 
 public interface GetBudgetSummaryUseCase {
 
-    BudgetSummary execute(String companyId);
+    BudgetSummary execute(GetBudgetSummaryQuery query);
+
+    record GetBudgetSummaryQuery(
+            String companyId,
+            String customerId
+    ) {}
 
     record BudgetSummary(
             String budgetId,
@@ -0,0 +1,96 @@
+package com.upkeep.application.port.out.audit;
+
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.audit.MerkleNode;
+import com.upkeep.domain.model.audit.MerkleSpan;
+import com.upkeep.domain.model.company.CompanyId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read side of the per-company audit chains and their checkpoints. Events are chained as they are inserted by
+ * {@link AuditEventRepository#insertAll}.
+ */
+public interface AuditChainRepository {
+
+    /**
+     * The last committed link of the company's chain; every sequence up to it is committed too.
+     */
+    Optional<AuditChainLink> findHead(CompanyId companyId);
+
+    List<CompanyId> findChainedCompanies();
+
+    /**
+     * Entries with sequences {@code fromSequence} to {@code toSequence} inclusive, in sequence order. The leaf hash is
+     * recomputed from the stored row, the chain hash is the stored one.
+     */
+    List<AuditChainEntry> findEntries(CompanyId companyId, long fromSequence, long toSequence);
+
+    /**
+     * First and last sequence of the company's chained events with {@code from <= timestamp < to}; either bound may be
+     * {@code null}.
+     */
+    Optional<SequenceRange> findSequenceRange(CompanyId companyId, Instant from, Instant to);
+
+    /**
+     * Last sequence of each company's chained events with {@code from <= timestamp < to}.
+     */
+    Map<CompanyId, Long> findLastSequences(Instant from, Instant to);
+
+    Optional<AuditCheckpoint> findLatestCheckpoint(CompanyId companyId);
+
+    /**
+     * Checkpoints overlapping {@code fromSequence} to {@code toSequence}, in sequence order. Archived checkpoints are
+     * left out.
+     */
+    List<AuditCheckpoint> findCheckpoints(CompanyId companyId, long fromSequence, long toSequence);
+
+    /**
+     * Archived checkpoints are left out, so they never take the place of one that can still be rechecked.
+     */
+    List<AuditCheckpoint> findLeastRecentlyVerified(CompanyId companyId, int limit);
+
+    /**
+     * @param nodes the block's Merkle tree below the root, or none when its events could not all be read
+     */
+    void saveCheckpoint(AuditCheckpoint checkpoint, List<MerkleNode> nodes);
+
+    /**
+     * The stored Merkle nodes among {@code spans}; checkpoints sealed without nodes have none.
+     */
+    List<MerkleNode> findMerkleNodes(CompanyId companyId, Collection<MerkleSpan> spans);
+
+    void markVerified(CompanyId companyId, long toSequence, Instant verifiedAt);
+
+    /**
+     * Archives the company's checkpoints starting at or before {@code throughSequence}, for when their events are
+     * detached with an expired audit partition. An archived checkpoint still anchors the chain after it; its Merkle
+     * nodes are dropped, there being no events left to prove.
+     */
+    void archiveCheckpoints(CompanyId companyId, long throughSequence, Instant archivedAt);
+
+    /**
+     * Drops the company's chain head and checkpoints, for company deletion: its events are detached from the company,
+     * which leaves nothing to verify them against. The Merkle nodes, one or two per event, are left to
+     * {@link #deleteMerkleNodesChunk}.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteChain(CompanyId companyId);
+
+    /**
+     * Deletes up to {@code limit} of the company's Merkle nodes, for company deletion.
+     *
+     * @return the number of nodes deleted
+     */
+    int deleteMerkleNodesChunk(CompanyId companyId, int limit);
+
+    record AuditChainEntry(long sequence, String leafHash, String chainHash) {}
+
+    record SequenceRange(long first, long last) {}
+}
@@ -0,0 +1,20 @@
+package com.upkeep.application.port.out.audit;
+
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import com.upkeep.domain.model.company.CompanyId;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Streams a company's audit events from the database to an output stream, row by row, without loading the result.
+ */
+public interface AuditEventExporter {
+
+    /**
+     * Writes the events with {@code from <= timestamp < to}, oldest first. Runs on its own connection, outside any
+     * transaction, so a long export does not hold one open on the caller's side.
+     */
+    void export(CompanyId companyId, Instant from, Instant to, AuditExportFormat format, OutputStream out) throws IOException;
+}
@@ -2,11 +2,40 @@ package com.upkeep.application.port.out.audit;
 
 import com.upkeep.domain.model.audit.AuditEvent;
 import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.company.CompanyId;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AuditEventRepository {
-    void save(AuditEvent auditEvent);
+    /**
+     * Inserts the events in JDBC batches within the current transaction.
+     */
+    void insertAll(List<AuditEvent> auditEvents);
 
     Optional<AuditEvent> findById(AuditEventId id);
+
+    /**
+     * A page of the company's audit events, newest first.
+     *
+     * @param eventTypes types to include, empty for every type
+     * @param from       inclusive lower bound of the time range, {@code null} for none
+     * @param to         exclusive upper bound of the time range, {@code null} for none
+     * @param before     position of the last event of the previous page, {@code null} for the first page
+     */
+    List<AuditEvent> findCompanyPage(CompanyId companyId, Set<AuditEventType> eventTypes, Instant from, Instant to,
+                                     AuditCursor before, int limit);
+
+    /**
+     * Clears the company of up to {@code limit} of its audit events, keeping the events themselves, for company
+     * deletion.
+     *
+     * @return the number of events detached; fewer than {@code limit} once none are left
+     */
+    int detachChunkFromCompany(CompanyId companyId, int limit);
+
+    record AuditCursor(Instant timestamp, AuditEventId auditEventId) {}
 }
@@ -0,0 +1,12 @@
+package com.upkeep.application.port.out.audit;
+
+import com.upkeep.domain.model.audit.AuditEvent;
+
+/**
+ * Records audit events in the caller's transaction. Recording only buffers the event; every event of the transaction
+ * is written in one batch just before it commits, so the events are stored if and only if the transaction commits.
+ */
+public interface AuditLog {
+
+    void record(AuditEvent event);
+}
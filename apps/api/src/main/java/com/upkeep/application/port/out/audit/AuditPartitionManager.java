@@ -0,0 +1,30 @@
+package com.upkeep.application.port.out.audit;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * The monthly range partitions of the audit event table, one per UTC calendar month.
+ */
+public interface AuditPartitionManager {
+
+    /**
+     * Creates the partition of every month from {@code from} through {@code through} that does not exist yet.
+     *
+     * @return the months whose partition was created
+     */
+    List<YearMonth> createPartitions(YearMonth from, YearMonth through);
+
+    /**
+     * The months whose partition is attached, oldest first.
+     */
+    List<YearMonth> findAttachedPartitions();
+
+    /**
+     * Detaches the month's partition without blocking concurrent inserts, keeping its table for archiving. Must run
+     * outside a transaction.
+     *
+     * @return {@code false} when the partition was no longer attached
+     */
+    boolean detachPartition(YearMonth month);
+}
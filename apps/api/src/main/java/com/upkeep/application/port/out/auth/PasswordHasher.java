@@ -7,4 +7,10 @@ public interface PasswordHasher {
 
     PasswordHash hash(Password password);
     boolean verify(Password password, PasswordHash hash);
+
+    /**
+     * Whether a verified hash was produced with weaker parameters than the configured ones, or another algorithm,
+     * and should be replaced by a fresh {@link #hash(Password)}. Stronger hashes are kept, never downgraded.
+     */
+    boolean needsRehash(PasswordHash hash);
 }
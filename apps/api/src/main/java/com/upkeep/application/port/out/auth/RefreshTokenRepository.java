@@ -1,32 +1,59 @@
 package com.upkeep.application.port.out.auth;
 
+import com.upkeep.domain.model.customer.AccountType;
 import com.upkeep.domain.model.customer.CustomerId;
 
 import java.time.Instant;
 import java.util.Optional;
 
+/**
+ * Refresh tokens are only ever stored and looked up by their SHA-256 digest; the raw token never reaches the database.
+ */
 public interface RefreshTokenRepository {
     void save(RefreshTokenData tokenData);
 
-    Optional<RefreshTokenData> findByToken(String token);
+    /**
+     * Loads the token together with the customer fields needed to mint an access token, in a single query.
+     */
+    Optional<RefreshTokenSession> findSessionByTokenHash(byte[] tokenHash);
 
-    void revokeByToken(String token);
+    void revokeByTokenHash(byte[] tokenHash);
 
     void revokeAllByCustomerId(CustomerId customerId);
 
-    void deleteExpiredTokens();
+    /**
+     * Deletes up to {@code limit} tokens that expired before {@code cutoff}, oldest first.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteExpiredTokens(Instant cutoff, int limit);
+
+    /**
+     * Deletes up to {@code limit} tokens revoked before {@code cutoff}, oldest revocation first.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteRevokedTokens(Instant cutoff, int limit);
 
     record RefreshTokenData(
-            String token,
+            byte[] tokenHash,
             CustomerId customerId,
             Instant expiresAt,
             Instant createdAt,
             Instant revokedAt
     ) {
-        public static RefreshTokenData create(String token, CustomerId customerId, Instant expiresAt) {
-            return new RefreshTokenData(token, customerId, expiresAt, Instant.now(), null);
+        public static RefreshTokenData create(byte[] tokenHash, CustomerId customerId, Instant expiresAt) {
+            return new RefreshTokenData(tokenHash, customerId, expiresAt, Instant.now(), null);
         }
+    }
 
+    record RefreshTokenSession(
+            CustomerId customerId,
+            String email,
+            AccountType accountType,
+            Instant expiresAt,
+            Instant revokedAt
+    ) {
         public boolean isExpired() {
             return Instant.now().isAfter(expiresAt);
         }
@@ -34,9 +61,5 @@ public interface RefreshTokenRepository {
         public boolean isRevoked() {
             return revokedAt != null;
         }
-
-        public boolean isValid() {
-            return !isExpired() && !isRevoked();
-        }
     }
 }
@@ -1,6 +1,9 @@
 package com.upkeep.application.port.out.auth;
 
 import com.upkeep.domain.model.customer.Customer;
+import com.upkeep.domain.model.membership.Role;
+
+import java.util.Map;
 
 public interface TokenService {
     String generateAccessToken(Customer customer);
@@ -13,7 +16,17 @@ public interface TokenService {
 
     void revokeRefreshToken(String refreshToken);
 
-    record TokenClaims(String userId, String email, String accountType) {
+    record TokenClaims(String userId, String email, String accountType, MembershipClaims memberships) {
+        public TokenClaims(String userId, String email, String accountType) {
+            this(userId, email, accountType, null);
+        }
+    }
+
+    /**
+     * Roles held by the customer when the token was minted, keyed by company id, and the membership version
+     * they were read at. Only trustworthy while {@code version} matches the customer's current version.
+     */
+    record MembershipClaims(long version, Map<String, Role> roles) {
     }
 
     record RefreshResult(String accessToken, String userId) {
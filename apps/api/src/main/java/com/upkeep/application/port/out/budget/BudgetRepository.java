@@ -17,4 +17,11 @@ public interface BudgetRepository {
     Optional<Budget> findByCompanyIdAndEffectiveFrom(CompanyId companyId, Instant effectiveFrom);
 
     boolean existsByCompanyId(CompanyId companyId);
+
+    /**
+     * Deletes up to {@code limit} of the company's budgets, for company deletion.
+     *
+     * @return the number of budgets deleted; fewer than {@code limit} once none are left
+     */
+    int deleteChunkByCompanyId(CompanyId companyId, int limit);
 }
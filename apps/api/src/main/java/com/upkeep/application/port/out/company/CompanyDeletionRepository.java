@@ -0,0 +1,38 @@
+package com.upkeep.application.port.out.company;
+
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Progress of company deletions. A company with a deletion record is treated as gone by authorization lookups,
+ * even while its rows are still being removed.
+ */
+public interface CompanyDeletionRepository {
+
+    CompanyDeletion create(CompanyId companyId, CustomerId requestedBy, Instant requestedAt);
+
+    Optional<CompanyDeletion> findByCompanyId(CompanyId companyId);
+
+    /**
+     * @return the oldest deletion that has not completed yet
+     */
+    Optional<CompanyDeletion> findNextPending();
+
+    /**
+     * Adds {@code rowsDeleted} to the deletion's running total and moves it to {@code step}.
+     */
+    void recordProgress(CompanyId companyId, CompanyDeletionStep step, int rowsDeleted, Instant at);
+
+    record CompanyDeletion(
+            CompanyId companyId,
+            CustomerId requestedBy,
+            CompanyDeletionStep step,
+            long rowsDeleted,
+            Instant requestedAt,
+            Instant completedAt
+    ) {}
+}
@@ -3,6 +3,8 @@ package com.upkeep.application.port.out.company;
 import com.upkeep.domain.model.company.Company;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.company.CompanySlug;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
 
 import java.util.Optional;
 
@@ -15,4 +17,27 @@ public interface CompanyRepository {
     Optional<Company> findBySlug(CompanySlug slug);
 
     boolean existsBySlug(CompanySlug slug);
+
+    /**
+     * Deletes the company row and its stats. Child rows are expected to have been removed in chunks beforehand;
+     * anything left is removed by the foreign key cascades.
+     */
+    void delete(CompanyId companyId);
+
+    /**
+     * Loads the company, the caller's role and the precomputed stats in one round trip.
+     * Empty when the company does not exist or the customer is not a member of it.
+     */
+    Optional<CompanyDashboardRow> findDashboard(CompanyId companyId, CustomerId customerId);
+
+    record CompanyDashboardRow(
+            CompanyId companyId,
+            String name,
+            String slug,
+            Role role,
+            int memberCount,
+            boolean hasBudget,
+            int packageCount,
+            boolean hasAllocations
+    ) {}
 }
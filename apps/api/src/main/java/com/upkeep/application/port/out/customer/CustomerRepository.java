@@ -3,6 +3,7 @@ package com.upkeep.application.port.out.customer;
 import com.upkeep.domain.model.customer.Customer;
 import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.customer.PasswordHash;
 
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ public interface CustomerRepository {
     Optional<Customer> findByEmail(Email email);
 
     boolean existsByEmail(Email email);
+
+    void updatePasswordHash(CustomerId id, PasswordHash passwordHash);
 }
@@ -1,28 +1,75 @@
 package com.upkeep.application.port.out.invitation;
 
 import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
 import com.upkeep.domain.model.invitation.Invitation;
 import com.upkeep.domain.model.invitation.InvitationId;
 import com.upkeep.domain.model.invitation.InvitationStatus;
 import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface InvitationRepository {
 
     Invitation save(Invitation invitation);
 
+    /**
+     * Inserts invitations that are known to be new, without a per-row existence check.
+     */
+    void insertAll(List<Invitation> invitations);
+
     Optional<Invitation> findById(InvitationId id);
 
     Optional<Invitation> findByToken(InvitationToken token);
 
     Optional<Invitation> findByCompanyIdAndEmailAndStatus(CompanyId companyId, Email email, InvitationStatus status);
 
-    List<Invitation> findAllByCompanyId(CompanyId companyId);
-
-    List<Invitation> findAllByCompanyIdAndStatus(CompanyId companyId, InvitationStatus status);
+    /**
+     * Reads one page of a company's invitations, newest first, as projections rather than full invitations.
+     *
+     * @param statuses statuses to include, empty for every status
+     * @param before   position of the last row of the previous page, {@code null} for the first page
+     */
+    List<InvitationRow> findInvitationPage(CompanyId companyId, Set<InvitationStatus> statuses, InvitationCursor before,
+                                           int limit);
 
     boolean existsByCompanyIdAndEmailAndStatus(CompanyId companyId, Email email, InvitationStatus status);
+
+    /**
+     * Returns which of {@code emails} already have an invitation in {@code status} for the company, in one query.
+     */
+    Set<Email> findEmailsWithStatus(CompanyId companyId, Collection<Email> emails, InvitationStatus status);
+
+    /**
+     * Marks up to {@code limit} pending invitations that expired before {@code cutoff} as expired, oldest first,
+     * without loading them.
+     *
+     * @return the number of invitations expired
+     */
+    int expireOverdue(Instant cutoff, int limit);
+
+    /**
+     * Deletes up to {@code limit} of the company's invitations, for company deletion.
+     *
+     * @return the number of invitations deleted; fewer than {@code limit} once none are left
+     */
+    int deleteChunkByCompanyId(CompanyId companyId, int limit);
+
+    record InvitationCursor(Instant createdAt, InvitationId invitationId) {}
+
+    record InvitationRow(
+            InvitationId invitationId,
+            String email,
+            Role role,
+            InvitationStatus status,
+            CustomerId invitedBy,
+            Instant createdAt,
+            Instant expiresAt
+    ) {}
 }
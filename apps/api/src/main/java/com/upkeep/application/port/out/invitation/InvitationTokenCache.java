@@ -0,0 +1,53 @@
+package com.upkeep.application.port.out.invitation;
+
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Resolves invitation tokens from the public landing page without a database round trip for every guess.
+ * Tokens that were never issued are rejected from memory; known tokens are served from a short-lived cache.
+ */
+public interface InvitationTokenCache {
+
+    /**
+     * @return the invitation behind the token, or empty when no invitation was ever issued with it
+     */
+    Optional<InvitationSummary> findByToken(InvitationToken token);
+
+    /**
+     * @return {@code false} only when the token is known not to belong to any invitation
+     */
+    boolean mightExist(InvitationToken token);
+
+    /**
+     * Records the tokens as issued and drops their cached summaries on every node once the current transaction
+     * commits, or right away outside a transaction. Must be called by anything that creates or changes an invitation.
+     */
+    void invalidateAfterCommit(Collection<InvitationToken> tokens);
+
+    /**
+     * Drops every cached summary of an invitation that expires before {@code cutoff}, for bulk status changes that
+     * do not know the tokens they touched.
+     */
+    void invalidateExpiringBeforeAfterCommit(Instant cutoff);
+
+    record InvitationSummary(
+            InvitationId invitationId,
+            CompanyId companyId,
+            Role role,
+            InvitationStatus status,
+            Instant expiresAt
+    ) {
+
+        public boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.upkeep.application.port.out.lock;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Mutual exclusion across application nodes for background work.
+ */
+public interface ClusterLock {
+
+    /**
+     * Runs {@code work} in a new transaction holding the named lock for that transaction's duration.
+     *
+     * @return the work's result, or empty without running it when another node holds the lock
+     */
+    <T> Optional<T> callWithLock(String lockName, Supplier<T> work);
+}
@@ -2,12 +2,16 @@ package com.upkeep.application.port.out.membership;
 
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
 import com.upkeep.domain.model.membership.Membership;
 import com.upkeep.domain.model.membership.MembershipId;
 import com.upkeep.domain.model.membership.Role;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MembershipRepository {
 
@@ -21,11 +25,47 @@ public interface MembershipRepository {
 
     List<Membership> findAllByCompanyId(CompanyId companyId);
 
+    List<CustomerId> findCustomerIdsByCompanyId(CompanyId companyId);
+
+    /**
+     * One page of a company's members joined with their email in a single query, ordered by {@code (joinedAt, id)}.
+     *
+     * @param role  optional role filter, {@code null} for every role
+     * @param after keyset position of the last row of the previous page, {@code null} for the first page
+     */
+    List<MemberRow> findMemberPage(CompanyId companyId, Role role, MemberCursor after, int limit);
+
     long countByCompanyId(CompanyId companyId);
 
     long countByCompanyIdAndRole(CompanyId companyId, Role role);
 
     boolean existsByCustomerIdAndCompanyId(CustomerId customerId, CompanyId companyId);
 
+    /**
+     * Returns which of {@code emails} belong to customers who are already members of the company, in one query.
+     */
+    Set<Email> findMemberEmails(CompanyId companyId, Collection<Email> emails);
+
     void delete(Membership membership);
+
+    /**
+     * Deletes up to {@code limit} of the company's memberships and bumps the affected customers' membership versions,
+     * for company deletion. Skips the per-membership stats and cache upkeep of {@link #delete}.
+     *
+     * @return the number of memberships deleted; fewer than {@code limit} once none are left
+     */
+    int deleteChunkByCompanyId(CompanyId companyId, int limit);
+
+    record MemberRow(
+            MembershipId membershipId,
+            CustomerId customerId,
+            String email,
+            Role role,
+            Instant joinedAt
+    ) {}
+
+    record MemberCursor(
+            Instant joinedAt,
+            MembershipId membershipId
+    ) {}
 }
@@ -0,0 +1,31 @@
+package com.upkeep.application.port.out.membership;
+
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Read-through cache of a customer's role in a company, used for the authorization check that opens
+ * every company-scoped use case.
+ */
+public interface MembershipRoleCache {
+
+    /**
+     * @return the customer's role, or empty when they are not a member of the company
+     */
+    Optional<Role> findRole(CustomerId customerId, CompanyId companyId);
+
+    /**
+     * Drops the cached role on every node once the current transaction commits, or right away outside a transaction.
+     * Must be called by anything that creates, changes or deletes a membership.
+     */
+    void invalidateAfterCommit(CustomerId customerId, CompanyId companyId);
+
+    /**
+     * Drops the cached roles of all the customers in the company on every node once the current transaction commits.
+     */
+    void invalidateAllAfterCommit(CompanyId companyId, Collection<CustomerId> customerIds);
+}
@@ -0,0 +1,35 @@
+package com.upkeep.application.port.out.membership;
+
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Per-customer counter bumped whenever the customer's memberships change. Access tokens record the version their
+ * membership claims were minted at, so claims minted before a role change or removal can be recognised as stale.
+ */
+public interface MembershipVersionStore {
+
+    long currentVersion(CustomerId customerId);
+
+    /**
+     * Increments the version in the current transaction; cached versions are evicted once it commits.
+     */
+    void bumpVersion(CustomerId customerId);
+
+    /**
+     * Increments the versions of all the customers in one statement; cached versions are evicted once it commits.
+     */
+    void bumpVersions(Collection<CustomerId> customerIds);
+
+    /**
+     * Reads the version and every membership of the customer in one consistent query, bypassing caches. Companies
+     * being deleted are left out.
+     */
+    MembershipSnapshot snapshot(CustomerId customerId);
+
+    record MembershipSnapshot(long version, Map<CompanyId, Role> roles) {}
+}
@@ -0,0 +1,35 @@
+package com.upkeep.application.port.out.membership;
+
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-through cache of the companies a customer belongs to, as shown by the workspace switcher.
+ */
+public interface UserCompaniesCache {
+
+    List<UserCompany> findCompanies(CustomerId customerId);
+
+    /**
+     * Drops the customer's list on every node once the current transaction commits.
+     * Must be called by anything that creates, changes or deletes one of their memberships.
+     */
+    void invalidateAfterCommit(CustomerId customerId);
+
+    /**
+     * Drops the lists of all given customers on every node once the current transaction commits,
+     * e.g. every member of a company that is being deleted.
+     */
+    void invalidateAllAfterCommit(Collection<CustomerId> customerIds);
+
+    record UserCompany(
+            CompanyId companyId,
+            String name,
+            String slug,
+            Role role
+    ) {}
+}
@@ -0,0 +1,6 @@
+package com.upkeep.application.port.out.notification;
+
+public enum EmailKind {
+    WELCOME,
+    INVITATION
+}
@@ -0,0 +1,70 @@
+package com.upkeep.application.port.out.notification;
+
+import com.upkeep.application.port.out.notification.EmailTransport.OutgoingEmail;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dispatcher side of the email outbox. A claim leases due emails until {@code leaseUntil} so concurrent dispatchers
+ * never pick the same row; an email whose lease runs out before its outcome is recorded is sent again, so a
+ * dispatcher renews the lease of what it has not sent yet while it works through a batch.
+ */
+public interface EmailOutboxRepository {
+
+    List<ClaimedEmail> claimDue(Instant now, Instant leaseUntil, int limit);
+
+    /**
+     * Extends the lease of emails this dispatcher still holds, i.e. that are pending and have not been claimed again
+     * since ({@link ClaimedEmail#attempts()} is unchanged).
+     *
+     * @return the ids still held; the others belong to another dispatcher now and must not be sent
+     */
+    Set<UUID> renewLease(List<ClaimedEmail> emails, Instant leaseUntil);
+
+    /**
+     * Records the outcomes of emails this dispatcher still holds. An outcome for an email claimed again since, after
+     * its lease ran out, is dropped so it cannot overwrite the new owner's.
+     */
+    void recordOutcomes(List<DeliveryOutcome> outcomes);
+
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    /**
+     * Deletes up to {@code limit} sent or failed emails created before {@code cutoff}, oldest first.
+     */
+    int deleteFinishedBefore(Instant cutoff, int limit);
+
+    /**
+     * A leased email; {@code attempts} already counts the delivery about to be made.
+     */
+    record ClaimedEmail(UUID id, OutgoingEmail email, int attempts) {}
+
+    /**
+     * {@code at} is the delivery time for {@code SENT}, the next attempt for {@code PENDING} and the give-up time
+     * for {@code FAILED}. {@code attempts} is the claim's, which fences the outcome like a lease renewal.
+     */
+    record DeliveryOutcome(UUID id, int attempts, DeliveryStatus status, Instant at, String error) {
+
+        public static DeliveryOutcome sent(ClaimedEmail email, Instant at) {
+            return new DeliveryOutcome(email.id(), email.attempts(), DeliveryStatus.SENT, at, null);
+        }
+
+        public static DeliveryOutcome retryAt(ClaimedEmail email, Instant nextAttemptAt, String error) {
+            return new DeliveryOutcome(email.id(), email.attempts(), DeliveryStatus.PENDING, nextAttemptAt, error);
+        }
+
+        public static DeliveryOutcome failed(ClaimedEmail email, Instant at, String error) {
+            return new DeliveryOutcome(email.id(), email.attempts(), DeliveryStatus.FAILED, at, error);
+        }
+    }
+
+    enum DeliveryStatus {
+        PENDING,
+        SENT,
+        FAILED
+    }
+}
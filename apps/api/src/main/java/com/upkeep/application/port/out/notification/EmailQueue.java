@@ -0,0 +1,18 @@
+package com.upkeep.application.port.out.notification;
+
+import com.upkeep.domain.model.customer.Email;
+
+import java.util.List;
+
+/**
+ * Records emails in the caller's transaction for background delivery: they go out only if it commits, survive a
+ * restart once committed, and the caller never waits on the mail server.
+ */
+public interface EmailQueue {
+
+    void enqueueWelcomeEmail(Email email);
+
+    void enqueueInvitationEmails(List<InvitationEmail> emails);
+
+    record InvitationEmail(Email email, String invitationToken) {}
+}
@@ -0,0 +1,31 @@
+package com.upkeep.application.port.out.notification;
+
+import com.upkeep.domain.model.customer.Email;
+
+/**
+ * Delivers one email to the mail server; implementations pool their connections across calls.
+ */
+public interface EmailTransport {
+
+    DeliveryResult send(OutgoingEmail email);
+
+    record OutgoingEmail(EmailKind kind, Email recipient, String invitationToken) {}
+
+    /**
+     * Outcome of one email; {@code retryable} is false when the server rejected it permanently.
+     */
+    record DeliveryResult(boolean delivered, boolean retryable, String error) {
+
+        public static DeliveryResult success() {
+            return new DeliveryResult(true, false, null);
+        }
+
+        public static DeliveryResult retryable(String error) {
+            return new DeliveryResult(false, true, error);
+        }
+
+        public static DeliveryResult rejected(String error) {
+            return new DeliveryResult(false, false, error);
+        }
+    }
+}
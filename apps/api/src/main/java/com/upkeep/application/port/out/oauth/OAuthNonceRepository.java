@@ -0,0 +1,16 @@
+package com.upkeep.application.port.out.oauth;
+
+import java.time.Instant;
+
+/**
+ * Cluster-wide record of consumed OAuth state nonces.
+ */
+public interface OAuthNonceRepository {
+
+    /**
+     * Records {@code nonce} as consumed until {@code expiresAt}; returns {@code false} if any node already did.
+     */
+    boolean markConsumed(String nonce, Instant expiresAt);
+
+    int deleteExpired(Instant cutoff, int limit);
+}
@@ -3,15 +3,43 @@ package com.upkeep.application.port.out.oauth;
 import com.upkeep.domain.model.oauth.OAuthProvider;
 import com.upkeep.domain.model.oauth.OAuthUserInfo;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 public interface OAuthProviderAdapter {
 
     OAuthProvider getProvider();
 
     String getAuthorizationUrl(String state);
 
-    OAuthTokenResponse exchangeCode(String code);
+    /**
+     * Exchanges the authorization code without blocking the caller; the stage completes on the HTTP client's threads.
+     */
+    CompletionStage<OAuthTokenResponse> exchangeCodeAsync(String code);
+
+    /**
+     * Fetches the provider profile without blocking the caller; the stage completes on the HTTP client's threads.
+     */
+    CompletionStage<OAuthUserInfo> getUserInfoAsync(String accessToken);
+
+    default OAuthTokenResponse exchangeCode(String code) {
+        return join(exchangeCodeAsync(code));
+    }
 
-    OAuthUserInfo getUserInfo(String accessToken);
+    default OAuthUserInfo getUserInfo(String accessToken) {
+        return join(getUserInfoAsync(accessToken));
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
     record OAuthTokenResponse(
             String accessToken,
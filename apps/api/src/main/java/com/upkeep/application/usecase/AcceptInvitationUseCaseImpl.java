@@ -1,9 +1,13 @@
 package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.AcceptInvitationUseCase;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
 import com.upkeep.application.port.out.company.CompanyRepository;
 import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.AlreadyMemberException;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.InvitationExpiredException;
@@ -21,16 +25,28 @@ import jakarta.transaction.Transactional;
 public class AcceptInvitationUseCaseImpl implements AcceptInvitationUseCase {
 
     private final InvitationRepository invitationRepository;
+    private final InvitationTokenCache invitationTokenCache;
     private final MembershipRepository membershipRepository;
+    private final MembershipRoleCache membershipRoleCache;
+    private final UserCompaniesCache userCompaniesCache;
     private final CompanyRepository companyRepository;
+    private final CompanyDeletionRepository companyDeletionRepository;
 
     @Inject
     public AcceptInvitationUseCaseImpl(InvitationRepository invitationRepository,
+                                       InvitationTokenCache invitationTokenCache,
                                        MembershipRepository membershipRepository,
-                                       CompanyRepository companyRepository) {
+                                       MembershipRoleCache membershipRoleCache,
+                                       UserCompaniesCache userCompaniesCache,
+                                       CompanyRepository companyRepository,
+                                       CompanyDeletionRepository companyDeletionRepository) {
         this.invitationRepository = invitationRepository;
+        this.invitationTokenCache = invitationTokenCache;
         this.membershipRepository = membershipRepository;
+        this.membershipRoleCache = membershipRoleCache;
+        this.userCompaniesCache = userCompaniesCache;
         this.companyRepository = companyRepository;
+        this.companyDeletionRepository = companyDeletionRepository;
     }
 
     @Override
@@ -39,6 +55,9 @@ public class AcceptInvitationUseCaseImpl implements AcceptInvitationUseCase {
         InvitationToken token = InvitationToken.from(command.token());
         CustomerId customerId = CustomerId.from(command.customerId());
 
+        if (!invitationTokenCache.mightExist(token)) {
+            throw new InvitationNotFoundException(command.token());
+        }
         Invitation invitation = invitationRepository.findByToken(token)
                 .orElseThrow(() -> new InvitationNotFoundException(command.token()));
 
@@ -53,6 +72,7 @@ public class AcceptInvitationUseCaseImpl implements AcceptInvitationUseCase {
         }
 
         Company company = companyRepository.findById(invitation.getCompanyId())
+                .filter(found -> companyDeletionRepository.findByCompanyId(found.getId()).isEmpty())
                 .orElseThrow(() -> new CompanyNotFoundException(invitation.getCompanyId().toString()));
 
         if (membershipRepository.existsByCustomerIdAndCompanyId(customerId, invitation.getCompanyId())) {
@@ -66,6 +86,8 @@ public class AcceptInvitationUseCaseImpl implements AcceptInvitationUseCase {
 
         Membership membership = Membership.create(customerId, invitation.getCompanyId(), invitation.getRole());
         Membership savedMembership = membershipRepository.save(membership);
+        membershipRoleCache.invalidateAfterCommit(customerId, invitation.getCompanyId());
+        userCompaniesCache.invalidateAfterCommit(customerId);
 
         return new AcceptInvitationResult(
                 company.getId().toString(),
@@ -0,0 +1,212 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditChainRepository.AuditChainEntry;
+import com.upkeep.domain.model.audit.AuditChain;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.audit.MerkleNode;
+import com.upkeep.domain.model.audit.MerkleSpan;
+import com.upkeep.domain.model.company.CompanyId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Checks stored audit chains against recomputed hashes. Each row is checked against the stored chain hash before it,
+ * so one edited row is reported on its own instead of breaking everything after it; rewriting the chain past an edit
+ * is caught by the checkpoint's Merkle root and end hash, or by the chain head. Checks of part of a block read only
+ * that part, proving it against the checkpoint's Merkle root with the stored nodes around it.
+ */
+final class AuditChainVerifier {
+
+    private final AuditChainRepository auditChainRepository;
+
+    AuditChainVerifier(AuditChainRepository auditChainRepository) {
+        this.auditChainRepository = auditChainRepository;
+    }
+
+    List<AuditChainBreak> verifyCheckpoint(AuditCheckpoint checkpoint) {
+        CompanyId companyId = checkpoint.companyId();
+        List<AuditChainEntry> entries = auditChainRepository.findEntries(companyId, checkpoint.fromSequence(),
+                checkpoint.toSequence());
+        Walk walk = walk(companyId, checkpoint.fromSequence(), checkpoint.toSequence(), checkpoint.anchorHash(), entries);
+
+        List<AuditChainBreak> breaks = new ArrayList<>(walk.breaks());
+        if (!checkpoint.chainHash().equals(walk.chainHash())) {
+            breaks.add(new AuditChainBreak(companyId, checkpoint.fromSequence(), checkpoint.toSequence(),
+                    "Block does not end on its checkpoint's chain hash"));
+        }
+        if (walk.leafHashes().isEmpty() || !checkpoint.merkleRoot().equals(AuditChain.merkleRoot(walk.leafHashes()))) {
+            breaks.add(new AuditChainBreak(companyId, checkpoint.fromSequence(), checkpoint.toSequence(),
+                    "Block does not match its checkpoint's Merkle root"));
+        }
+        return breaks;
+    }
+
+    /**
+     * Proves the events {@code from} to {@code to} of a sealed block against its Merkle root: only those events are
+     * read and hashed, each linked to the stored chain hash before it, and the rest of the block is stood in for by
+     * its stored nodes, at most two per level of the tree. A block sealed without nodes is verified whole.
+     */
+    List<AuditChainBreak> verifyRange(AuditCheckpoint checkpoint, long from, long to) {
+        CompanyId companyId = checkpoint.companyId();
+        MerkleSpan block = new MerkleSpan(checkpoint.fromSequence(), checkpoint.toSequence());
+        MerkleSpan covered = new MerkleSpan(from, to);
+        List<MerkleSpan> auditPath = AuditChain.auditPath(block, covered);
+        if (auditPath.isEmpty()) {
+            return verifyCheckpoint(checkpoint);
+        }
+        Map<MerkleSpan, String> nodes = auditChainRepository.findMerkleNodes(companyId, auditPath).stream()
+                .collect(Collectors.toMap(MerkleNode::span, MerkleNode::hash));
+        if (!nodes.keySet().containsAll(auditPath)) {
+            return verifyCheckpoint(checkpoint);
+        }
+
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        Walk walk = walkAfterPredecessor(companyId, from, to, checkpoint.fromSequence(), checkpoint.anchorHash(), breaks);
+        breaks.addAll(walk.breaks());
+        if (to == checkpoint.toSequence() && !checkpoint.chainHash().equals(walk.chainHash())) {
+            breaks.add(new AuditChainBreak(companyId, checkpoint.fromSequence(), checkpoint.toSequence(),
+                    "Block does not end on its checkpoint's chain hash"));
+        }
+        if (walk.leafHashes().size() != to - from + 1
+                || !checkpoint.merkleRoot().equals(AuditChain.merkleRoot(block, covered, walk.leafHashes(), nodes))) {
+            breaks.add(new AuditChainBreak(companyId, from, to, "Block does not match its checkpoint's Merkle root"));
+        }
+        return breaks;
+    }
+
+    /**
+     * Verifies the unsealed events {@code from} to {@code through}, each linked to the stored chain hash before it, and
+     * follows them on to {@code head} when it is at most {@code blockSize} events further: there is no root to prove
+     * unsealed events against, and walking an arbitrarily long unsealed history to reach the head would make the check
+     * cost the whole chain.
+     */
+    Tail verifyTail(CompanyId companyId, AuditCheckpoint latest, long from, long through, AuditChainLink head,
+                    int blockSize) {
+        long firstUnsealed = latest != null ? latest.toSequence() + 1 : 1;
+        String anchor = latest != null ? latest.chainHash() : AuditChain.GENESIS;
+        long last = head.sequence() - through <= blockSize ? head.sequence() : through;
+
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        long verified = 0;
+        long blockFrom = from;
+        while (blockFrom <= last) {
+            long to = Math.min(blockFrom + blockSize - 1, last);
+            Walk walk = blockFrom == from
+                    ? walkAfterPredecessor(companyId, from, to, firstUnsealed, anchor, breaks)
+                    : walkBlock(companyId, blockFrom, to, anchor);
+            breaks.addAll(walk.breaks());
+            verified += walk.leafHashes().size();
+            anchor = walk.chainHash();
+            blockFrom = to + 1;
+        }
+        boolean reachedHead = last == head.sequence();
+        if (reachedHead && !head.chainHash().equals(anchor)) {
+            breaks.add(headMismatch(companyId, head));
+        }
+        return new Tail(breaks, verified, reachedHead);
+    }
+
+    /**
+     * Walks the events {@code from} to {@code to} link by link, starting from {@code anchor}.
+     */
+    Walk walkBlock(CompanyId companyId, long from, long to, String anchor) {
+        return walk(companyId, from, to, anchor, auditChainRepository.findEntries(companyId, from, to));
+    }
+
+    /**
+     * Stores a walked block as a checkpoint, with its Merkle nodes unless events were missing from it.
+     */
+    AuditCheckpoint seal(CompanyId companyId, long from, long to, String anchor, Walk walk, Instant now) {
+        AuditCheckpoint checkpoint = new AuditCheckpoint(companyId, from, to, anchor, walk.chainHash(),
+                AuditChain.merkleRoot(walk.leafHashes()), now, now);
+        auditChainRepository.saveCheckpoint(checkpoint, walk.leafHashes().size() == to - from + 1
+                ? AuditChain.merkleNodes(from, walk.leafHashes())
+                : List.of());
+        return checkpoint;
+    }
+
+    static AuditChainBreak headMismatch(CompanyId companyId, AuditChainLink head) {
+        return new AuditChainBreak(companyId, head.sequence(), head.sequence(), "Chain does not end on the recorded head");
+    }
+
+    /**
+     * Seals the events after {@code latest} up to {@code throughSequence}, {@code blockSize} at a time and the last block
+     * possibly short, so the chain stays anchored once those events are detached. Blocks are sealed whether or not they
+     * verify, since their events are leaving either way; only a block with no events left at all is not. The breaks
+     * found are returned for the caller to report.
+     */
+    List<AuditChainBreak> sealThrough(CompanyId companyId, AuditCheckpoint latest, long throughSequence, int blockSize,
+                                      Instant now) {
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        String anchor = latest != null ? latest.chainHash() : AuditChain.GENESIS;
+        long from = latest != null ? latest.toSequence() + 1 : 1;
+
+        while (from <= throughSequence) {
+            long to = Math.min(from + blockSize - 1, throughSequence);
+            Walk walk = walkBlock(companyId, from, to, anchor);
+            breaks.addAll(walk.breaks());
+            if (!walk.leafHashes().isEmpty()) {
+                seal(companyId, from, to, anchor, walk, now);
+            }
+            anchor = walk.chainHash();
+            from = to + 1;
+        }
+        return breaks;
+    }
+
+    /**
+     * Walks the events {@code from} to {@code to}, starting from {@code anchor} when {@code from} starts the stretch at
+     * {@code stretchFrom} and otherwise from the stored chain hash of the event before {@code from}, read along with
+     * them. A missing predecessor is added to {@code breaks}, and the first event's link is then left unchecked.
+     */
+    private Walk walkAfterPredecessor(CompanyId companyId, long from, long to, long stretchFrom, String anchor,
+                                      List<AuditChainBreak> breaks) {
+        if (from == stretchFrom) {
+            return walkBlock(companyId, from, to, anchor);
+        }
+        List<AuditChainEntry> entries = auditChainRepository.findEntries(companyId, from - 1, to);
+        if (!entries.isEmpty() && entries.getFirst().sequence() == from - 1) {
+            return walk(companyId, from, to, entries.getFirst().chainHash(), entries.subList(1, entries.size()));
+        }
+        breaks.add(new AuditChainBreak(companyId, from - 1, from - 1, "Events are missing"));
+        return walk(companyId, from, to, null, entries);
+    }
+
+    // A null anchor leaves the first event's link unchecked
+    private static Walk walk(CompanyId companyId, long from, long to, String anchor, List<AuditChainEntry> entries) {
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        List<String> leafHashes = new ArrayList<>(entries.size());
+        long expected = from;
+        String previous = anchor;
+
+        for (AuditChainEntry entry : entries) {
+            if (entry.sequence() < expected) {
+                breaks.add(new AuditChainBreak(companyId, entry.sequence(), entry.sequence(), "Sequence is used twice"));
+            } else if (entry.sequence() > expected) {
+                breaks.add(new AuditChainBreak(companyId, expected, entry.sequence() - 1, "Events are missing"));
+            }
+            if (previous != null && !AuditChain.link(previous, entry.leafHash()).equals(entry.chainHash())) {
+                breaks.add(new AuditChainBreak(companyId, entry.sequence(), entry.sequence(),
+                        "Event does not match its chain hash"));
+            }
+            leafHashes.add(entry.leafHash());
+            previous = entry.chainHash();
+            expected = Math.max(expected, entry.sequence() + 1);
+        }
+        if (expected <= to) {
+            breaks.add(new AuditChainBreak(companyId, expected, to, "Events are missing"));
+        }
+        return new Walk(breaks, leafHashes, previous);
+    }
+
+    record Tail(List<AuditChainBreak> breaks, long eventsVerified, boolean reachedHead) {}
+
+    record Walk(List<AuditChainBreak> breaks, List<String> leafHashes, String chainHash) {}
+}
@@ -43,6 +43,10 @@ public class AuthenticateCustomerUseCaseImpl implements AuthenticateCustomerUseC
             throw new InvalidCredentialsException();
         }
 
+        if (passwordHasher.needsRehash(storedHash)) {
+            customerRepository.updatePasswordHash(customer.getId(), passwordHasher.hash(password));
+        }
+
         String accessToken = tokenService.generateAccessToken(customer);
         String refreshToken = tokenService.generateRefreshToken(customer);
 
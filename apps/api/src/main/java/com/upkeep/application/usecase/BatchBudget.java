@@ -0,0 +1,44 @@
+package com.upkeep.application.usecase;
+
+import java.time.Duration;
+
+/**
+ * Caps a chunked background run at {@code maxBatches} chunks and spaces them out by {@code pauseBetweenBatches}.
+ * An interrupt during the pause ends the run.
+ */
+final class BatchBudget {
+
+    private final int batchSize;
+    private final Duration pauseBetweenBatches;
+    private int remaining;
+
+    BatchBudget(int batchSize, int maxBatches, Duration pauseBetweenBatches) {
+        this.batchSize = batchSize;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.remaining = maxBatches;
+    }
+
+    boolean tryConsume() {
+        if (remaining <= 0) {
+            return false;
+        }
+        remaining--;
+        return true;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    void pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            remaining = 0;
+        }
+    }
+}
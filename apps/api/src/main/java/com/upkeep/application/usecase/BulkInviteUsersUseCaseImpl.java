@@ -0,0 +1,130 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.BulkInviteUsersUseCase;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.notification.EmailQueue;
+import com.upkeep.application.port.out.notification.EmailQueue.InvitationEmail;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.invitation.Invitation;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@ApplicationScoped
+public class BulkInviteUsersUseCaseImpl implements BulkInviteUsersUseCase {
+
+    private final MembershipRoleCache membershipRoleCache;
+    private final InvitationRepository invitationRepository;
+    private final MembershipRepository membershipRepository;
+    private final EmailQueue emailQueue;
+
+    @Inject
+    public BulkInviteUsersUseCaseImpl(MembershipRoleCache membershipRoleCache,
+                                      InvitationRepository invitationRepository,
+                                      MembershipRepository membershipRepository,
+                                      EmailQueue emailQueue) {
+        this.membershipRoleCache = membershipRoleCache;
+        this.invitationRepository = invitationRepository;
+        this.membershipRepository = membershipRepository;
+        this.emailQueue = emailQueue;
+    }
+
+    @Override
+    @Transactional
+    public BulkInviteResult execute(BulkInviteCommand command) {
+        CustomerId customerId = CustomerId.from(command.customerId());
+        CompanyId companyId = CompanyId.from(command.companyId());
+        List<InviteeRow> invitees = command.invitees();
+
+        if (invitees == null || invitees.isEmpty() || invitees.size() > MAX_ROWS) {
+            throw new DomainValidationException("A batch must contain between 1 and " + MAX_ROWS + " invitees");
+        }
+
+        Role inviterRole = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(command.customerId(), command.companyId()));
+
+        if (inviterRole != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can invite members");
+        }
+
+        RowResult[] results = new RowResult[invitees.size()];
+        Map<Email, Candidate> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < invitees.size(); i++) {
+            InviteeRow row = invitees.get(i);
+            int rowNumber = i + 1;
+            Email email;
+            Role role;
+            try {
+                email = new Email(row.email());
+                role = parseRole(row.role());
+            } catch (DomainValidationException e) {
+                results[i] = new RowResult(rowNumber, row.email(), RowStatus.INVALID, null, e.getMessage());
+                continue;
+            }
+            Candidate earlier = candidates.putIfAbsent(email, new Candidate(i, role));
+            if (earlier != null) {
+                results[i] = new RowResult(rowNumber, email.value(), RowStatus.DUPLICATE, null,
+                        "Same email as row " + (earlier.index() + 1));
+            }
+        }
+
+        Set<Email> members = membershipRepository.findMemberEmails(companyId, candidates.keySet());
+        Set<Email> pending = invitationRepository.findEmailsWithStatus(companyId, candidates.keySet(), InvitationStatus.PENDING);
+
+        List<Invitation> invitations = new ArrayList<>();
+        candidates.forEach((email, candidate) -> {
+            int rowNumber = candidate.index() + 1;
+            if (members.contains(email)) {
+                results[candidate.index()] = new RowResult(rowNumber, email.value(), RowStatus.ALREADY_MEMBER, null,
+                        "This email already belongs to a member of the company");
+                return;
+            }
+            if (pending.contains(email)) {
+                results[candidate.index()] = new RowResult(rowNumber, email.value(), RowStatus.ALREADY_PENDING, null,
+                        "A pending invitation already exists for this email");
+                return;
+            }
+            Invitation invitation = Invitation.create(companyId, customerId, email, candidate.role());
+            invitations.add(invitation);
+            results[candidate.index()] = new RowResult(rowNumber, email.value(), RowStatus.INVITED,
+                    invitation.getId().toString(), null);
+        });
+
+        invitationRepository.insertAll(invitations);
+        emailQueue.enqueueInvitationEmails(invitations.stream()
+                .map(invitation -> new InvitationEmail(invitation.getEmail(), invitation.getToken().value()))
+                .toList());
+
+        return new BulkInviteResult(invitations.size(), invitees.size() - invitations.size(), Arrays.asList(results));
+    }
+
+    private static Role parseRole(String role) {
+        if (role == null || role.isBlank()) {
+            return Role.MEMBER;
+        }
+        try {
+            return Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainValidationException("Unknown role: " + role.trim());
+        }
+    }
+
+    private record Candidate(int index, Role role) {}
+}
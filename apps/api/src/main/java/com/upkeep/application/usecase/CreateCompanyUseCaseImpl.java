@@ -3,6 +3,8 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.CreateCompanyUseCase;
 import com.upkeep.application.port.out.company.CompanyRepository;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.CompanySlugAlreadyExistsException;
 import com.upkeep.domain.model.company.Company;
 import com.upkeep.domain.model.company.CompanyName;
@@ -19,12 +21,18 @@ public class CreateCompanyUseCaseImpl implements CreateCompanyUseCase {
 
     private final CompanyRepository companyRepository;
     private final MembershipRepository membershipRepository;
+    private final MembershipRoleCache membershipRoleCache;
+    private final UserCompaniesCache userCompaniesCache;
 
     @Inject
     public CreateCompanyUseCaseImpl(CompanyRepository companyRepository,
-                                    MembershipRepository membershipRepository) {
+                                    MembershipRepository membershipRepository,
+                                    MembershipRoleCache membershipRoleCache,
+                                    UserCompaniesCache userCompaniesCache) {
         this.companyRepository = companyRepository;
         this.membershipRepository = membershipRepository;
+        this.membershipRoleCache = membershipRoleCache;
+        this.userCompaniesCache = userCompaniesCache;
     }
 
     @Override
@@ -45,6 +53,8 @@ public class CreateCompanyUseCaseImpl implements CreateCompanyUseCase {
         CustomerId customerId = CustomerId.from(command.customerId());
         Membership membership = Membership.create(customerId, savedCompany.getId(), Role.OWNER);
         Membership savedMembership = membershipRepository.save(membership);
+        membershipRoleCache.invalidateAfterCommit(customerId, savedCompany.getId());
+        userCompaniesCache.invalidateAfterCommit(customerId);
 
         return new CreateCompanyResult(
                 savedCompany.getId().toString(),
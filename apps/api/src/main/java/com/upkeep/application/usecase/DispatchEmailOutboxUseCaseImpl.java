@@ -0,0 +1,118 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.ClaimedEmail;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryOutcome;
+import com.upkeep.application.port.out.notification.EmailTransport;
+import com.upkeep.application.port.out.notification.EmailTransport.DeliveryResult;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drains the email outbox in batches. Each batch is claimed in one short transaction, sent with no transaction open
+ * and its outcomes recorded in another; failures are retried with exponential backoff until the email runs out of
+ * attempts or the mail server rejects it permanently. A batch with no delivery at all ends the run, leaving the
+ * mail server alone until the next one.
+ *
+ * <p>Once less than half of the lease is left, the outcomes so far are recorded and the rest of the batch is
+ * leased again, so a slow batch is never claimed and sent a second time by another node. Emails whose lease was
+ * lost anyway are left to the dispatcher that holds them now.
+ */
+@ApplicationScoped
+public class DispatchEmailOutboxUseCaseImpl implements DispatchEmailOutboxUseCase {
+
+    private static final Logger LOG = Logger.getLogger(DispatchEmailOutboxUseCaseImpl.class);
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final EmailOutboxRepository emailOutbox;
+    private final EmailTransport emailTransport;
+
+    public DispatchEmailOutboxUseCaseImpl(EmailOutboxRepository emailOutbox,
+                                          EmailTransport emailTransport) {
+        this.emailOutbox = emailOutbox;
+        this.emailTransport = emailTransport;
+    }
+
+    @Override
+    public DispatchResult execute(DispatchCommand command) {
+        int sent = 0;
+        int retried = 0;
+        int failed = 0;
+
+        for (int batches = 0; batches < command.maxBatches(); batches++) {
+            Instant now = Instant.now();
+            Instant leaseUntil = now.plus(command.lease());
+            List<ClaimedEmail> batch = emailOutbox.claimDue(now, leaseUntil, command.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<DeliveryOutcome> outcomes = new ArrayList<>();
+            Set<UUID> held = null;
+            int sentBefore = sent;
+            for (int i = 0; i < batch.size(); i++) {
+                if (Instant.now().isAfter(leaseUntil.minus(command.lease().dividedBy(2)))) {
+                    emailOutbox.recordOutcomes(outcomes);
+                    outcomes = new ArrayList<>();
+                    leaseUntil = Instant.now().plus(command.lease());
+                    held = emailOutbox.renewLease(batch.subList(i, batch.size()), leaseUntil);
+                }
+                ClaimedEmail email = batch.get(i);
+                if (held != null && !held.contains(email.id())) {
+                    LOG.warnf("Lost the lease on %s email %s; leaving it to its new dispatcher", email.email().kind(), email.id());
+                    continue;
+                }
+
+                DeliveryResult result = send(email);
+                Instant completedAt = Instant.now();
+                if (result.delivered()) {
+                    outcomes.add(DeliveryOutcome.sent(email, completedAt));
+                    sent++;
+                } else if (result.retryable() && email.attempts() < command.maxAttempts()) {
+                    Instant nextAttemptAt = completedAt.plus(backoff(command, email.attempts()));
+                    outcomes.add(DeliveryOutcome.retryAt(email, nextAttemptAt, result.error()));
+                    retried++;
+                } else {
+                    outcomes.add(DeliveryOutcome.failed(email, completedAt, result.error()));
+                    failed++;
+                    LOG.warnf("Giving up on %s email %s after %d attempts: %s",
+                            email.email().kind(), email.id(), email.attempts(), result.error());
+                }
+            }
+            emailOutbox.recordOutcomes(outcomes);
+
+            if (batch.size() < command.batchSize() || sent == sentBefore) {
+                break;
+            }
+        }
+
+        Duration outboxLag = emailOutbox.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, Instant.now()))
+                .filter(lag -> !lag.isNegative())
+                .orElse(Duration.ZERO);
+        return new DispatchResult(sent, retried, failed, outboxLag);
+    }
+
+    private DeliveryResult send(ClaimedEmail email) {
+        try {
+            return emailTransport.send(email.email());
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Email transport failed for %s email %s", email.email().kind(), email.id());
+            return DeliveryResult.retryable(e.getMessage());
+        }
+    }
+
+    static Duration backoff(DispatchCommand command, int attempts) {
+        long factor = 1L << Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_DOUBLINGS);
+        Duration delay = command.initialBackoff().multipliedBy(factor);
+        return delay.compareTo(command.maxBackoff()) > 0 ? command.maxBackoff() : delay;
+    }
+}
@@ -0,0 +1,49 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.ExpireInvitationsUseCase;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Moves overdue pending invitations to {@code EXPIRED} with set-based updates in short chunk transactions, each under
+ * the cluster lock. If another node holds the lock the run stops and leaves the rest to that node.
+ */
+@ApplicationScoped
+public class ExpireInvitationsUseCaseImpl implements ExpireInvitationsUseCase {
+
+    static final String LOCK_NAME = "invitation-expiry";
+
+    private final InvitationRepository invitationRepository;
+    private final ClusterLock clusterLock;
+
+    public ExpireInvitationsUseCaseImpl(InvitationRepository invitationRepository,
+                                        ClusterLock clusterLock) {
+        this.invitationRepository = invitationRepository;
+        this.clusterLock = clusterLock;
+    }
+
+    @Override
+    public ExpireResult execute(ExpireCommand command) {
+        Instant cutoff = Instant.now();
+        BatchBudget budget = new BatchBudget(command.batchSize(), command.maxBatches(), command.pauseBetweenBatches());
+
+        int total = 0;
+        while (budget.tryConsume()) {
+            Optional<Integer> expired = clusterLock.callWithLock(LOCK_NAME,
+                    () -> invitationRepository.expireOverdue(cutoff, command.batchSize()));
+            if (expired.isEmpty()) {
+                return new ExpireResult(total, total > 0);
+            }
+            total += expired.get();
+            if (expired.get() < command.batchSize()) {
+                break;
+            }
+            budget.pause();
+        }
+        return new ExpireResult(total, true);
+    }
+}
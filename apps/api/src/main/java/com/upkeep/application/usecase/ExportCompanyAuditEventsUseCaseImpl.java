@@ -0,0 +1,60 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase;
+import com.upkeep.application.port.out.audit.AuditEventExporter;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@ApplicationScoped
+public class ExportCompanyAuditEventsUseCaseImpl implements ExportCompanyAuditEventsUseCase {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final AuditEventExporter auditEventExporter;
+    private final MembershipRoleCache membershipRoleCache;
+
+    @Inject
+    public ExportCompanyAuditEventsUseCaseImpl(AuditEventExporter auditEventExporter,
+                                               MembershipRoleCache membershipRoleCache) {
+        this.auditEventExporter = auditEventExporter;
+        this.membershipRoleCache = membershipRoleCache;
+    }
+
+    @Override
+    public AuditExport execute(ExportCompanyAuditEventsQuery query) {
+        CustomerId customerId = CustomerId.from(query.customerId());
+        CompanyId companyId = CompanyId.from(query.companyId());
+
+        if (query.from() == null || query.to() == null) {
+            throw new DomainValidationException("An export needs both the start and the end of its period");
+        }
+        if (!query.from().isBefore(query.to())) {
+            throw new DomainValidationException("The start of the time range must be before its end");
+        }
+        if (query.format() == null) {
+            throw new DomainValidationException("Export format must be ndjson or csv");
+        }
+
+        Role role = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
+        if (role != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can export the audit trail");
+        }
+
+        String fileName = "audit-" + companyId + "-" + FILE_DATE.format(query.from()) + "-" + FILE_DATE.format(query.to())
+                + "." + query.format().extension();
+        return new AuditExport(fileName, query.format(),
+                out -> auditEventExporter.export(companyId, query.from(), query.to(), query.format(), out));
+    }
+}
@@ -2,7 +2,10 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase;
 import com.upkeep.application.port.out.budget.BudgetRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -10,15 +13,21 @@ import jakarta.inject.Inject;
 public class GetBudgetSummaryUseCaseImpl implements GetBudgetSummaryUseCase {
 
     private final BudgetRepository budgetRepository;
+    private final MembershipRoleCache membershipRoleCache;
 
     @Inject
-    public GetBudgetSummaryUseCaseImpl(BudgetRepository budgetRepository) {
+    public GetBudgetSummaryUseCaseImpl(BudgetRepository budgetRepository,
+                                       MembershipRoleCache membershipRoleCache) {
         this.budgetRepository = budgetRepository;
+        this.membershipRoleCache = membershipRoleCache;
     }
 
     @Override
-    public BudgetSummary execute(String companyId) {
-        CompanyId id = CompanyId.from(companyId);
+    public BudgetSummary execute(GetBudgetSummaryQuery query) {
+        CompanyId id = CompanyId.from(query.companyId());
+
+        membershipRoleCache.findRole(CustomerId.from(query.customerId()), id)
+                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
 
         return budgetRepository.findByCompanyId(id)
                 .map(budget -> BudgetSummary.of(
@@ -0,0 +1,84 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase;
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditEventRepository.AuditCursor;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.audit.AuditEvent;
+import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.Set;
+
+@ApplicationScoped
+public class GetCompanyAuditEventsUseCaseImpl implements GetCompanyAuditEventsUseCase {
+
+    private final AuditEventRepository auditEventRepository;
+    private final MembershipRoleCache membershipRoleCache;
+
+    @Inject
+    public GetCompanyAuditEventsUseCaseImpl(AuditEventRepository auditEventRepository,
+                                            MembershipRoleCache membershipRoleCache) {
+        this.auditEventRepository = auditEventRepository;
+        this.membershipRoleCache = membershipRoleCache;
+    }
+
+    @Override
+    public AuditEventPage execute(GetCompanyAuditEventsQuery query) {
+        CustomerId customerId = CustomerId.from(query.customerId());
+        CompanyId companyId = CompanyId.from(query.companyId());
+
+        if (query.limit() < 1 || query.limit() > MAX_LIMIT) {
+            throw new DomainValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new DomainValidationException("The start of the time range must be before its end");
+        }
+
+        Role role = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
+        if (role != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can view the audit trail");
+        }
+
+        AuditCursor before = query.cursor() == null || query.cursor().isBlank() ? null : decodeCursor(query.cursor());
+        Set<AuditEventType> eventTypes = query.eventTypes() == null ? Set.of() : query.eventTypes();
+        List<AuditEvent> rows = auditEventRepository.findCompanyPage(companyId, eventTypes, query.from(), query.to(),
+                before, query.limit() + 1);
+
+        boolean hasMore = rows.size() > query.limit();
+        List<AuditEvent> page = hasMore ? rows.subList(0, query.limit()) : rows;
+
+        List<AuditEventInfo> events = page.stream()
+                .map(event -> new AuditEventInfo(
+                        event.getId().toString(),
+                        event.getEventType(),
+                        event.getActorId() != null ? event.getActorId().toString() : null,
+                        event.getTargetType(),
+                        event.getTargetId(),
+                        event.getPayload(),
+                        event.getTimestamp()
+                ))
+                .toList();
+
+        return new AuditEventPage(events, hasMore ? encodeCursor(page.getLast()) : null);
+    }
+
+    private static String encodeCursor(AuditEvent event) {
+        return KeysetCursors.encode(event.getTimestamp(), event.getId());
+    }
+
+    private static AuditCursor decodeCursor(String cursor) {
+        KeysetCursors.Position position = KeysetCursors.decode(cursor);
+        return new AuditCursor(position.timestamp(), AuditEventId.from(position.id()));
+    }
+}
@@ -2,13 +2,11 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase;
 import com.upkeep.application.port.out.company.CompanyRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.company.CompanyRepository.CompanyDashboardRow;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
-import com.upkeep.domain.model.company.Company;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
-import com.upkeep.domain.model.membership.Membership;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -16,13 +14,10 @@ import jakarta.inject.Inject;
 public class GetCompanyDashboardUseCaseImpl implements GetCompanyDashboardUseCase {
 
     private final CompanyRepository companyRepository;
-    private final MembershipRepository membershipRepository;
 
     @Inject
-    public GetCompanyDashboardUseCaseImpl(CompanyRepository companyRepository,
-                                          MembershipRepository membershipRepository) {
+    public GetCompanyDashboardUseCaseImpl(CompanyRepository companyRepository) {
         this.companyRepository = companyRepository;
-        this.membershipRepository = membershipRepository;
     }
 
     @Override
@@ -30,26 +25,23 @@ public class GetCompanyDashboardUseCaseImpl implements GetCompanyDashboardUseCas
         CompanyId companyId = CompanyId.from(query.companyId());
         CustomerId customerId = CustomerId.from(query.customerId());
 
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new CompanyNotFoundException(query.companyId()));
-
-        Membership membership = membershipRepository.findByCustomerIdAndCompanyId(customerId, companyId)
-                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
-
-        long totalMembers = membershipRepository.countByCompanyId(companyId);
+        CompanyDashboardRow row = companyRepository.findDashboard(companyId, customerId)
+                .orElseThrow(() -> companyRepository.findById(companyId).isEmpty()
+                        ? new CompanyNotFoundException(query.companyId())
+                        : new MembershipNotFoundException(query.customerId(), query.companyId()));
 
         DashboardStats stats = new DashboardStats(
-                (int) totalMembers,
-                false,
-                false,
-                false
+                row.memberCount(),
+                row.hasBudget(),
+                row.packageCount() > 0,
+                row.hasAllocations()
         );
 
         return new CompanyDashboard(
-                company.getId().toString(),
-                company.getName().value(),
-                company.getSlug().value(),
-                membership.getRole(),
+                row.companyId().toString(),
+                row.name(),
+                row.slug(),
+                row.role(),
                 stats
         );
     }
@@ -0,0 +1,35 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.GetCompanyDeletionUseCase;
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.CompanyDeletionStatus;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.domain.exception.CompanyNotFoundException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Reports deletion progress to the owner who requested it. Memberships are the first thing a deletion removes,
+ * so nobody else can be authorized against the company by then.
+ */
+@ApplicationScoped
+public class GetCompanyDeletionUseCaseImpl implements GetCompanyDeletionUseCase {
+
+    private final CompanyDeletionRepository companyDeletionRepository;
+
+    @Inject
+    public GetCompanyDeletionUseCaseImpl(CompanyDeletionRepository companyDeletionRepository) {
+        this.companyDeletionRepository = companyDeletionRepository;
+    }
+
+    @Override
+    public CompanyDeletionStatus execute(GetCompanyDeletionQuery query) {
+        CustomerId customerId = CustomerId.from(query.customerId());
+
+        return companyDeletionRepository.findByCompanyId(CompanyId.from(query.companyId()))
+                .filter(deletion -> deletion.requestedBy().equals(customerId))
+                .map(RequestCompanyDeletionUseCaseImpl::toStatus)
+                .orElseThrow(() -> new CompanyNotFoundException(query.companyId()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationCursor;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationRow;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.Set;
+
+@ApplicationScoped
+public class GetCompanyInvitationsUseCaseImpl implements GetCompanyInvitationsUseCase {
+
+    private final InvitationRepository invitationRepository;
+    private final MembershipRoleCache membershipRoleCache;
+
+    @Inject
+    public GetCompanyInvitationsUseCaseImpl(InvitationRepository invitationRepository,
+                                            MembershipRoleCache membershipRoleCache) {
+        this.invitationRepository = invitationRepository;
+        this.membershipRoleCache = membershipRoleCache;
+    }
+
+    @Override
+    public InvitationPage execute(GetCompanyInvitationsQuery query) {
+        CustomerId customerId = CustomerId.from(query.customerId());
+        CompanyId companyId = CompanyId.from(query.companyId());
+
+        if (query.limit() < 1 || query.limit() > MAX_LIMIT) {
+            throw new DomainValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Role role = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
+        if (role != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can view invitations");
+        }
+
+        InvitationCursor before = query.cursor() == null || query.cursor().isBlank() ? null : decodeCursor(query.cursor());
+        Set<InvitationStatus> statuses = query.statuses() == null ? Set.of() : query.statuses();
+        List<InvitationRow> rows = invitationRepository.findInvitationPage(companyId, statuses, before, query.limit() + 1);
+
+        boolean hasMore = rows.size() > query.limit();
+        List<InvitationRow> page = hasMore ? rows.subList(0, query.limit()) : rows;
+
+        List<InvitationInfo> invitations = page.stream()
+                .map(row -> new InvitationInfo(
+                        row.invitationId().toString(),
+                        row.email(),
+                        row.role(),
+                        row.status(),
+                        row.invitedBy().toString(),
+                        row.createdAt(),
+                        row.expiresAt()
+                ))
+                .toList();
+
+        return new InvitationPage(invitations, hasMore ? encodeCursor(page.getLast()) : null);
+    }
+
+    private static String encodeCursor(InvitationRow row) {
+        return KeysetCursors.encode(row.createdAt(), row.invitationId());
+    }
+
+    private static InvitationCursor decodeCursor(String cursor) {
+        KeysetCursors.Position position = KeysetCursors.decode(cursor);
+        return new InvitationCursor(position.timestamp(), InvitationId.from(position.id()));
+    }
+}
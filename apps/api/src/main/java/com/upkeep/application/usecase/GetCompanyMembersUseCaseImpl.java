@@ -1,54 +1,70 @@
 package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.GetCompanyMembersUseCase;
-import com.upkeep.application.port.out.customer.CustomerRepository;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberCursor;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberRow;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.model.company.CompanyId;
-import com.upkeep.domain.model.customer.Customer;
 import com.upkeep.domain.model.customer.CustomerId;
-import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.MembershipId;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.util.List;
-import java.util.Optional;
 
 @ApplicationScoped
 public class GetCompanyMembersUseCaseImpl implements GetCompanyMembersUseCase {
 
     private final MembershipRepository membershipRepository;
-    private final CustomerRepository customerRepository;
+    private final MembershipRoleCache membershipRoleCache;
 
     @Inject
     public GetCompanyMembersUseCaseImpl(MembershipRepository membershipRepository,
-                                        CustomerRepository customerRepository) {
+                                        MembershipRoleCache membershipRoleCache) {
         this.membershipRepository = membershipRepository;
-        this.customerRepository = customerRepository;
+        this.membershipRoleCache = membershipRoleCache;
     }
 
     @Override
-    public List<MemberInfo> execute(GetCompanyMembersQuery query) {
+    public MemberPage execute(GetCompanyMembersQuery query) {
         CustomerId customerId = CustomerId.from(query.customerId());
         CompanyId companyId = CompanyId.from(query.companyId());
 
-        membershipRepository.findByCustomerIdAndCompanyId(customerId, companyId)
+        if (query.limit() < 1 || query.limit() > MAX_LIMIT) {
+            throw new DomainValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        membershipRoleCache.findRole(customerId, companyId)
                 .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
 
-        List<Membership> memberships = membershipRepository.findAllByCompanyId(companyId);
-
-        return memberships.stream()
-                .map(membership -> {
-                    Optional<Customer> customer = customerRepository.findById(membership.getCustomerId());
-                    String email = customer.map(c -> c.getEmail().value()).orElse("unknown");
-                    return new MemberInfo(
-                            membership.getId().toString(),
-                            membership.getCustomerId().toString(),
-                            email,
-                            membership.getRole(),
-                            membership.getJoinedAt()
-                    );
-                })
+        MemberCursor after = query.cursor() == null || query.cursor().isBlank() ? null : decodeCursor(query.cursor());
+        List<MemberRow> rows = membershipRepository.findMemberPage(companyId, query.role(), after, query.limit() + 1);
+
+        boolean hasMore = rows.size() > query.limit();
+        List<MemberRow> page = hasMore ? rows.subList(0, query.limit()) : rows;
+
+        List<MemberInfo> members = page.stream()
+                .map(row -> new MemberInfo(
+                        row.membershipId().toString(),
+                        row.customerId().toString(),
+                        row.email(),
+                        row.role(),
+                        row.joinedAt()
+                ))
                 .toList();
+
+        return new MemberPage(members, hasMore ? encodeCursor(page.getLast()) : null);
+    }
+
+    private static String encodeCursor(MemberRow row) {
+        return KeysetCursors.encode(row.joinedAt(), row.membershipId());
+    }
+
+    private static MemberCursor decodeCursor(String cursor) {
+        KeysetCursors.Position position = KeysetCursors.decode(cursor);
+        return new MemberCursor(position.timestamp(), MembershipId.from(position.id()));
     }
 }
@@ -2,11 +2,11 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.GetInvitationUseCase;
 import com.upkeep.application.port.out.company.CompanyRepository;
-import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache.InvitationSummary;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.InvitationNotFoundException;
 import com.upkeep.domain.model.company.Company;
-import com.upkeep.domain.model.invitation.Invitation;
 import com.upkeep.domain.model.invitation.InvitationToken;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -14,13 +14,13 @@ import jakarta.inject.Inject;
 @ApplicationScoped
 public class GetInvitationUseCaseImpl implements GetInvitationUseCase {
 
-    private final InvitationRepository invitationRepository;
+    private final InvitationTokenCache invitationTokenCache;
     private final CompanyRepository companyRepository;
 
     @Inject
-    public GetInvitationUseCaseImpl(InvitationRepository invitationRepository,
+    public GetInvitationUseCaseImpl(InvitationTokenCache invitationTokenCache,
                                     CompanyRepository companyRepository) {
-        this.invitationRepository = invitationRepository;
+        this.invitationTokenCache = invitationTokenCache;
         this.companyRepository = companyRepository;
     }
 
@@ -28,19 +28,19 @@ public class GetInvitationUseCaseImpl implements GetInvitationUseCase {
     public InvitationDetails execute(GetInvitationQuery query) {
         InvitationToken token = InvitationToken.from(query.token());
 
-        Invitation invitation = invitationRepository.findByToken(token)
+        InvitationSummary invitation = invitationTokenCache.findByToken(token)
                 .orElseThrow(() -> new InvitationNotFoundException(query.token()));
 
-        Company company = companyRepository.findById(invitation.getCompanyId())
-                .orElseThrow(() -> new CompanyNotFoundException(invitation.getCompanyId().toString()));
+        Company company = companyRepository.findById(invitation.companyId())
+                .orElseThrow(() -> new CompanyNotFoundException(invitation.companyId().toString()));
 
         return new InvitationDetails(
-                invitation.getId().toString(),
+                invitation.invitationId().toString(),
                 company.getName().value(),
-                invitation.getRole(),
-                invitation.getStatus(),
+                invitation.role(),
+                invitation.status(),
                 invitation.isExpired(),
-                invitation.getExpiresAt()
+                invitation.expiresAt()
         );
     }
 }
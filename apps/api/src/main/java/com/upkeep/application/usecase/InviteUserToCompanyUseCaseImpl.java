@@ -2,8 +2,9 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase;
 import com.upkeep.application.port.out.invitation.InvitationRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
-import com.upkeep.application.port.out.notification.EmailService;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.notification.EmailQueue;
+import com.upkeep.application.port.out.notification.EmailQueue.InvitationEmail;
 import com.upkeep.domain.exception.InvitationAlreadyExistsException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -12,25 +13,27 @@ import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
 import com.upkeep.domain.model.invitation.Invitation;
 import com.upkeep.domain.model.invitation.InvitationStatus;
-import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.util.List;
+
 @ApplicationScoped
 public class InviteUserToCompanyUseCaseImpl implements InviteUserToCompanyUseCase {
 
-    private final MembershipRepository membershipRepository;
+    private final MembershipRoleCache membershipRoleCache;
     private final InvitationRepository invitationRepository;
-    private final EmailService emailService;
+    private final EmailQueue emailQueue;
 
     @Inject
-    public InviteUserToCompanyUseCaseImpl(MembershipRepository membershipRepository,
+    public InviteUserToCompanyUseCaseImpl(MembershipRoleCache membershipRoleCache,
                                           InvitationRepository invitationRepository,
-                                          EmailService emailService) {
-        this.membershipRepository = membershipRepository;
+                                          EmailQueue emailQueue) {
+        this.membershipRoleCache = membershipRoleCache;
         this.invitationRepository = invitationRepository;
-        this.emailService = emailService;
+        this.emailQueue = emailQueue;
     }
 
     @Override
@@ -40,10 +43,10 @@ public class InviteUserToCompanyUseCaseImpl implements InviteUserToCompanyUseCas
         CompanyId companyId = CompanyId.from(command.companyId());
         Email inviteeEmail = new Email(command.email());
 
-        Membership inviterMembership = membershipRepository.findByCustomerIdAndCompanyId(customerId, companyId)
+        Role inviterRole = membershipRoleCache.findRole(customerId, companyId)
                 .orElseThrow(() -> new MembershipNotFoundException(command.customerId(), command.companyId()));
 
-        if (!inviterMembership.isOwner()) {
+        if (inviterRole != Role.OWNER) {
             throw new UnauthorizedOperationException("Only owners can invite members");
         }
 
@@ -56,7 +59,7 @@ public class InviteUserToCompanyUseCaseImpl implements InviteUserToCompanyUseCas
         Invitation invitation = Invitation.create(companyId, customerId, inviteeEmail, command.role());
         Invitation savedInvitation = invitationRepository.save(invitation);
 
-        emailService.sendInvitationEmail(inviteeEmail, savedInvitation.getToken().value());
+        emailQueue.enqueueInvitationEmails(List.of(new InvitationEmail(inviteeEmail, savedInvitation.getToken().value())));
 
         return new InviteResult(
                 savedInvitation.getId().toString(),
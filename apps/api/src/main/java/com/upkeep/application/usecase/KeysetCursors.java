@@ -0,0 +1,38 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.domain.exception.DomainValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque page cursors for listings ordered by {@code (timestamp, id)}: the position of the last row of a page,
+ * URL-safe Base64 encoded.
+ */
+final class KeysetCursors {
+
+    private KeysetCursors() {
+    }
+
+    static String encode(Instant timestamp, Object id) {
+        String position = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new Position(
+                    Instant.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new DomainValidationException("Invalid cursor");
+        }
+    }
+
+    record Position(Instant timestamp, UUID id) {}
+}
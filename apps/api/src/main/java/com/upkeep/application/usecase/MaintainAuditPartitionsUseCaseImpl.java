@@ -0,0 +1,135 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditPartitionManager;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.company.CompanyId;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps audit partitions created ahead of time so inserts never wait on DDL, and detaches the partitions that fell
+ * out of retention instead of deleting their rows. Partitions are planned under the cluster lock; detaching runs
+ * afterwards, outside any transaction, because a concurrent detach cannot run inside one. There is no default
+ * partition to catch events of a month nobody created, so every run also reports how far ahead the partitions reach.
+ * <p>
+ * Before a month is detached, each company with events in it has those events sealed into checkpoints and the
+ * checkpoints archived, under the company's audit chain lock: the chain after them stays anchored, and the background
+ * verifier stops rechecking blocks whose events are gone. A month is left attached until the next run when a company's
+ * chain is being verified, and so are the months after it, which are detached oldest first.
+ */
+@ApplicationScoped
+public class MaintainAuditPartitionsUseCaseImpl implements MaintainAuditPartitionsUseCase {
+
+    static final String LOCK_NAME = "audit-partitions";
+
+    private static final Logger LOG = Logger.getLogger(MaintainAuditPartitionsUseCaseImpl.class);
+
+    private final AuditPartitionManager partitionManager;
+    private final AuditChainRepository auditChainRepository;
+    private final ClusterLock clusterLock;
+    private final AuditChainVerifier verifier;
+
+    public MaintainAuditPartitionsUseCaseImpl(AuditPartitionManager partitionManager,
+                                              AuditChainRepository auditChainRepository,
+                                              ClusterLock clusterLock) {
+        this.partitionManager = partitionManager;
+        this.auditChainRepository = auditChainRepository;
+        this.clusterLock = clusterLock;
+        this.verifier = new AuditChainVerifier(auditChainRepository);
+    }
+
+    @Override
+    public MaintainResult execute(MaintainCommand command) {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+
+        Optional<Plan> plan = clusterLock.callWithLock(LOCK_NAME, () -> {
+            List<YearMonth> created = partitionManager.createPartitions(current, current.plusMonths(command.monthsAhead()));
+            List<Expiry> expired = command.retentionMonths() > 0
+                    ? partitionManager.findAttachedPartitions().stream()
+                            .filter(month -> month.isBefore(current.minusMonths(command.retentionMonths())))
+                            .sorted()
+                            .map(month -> new Expiry(month, auditChainRepository.findLastSequences(start(month),
+                                    start(month.plusMonths(1)))))
+                            .toList()
+                    : List.of();
+            return new Plan(created, expired);
+        });
+        if (plan.isEmpty()) {
+            return new MaintainResult(List.of(), List.of(), false, monthsCovered(current));
+        }
+
+        List<YearMonth> detached = new ArrayList<>();
+        for (Expiry expiry : plan.get().expired()) {
+            if (!archiveCheckpoints(expiry, command.blockSize())) {
+                break;
+            }
+            if (partitionManager.detachPartition(expiry.month())) {
+                detached.add(expiry.month());
+            }
+        }
+        return new MaintainResult(plan.get().created(), detached, true, monthsCovered(current));
+    }
+
+    private boolean archiveCheckpoints(Expiry expiry, int blockSize) {
+        for (Map.Entry<CompanyId, Long> last : expiry.lastSequences().entrySet()) {
+            CompanyId companyId = last.getKey();
+            Optional<List<AuditChainBreak>> breaks = clusterLock.callWithLock(
+                    VerifyAuditChainsUseCaseImpl.LOCK_PREFIX + companyId,
+                    () -> sealAndArchive(companyId, last.getValue(), blockSize));
+            if (breaks.isEmpty()) {
+                LOG.debugf("Audit partition for %s kept until the next run, the chain of company %s is being verified",
+                        expiry.month(), companyId);
+                return false;
+            }
+            if (!breaks.get().isEmpty()) {
+                LOG.warnf("Audit chain of company %s sealed through sequence %d before detaching %s, with breaks: %s",
+                        companyId, last.getValue(), expiry.month(), breaks.get());
+            }
+        }
+        return true;
+    }
+
+    private List<AuditChainBreak> sealAndArchive(CompanyId companyId, long throughSequence, int blockSize) {
+        if (auditChainRepository.findHead(companyId).isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        AuditCheckpoint latest = auditChainRepository.findLatestCheckpoint(companyId).orElse(null);
+        List<AuditChainBreak> breaks = latest == null || latest.toSequence() < throughSequence
+                ? verifier.sealThrough(companyId, latest, throughSequence, blockSize, now)
+                : List.of();
+        auditChainRepository.archiveCheckpoints(companyId, throughSequence, now);
+        return breaks;
+    }
+
+    private int monthsCovered(YearMonth current) {
+        Set<YearMonth> attached = new HashSet<>(partitionManager.findAttachedPartitions());
+        int covered = 0;
+        while (attached.contains(current.plusMonths(covered))) {
+            covered++;
+        }
+        return covered;
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private record Plan(List<YearMonth> created, List<Expiry> expired) {}
+
+    private record Expiry(YearMonth month, Map<CompanyId, Long> lastSequences) {}
+}
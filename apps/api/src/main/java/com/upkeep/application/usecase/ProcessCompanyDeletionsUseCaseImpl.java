@@ -0,0 +1,120 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.budget.BudgetRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository.CompanyDeletion;
+import com.upkeep.application.port.out.company.CompanyRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import com.upkeep.domain.model.company.CompanyId;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Works through requested company deletions oldest first, one chunk per short transaction under the cluster lock.
+ * Each chunk removes at most {@code batchSize} rows of the current step and records its progress in the same
+ * transaction, so a restarted node resumes exactly where the last committed chunk stopped. Pauses between chunks
+ * keep a large tenant's cleanup from crowding out other tenants' queries.
+ */
+@ApplicationScoped
+public class ProcessCompanyDeletionsUseCaseImpl implements ProcessCompanyDeletionsUseCase {
+
+    static final String LOCK_NAME = "company-deletion";
+
+    private final CompanyDeletionRepository companyDeletionRepository;
+    private final MembershipRepository membershipRepository;
+    private final InvitationRepository invitationRepository;
+    private final BudgetRepository budgetRepository;
+    private final AuditEventRepository auditEventRepository;
+    private final AuditChainRepository auditChainRepository;
+    private final CompanyRepository companyRepository;
+    private final ClusterLock clusterLock;
+
+    public ProcessCompanyDeletionsUseCaseImpl(CompanyDeletionRepository companyDeletionRepository,
+                                              MembershipRepository membershipRepository,
+                                              InvitationRepository invitationRepository,
+                                              BudgetRepository budgetRepository,
+                                              AuditEventRepository auditEventRepository,
+                                              AuditChainRepository auditChainRepository,
+                                              CompanyRepository companyRepository,
+                                              ClusterLock clusterLock) {
+        this.companyDeletionRepository = companyDeletionRepository;
+        this.membershipRepository = membershipRepository;
+        this.invitationRepository = invitationRepository;
+        this.budgetRepository = budgetRepository;
+        this.auditEventRepository = auditEventRepository;
+        this.auditChainRepository = auditChainRepository;
+        this.companyRepository = companyRepository;
+        this.clusterLock = clusterLock;
+    }
+
+    @Override
+    public ProcessResult execute(ProcessCommand command) {
+        BatchBudget budget = new BatchBudget(command.batchSize(), command.maxBatches(), command.pauseBetweenBatches());
+
+        long rowsDeleted = 0;
+        int companiesDeleted = 0;
+        boolean lockAcquired = false;
+        while (budget.tryConsume()) {
+            Optional<ChunkResult> chunk = clusterLock.callWithLock(LOCK_NAME, () -> processChunk(command.batchSize()));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lockAcquired = true;
+            if (chunk.get().idle()) {
+                break;
+            }
+            rowsDeleted += chunk.get().rowsDeleted();
+            if (chunk.get().completed()) {
+                companiesDeleted++;
+            }
+            budget.pause();
+        }
+        return new ProcessResult(rowsDeleted, companiesDeleted, lockAcquired);
+    }
+
+    private ChunkResult processChunk(int batchSize) {
+        Optional<CompanyDeletion> next = companyDeletionRepository.findNextPending();
+        if (next.isEmpty()) {
+            return ChunkResult.IDLE;
+        }
+        CompanyId companyId = next.get().companyId();
+        CompanyDeletionStep step = next.get().step();
+
+        int deleted = deleteChunk(step, companyId, batchSize);
+        boolean stepDone = step == CompanyDeletionStep.AUDIT_CHAIN || step == CompanyDeletionStep.COMPANY || deleted < batchSize;
+        CompanyDeletionStep nextStep = stepDone ? step.next() : step;
+        companyDeletionRepository.recordProgress(companyId, nextStep, deleted, Instant.now());
+
+        return new ChunkResult(false, deleted, nextStep == CompanyDeletionStep.COMPLETED);
+    }
+
+    private int deleteChunk(CompanyDeletionStep step, CompanyId companyId, int batchSize) {
+        return switch (step) {
+            case MEMBERSHIPS -> membershipRepository.deleteChunkByCompanyId(companyId, batchSize);
+            case INVITATIONS -> invitationRepository.deleteChunkByCompanyId(companyId, batchSize);
+            case BUDGETS -> budgetRepository.deleteChunkByCompanyId(companyId, batchSize);
+            // Detached events no longer belong to the chain, so it is retired first, in one go
+            case AUDIT_CHAIN -> auditChainRepository.deleteChain(companyId);
+            case AUDIT_MERKLE_NODES -> auditChainRepository.deleteMerkleNodesChunk(companyId, batchSize);
+            case AUDIT_EVENTS -> auditEventRepository.detachChunkFromCompany(companyId, batchSize);
+            case COMPANY -> {
+                companyRepository.delete(companyId);
+                yield 1;
+            }
+            default -> 0;
+        };
+    }
+
+    private record ChunkResult(boolean idle, int rowsDeleted, boolean completed) {
+
+        static final ChunkResult IDLE = new ChunkResult(true, 0, false);
+    }
+}
@@ -0,0 +1,35 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeEmailOutboxUseCase;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+
+/**
+ * Deletes sent and failed outbox emails once they are older than the retention, in chunk transactions. Pending
+ * emails are left to the dispatcher whatever their age.
+ */
+@ApplicationScoped
+public class PurgeEmailOutboxUseCaseImpl implements PurgeEmailOutboxUseCase {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    public PurgeEmailOutboxUseCaseImpl(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
+    }
+
+    @Override
+    public int execute(PurgeCommand command) {
+        Instant cutoff = Instant.now().minus(command.retention());
+        int total = 0;
+        for (int batch = 0; batch < command.maxBatches(); batch++) {
+            int deleted = emailOutboxRepository.deleteFinishedBefore(cutoff, command.batchSize());
+            total += deleted;
+            if (deleted < command.batchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
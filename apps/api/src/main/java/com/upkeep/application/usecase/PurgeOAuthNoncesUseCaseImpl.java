@@ -0,0 +1,35 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeOAuthNoncesUseCase;
+import com.upkeep.application.port.out.oauth.OAuthNonceRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+
+/**
+ * Deletes the nonces of OAuth states that have expired, in chunk transactions. Nodes purging at the same time
+ * only delete the same rows, so no cluster lock is taken.
+ */
+@ApplicationScoped
+public class PurgeOAuthNoncesUseCaseImpl implements PurgeOAuthNoncesUseCase {
+
+    private final OAuthNonceRepository oauthNonceRepository;
+
+    public PurgeOAuthNoncesUseCaseImpl(OAuthNonceRepository oauthNonceRepository) {
+        this.oauthNonceRepository = oauthNonceRepository;
+    }
+
+    @Override
+    public int execute(PurgeCommand command) {
+        Instant cutoff = Instant.now();
+        int total = 0;
+        for (int batch = 0; batch < command.maxBatches(); batch++) {
+            int deleted = oauthNonceRepository.deleteExpired(cutoff, command.batchSize());
+            total += deleted;
+            if (deleted < command.batchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
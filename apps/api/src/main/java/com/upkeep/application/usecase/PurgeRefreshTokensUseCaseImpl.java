@@ -0,0 +1,61 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase;
+import com.upkeep.application.port.out.auth.RefreshTokenRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
+/**
+ * Deletes expired, then revoked, refresh tokens in short chunk transactions so no run holds row locks for long.
+ * Every chunk re-takes the cluster lock; if another node holds it the run stops and leaves the rest to that node.
+ */
+@ApplicationScoped
+public class PurgeRefreshTokensUseCaseImpl implements PurgeRefreshTokensUseCase {
+
+    static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ClusterLock clusterLock;
+
+    public PurgeRefreshTokensUseCaseImpl(RefreshTokenRepository refreshTokenRepository,
+                                         ClusterLock clusterLock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clusterLock = clusterLock;
+    }
+
+    @Override
+    public PurgeResult execute(PurgeCommand command) {
+        Instant cutoff = Instant.now();
+        BatchBudget budget = new BatchBudget(command.batchSize(), command.maxBatches(), command.pauseBetweenBatches());
+
+        Optional<Integer> expired = purge(budget,
+                () -> refreshTokenRepository.deleteExpiredTokens(cutoff, command.batchSize()));
+        if (expired.isEmpty()) {
+            return new PurgeResult(0, 0, false);
+        }
+        Optional<Integer> revoked = purge(budget,
+                () -> refreshTokenRepository.deleteRevokedTokens(cutoff, command.batchSize()));
+
+        return new PurgeResult(expired.get(), revoked.orElse(0), true);
+    }
+
+    private Optional<Integer> purge(BatchBudget budget, IntSupplier deleteChunk) {
+        int total = 0;
+        while (budget.tryConsume()) {
+            Optional<Integer> deleted = clusterLock.callWithLock(LOCK_NAME, deleteChunk::getAsInt);
+            if (deleted.isEmpty()) {
+                return total == 0 ? Optional.empty() : Optional.of(total);
+            }
+            total += deleted.get();
+            if (deleted.get() < budget.batchSize()) {
+                break;
+            }
+            budget.pause();
+        }
+        return Optional.of(total);
+    }
+}
@@ -3,7 +3,7 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.RegisterCustomerUseCase;
 import com.upkeep.application.port.out.auth.PasswordHasher;
 import com.upkeep.application.port.out.customer.CustomerRepository;
-import com.upkeep.application.port.out.notification.EmailService;
+import com.upkeep.application.port.out.notification.EmailQueue;
 import com.upkeep.domain.exception.CustomerAlreadyExistsException;
 import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.exception.FieldError;
@@ -21,14 +21,14 @@ public class RegisterCustomerUseCaseImpl implements RegisterCustomerUseCase {
 
     private final CustomerRepository customerRepository;
     private final PasswordHasher passwordHasher;
-    private final EmailService emailService;
+    private final EmailQueue emailQueue;
 
     public RegisterCustomerUseCaseImpl(CustomerRepository customerRepository,
                                        PasswordHasher passwordHasher,
-                                       EmailService emailService) {
+                                       EmailQueue emailQueue) {
         this.customerRepository = customerRepository;
         this.passwordHasher = passwordHasher;
-        this.emailService = emailService;
+        this.emailQueue = emailQueue;
     }
 
     @Override
@@ -47,7 +47,7 @@ public class RegisterCustomerUseCaseImpl implements RegisterCustomerUseCase {
         PasswordHash hash = passwordHasher.hash(password);
         Customer customer = Customer.create(email, hash, command.accountType());
         customerRepository.save(customer);
-        emailService.sendWelcomeEmail(email);
+        emailQueue.enqueueWelcomeEmail(email);
         return new RegisterResult(
                 customer.getId().value().toString(),
                 email.value(),
@@ -0,0 +1,87 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository.CompanyDeletion;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records the deletion request, evicts cached roles and company lists and bumps every member's membership version,
+ * so the company is invisible to its members as soon as the request commits, including to access tokens that
+ * already carry their role in it. The rows themselves are removed later by {@link ProcessCompanyDeletionsUseCaseImpl}.
+ * Repeating the request returns the deletion already in progress.
+ */
+@ApplicationScoped
+public class RequestCompanyDeletionUseCaseImpl implements RequestCompanyDeletionUseCase {
+
+    private final CompanyDeletionRepository companyDeletionRepository;
+    private final MembershipRepository membershipRepository;
+    private final MembershipRoleCache membershipRoleCache;
+    private final UserCompaniesCache userCompaniesCache;
+    private final MembershipVersionStore membershipVersions;
+
+    @Inject
+    public RequestCompanyDeletionUseCaseImpl(CompanyDeletionRepository companyDeletionRepository,
+                                             MembershipRepository membershipRepository,
+                                             MembershipRoleCache membershipRoleCache,
+                                             UserCompaniesCache userCompaniesCache,
+                                             MembershipVersionStore membershipVersions) {
+        this.companyDeletionRepository = companyDeletionRepository;
+        this.membershipRepository = membershipRepository;
+        this.membershipRoleCache = membershipRoleCache;
+        this.userCompaniesCache = userCompaniesCache;
+        this.membershipVersions = membershipVersions;
+    }
+
+    @Override
+    @Transactional
+    public CompanyDeletionStatus execute(RequestCompanyDeletionCommand command) {
+        CustomerId customerId = CustomerId.from(command.customerId());
+        CompanyId companyId = CompanyId.from(command.companyId());
+
+        Optional<CompanyDeletion> existing = companyDeletionRepository.findByCompanyId(companyId)
+                .filter(deletion -> deletion.requestedBy().equals(customerId));
+        if (existing.isPresent()) {
+            return toStatus(existing.get());
+        }
+
+        Role role = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(command.customerId(), command.companyId()));
+        if (role != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can delete the company");
+        }
+
+        CompanyDeletion deletion = companyDeletionRepository.create(companyId, customerId, Instant.now());
+        List<CustomerId> memberIds = membershipRepository.findCustomerIdsByCompanyId(companyId);
+        membershipVersions.bumpVersions(memberIds);
+        membershipRoleCache.invalidateAllAfterCommit(companyId, memberIds);
+        userCompaniesCache.invalidateAllAfterCommit(memberIds);
+
+        return toStatus(deletion);
+    }
+
+    static CompanyDeletionStatus toStatus(CompanyDeletion deletion) {
+        return new CompanyDeletionStatus(
+                deletion.companyId().toString(),
+                deletion.step(),
+                deletion.rowsDeleted(),
+                deletion.requestedAt(),
+                deletion.completedAt()
+        );
+    }
+}
@@ -1,9 +1,9 @@
 package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase;
-import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditLog;
 import com.upkeep.application.port.out.budget.BudgetRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
 import com.upkeep.domain.exception.BudgetAlreadyExistsException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -12,7 +12,7 @@ import com.upkeep.domain.model.budget.Budget;
 import com.upkeep.domain.model.budget.Money;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
-import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -25,16 +25,16 @@ import java.time.ZoneOffset;
 public class SetCompanyBudgetUseCaseImpl implements SetCompanyBudgetUseCase {
 
     private final BudgetRepository budgetRepository;
-    private final AuditEventRepository auditEventRepository;
-    private final MembershipRepository membershipRepository;
+    private final AuditLog auditLog;
+    private final MembershipRoleCache membershipRoleCache;
 
     @Inject
     public SetCompanyBudgetUseCaseImpl(BudgetRepository budgetRepository,
-                                       AuditEventRepository auditEventRepository,
-                                       MembershipRepository membershipRepository) {
+                                       AuditLog auditLog,
+                                       MembershipRoleCache membershipRoleCache) {
         this.budgetRepository = budgetRepository;
-        this.auditEventRepository = auditEventRepository;
-        this.membershipRepository = membershipRepository;
+        this.auditLog = auditLog;
+        this.membershipRoleCache = membershipRoleCache;
     }
 
     @Override
@@ -43,10 +43,10 @@ public class SetCompanyBudgetUseCaseImpl implements SetCompanyBudgetUseCase {
         CompanyId companyId = CompanyId.from(command.companyId());
         CustomerId actorId = CustomerId.from(command.actorUserId());
 
-        Membership membership = membershipRepository.findByCustomerIdAndCompanyId(actorId, companyId)
+        Role role = membershipRoleCache.findRole(actorId, companyId)
                 .orElseThrow(() -> new MembershipNotFoundException(command.actorUserId(), command.companyId()));
 
-        if (!membership.isOwner()) {
+        if (role != Role.OWNER) {
             throw new UnauthorizedOperationException("Only owners can set the company budget");
         }
 
@@ -65,7 +65,7 @@ public class SetCompanyBudgetUseCaseImpl implements SetCompanyBudgetUseCase {
         budgetRepository.save(budget);
 
         AuditEvent event = AuditEvent.budgetCreated(companyId, actorId, budget);
-        auditEventRepository.save(event);
+        auditLog.record(event);
 
         return new SetBudgetResult(
                 budget.getId().toString(),
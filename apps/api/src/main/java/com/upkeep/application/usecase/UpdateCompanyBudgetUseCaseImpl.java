@@ -1,9 +1,9 @@
 package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase;
-import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditLog;
 import com.upkeep.application.port.out.budget.BudgetRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
 import com.upkeep.domain.exception.BudgetNotFoundException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -12,7 +12,7 @@ import com.upkeep.domain.model.budget.Budget;
 import com.upkeep.domain.model.budget.Money;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
-import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -21,16 +21,16 @@ import jakarta.transaction.Transactional;
 public class UpdateCompanyBudgetUseCaseImpl implements UpdateCompanyBudgetUseCase {
 
     private final BudgetRepository budgetRepository;
-    private final AuditEventRepository auditEventRepository;
-    private final MembershipRepository membershipRepository;
+    private final AuditLog auditLog;
+    private final MembershipRoleCache membershipRoleCache;
 
     @Inject
     public UpdateCompanyBudgetUseCaseImpl(BudgetRepository budgetRepository,
-                                          AuditEventRepository auditEventRepository,
-                                          MembershipRepository membershipRepository) {
+                                          AuditLog auditLog,
+                                          MembershipRoleCache membershipRoleCache) {
         this.budgetRepository = budgetRepository;
-        this.auditEventRepository = auditEventRepository;
-        this.membershipRepository = membershipRepository;
+        this.auditLog = auditLog;
+        this.membershipRoleCache = membershipRoleCache;
     }
 
     @Override
@@ -39,10 +39,10 @@ public class UpdateCompanyBudgetUseCaseImpl implements UpdateCompanyBudgetUseCas
         CompanyId companyId = CompanyId.from(command.companyId());
         CustomerId actorId = CustomerId.from(command.actorUserId());
 
-        Membership membership = membershipRepository.findByCustomerIdAndCompanyId(actorId, companyId)
+        Role role = membershipRoleCache.findRole(actorId, companyId)
                 .orElseThrow(() -> new MembershipNotFoundException(command.actorUserId(), command.companyId()));
 
-        if (!membership.isOwner()) {
+        if (role != Role.OWNER) {
             throw new UnauthorizedOperationException("Only owners can update the company budget");
         }
 
@@ -57,7 +57,7 @@ public class UpdateCompanyBudgetUseCaseImpl implements UpdateCompanyBudgetUseCas
         budgetRepository.save(budget);
 
         AuditEvent event = AuditEvent.budgetUpdated(companyId, actorId, budget, previousAmountCents);
-        auditEventRepository.save(event);
+        auditLog.record(event);
 
         boolean isLowerThanAllocations = command.newAmountCents() < currentAllocationsCents;
 
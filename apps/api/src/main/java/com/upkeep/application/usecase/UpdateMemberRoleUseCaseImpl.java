@@ -2,6 +2,8 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.LastOwnerException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -18,10 +20,16 @@ import jakarta.transaction.Transactional;
 public class UpdateMemberRoleUseCaseImpl implements UpdateMemberRoleUseCase {
 
     private final MembershipRepository membershipRepository;
+    private final MembershipRoleCache membershipRoleCache;
+    private final UserCompaniesCache userCompaniesCache;
 
     @Inject
-    public UpdateMemberRoleUseCaseImpl(MembershipRepository membershipRepository) {
+    public UpdateMemberRoleUseCaseImpl(MembershipRepository membershipRepository,
+                                       MembershipRoleCache membershipRoleCache,
+                                       UserCompaniesCache userCompaniesCache) {
         this.membershipRepository = membershipRepository;
+        this.membershipRoleCache = membershipRoleCache;
+        this.userCompaniesCache = userCompaniesCache;
     }
 
     @Override
@@ -31,10 +39,10 @@ public class UpdateMemberRoleUseCaseImpl implements UpdateMemberRoleUseCase {
         CompanyId companyId = CompanyId.from(command.companyId());
         MembershipId targetMembershipId = MembershipId.from(command.targetMembershipId());
 
-        Membership requesterMembership = membershipRepository.findByCustomerIdAndCompanyId(customerId, companyId)
+        Role requesterRole = membershipRoleCache.findRole(customerId, companyId)
                 .orElseThrow(() -> new MembershipNotFoundException(command.customerId(), command.companyId()));
 
-        if (!requesterMembership.isOwner()) {
+        if (requesterRole != Role.OWNER) {
             throw new UnauthorizedOperationException("Only owners can change member roles");
         }
 
@@ -56,6 +64,8 @@ public class UpdateMemberRoleUseCaseImpl implements UpdateMemberRoleUseCase {
 
         targetMembership.changeRole(command.newRole());
         membershipRepository.save(targetMembership);
+        membershipRoleCache.invalidateAfterCommit(targetMembership.getCustomerId(), companyId);
+        userCompaniesCache.invalidateAfterCommit(targetMembership.getCustomerId());
 
         return new UpdateMemberRoleResult(
                 targetMembership.getId().toString(),
@@ -0,0 +1,199 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.domain.model.audit.AuditChain;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.company.CompanyId;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Background side of the audit chains. For every company it re-verifies the checkpoints that were verified longest ago,
+ * then walks the tail after the last checkpoint one block at a time, sealing each full intact block as a new
+ * checkpoint, so the whole history is covered over successive runs. Every step is its own short transaction under the
+ * company's cluster lock, and at most {@code maxTailBlocks} tail blocks are walked per run: a company with a long
+ * unsealed history is caught up over several runs, keeping what each block sealed. Companies are independent and
+ * verified in parallel.
+ */
+@ApplicationScoped
+public class VerifyAuditChainsUseCaseImpl implements VerifyAuditChainsUseCase {
+
+    static final String LOCK_PREFIX = "audit-chain:";
+
+    private static final Logger LOG = Logger.getLogger(VerifyAuditChainsUseCaseImpl.class);
+
+    private final AuditChainRepository auditChainRepository;
+    private final ClusterLock clusterLock;
+    private final AuditChainVerifier verifier;
+
+    public VerifyAuditChainsUseCaseImpl(AuditChainRepository auditChainRepository,
+                                        ClusterLock clusterLock) {
+        this.auditChainRepository = auditChainRepository;
+        this.clusterLock = clusterLock;
+        this.verifier = new AuditChainVerifier(auditChainRepository);
+    }
+
+    @Override
+    public VerifyResult execute(VerifyCommand command) {
+        List<CompanyId> companies = auditChainRepository.findChainedCompanies();
+
+        List<Future<Optional<CompanyResult>>> futures = new ArrayList<>(companies.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, command.parallelism()))) {
+            for (CompanyId companyId : companies) {
+                futures.add(executor.submit(() -> verifyCompany(companyId, command)));
+            }
+        }
+
+        int verified = 0;
+        int skipped = 0;
+        int failed = 0;
+        int sealed = 0;
+        int rechecked = 0;
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            Optional<CompanyResult> result;
+            try {
+                result = futures.get(i).get();
+            } catch (ExecutionException e) {
+                LOG.errorf(e.getCause(), "Audit chain verification failed for company %s", companies.get(i));
+                failed++;
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while verifying audit chains", e);
+            }
+            if (result.isEmpty()) {
+                skipped++;
+                continue;
+            }
+            verified++;
+            sealed += result.get().sealed();
+            rechecked += result.get().rechecked();
+            breaks.addAll(result.get().breaks());
+        }
+        return new VerifyResult(verified, skipped, failed, sealed, rechecked, breaks);
+    }
+
+    /**
+     * Empty when another node holds the company's lock before anything was verified.
+     */
+    private Optional<CompanyResult> verifyCompany(CompanyId companyId, VerifyCommand command) {
+        String lockName = LOCK_PREFIX + companyId;
+        Optional<Step> recheck = clusterLock.callWithLock(lockName, () -> recheck(companyId, command.recheckBlocks()));
+        if (recheck.isEmpty()) {
+            return Optional.empty();
+        }
+        int rechecked = recheck.get().rechecked();
+        List<AuditChainBreak> breaks = new ArrayList<>(recheck.get().breaks());
+
+        int sealed = 0;
+        Cursor cursor = recheck.get().next();
+        for (int block = 0; block < command.maxTailBlocks() && cursor != null; block++) {
+            Cursor from = cursor;
+            Optional<Step> step = clusterLock.callWithLock(lockName, () -> verifyTailBlock(companyId, from,
+                    command.blockSize()));
+            if (step.isEmpty()) {
+                break;
+            }
+            sealed += step.get().sealed() ? 1 : 0;
+            breaks.addAll(step.get().breaks());
+            cursor = step.get().next();
+        }
+        return Optional.of(new CompanyResult(sealed, rechecked, breaks));
+    }
+
+    private Step recheck(CompanyId companyId, int recheckBlocks) {
+        if (auditChainRepository.findHead(companyId).isEmpty()) {
+            return Step.RETIRED;
+        }
+        Instant now = Instant.now();
+        List<AuditCheckpoint> stale = auditChainRepository.findLeastRecentlyVerified(companyId, recheckBlocks);
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        for (AuditCheckpoint checkpoint : stale) {
+            List<AuditChainBreak> checkpointBreaks = verifier.verifyCheckpoint(checkpoint);
+            if (checkpointBreaks.isEmpty()) {
+                auditChainRepository.markVerified(companyId, checkpoint.toSequence(), now);
+            }
+            breaks.addAll(checkpointBreaks);
+        }
+        return retiredMeanwhile(companyId, breaks)
+                ? Step.RETIRED
+                : new Step(breaks, false, stale.size(), Cursor.SEALING);
+    }
+
+    /**
+     * Walks the next tail block. While every block so far was intact the walk resumes from the latest checkpoint,
+     * which another node may have moved since, and a full block is sealed; after a break it goes on from the cursor
+     * without sealing, to report the rest of the run's breaks.
+     */
+    private Step verifyTailBlock(CompanyId companyId, Cursor cursor, int blockSize) {
+        Optional<AuditChainLink> head = auditChainRepository.findHead(companyId);
+        if (head.isEmpty()) {
+            return Step.RETIRED;
+        }
+        Cursor from = cursor;
+        if (cursor.sealing()) {
+            from = auditChainRepository.findLatestCheckpoint(companyId)
+                    .map(latest -> new Cursor(latest.toSequence() + 1, latest.chainHash(), true))
+                    .orElse(new Cursor(1, AuditChain.GENESIS, true));
+        }
+        if (from.sequence() > head.get().sequence()) {
+            return from.anchor().equals(head.get().chainHash())
+                    ? Step.DONE
+                    : new Step(List.of(AuditChainVerifier.headMismatch(companyId, head.get())), false, 0, null);
+        }
+
+        long to = Math.min(from.sequence() + blockSize - 1, head.get().sequence());
+        AuditChainVerifier.Walk walk = verifier.walkBlock(companyId, from.sequence(), to, from.anchor());
+        List<AuditChainBreak> breaks = new ArrayList<>(walk.breaks());
+        boolean seal = from.sealing() && breaks.isEmpty() && to - from.sequence() + 1 == blockSize;
+        if (seal) {
+            verifier.seal(companyId, from.sequence(), to, from.anchor(), walk, Instant.now());
+        }
+        Cursor next = new Cursor(to + 1, walk.chainHash(), from.sealing() && breaks.isEmpty());
+        if (to == head.get().sequence()) {
+            if (!walk.chainHash().equals(head.get().chainHash())) {
+                breaks.add(AuditChainVerifier.headMismatch(companyId, head.get()));
+            }
+            next = null;
+        }
+        return retiredMeanwhile(companyId, breaks) ? Step.RETIRED : new Step(breaks, seal, 0, next);
+    }
+
+    // The company was deleted meanwhile and its events detached from the chain mid-verification
+    private boolean retiredMeanwhile(CompanyId companyId, List<AuditChainBreak> breaks) {
+        return !breaks.isEmpty() && auditChainRepository.findHead(companyId).isEmpty();
+    }
+
+    /**
+     * Where the next tail block starts; {@code sealing} while every block walked so far was intact.
+     */
+    private record Cursor(long sequence, String anchor, boolean sealing) {
+
+        static final Cursor SEALING = new Cursor(0, AuditChain.GENESIS, true);
+    }
+
+    /**
+     * @param next {@code null} once the tail is walked to the head, or the chain is gone
+     */
+    private record Step(List<AuditChainBreak> breaks, boolean sealed, int rechecked, Cursor next) {
+
+        static final Step RETIRED = new Step(List.of(), false, 0, null);
+        static final Step DONE = new Step(List.of(), false, 0, null);
+    }
+
+    private record CompanyResult(int sealed, int rechecked, List<AuditChainBreak> breaks) {}
+}
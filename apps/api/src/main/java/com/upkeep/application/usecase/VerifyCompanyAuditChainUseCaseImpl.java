@@ -0,0 +1,101 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditChainRepository.SequenceRange;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Verifies the part of a company's audit chain that covers a time range. In sealed blocks only the events in the range
+ * are read, proven against each overlapping checkpoint's Merkle root; the checkpoints are anchored on one another's
+ * stored hashes. Unsealed events in the range are checked link by link and followed to the chain head when it is
+ * close. Nothing outside the range is rehashed beyond the audit paths and that last stretch.
+ */
+@ApplicationScoped
+public class VerifyCompanyAuditChainUseCaseImpl implements VerifyCompanyAuditChainUseCase {
+
+    private final AuditChainRepository auditChainRepository;
+    private final MembershipRoleCache membershipRoleCache;
+    private final AuditChainVerifier verifier;
+    private final int blockSize;
+
+    @Inject
+    public VerifyCompanyAuditChainUseCaseImpl(AuditChainRepository auditChainRepository,
+                                              MembershipRoleCache membershipRoleCache,
+                                              @ConfigProperty(name = "audit.integrity.block-size", defaultValue = "1024")
+                                              int blockSize) {
+        this.auditChainRepository = auditChainRepository;
+        this.membershipRoleCache = membershipRoleCache;
+        this.verifier = new AuditChainVerifier(auditChainRepository);
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public VerificationReport execute(VerifyCompanyAuditChainQuery query) {
+        CustomerId customerId = CustomerId.from(query.customerId());
+        CompanyId companyId = CompanyId.from(query.companyId());
+
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new DomainValidationException("The start of the time range must be before its end");
+        }
+
+        Role role = membershipRoleCache.findRole(customerId, companyId)
+                .orElseThrow(() -> new MembershipNotFoundException(query.customerId(), query.companyId()));
+        if (role != Role.OWNER) {
+            throw new UnauthorizedOperationException("Only owners can verify the audit trail");
+        }
+
+        Optional<AuditChainLink> head = auditChainRepository.findHead(companyId);
+        Optional<SequenceRange> range = head.isEmpty()
+                ? Optional.empty()
+                : auditChainRepository.findSequenceRange(companyId, query.from(), query.to());
+        if (range.isEmpty()) {
+            return new VerificationReport(true, null, null, 0, 0, true, List.of());
+        }
+
+        long first = range.get().first();
+        long last = range.get().last();
+        List<AuditChainBreak> breaks = new ArrayList<>();
+        List<AuditCheckpoint> checkpoints = auditChainRepository.findCheckpoints(companyId, first, last);
+        AuditCheckpoint previous = null;
+        for (AuditCheckpoint checkpoint : checkpoints) {
+            if (previous != null && !checkpoint.anchorHash().equals(previous.chainHash())) {
+                breaks.add(new AuditChainBreak(companyId, checkpoint.fromSequence(), checkpoint.toSequence(),
+                        "Checkpoint does not continue the previous one"));
+            }
+            breaks.addAll(verifier.verifyRange(checkpoint, Math.max(first, checkpoint.fromSequence()),
+                    Math.min(last, checkpoint.toSequence())));
+            previous = checkpoint;
+        }
+
+        long tailEvents = 0;
+        boolean reachedHead = true;
+        Optional<AuditCheckpoint> latest = auditChainRepository.findLatestCheckpoint(companyId);
+        long firstUnsealed = latest.map(checkpoint -> checkpoint.toSequence() + 1).orElse(1L);
+        if (last >= firstUnsealed) {
+            AuditChainVerifier.Tail tail = verifier.verifyTail(companyId, latest.orElse(null), Math.max(first, firstUnsealed),
+                    last, head.get(), blockSize);
+            breaks.addAll(tail.breaks());
+            tailEvents = tail.eventsVerified();
+            reachedHead = tail.reachedHead();
+        }
+
+        return new VerificationReport(breaks.isEmpty(), first, last, checkpoints.size(), tailEvents, reachedHead, breaks);
+    }
+}
@@ -0,0 +1,21 @@
+package com.upkeep.domain.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a caller exceeds the allowed rate for an operation.
+ * The caller may retry after {@link #getRetryAfter()}.
+ */
+public class RateLimitExceededException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
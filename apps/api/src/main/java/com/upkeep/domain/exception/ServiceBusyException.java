@@ -0,0 +1,21 @@
+package com.upkeep.domain.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a capacity-limited operation is rejected because the system is saturated.
+ * The caller may retry after {@link #getRetryAfter()}.
+ */
+public class ServiceBusyException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,157 @@
+package com.upkeep.domain.model.audit;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashing rules of the per-company audit chain (NFR6). Hashes are lowercase hex SHA-256. Each event links to the
+ * previous one, so editing, removing or reordering a row changes every chain hash after it. Checkpoints add a Merkle
+ * root over their block's leaf hashes, built as in RFC 6962 with distinct leaf and node prefixes. Part of a block is
+ * proven against the root with an audit path: the nodes of the subtrees around it, at most two per level.
+ */
+public final class AuditChain {
+
+    public static final String GENESIS = "0".repeat(64);
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    private AuditChain() {
+    }
+
+    public static String link(String previousChainHash, String leafHash) {
+        MessageDigest digest = sha256();
+        digest.update(HEX.parseHex(previousChainHash));
+        digest.update(HEX.parseHex(leafHash));
+        return HEX.formatHex(digest.digest());
+    }
+
+    public static String merkleRoot(List<String> leafHashes) {
+        return HEX.formatHex(subtreeRoot(parse(leafHashes), 0, leafHashes.size()));
+    }
+
+    /**
+     * Every node of the Merkle tree over {@code leafHashes}, the leaves numbered from {@code firstSequence}, except the
+     * root.
+     */
+    public static List<MerkleNode> merkleNodes(long firstSequence, List<String> leafHashes) {
+        List<MerkleNode> nodes = new ArrayList<>(2 * leafHashes.size());
+        collectNodes(parse(leafHashes), 0, leafHashes.size(), firstSequence, nodes);
+        nodes.removeLast();
+        return nodes;
+    }
+
+    /**
+     * The subtrees of {@code block} that lie outside {@code covered}, whose nodes prove the covered leaves against the
+     * block's root. Empty when {@code covered} is the whole block.
+     */
+    public static List<MerkleSpan> auditPath(MerkleSpan block, MerkleSpan covered) {
+        List<MerkleSpan> path = new ArrayList<>();
+        collectPath(block.fromSequence(), block.toSequence(), covered, path);
+        return path;
+    }
+
+    /**
+     * The root of {@code block} rebuilt from the leaf hashes of {@code covered} and the nodes of its
+     * {@link #auditPath audit path}.
+     */
+    public static String merkleRoot(MerkleSpan block, MerkleSpan covered, List<String> leafHashes,
+                                    Map<MerkleSpan, String> auditPath) {
+        if (leafHashes.size() != covered.toSequence() - covered.fromSequence() + 1) {
+            throw new IllegalArgumentException("Expected one leaf per covered sequence");
+        }
+        return HEX.formatHex(provenRoot(block.fromSequence(), block.toSequence(), covered, parse(leafHashes), auditPath));
+    }
+
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Splits at the largest power of two below the size, so a block's root does not depend on how it is padded
+    private static byte[] subtreeRoot(byte[][] leaves, int from, int to) {
+        if (to - from == 1) {
+            return leafNode(leaves[from]);
+        }
+        int split = Integer.highestOneBit(to - from - 1);
+        return node(subtreeRoot(leaves, from, from + split), subtreeRoot(leaves, from + split, to));
+    }
+
+    // Post-order, so the root comes last
+    private static byte[] collectNodes(byte[][] leaves, int from, int to, long firstSequence, List<MerkleNode> nodes) {
+        byte[] hash;
+        if (to - from == 1) {
+            hash = leafNode(leaves[from]);
+        } else {
+            int split = Integer.highestOneBit(to - from - 1);
+            hash = node(collectNodes(leaves, from, from + split, firstSequence, nodes),
+                    collectNodes(leaves, from + split, to, firstSequence, nodes));
+        }
+        nodes.add(new MerkleNode(new MerkleSpan(firstSequence + from, firstSequence + to - 1), HEX.formatHex(hash)));
+        return hash;
+    }
+
+    private static void collectPath(long from, long to, MerkleSpan covered, List<MerkleSpan> path) {
+        if (to < covered.fromSequence() || from > covered.toSequence()) {
+            path.add(new MerkleSpan(from, to));
+            return;
+        }
+        if (from >= covered.fromSequence() && to <= covered.toSequence()) {
+            return;
+        }
+        long split = from + Long.highestOneBit(to - from);
+        collectPath(from, split - 1, covered, path);
+        collectPath(split, to, covered, path);
+    }
+
+    private static byte[] provenRoot(long from, long to, MerkleSpan covered, byte[][] leaves,
+                                     Map<MerkleSpan, String> auditPath) {
+        if (to < covered.fromSequence() || from > covered.toSequence()) {
+            String hash = auditPath.get(new MerkleSpan(from, to));
+            if (hash == null) {
+                throw new IllegalArgumentException("The audit path has no node for sequences " + from + " to " + to);
+            }
+            return HEX.parseHex(hash);
+        }
+        if (from == to) {
+            return leafNode(leaves[(int) (from - covered.fromSequence())]);
+        }
+        long split = from + Long.highestOneBit(to - from);
+        return node(provenRoot(from, split - 1, covered, leaves, auditPath),
+                provenRoot(split, to, covered, leaves, auditPath));
+    }
+
+    private static byte[][] parse(List<String> leafHashes) {
+        if (leafHashes.isEmpty()) {
+            throw new IllegalArgumentException("A Merkle root needs at least one leaf");
+        }
+        byte[][] leaves = new byte[leafHashes.size()][];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = HEX.parseHex(leafHashes.get(i));
+        }
+        return leaves;
+    }
+
+    private static byte[] leafNode(byte[] leaf) {
+        MessageDigest digest = sha256();
+        digest.update(LEAF_PREFIX);
+        digest.update(leaf);
+        return digest.digest();
+    }
+
+    private static byte[] node(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+}
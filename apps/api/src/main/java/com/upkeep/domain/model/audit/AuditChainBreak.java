@@ -0,0 +1,13 @@
+package com.upkeep.domain.model.audit;
+
+import com.upkeep.domain.model.company.CompanyId;
+
+/**
+ * Sequences {@code fromSequence} to {@code toSequence} of a company's audit chain failed verification.
+ */
+public record AuditChainBreak(
+        CompanyId companyId,
+        long fromSequence,
+        long toSequence,
+        String reason
+) {}
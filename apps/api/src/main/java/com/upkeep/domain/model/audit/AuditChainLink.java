@@ -0,0 +1,7 @@
+package com.upkeep.domain.model.audit;
+
+/**
+ * An event's position in its company's hash chain: {@code chainHash} is {@link AuditChain#link} of the previous
+ * event's chain hash and this event's leaf hash.
+ */
+public record AuditChainLink(long sequence, String chainHash) {}
@@ -0,0 +1,25 @@
+package com.upkeep.domain.model.audit;
+
+import com.upkeep.domain.model.company.CompanyId;
+
+import java.time.Instant;
+
+/**
+ * A sealed block of a company's audit chain, sequences {@code fromSequence} to {@code toSequence} inclusive.
+ * {@code anchorHash} is the chain hash just before the block, which makes each block verifiable on its own.
+ */
+public record AuditCheckpoint(
+        CompanyId companyId,
+        long fromSequence,
+        long toSequence,
+        String anchorHash,
+        String chainHash,
+        String merkleRoot,
+        Instant createdAt,
+        Instant lastVerifiedAt
+) {
+
+    public long size() {
+        return toSequence - fromSequence + 1;
+    }
+}
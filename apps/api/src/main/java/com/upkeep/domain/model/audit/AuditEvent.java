@@ -5,8 +5,7 @@ import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Audit event tracking all important actions in the system for compliance and transparency (FR37).
@@ -18,8 +17,10 @@ public class AuditEvent {
     private final CustomerId actorId;
     private final String targetType;
     private final String targetId;
-    private final Map<String, Object> payload;
     private final Instant timestamp;
+    private Supplier<AuditPayload> payloadSource;
+    private AuditPayload payload;
+    private AuditChainLink chainLink;
 
     private AuditEvent(AuditEventId id,
                        CompanyId companyId,
@@ -27,7 +28,8 @@ public class AuditEvent {
                        CustomerId actorId,
                        String targetType,
                        String targetId,
-                       Map<String, Object> payload,
+                       AuditPayload payload,
+                       Supplier<AuditPayload> payloadSource,
                        Instant timestamp) {
         this.id = id;
         this.companyId = companyId;
@@ -35,15 +37,17 @@ public class AuditEvent {
         this.actorId = actorId;
         this.targetType = targetType;
         this.targetId = targetId;
-        this.payload = new HashMap<>(payload);
+        this.payload = payload;
+        this.payloadSource = payloadSource;
         this.timestamp = timestamp;
     }
 
     public static AuditEvent budgetCreated(CompanyId companyId, CustomerId actorId, Budget budget) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("amountCents", budget.getAmount().amountCents());
-        payload.put("currency", budget.getAmount().currency().name());
-        payload.put("effectiveFrom", budget.getEffectiveFrom().toString());
+        AuditPayload payload = new BudgetCreatedPayload(
+                budget.getAmount().amountCents(),
+                budget.getAmount().currency(),
+                budget.getEffectiveFrom()
+        );
 
         return new AuditEvent(
                 AuditEventId.generate(),
@@ -53,15 +57,17 @@ public class AuditEvent {
                 "Budget",
                 budget.getId().toString(),
                 payload,
+                null,
                 Instant.now()
         );
     }
 
     public static AuditEvent budgetUpdated(CompanyId companyId, CustomerId actorId, Budget budget, long previousAmountCents) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("previousAmountCents", previousAmountCents);
-        payload.put("newAmountCents", budget.getAmount().amountCents());
-        payload.put("currency", budget.getAmount().currency().name());
+        AuditPayload payload = new BudgetUpdatedPayload(
+                previousAmountCents,
+                budget.getAmount().amountCents(),
+                budget.getAmount().currency()
+        );
 
         return new AuditEvent(
                 AuditEventId.generate(),
@@ -71,6 +77,7 @@ public class AuditEvent {
                 "Budget",
                 budget.getId().toString(),
                 payload,
+                null,
                 Instant.now()
         );
     }
@@ -81,9 +88,23 @@ public class AuditEvent {
                                           CustomerId actorId,
                                           String targetType,
                                           String targetId,
-                                          Map<String, Object> payload,
+                                          AuditPayload payload,
                                           Instant timestamp) {
-        return new AuditEvent(id, companyId, eventType, actorId, targetType, targetId, payload, timestamp);
+        return new AuditEvent(id, companyId, eventType, actorId, targetType, targetId, payload, null, timestamp);
+    }
+
+    /**
+     * Reconstitutes an event whose payload is only decoded by {@code payloadSource} on the first {@link #getPayload()}.
+     */
+    public static AuditEvent reconstitute(AuditEventId id,
+                                          CompanyId companyId,
+                                          AuditEventType eventType,
+                                          CustomerId actorId,
+                                          String targetType,
+                                          String targetId,
+                                          Supplier<AuditPayload> payloadSource,
+                                          Instant timestamp) {
+        return new AuditEvent(id, companyId, eventType, actorId, targetType, targetId, null, payloadSource, timestamp);
     }
 
     public AuditEventId getId() {
@@ -110,11 +131,29 @@ public class AuditEvent {
         return targetId;
     }
 
-    public Map<String, Object> getPayload() {
-        return new HashMap<>(payload);
+    public AuditPayload getPayload() {
+        if (payloadSource != null) {
+            payload = payloadSource.get();
+            payloadSource = null;
+        }
+        return payload;
     }
 
     public Instant getTimestamp() {
         return timestamp;
     }
+
+    /**
+     * The event's place in its company's hash chain, {@code null} until it is stored or when it has no company.
+     */
+    public AuditChainLink getChainLink() {
+        return chainLink;
+    }
+
+    public void linkToChain(AuditChainLink chainLink) {
+        if (this.chainLink != null) {
+            throw new IllegalStateException("Audit event " + id + " is already chained");
+        }
+        this.chainLink = chainLink;
+    }
 }
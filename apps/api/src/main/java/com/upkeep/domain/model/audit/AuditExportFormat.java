@@ -0,0 +1,28 @@
+package com.upkeep.domain.model.audit;
+
+import com.upkeep.domain.exception.DomainValidationException;
+
+import java.util.Locale;
+
+public enum AuditExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    AuditExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static AuditExportFormat parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new DomainValidationException("Export format must be ndjson or csv");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.upkeep.domain.model.audit;
+
+/**
+ * Details of an audit event, one record type per {@link AuditEventType}.
+ */
+public sealed interface AuditPayload permits BudgetCreatedPayload, BudgetUpdatedPayload, UnstructuredPayload {
+}
@@ -0,0 +1,12 @@
+package com.upkeep.domain.model.audit;
+
+import com.upkeep.domain.model.budget.Currency;
+
+import java.time.Instant;
+
+public record BudgetCreatedPayload(
+        long amountCents,
+        Currency currency,
+        Instant effectiveFrom
+) implements AuditPayload {
+}
@@ -0,0 +1,10 @@
+package com.upkeep.domain.model.audit;
+
+import com.upkeep.domain.model.budget.Currency;
+
+public record BudgetUpdatedPayload(
+        long previousAmountCents,
+        long newAmountCents,
+        Currency currency
+) implements AuditPayload {
+}
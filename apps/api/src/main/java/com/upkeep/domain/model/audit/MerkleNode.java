@@ -0,0 +1,7 @@
+package com.upkeep.domain.model.audit;
+
+/**
+ * A node of a checkpoint's Merkle tree, kept so that part of the block can be proven against the root without the
+ * rest of its events.
+ */
+public record MerkleNode(MerkleSpan span, String hash) {}
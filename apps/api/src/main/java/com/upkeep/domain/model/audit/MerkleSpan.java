@@ -0,0 +1,6 @@
+package com.upkeep.domain.model.audit;
+
+/**
+ * The sequences {@code fromSequence} to {@code toSequence} inclusive that a node of a checkpoint's Merkle tree covers.
+ */
+public record MerkleSpan(long fromSequence, long toSequence) {}
@@ -0,0 +1,15 @@
+package com.upkeep.domain.model.audit;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Payload of an event type that has no record of its own yet.
+ */
+public record UnstructuredPayload(Map<String, Object> fields) implements AuditPayload {
+
+    public UnstructuredPayload {
+        fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+    }
+}
@@ -0,0 +1,21 @@
+package com.upkeep.domain.model.company;
+
+/**
+ * Stages of a company's background deletion, in the order they run. Memberships go first so members lose access
+ * before anything else is removed; the audit chain is retired before its events are detached from the company, and
+ * its Merkle nodes are deleted in chunks once nothing verifies against them. The company row itself goes last.
+ */
+public enum CompanyDeletionStep {
+    MEMBERSHIPS,
+    INVITATIONS,
+    BUDGETS,
+    AUDIT_CHAIN,
+    AUDIT_MERKLE_NODES,
+    AUDIT_EVENTS,
+    COMPANY,
+    COMPLETED;
+
+    public CompanyDeletionStep next() {
+        return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,16 @@
+package com.upkeep.infrastructure.adapter.in.rest.audit;
+
+import com.upkeep.domain.model.audit.AuditEventType;
+
+import java.time.Instant;
+
+public record AuditEventResponse(
+        String id,
+        AuditEventType eventType,
+        String actorId,
+        String targetType,
+        String targetId,
+        Object payload,
+        Instant timestamp
+) {
+}
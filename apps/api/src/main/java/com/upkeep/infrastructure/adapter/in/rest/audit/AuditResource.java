@@ -0,0 +1,141 @@
+package com.upkeep.infrastructure.adapter.in.rest.audit;
+
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase;
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase.AuditExport;
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase.ExportCompanyAuditEventsQuery;
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase;
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase.AuditEventPage;
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase.GetCompanyAuditEventsQuery;
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase;
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase.VerificationReport;
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase.VerifyCompanyAuditChainQuery;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import com.upkeep.domain.model.audit.UnstructuredPayload;
+import com.upkeep.infrastructure.adapter.in.rest.common.request.QueryParams;
+import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiMeta;
+import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.Authenticated;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.AuthenticatedCustomer;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Authenticated
+@Path("/api/companies/{companyId}/audit")
+@Produces(MediaType.APPLICATION_JSON)
+public class AuditResource {
+
+    private static final String GZIP = "application/gzip";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private final GetCompanyAuditEventsUseCase getCompanyAuditEventsUseCase;
+    private final ExportCompanyAuditEventsUseCase exportCompanyAuditEventsUseCase;
+    private final VerifyCompanyAuditChainUseCase verifyCompanyAuditChainUseCase;
+    private final AuthenticatedCustomer authenticatedCustomer;
+
+    public AuditResource(GetCompanyAuditEventsUseCase getCompanyAuditEventsUseCase,
+                         ExportCompanyAuditEventsUseCase exportCompanyAuditEventsUseCase,
+                         VerifyCompanyAuditChainUseCase verifyCompanyAuditChainUseCase,
+                         AuthenticatedCustomer authenticatedCustomer) {
+        this.getCompanyAuditEventsUseCase = getCompanyAuditEventsUseCase;
+        this.exportCompanyAuditEventsUseCase = exportCompanyAuditEventsUseCase;
+        this.verifyCompanyAuditChainUseCase = verifyCompanyAuditChainUseCase;
+        this.authenticatedCustomer = authenticatedCustomer;
+    }
+
+    @GET
+    public Response getAuditEvents(@PathParam("companyId") String companyId,
+                                   @QueryParam("type") List<String> eventTypes,
+                                   @QueryParam("from") Instant from,
+                                   @QueryParam("to") Instant to,
+                                   @QueryParam("cursor") String cursor,
+                                   @QueryParam("limit") @DefaultValue("50") int limit) {
+        AuditEventPage page = getCompanyAuditEventsUseCase.execute(new GetCompanyAuditEventsQuery(
+                authenticatedCustomer.userId(), companyId, QueryParams.parseEnums(AuditEventType.class, "type", eventTypes),
+                from, to, cursor, limit));
+
+        List<AuditEventResponse> response = page.events().stream()
+                .map(event -> new AuditEventResponse(
+                        event.auditEventId(),
+                        event.eventType(),
+                        event.actorId(),
+                        event.targetType(),
+                        event.targetId(),
+                        event.payload() instanceof UnstructuredPayload unstructured ? unstructured.fields() : event.payload(),
+                        event.timestamp()
+                ))
+                .toList();
+
+        return Response.ok(ApiResponse.success(response, ApiMeta.page(limit, page.nextCursor()))).build();
+    }
+
+    /**
+     * Streams the whole period as gzipped NDJSON or CSV. Validation and authorization happen before the first byte is
+     * sent; after that, a failure can only cut the response short, which leaves a truncated gzip stream the client
+     * will reject.
+     */
+    @GET
+    @Path("/export")
+    @Produces({MediaType.APPLICATION_JSON, GZIP})
+    public Response exportAuditEvents(@PathParam("companyId") String companyId,
+                                      @QueryParam("from") Instant from,
+                                      @QueryParam("to") Instant to,
+                                      @QueryParam("format") @DefaultValue("ndjson") String format) {
+        AuditExport export = exportCompanyAuditEventsUseCase.execute(new ExportCompanyAuditEventsQuery(
+                authenticatedCustomer.userId(), companyId, from, to, AuditExportFormat.parse(format)));
+
+        StreamingOutput body = output -> {
+            // Buffered in front of the deflater: COPY hands over one row per write
+            try (OutputStream gzip = new BufferedOutputStream(new GZIPOutputStream(output, EXPORT_BUFFER_SIZE), EXPORT_BUFFER_SIZE)) {
+                export.body().writeTo(gzip);
+            }
+        };
+        return Response.ok(body, GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.fileName() + ".gz\"")
+                .build();
+    }
+
+    /**
+     * Verifies the chain over the period. Sealed events in the period are proven against their checkpoint's Merkle
+     * root with an inclusion proof, so a range check reads and hashes the events in the period plus O(log block size)
+     * stored nodes per overlapping block (blocks are {@code audit.integrity.block-size} events long). Unsealed events
+     * in the period are checked link by link and followed to the chain head when it is at most a block further.
+     */
+    @GET
+    @Path("/verify")
+    public Response verifyAuditChain(@PathParam("companyId") String companyId,
+                                     @QueryParam("from") Instant from,
+                                     @QueryParam("to") Instant to) {
+        VerificationReport report = verifyCompanyAuditChainUseCase.execute(new VerifyCompanyAuditChainQuery(
+                authenticatedCustomer.userId(), companyId, from, to));
+
+        AuditVerificationResponse response = new AuditVerificationResponse(
+                report.intact(),
+                report.firstSequence(),
+                report.lastSequence(),
+                report.checkpointsVerified(),
+                report.tailEventsVerified(),
+                report.tailReachedHead(),
+                report.breaks().stream()
+                        .map(chainBreak -> new AuditVerificationResponse.Break(
+                                chainBreak.fromSequence(), chainBreak.toSequence(), chainBreak.reason()))
+                        .toList()
+        );
+
+        return Response.ok(ApiResponse.success(response)).build();
+    }
+}
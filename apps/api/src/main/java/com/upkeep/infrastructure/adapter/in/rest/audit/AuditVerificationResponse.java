@@ -0,0 +1,21 @@
+package com.upkeep.infrastructure.adapter.in.rest.audit;
+
+import java.util.List;
+
+public record AuditVerificationResponse(
+        boolean intact,
+        Long firstSequence,
+        Long lastSequence,
+        int checkpointsVerified,
+        long tailEventsVerified,
+        boolean tailReachedHead,
+        List<Break> breaks
+) {
+
+    public record Break(
+            long fromSequence,
+            long toSequence,
+            String reason
+    ) {
+    }
+}
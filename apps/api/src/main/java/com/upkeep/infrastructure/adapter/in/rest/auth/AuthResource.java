@@ -7,8 +7,10 @@ import com.upkeep.application.port.in.RegisterCustomerUseCase;
 import com.upkeep.application.port.out.auth.TokenService;
 import com.upkeep.application.port.out.auth.TokenService.RefreshResult;
 import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import com.upkeep.infrastructure.adapter.in.rest.common.ratelimit.AuthRateLimiter;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import io.vertx.core.http.HttpServerRequest;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.Consumes;
@@ -16,6 +18,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
@@ -32,6 +35,7 @@ public class AuthResource {
     private final RegisterCustomerUseCase registerCustomerUseCase;
     private final AuthenticateCustomerUseCase authenticateCustomerUseCase;
     private final TokenService tokenService;
+    private final AuthRateLimiter rateLimiter;
 
     @ConfigProperty(name = "jwt.access-token-expiry-seconds", defaultValue = "900")
     int accessTokenExpirySeconds;
@@ -44,15 +48,18 @@ public class AuthResource {
 
     public AuthResource(RegisterCustomerUseCase registerCustomerUseCase,
                         AuthenticateCustomerUseCase authenticateCustomerUseCase,
-                        TokenService tokenService) {
+                        TokenService tokenService,
+                        AuthRateLimiter rateLimiter) {
         this.registerCustomerUseCase = registerCustomerUseCase;
         this.authenticateCustomerUseCase = authenticateCustomerUseCase;
         this.tokenService = tokenService;
+        this.rateLimiter = rateLimiter;
     }
 
     @POST
     @Path("/register")
-    public Response register(@Valid RegisterRequest request) {
+    public Response register(@Valid RegisterRequest request, @Context HttpServerRequest httpRequest) {
+        rateLimiter.check(clientIp(httpRequest), request.email());
         RegisterCustomerUseCase.RegisterResult result = registerCustomerUseCase.execute(
                 new RegisterCustomerUseCase.RegisterCommand(
                         request.email(),
@@ -68,7 +75,8 @@ public class AuthResource {
 
     @POST
     @Path("/login")
-    public Response login(@Valid LoginRequest request) {
+    public Response login(@Valid LoginRequest request, @Context HttpServerRequest httpRequest) {
+        rateLimiter.check(clientIp(httpRequest), request.email());
         AuthResult result = authenticateCustomerUseCase.execute(
                 new AuthCommand(request.email(), request.password())
         );
@@ -171,6 +179,10 @@ public class AuthResource {
                 .build();
     }
 
+    private static String clientIp(HttpServerRequest httpRequest) {
+        return httpRequest.remoteAddress() != null ? httpRequest.remoteAddress().host() : null;
+    }
+
     private boolean isSecureCookie() {
         return useSecureCookies;
     }
@@ -7,6 +7,8 @@ import com.upkeep.domain.model.customer.AccountType;
 import com.upkeep.domain.model.oauth.OAuthProvider;
 import com.upkeep.domain.model.oauth.OAuthUserInfo;
 import com.upkeep.infrastructure.adapter.out.oauth.GitHubOAuthAdapter;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.inject.Named;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
@@ -19,6 +21,7 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import java.net.URI;
+import java.util.concurrent.CompletionException;
 
 @Path("/api/auth/oauth")
 @Produces(MediaType.APPLICATION_JSON)
@@ -65,56 +68,73 @@ public class OAuthResource {
         return Response.temporaryRedirect(URI.create(authUrl)).build();
     }
 
+    /**
+     * Runs on the I/O thread while GitHub is called asynchronously; only the state check, account lookup and token
+     * issuance, which touch the database, are moved to a worker thread.
+     */
     @GET
     @Path("/github/callback")
-    public Response handleGitHubCallback(@QueryParam("code") String code,
-                                         @QueryParam("state") String state,
-                                         @QueryParam("error") String error,
-                                         @QueryParam("error_description") String errorDescription) {
+    public Uni<Response> handleGitHubCallback(@QueryParam("code") String code,
+                                              @QueryParam("state") String state,
+                                              @QueryParam("error") String error,
+                                              @QueryParam("error_description") String errorDescription) {
 
         if (error != null) {
             String desc = errorDescription != null ? errorDescription : "OAuth authorization denied";
-            return redirectToFrontendWithError("oauth_denied", desc);
+            return Uni.createFrom().item(redirectToFrontendWithError("oauth_denied", desc));
         }
 
         if (code == null || code.isBlank()) {
-            return redirectToFrontendWithError("invalid_request", "Missing authorization code");
+            return Uni.createFrom().item(redirectToFrontendWithError("invalid_request", "Missing authorization code"));
         }
 
-        OAuthStateService.StateData stateData = stateService.consumeState(state)
-                .orElse(null);
-
-        if (stateData == null) {
-            return redirectToFrontendWithError("invalid_state", "Invalid or expired state parameter");
-        }
-
-        try {
-            OAuthProviderAdapter.OAuthTokenResponse tokenResponse = githubProvider.exchangeCode(code);
-            OAuthUserInfo userInfo = githubProvider.getUserInfo(tokenResponse.accessToken());
-
-            OAuthLoginUseCase.OAuthResult result = oauthLoginUseCase.execute(
-                    new OAuthLoginUseCase.OAuthCommand(
-                            OAuthProvider.GITHUB,
-                            userInfo.providerUserId(),
-                            userInfo.email(),
-                            stateData.accountType()
-                    )
-            );
+        return Uni.createFrom().item(() -> stateService.consumeState(state))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .chain(stateData -> stateData
+                        .map(data -> loginWithGitHub(code, data.accountType()))
+                        .orElseGet(() -> Uni.createFrom().item(
+                                redirectToFrontendWithError("invalid_state", "Invalid or expired state parameter"))))
+                // loginWithGitHub recovers on its own, so only a failed state check gets here
+                .onFailure().recoverWithItem(this::handleCallbackFailure);
+    }
 
-            String redirectPath = result.isNewUser() ? "/onboarding" : "/dashboard";
+    private Uni<Response> loginWithGitHub(String code, AccountType accountType) {
+        return Uni.createFrom().completionStage(() -> githubProvider.exchangeCodeAsync(code))
+                .chain(tokenResponse -> Uni.createFrom().completionStage(
+                        () -> githubProvider.getUserInfoAsync(tokenResponse.accessToken())))
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .map(userInfo -> completeLogin(userInfo, accountType))
+                .onFailure().recoverWithItem(this::handleCallbackFailure);
+    }
 
-            return Response.temporaryRedirect(URI.create(frontendUrl + redirectPath))
-                    .cookie(createAccessTokenCookie(result.accessToken()))
-                    .cookie(createRefreshTokenCookie(result.refreshToken()))
-                    .build();
+    private Response completeLogin(OAuthUserInfo userInfo, AccountType accountType) {
+        OAuthLoginUseCase.OAuthResult result = oauthLoginUseCase.execute(
+                new OAuthLoginUseCase.OAuthCommand(
+                        OAuthProvider.GITHUB,
+                        userInfo.providerUserId(),
+                        userInfo.email(),
+                        accountType
+                )
+        );
+
+        String redirectPath = result.isNewUser() ? "/onboarding" : "/dashboard";
+
+        return Response.temporaryRedirect(URI.create(frontendUrl + redirectPath))
+                .cookie(createAccessTokenCookie(result.accessToken()))
+                .cookie(createRefreshTokenCookie(result.refreshToken()))
+                .build();
+    }
 
-        } catch (GitHubOAuthAdapter.OAuthException e) {
+    private Response handleCallbackFailure(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof GitHubOAuthAdapter.OAuthException e) {
             LOG.errorf("GitHub OAuth error: %s", e.getMessage());
             return redirectToFrontendWithError("oauth_error", e.getMessage());
-        } catch (Exception e) {
-            LOG.errorf(e, "OAuth authentication failed unexpectedly");
-            return redirectToFrontendWithError("server_error", "Authentication failed");
         }
+        LOG.errorf(cause, "OAuth authentication failed unexpectedly");
+        return redirectToFrontendWithError("server_error", "Authentication failed");
     }
 
     private Response redirectToFrontendWithError(String code, String message) {
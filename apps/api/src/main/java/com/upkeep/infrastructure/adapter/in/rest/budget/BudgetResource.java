@@ -2,20 +2,19 @@ package com.upkeep.infrastructure.adapter.in.rest.budget;
 
 import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase;
 import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase.BudgetSummary;
+import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase.GetBudgetSummaryQuery;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase.SetBudgetCommand;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase.SetBudgetResult;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase.UpdateBudgetCommand;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase.UpdateBudgetResult;
-import com.upkeep.application.port.out.auth.TokenService;
-import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
 import com.upkeep.domain.model.budget.Currency;
-import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.Authenticated;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.AuthenticatedCustomer;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
-import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
@@ -25,36 +24,31 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+@Authenticated
 @Path("/api/companies/{companyId}/budget")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class BudgetResource {
 
-    private static final String ACCESS_TOKEN_COOKIE = "access_token";
-
     private final SetCompanyBudgetUseCase setCompanyBudgetUseCase;
     private final UpdateCompanyBudgetUseCase updateCompanyBudgetUseCase;
     private final GetBudgetSummaryUseCase getBudgetSummaryUseCase;
-    private final TokenService tokenService;
+    private final AuthenticatedCustomer authenticatedCustomer;
 
     public BudgetResource(SetCompanyBudgetUseCase setCompanyBudgetUseCase,
                           UpdateCompanyBudgetUseCase updateCompanyBudgetUseCase,
                           GetBudgetSummaryUseCase getBudgetSummaryUseCase,
-                          TokenService tokenService) {
+                          AuthenticatedCustomer authenticatedCustomer) {
         this.setCompanyBudgetUseCase = setCompanyBudgetUseCase;
         this.updateCompanyBudgetUseCase = updateCompanyBudgetUseCase;
         this.getBudgetSummaryUseCase = getBudgetSummaryUseCase;
-        this.tokenService = tokenService;
+        this.authenticatedCustomer = authenticatedCustomer;
     }
 
     @GET
-    public Response getBudget(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                              @PathParam("companyId") String companyId) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-        BudgetSummary summary = getBudgetSummaryUseCase.execute(companyId);
+    public Response getBudget(@PathParam("companyId") String companyId) {
+        BudgetSummary summary = getBudgetSummaryUseCase.execute(
+                new GetBudgetSummaryQuery(companyId, authenticatedCustomer.userId()));
         BudgetSummaryResponse response = new BudgetSummaryResponse(
                 summary.budgetId(),
                 summary.totalCents(),
@@ -67,21 +61,14 @@ public class BudgetResource {
     }
 
     @POST
-    public Response setBudget(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                              @PathParam("companyId") String companyId,
+    public Response setBudget(@PathParam("companyId") String companyId,
                               @Valid SetBudgetRequest request) {
-        TokenClaims claims = validateToken(accessToken);
-
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
         Currency currency = Currency.valueOf(request.currency());
 
         SetBudgetResult result = setCompanyBudgetUseCase.execute(
                 new SetBudgetCommand(
                         companyId,
-                        claims.userId(),
+                        authenticatedCustomer.userId(),
                         request.amountCents(),
                         currency
                 )
@@ -99,21 +86,14 @@ public class BudgetResource {
     }
 
     @PATCH
-    public Response updateBudget(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                 @PathParam("companyId") String companyId,
+    public Response updateBudget(@PathParam("companyId") String companyId,
                                  @Valid UpdateBudgetRequest request) {
-        TokenClaims claims = validateToken(accessToken);
-
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
         Currency currency = Currency.valueOf(request.currency());
 
         UpdateBudgetResult result = updateCompanyBudgetUseCase.execute(
                 new UpdateBudgetCommand(
                         companyId,
-                        claims.userId(),
+                        authenticatedCustomer.userId(),
                         request.amountCents(),
                         currency
                 )
@@ -129,17 +109,4 @@ public class BudgetResource {
 
         return Response.ok(ApiResponse.success(response)).build();
     }
-
-    private TokenClaims validateToken(String accessToken) {
-        if (accessToken == null || accessToken.isBlank()) {
-            return null;
-        }
-        return tokenService.validateAccessToken(accessToken);
-    }
-
-    private Response unauthorizedResponse() {
-        return Response.status(401)
-                .entity(ApiResponse.error(ApiError.of("UNAUTHORIZED", "Authentication required", null)))
-                .build();
-    }
 }
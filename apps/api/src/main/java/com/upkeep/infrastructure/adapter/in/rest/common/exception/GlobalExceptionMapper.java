@@ -15,6 +15,8 @@ import com.upkeep.domain.exception.InvitationExpiredException;
 import com.upkeep.domain.exception.InvitationNotFoundException;
 import com.upkeep.domain.exception.LastOwnerException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.RateLimitExceededException;
+import com.upkeep.domain.exception.ServiceBusyException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
@@ -159,6 +161,22 @@ public class GlobalExceptionMapper implements ExceptionMapper<Throwable> {
                     ))
                     .build();
 
+            case RateLimitExceededException e -> Response
+                    .status(429)
+                    .header("Retry-After", Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000))
+                    .entity(ApiResponse.error(
+                            ApiError.of("RATE_LIMITED", e.getMessage(), traceId)
+                    ))
+                    .build();
+
+            case ServiceBusyException e -> Response
+                    .status(503)
+                    .header("Retry-After", Math.max(1, e.getRetryAfter().toSeconds()))
+                    .entity(ApiResponse.error(
+                            ApiError.of("SERVICE_BUSY", e.getMessage(), traceId)
+                    ))
+                    .build();
+
             default -> Response
                     .status(422)
                     .entity(ApiResponse.error(
@@ -0,0 +1,80 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.ratelimit;
+
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.RateLimitExceededException;
+import com.upkeep.domain.model.customer.Email;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Throttles login and registration per client IP and per email before any password hashing runs. Emails are keyed
+ * by their {@link Email} form, so the limit follows the same normalization as account lookups.
+ */
+@ApplicationScoped
+public class AuthRateLimiter {
+
+    private static final String MESSAGE = "Too many attempts, please retry later";
+
+    private final Scope byIp;
+    private final Scope byEmail;
+
+    public AuthRateLimiter(@ConfigProperty(name = "auth.rate-limit.ip.limit", defaultValue = "30") int ipLimit,
+                           @ConfigProperty(name = "auth.rate-limit.email.limit", defaultValue = "10") int emailLimit,
+                           @ConfigProperty(name = "auth.rate-limit.window", defaultValue = "PT1M") Duration window,
+                           @ConfigProperty(name = "auth.rate-limit.max-keys", defaultValue = "100000") long maxKeys,
+                           @ConfigProperty(name = "auth.rate-limit.stripes", defaultValue = "64") int stripes,
+                           MeterRegistry meterRegistry) {
+        this.byIp = new Scope("ip", ipLimit, window, maxKeys, stripes, meterRegistry);
+        this.byEmail = new Scope("email", emailLimit, window, maxKeys, stripes, meterRegistry);
+    }
+
+    /**
+     * @throws RateLimitExceededException if either the client IP or the email is over its limit
+     */
+    public void check(String clientIp, String email) {
+        if (clientIp != null) {
+            byIp.acquire(clientIp);
+        }
+        if (email != null) {
+            emailKey(email).ifPresent(byEmail::acquire);
+        }
+    }
+
+    // An invalid address matches no account and is rejected downstream; only the IP limit applies to it
+    private static Optional<String> emailKey(String email) {
+        try {
+            return Optional.of(new Email(email).value());
+        } catch (DomainValidationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class Scope {
+
+        private final SlidingWindowRateLimiter limiter;
+        private final Counter allowed;
+        private final Counter throttled;
+
+        Scope(String name, int limit, Duration window, long maxKeys, int stripes, MeterRegistry meterRegistry) {
+            Counter evicted = meterRegistry.counter("upkeep.auth.rate.limit.evicted", "scope", name);
+            this.limiter = new SlidingWindowRateLimiter(limit, window, maxKeys, stripes, evicted::increment);
+            this.allowed = meterRegistry.counter("upkeep.auth.rate.limit.requests", "scope", name, "outcome", "allowed");
+            this.throttled = meterRegistry.counter("upkeep.auth.rate.limit.requests", "scope", name, "outcome", "throttled");
+        }
+
+        void acquire(String key) {
+            SlidingWindowRateLimiter.Decision decision = limiter.tryAcquire(key);
+            if (decision.allowed()) {
+                allowed.increment();
+                return;
+            }
+            throttled.increment();
+            throw new RateLimitExceededException(MESSAGE, decision.retryAfter());
+        }
+    }
+}
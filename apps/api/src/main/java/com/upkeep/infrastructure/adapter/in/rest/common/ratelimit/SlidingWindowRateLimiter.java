@@ -0,0 +1,103 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate sliding-window counter per key: the previous fixed window's count is weighted by how much of it
+ * still overlaps the sliding window. Keys live in a size-bounded cache that drops keys idle for two windows,
+ * and counter updates take one of a fixed set of striped locks rather than a lock per key.
+ */
+public final class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final Cache<String, Window> windows;
+    private final Object[] stripes;
+    private final LongSupplier nanoClock;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, long maxKeys, int stripeCount, Runnable onEviction) {
+        this(limit, window, maxKeys, stripeCount, onEviction, System::nanoTime);
+    }
+
+    SlidingWindowRateLimiter(int limit, Duration window, long maxKeys, int stripeCount, Runnable onEviction,
+                             LongSupplier nanoClock) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .<String, Window>evictionListener((key, value, cause) -> onEviction.run())
+                .build();
+        this.stripes = new Object[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Records an attempt for {@code key} if it is within the limit.
+     *
+     * @return {@link Decision#allowed()} or a rejection carrying the time until the current window rolls over
+     */
+    public Decision tryAcquire(String key) {
+        synchronized (stripes[Math.floorMod(key.hashCode(), stripes.length)]) {
+            long now = nanoClock.getAsLong();
+            Window window = windows.get(key, k -> new Window(now));
+            window.advance(now, windowNanos);
+
+            long elapsed = now - window.start;
+            double previousWeight = (double) (windowNanos - elapsed) / windowNanos;
+            double estimate = window.previous * previousWeight + window.current;
+            if (estimate + 1 > limit) {
+                return Decision.rejected(Duration.ofNanos(windowNanos - elapsed));
+            }
+            window.current++;
+            return Decision.ALLOWED;
+        }
+    }
+
+    long trackedKeys() {
+        windows.cleanUp();
+        return windows.estimatedSize();
+    }
+
+    public record Decision(boolean allowed, Duration retryAfter) {
+
+        static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+
+        static Decision rejected(Duration retryAfter) {
+            return new Decision(false, retryAfter);
+        }
+    }
+
+    private static final class Window {
+
+        private long start;
+        private int previous;
+        private int current;
+
+        Window(long start) {
+            this.start = start;
+        }
+
+        void advance(long now, long windowNanos) {
+            long elapsed = now - start;
+            if (elapsed >= 2 * windowNanos) {
+                previous = 0;
+                current = 0;
+                start = now;
+            } else if (elapsed >= windowNanos) {
+                previous = current;
+                current = 0;
+                start += windowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.request;
+
+import com.upkeep.domain.exception.DomainValidationException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses query parameters that JAX-RS would otherwise convert itself. A failed built-in conversion is reported as
+ * 404, so values a client can get wrong are parsed here and rejected as validation errors instead.
+ */
+public final class QueryParams {
+
+    private QueryParams() {
+    }
+
+    /**
+     * Returns {@code null} when the parameter is absent or blank; matching ignores case.
+     */
+    public static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainValidationException("Unknown " + name + ": " + value.trim());
+        }
+    }
+
+    /**
+     * Parses a repeated parameter; absent and blank values are skipped, so no values yields an empty set.
+     */
+    public static <E extends Enum<E>> Set<E> parseEnums(Class<E> type, String name, List<String> values) {
+        Set<E> parsed = EnumSet.noneOf(type);
+        for (String value : values) {
+            E constant = parseEnum(type, name, value);
+            if (constant != null) {
+                parsed.add(constant);
+            }
+        }
+        return parsed;
+    }
+}
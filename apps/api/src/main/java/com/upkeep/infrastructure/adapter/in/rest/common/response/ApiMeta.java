@@ -11,13 +11,25 @@ public record ApiMeta(
         String traceId,
         Integer page,
         Integer pageSize,
-        Long totalItems
+        Long totalItems,
+        String nextCursor
 ) {
     public static ApiMeta now() {
         return new ApiMeta(
                 Instant.now(),
                 UUID.randomUUID().toString(),
-                null, null, null
+                null, null, null, null
+        );
+    }
+
+    /**
+     * Meta for a keyset-paginated response; {@code nextCursor} is {@code null} on the last page.
+     */
+    public static ApiMeta page(int pageSize, String nextCursor) {
+        return new ApiMeta(
+                Instant.now(),
+                UUID.randomUUID().toString(),
+                null, pageSize, null, nextCursor
         );
     }
 }
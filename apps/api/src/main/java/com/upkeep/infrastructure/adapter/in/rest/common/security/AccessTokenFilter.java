@@ -0,0 +1,65 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.security;
+
+import com.upkeep.application.port.out.auth.TokenService;
+import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
+import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.jboss.logging.Logger;
+
+/**
+ * Validates the {@code access_token} cookie once per request for {@link Authenticated} endpoints.
+ */
+@Provider
+@Authenticated
+@Priority(Priorities.AUTHENTICATION)
+public class AccessTokenFilter implements ContainerRequestFilter {
+
+    public static final String ACCESS_TOKEN_COOKIE = "access_token";
+
+    private static final Logger LOG = Logger.getLogger(AccessTokenFilter.class);
+
+    private final TokenService tokenService;
+    private final AuthenticatedCustomer authenticatedCustomer;
+
+    public AccessTokenFilter(TokenService tokenService, AuthenticatedCustomer authenticatedCustomer) {
+        this.tokenService = tokenService;
+        this.authenticatedCustomer = authenticatedCustomer;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Cookie cookie = requestContext.getCookies().get(ACCESS_TOKEN_COOKIE);
+        String accessToken = cookie != null ? cookie.getValue() : null;
+        if (accessToken == null || accessToken.isBlank()) {
+            requestContext.abortWith(unauthorizedResponse());
+            return;
+        }
+
+        try {
+            authenticatedCustomer.authenticate(tokenService.validateAccessToken(accessToken), isReadOnly(requestContext));
+        } catch (IllegalArgumentException e) {
+            LOG.debugf("Rejected access token: %s", e.getMessage());
+            requestContext.abortWith(unauthorizedResponse());
+        }
+    }
+
+    private static boolean isReadOnly(ContainerRequestContext requestContext) {
+        String method = requestContext.getMethod();
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    private Response unauthorizedResponse() {
+        return Response.status(401)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(ApiResponse.error(ApiError.of("UNAUTHORIZED", "Authentication required", null)))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.security;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks resources or resource methods that require a valid {@code access_token} cookie.
+ * The caller's claims are then available through {@link AuthenticatedCustomer}.
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Authenticated {
+}
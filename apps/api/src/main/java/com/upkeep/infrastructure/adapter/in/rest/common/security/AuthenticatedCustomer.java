@@ -0,0 +1,41 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.security;
+
+import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Claims of the customer authenticated by {@link AccessTokenFilter} for the current request.
+ */
+@RequestScoped
+public class AuthenticatedCustomer {
+
+    private TokenClaims claims;
+    private boolean readOnly;
+
+    void authenticate(TokenClaims claims, boolean readOnly) {
+        this.claims = claims;
+        this.readOnly = readOnly;
+    }
+
+    public boolean isAuthenticated() {
+        return claims != null;
+    }
+
+    /**
+     * Whether the request cannot change state, so authorization may rely on the token's membership claims.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public TokenClaims claims() {
+        if (claims == null) {
+            throw new IllegalStateException("No authenticated customer for this request");
+        }
+        return claims;
+    }
+
+    public String userId() {
+        return claims().userId();
+    }
+}
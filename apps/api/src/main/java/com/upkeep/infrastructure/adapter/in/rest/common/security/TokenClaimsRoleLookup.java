@@ -0,0 +1,78 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.security;
+
+import com.upkeep.application.port.out.auth.TokenService.MembershipClaims;
+import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.Arc;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+
+/**
+ * Answers role lookups for read-only requests from the membership claims of the caller's access token, so
+ * company-scoped reads are authorized without touching the database. Claims are ignored, and the lookup falls
+ * through to the cache, when the request can change state, when they belong to another customer, or when their
+ * membership version is older than the customer's current one.
+ */
+@Decorator
+@Priority(10)
+public abstract class TokenClaimsRoleLookup implements MembershipRoleCache {
+
+    @Inject
+    @Delegate
+    @Any
+    MembershipRoleCache delegate;
+
+    @Inject
+    AuthenticatedCustomer authenticatedCustomer;
+
+    @Inject
+    MembershipVersionStore membershipVersions;
+
+    private Counter usedClaims;
+    private Counter staleClaims;
+
+    @Inject
+    void initMetrics(MeterRegistry meterRegistry) {
+        this.usedClaims = meterRegistry.counter("upkeep.auth.membership.claims", "result", "used");
+        this.staleClaims = meterRegistry.counter("upkeep.auth.membership.claims", "result", "stale");
+    }
+
+    @Override
+    public Optional<Role> findRole(CustomerId customerId, CompanyId companyId) {
+        MembershipClaims claims = trustedClaims(customerId);
+        if (claims == null) {
+            return delegate.findRole(customerId, companyId);
+        }
+        usedClaims.increment();
+        return Optional.ofNullable(claims.roles().get(companyId.toString()));
+    }
+
+    private MembershipClaims trustedClaims(CustomerId customerId) {
+        if (!Arc.container().requestContext().isActive()
+                || !authenticatedCustomer.isAuthenticated()
+                || !authenticatedCustomer.isReadOnly()) {
+            return null;
+        }
+        TokenClaims token = authenticatedCustomer.claims();
+        MembershipClaims claims = token.memberships();
+        if (claims == null || !customerId.toString().equals(token.userId())) {
+            return null;
+        }
+        if (claims.version() != membershipVersions.currentVersion(customerId)) {
+            staleClaims.increment();
+            return null;
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,21 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.RowStatus;
+
+import java.util.List;
+
+public record BulkInvitationResponse(
+        int invited,
+        int skipped,
+        List<RowResponse> rows
+) {
+
+    public record RowResponse(
+            int row,
+            String email,
+            RowStatus status,
+            String invitationId,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+public record BulkInvitationRow(
+        String email,
+        String role
+) {
+}
@@ -0,0 +1,14 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+
+import java.time.Instant;
+
+public record CompanyDeletionResponse(
+        String companyId,
+        CompanyDeletionStep step,
+        long rowsDeleted,
+        Instant requestedAt,
+        Instant completedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+
+import java.time.Instant;
+
+public record CompanyInvitationResponse(
+        String id,
+        String email,
+        Role role,
+        InvitationStatus status,
+        String invitedBy,
+        Instant createdAt,
+        Instant expiresAt
+) {
+}
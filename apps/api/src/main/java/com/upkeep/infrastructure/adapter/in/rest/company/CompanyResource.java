@@ -1,47 +1,65 @@
 package com.upkeep.infrastructure.adapter.in.rest.company;
 
+import com.upkeep.application.port.in.BulkInviteUsersUseCase;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.BulkInviteCommand;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.BulkInviteResult;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.InviteeRow;
 import com.upkeep.application.port.in.CreateCompanyUseCase;
 import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyCommand;
 import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyResult;
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase;
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase.CompanyDashboard;
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase.GetCompanyDashboardQuery;
+import com.upkeep.application.port.in.GetCompanyDeletionUseCase;
+import com.upkeep.application.port.in.GetCompanyDeletionUseCase.GetCompanyDeletionQuery;
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase;
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase.GetCompanyInvitationsQuery;
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase.InvitationPage;
 import com.upkeep.application.port.in.GetCompanyMembersUseCase;
 import com.upkeep.application.port.in.GetCompanyMembersUseCase.GetCompanyMembersQuery;
-import com.upkeep.application.port.in.GetCompanyMembersUseCase.MemberInfo;
+import com.upkeep.application.port.in.GetCompanyMembersUseCase.MemberPage;
 import com.upkeep.application.port.in.GetUserCompaniesUseCase;
 import com.upkeep.application.port.in.GetUserCompaniesUseCase.CompanyWithMembership;
 import com.upkeep.application.port.in.GetUserCompaniesUseCase.GetUserCompaniesQuery;
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase;
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase.InviteCommand;
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase.InviteResult;
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase;
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.CompanyDeletionStatus;
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.RequestCompanyDeletionCommand;
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase;
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase.UpdateMemberRoleCommand;
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase.UpdateMemberRoleResult;
-import com.upkeep.application.port.out.auth.TokenService;
-import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
-import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.in.rest.common.request.QueryParams;
+import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiMeta;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.Authenticated;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.AuthenticatedCustomer;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
-import jakarta.ws.rs.CookieParam;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import java.util.List;
 
+@Authenticated
 @Path("/api/companies")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class CompanyResource {
 
-    private static final String ACCESS_TOKEN_COOKIE = "access_token";
+    private static final String TEXT_CSV = "text/csv";
 
     private final CreateCompanyUseCase createCompanyUseCase;
     private final GetUserCompaniesUseCase getUserCompaniesUseCase;
@@ -49,7 +67,11 @@ public class CompanyResource {
     private final InviteUserToCompanyUseCase inviteUserToCompanyUseCase;
     private final GetCompanyMembersUseCase getCompanyMembersUseCase;
     private final UpdateMemberRoleUseCase updateMemberRoleUseCase;
-    private final TokenService tokenService;
+    private final BulkInviteUsersUseCase bulkInviteUsersUseCase;
+    private final GetCompanyInvitationsUseCase getCompanyInvitationsUseCase;
+    private final RequestCompanyDeletionUseCase requestCompanyDeletionUseCase;
+    private final GetCompanyDeletionUseCase getCompanyDeletionUseCase;
+    private final AuthenticatedCustomer authenticatedCustomer;
 
     public CompanyResource(CreateCompanyUseCase createCompanyUseCase,
                            GetUserCompaniesUseCase getUserCompaniesUseCase,
@@ -57,27 +79,29 @@ public class CompanyResource {
                            InviteUserToCompanyUseCase inviteUserToCompanyUseCase,
                            GetCompanyMembersUseCase getCompanyMembersUseCase,
                            UpdateMemberRoleUseCase updateMemberRoleUseCase,
-                           TokenService tokenService) {
+                           BulkInviteUsersUseCase bulkInviteUsersUseCase,
+                           GetCompanyInvitationsUseCase getCompanyInvitationsUseCase,
+                           RequestCompanyDeletionUseCase requestCompanyDeletionUseCase,
+                           GetCompanyDeletionUseCase getCompanyDeletionUseCase,
+                           AuthenticatedCustomer authenticatedCustomer) {
         this.createCompanyUseCase = createCompanyUseCase;
         this.getUserCompaniesUseCase = getUserCompaniesUseCase;
         this.getCompanyDashboardUseCase = getCompanyDashboardUseCase;
         this.inviteUserToCompanyUseCase = inviteUserToCompanyUseCase;
         this.getCompanyMembersUseCase = getCompanyMembersUseCase;
         this.updateMemberRoleUseCase = updateMemberRoleUseCase;
-        this.tokenService = tokenService;
+        this.bulkInviteUsersUseCase = bulkInviteUsersUseCase;
+        this.getCompanyInvitationsUseCase = getCompanyInvitationsUseCase;
+        this.requestCompanyDeletionUseCase = requestCompanyDeletionUseCase;
+        this.getCompanyDeletionUseCase = getCompanyDeletionUseCase;
+        this.authenticatedCustomer = authenticatedCustomer;
     }
 
     @POST
-    public Response createCompany(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                  @Valid CreateCompanyRequest request) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
+    public Response createCompany(@Valid CreateCompanyRequest request) {
         CreateCompanyResult result = createCompanyUseCase.execute(
                 new CreateCompanyCommand(
-                        claims.userId(),
+                        authenticatedCustomer.userId(),
                         request.name(),
                         request.slug()
                 )
@@ -99,14 +123,9 @@ public class CompanyResource {
     }
 
     @GET
-    public Response getUserCompanies(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
+    public Response getUserCompanies() {
         List<CompanyWithMembership> companies = getUserCompaniesUseCase.execute(
-                new GetUserCompaniesQuery(claims.userId())
+                new GetUserCompaniesQuery(authenticatedCustomer.userId())
         );
 
         List<CompanyListResponse> response = companies.stream()
@@ -118,15 +137,9 @@ public class CompanyResource {
 
     @GET
     @Path("/{companyId}/dashboard")
-    public Response getCompanyDashboard(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                        @PathParam("companyId") String companyId) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
+    public Response getCompanyDashboard(@PathParam("companyId") String companyId) {
         CompanyDashboard dashboard = getCompanyDashboardUseCase.execute(
-                new GetCompanyDashboardQuery(claims.userId(), companyId)
+                new GetCompanyDashboardQuery(authenticatedCustomer.userId(), companyId)
         );
 
         CompanyDashboardResponse response = new CompanyDashboardResponse(
@@ -145,19 +158,43 @@ public class CompanyResource {
         return Response.ok(ApiResponse.success(response)).build();
     }
 
+    @DELETE
+    @Path("/{companyId}")
+    public Response deleteCompany(@PathParam("companyId") String companyId) {
+        CompanyDeletionStatus status = requestCompanyDeletionUseCase.execute(
+                new RequestCompanyDeletionCommand(authenticatedCustomer.userId(), companyId)
+        );
+
+        return Response.accepted(ApiResponse.success(toDeletionResponse(status))).build();
+    }
+
+    @GET
+    @Path("/{companyId}/deletion")
+    public Response getCompanyDeletion(@PathParam("companyId") String companyId) {
+        CompanyDeletionStatus status = getCompanyDeletionUseCase.execute(
+                new GetCompanyDeletionQuery(authenticatedCustomer.userId(), companyId)
+        );
+
+        return Response.ok(ApiResponse.success(toDeletionResponse(status))).build();
+    }
+
+    private static CompanyDeletionResponse toDeletionResponse(CompanyDeletionStatus status) {
+        return new CompanyDeletionResponse(
+                status.companyId(),
+                status.step(),
+                status.rowsDeleted(),
+                status.requestedAt(),
+                status.completedAt()
+        );
+    }
+
     @POST
     @Path("/{companyId}/invitations")
-    public Response inviteUser(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                               @PathParam("companyId") String companyId,
+    public Response inviteUser(@PathParam("companyId") String companyId,
                                @Valid InviteUserRequest request) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
         InviteResult result = inviteUserToCompanyUseCase.execute(
                 new InviteCommand(
-                        claims.userId(),
+                        authenticatedCustomer.userId(),
                         companyId,
                         request.email(),
                         request.role()
@@ -178,19 +215,79 @@ public class CompanyResource {
     }
 
     @GET
-    @Path("/{companyId}/members")
-    public Response getCompanyMembers(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                      @PathParam("companyId") String companyId) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
-        List<MemberInfo> members = getCompanyMembersUseCase.execute(
-                new GetCompanyMembersQuery(claims.userId(), companyId)
+    @Path("/{companyId}/invitations")
+    public Response getCompanyInvitations(@PathParam("companyId") String companyId,
+                                          @QueryParam("status") List<String> statuses,
+                                          @QueryParam("cursor") String cursor,
+                                          @QueryParam("limit") @DefaultValue("" + GetCompanyInvitationsUseCase.DEFAULT_LIMIT) int limit) {
+        InvitationPage page = getCompanyInvitationsUseCase.execute(new GetCompanyInvitationsQuery(
+                authenticatedCustomer.userId(), companyId, QueryParams.parseEnums(InvitationStatus.class, "status", statuses), cursor, limit));
+
+        List<CompanyInvitationResponse> response = page.invitations().stream()
+                .map(i -> new CompanyInvitationResponse(
+                        i.invitationId(),
+                        i.email(),
+                        i.role(),
+                        i.status(),
+                        i.invitedBy(),
+                        i.createdAt(),
+                        i.expiresAt()
+                ))
+                .toList();
+
+        return Response.ok(ApiResponse.success(response, ApiMeta.page(limit, page.nextCursor()))).build();
+    }
+
+    @POST
+    @Path("/{companyId}/invitations:batch")
+    public Response inviteUsers(@PathParam("companyId") String companyId,
+                                List<BulkInvitationRow> rows) {
+        List<InviteeRow> invitees = rows == null ? List.of() : rows.stream()
+                .map(row -> new InviteeRow(row.email(), row.role()))
+                .toList();
+        return bulkInvite(companyId, invitees);
+    }
+
+    @POST
+    @Path("/{companyId}/invitations:batch")
+    @Consumes(TEXT_CSV)
+    public Response inviteUsersFromCsv(@PathParam("companyId") String companyId,
+                                       String csv) {
+        return bulkInvite(companyId, InvitationCsvParser.parse(csv));
+    }
+
+    private Response bulkInvite(String companyId, List<InviteeRow> invitees) {
+        BulkInviteResult result = bulkInviteUsersUseCase.execute(
+                new BulkInviteCommand(authenticatedCustomer.userId(), companyId, invitees)
+        );
+
+        BulkInvitationResponse response = new BulkInvitationResponse(
+                result.invited(),
+                result.skipped(),
+                result.rows().stream()
+                        .map(row -> new BulkInvitationResponse.RowResponse(
+                                row.row(),
+                                row.email(),
+                                row.status(),
+                                row.invitationId(),
+                                row.message()
+                        ))
+                        .toList()
         );
 
-        List<MemberResponse> response = members.stream()
+        return Response.ok(ApiResponse.success(response)).build();
+    }
+
+    @GET
+    @Path("/{companyId}/members")
+    public Response getCompanyMembers(@PathParam("companyId") String companyId,
+                                      @QueryParam("role") String role,
+                                      @QueryParam("cursor") String cursor,
+                                      @QueryParam("limit") @DefaultValue("" + GetCompanyMembersUseCase.DEFAULT_LIMIT) int limit) {
+        MemberPage page = getCompanyMembersUseCase.execute(new GetCompanyMembersQuery(
+                authenticatedCustomer.userId(), companyId, QueryParams.parseEnum(Role.class, "role", role), cursor, limit));
+
+        List<MemberResponse> response = page.members().stream()
                 .map(m -> new MemberResponse(
                         m.membershipId(),
                         m.customerId(),
@@ -200,23 +297,17 @@ public class CompanyResource {
                 ))
                 .toList();
 
-        return Response.ok(ApiResponse.success(response)).build();
+        return Response.ok(ApiResponse.success(response, ApiMeta.page(limit, page.nextCursor()))).build();
     }
 
     @PATCH
     @Path("/{companyId}/members/{membershipId}")
-    public Response updateMemberRole(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                     @PathParam("companyId") String companyId,
+    public Response updateMemberRole(@PathParam("companyId") String companyId,
                                      @PathParam("membershipId") String membershipId,
                                      @Valid UpdateMemberRoleRequest request) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
         UpdateMemberRoleResult result = updateMemberRoleUseCase.execute(
                 new UpdateMemberRoleCommand(
-                        claims.userId(),
+                        authenticatedCustomer.userId(),
                         companyId,
                         membershipId,
                         request.role()
@@ -225,22 +316,4 @@ public class CompanyResource {
 
         return Response.ok(ApiResponse.success(result)).build();
     }
-
-    private TokenClaims validateToken(String accessToken) {
-        if (accessToken == null || accessToken.isBlank()) {
-            return null;
-        }
-        try {
-            return tokenService.validateAccessToken(accessToken);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Response unauthorizedResponse() {
-        return Response.status(401)
-                .entity(ApiResponse.error(new ApiError(
-                        "UNAUTHORIZED", "Authentication required", null, null)))
-                .build();
-    }
 }
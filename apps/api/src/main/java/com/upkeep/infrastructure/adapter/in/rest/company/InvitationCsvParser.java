@@ -0,0 +1,39 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.InviteeRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@code email[,role]} lines. Blank lines are skipped and a first line starting with {@code email} is
+ * treated as a header. Values are not quoted; emails and role names never contain commas.
+ */
+final class InvitationCsvParser {
+
+    private InvitationCsvParser() {
+    }
+
+    static List<InviteeRow> parse(String csv) {
+        List<InviteeRow> rows = new ArrayList<>();
+        if (csv == null) {
+            return rows;
+        }
+        boolean first = true;
+        for (String line : csv.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] cells = trimmed.split(",", -1);
+            String email = cells[0].strip();
+            if (first && email.equalsIgnoreCase("email")) {
+                first = false;
+                continue;
+            }
+            first = false;
+            rows.add(new InviteeRow(email, cells.length > 1 ? cells[1].strip() : null));
+        }
+        return rows;
+    }
+}
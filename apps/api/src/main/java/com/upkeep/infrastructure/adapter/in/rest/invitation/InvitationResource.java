@@ -6,12 +6,10 @@ import com.upkeep.application.port.in.AcceptInvitationUseCase.AcceptInvitationRe
 import com.upkeep.application.port.in.GetInvitationUseCase;
 import com.upkeep.application.port.in.GetInvitationUseCase.GetInvitationQuery;
 import com.upkeep.application.port.in.GetInvitationUseCase.InvitationDetails;
-import com.upkeep.application.port.out.auth.TokenService;
-import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
-import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiError;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.Authenticated;
+import com.upkeep.infrastructure.adapter.in.rest.common.security.AuthenticatedCustomer;
 import jakarta.ws.rs.Consumes;
-import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -25,18 +23,16 @@ import jakarta.ws.rs.core.Response;
 @Consumes(MediaType.APPLICATION_JSON)
 public class InvitationResource {
 
-    private static final String ACCESS_TOKEN_COOKIE = "access_token";
-
     private final GetInvitationUseCase getInvitationUseCase;
     private final AcceptInvitationUseCase acceptInvitationUseCase;
-    private final TokenService tokenService;
+    private final AuthenticatedCustomer authenticatedCustomer;
 
     public InvitationResource(GetInvitationUseCase getInvitationUseCase,
                               AcceptInvitationUseCase acceptInvitationUseCase,
-                              TokenService tokenService) {
+                              AuthenticatedCustomer authenticatedCustomer) {
         this.getInvitationUseCase = getInvitationUseCase;
         this.acceptInvitationUseCase = acceptInvitationUseCase;
-        this.tokenService = tokenService;
+        this.authenticatedCustomer = authenticatedCustomer;
     }
 
     @GET
@@ -57,16 +53,11 @@ public class InvitationResource {
     }
 
     @POST
+    @Authenticated
     @Path("/{token}/accept")
-    public Response acceptInvitation(@CookieParam(ACCESS_TOKEN_COOKIE) String accessToken,
-                                     @PathParam("token") String token) {
-        TokenClaims claims = validateToken(accessToken);
-        if (claims == null) {
-            return unauthorizedResponse();
-        }
-
+    public Response acceptInvitation(@PathParam("token") String token) {
         AcceptInvitationResult result = acceptInvitationUseCase.execute(
-                new AcceptInvitationCommand(claims.userId(), token)
+                new AcceptInvitationCommand(authenticatedCustomer.userId(), token)
         );
 
         AcceptInvitationResponse response = new AcceptInvitationResponse(
@@ -79,22 +70,4 @@ public class InvitationResource {
 
         return Response.ok(ApiResponse.success(response)).build();
     }
-
-    private TokenClaims validateToken(String accessToken) {
-        if (accessToken == null || accessToken.isBlank()) {
-            return null;
-        }
-        try {
-            return tokenService.validateAccessToken(accessToken);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Response unauthorizedResponse() {
-        return Response.status(401)
-                .entity(ApiResponse.error(new ApiError(
-                        "UNAUTHORIZED", "Authentication required", null, null)))
-                .build();
-    }
 }
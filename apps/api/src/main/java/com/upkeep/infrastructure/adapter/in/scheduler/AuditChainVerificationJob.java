@@ -0,0 +1,64 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyCommand;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyResult;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class AuditChainVerificationJob {
+
+    private static final Logger LOG = Logger.getLogger(AuditChainVerificationJob.class);
+
+    private final VerifyAuditChainsUseCase verifyAuditChainsUseCase;
+    private final VerifyCommand command;
+    private final Counter sealed;
+    private final Counter rechecked;
+    private final Counter breaks;
+
+    public AuditChainVerificationJob(VerifyAuditChainsUseCase verifyAuditChainsUseCase,
+                                     @ConfigProperty(name = "audit.integrity.parallelism", defaultValue = "4")
+                                     int parallelism,
+                                     @ConfigProperty(name = "audit.integrity.block-size", defaultValue = "1024")
+                                     int blockSize,
+                                     @ConfigProperty(name = "audit.integrity.recheck-blocks", defaultValue = "4")
+                                     int recheckBlocks,
+                                     @ConfigProperty(name = "audit.integrity.max-tail-blocks", defaultValue = "64")
+                                     int maxTailBlocks,
+                                     MeterRegistry meterRegistry) {
+        this.verifyAuditChainsUseCase = verifyAuditChainsUseCase;
+        this.command = new VerifyCommand(parallelism, blockSize, recheckBlocks, maxTailBlocks);
+        this.sealed = meterRegistry.counter("upkeep.audit.chain.checkpoints.sealed");
+        this.rechecked = meterRegistry.counter("upkeep.audit.chain.checkpoints.rechecked");
+        this.breaks = meterRegistry.counter("upkeep.audit.chain.breaks");
+    }
+
+    @Scheduled(identity = "audit-chain-verification",
+            every = "${audit.integrity.every:15m}",
+            delayed = "${audit.integrity.initial-delay:2m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        VerifyResult result = verifyAuditChainsUseCase.execute(command);
+        sealed.increment(result.checkpointsSealed());
+        rechecked.increment(result.checkpointsRechecked());
+        breaks.increment(result.breaks().size());
+
+        for (AuditChainBreak chainBreak : result.breaks()) {
+            LOG.errorf("Audit chain of company %s broken at sequences %d-%d: %s", chainBreak.companyId(),
+                    chainBreak.fromSequence(), chainBreak.toSequence(), chainBreak.reason());
+        }
+        if (result.companiesFailed() > 0) {
+            LOG.warnf("Audit chain verification failed for %d companies", result.companiesFailed());
+        }
+        if (result.checkpointsSealed() > 0) {
+            LOG.infof("Sealed %d audit checkpoints across %d companies", result.checkpointsSealed(),
+                    result.companiesVerified());
+        }
+    }
+}
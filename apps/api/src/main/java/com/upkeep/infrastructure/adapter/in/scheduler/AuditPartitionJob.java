@@ -0,0 +1,69 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase;
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainCommand;
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@ApplicationScoped
+public class AuditPartitionJob {
+
+    private static final Logger LOG = Logger.getLogger(AuditPartitionJob.class);
+
+    private final MaintainAuditPartitionsUseCase maintainAuditPartitionsUseCase;
+    private final MaintainCommand command;
+    private final Counter created;
+    private final Counter detached;
+    private final AtomicInteger monthsCovered = new AtomicInteger();
+
+    public AuditPartitionJob(MaintainAuditPartitionsUseCase maintainAuditPartitionsUseCase,
+                             @ConfigProperty(name = "audit.partitions.months-ahead", defaultValue = "3")
+                             int monthsAhead,
+                             @ConfigProperty(name = "audit.partitions.retention-months", defaultValue = "0")
+                             int retentionMonths,
+                             @ConfigProperty(name = "audit.integrity.block-size", defaultValue = "1024")
+                             int blockSize,
+                             MeterRegistry meterRegistry) {
+        this.maintainAuditPartitionsUseCase = maintainAuditPartitionsUseCase;
+        this.command = new MaintainCommand(monthsAhead, retentionMonths, blockSize);
+        this.created = meterRegistry.counter("upkeep.audit.partitions.created");
+        this.detached = meterRegistry.counter("upkeep.audit.partitions.detached");
+        Gauge.builder("upkeep.audit.partitions.months.covered", monthsCovered, AtomicInteger::doubleValue)
+                .description("Consecutive months, starting with the current one, whose audit partition exists")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(identity = "audit-partition-maintenance",
+            every = "${audit.partitions.every:6h}",
+            delayed = "${audit.partitions.initial-delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        MaintainResult result = maintainAuditPartitionsUseCase.execute(command);
+        monthsCovered.set(result.monthsCovered());
+        if (result.monthsCovered() == 0) {
+            LOG.error("No audit partition covers the current month; every audited write fails until one is created");
+        } else if (result.monthsCovered() == 1) {
+            LOG.error("Audit partitions end with the current month; audited writes fail next month unless they are created");
+        }
+        if (!result.lockAcquired()) {
+            LOG.debug("Audit partition maintenance skipped, another node holds the lock");
+            return;
+        }
+        created.increment(result.created().size());
+        detached.increment(result.detached().size());
+        if (!result.created().isEmpty()) {
+            LOG.infof("Created audit partitions for %s", result.created());
+        }
+        if (!result.detached().isEmpty()) {
+            LOG.infof("Detached audit partitions for %s", result.detached());
+        }
+    }
+}
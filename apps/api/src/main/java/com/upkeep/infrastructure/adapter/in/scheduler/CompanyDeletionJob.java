@@ -0,0 +1,60 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase;
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessCommand;
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+
+@ApplicationScoped
+public class CompanyDeletionJob {
+
+    private static final Logger LOG = Logger.getLogger(CompanyDeletionJob.class);
+
+    private final ProcessCompanyDeletionsUseCase processCompanyDeletionsUseCase;
+    private final ProcessCommand command;
+    private final DistributionSummary deletedPerRun;
+    private final Counter companiesDeleted;
+
+    public CompanyDeletionJob(ProcessCompanyDeletionsUseCase processCompanyDeletionsUseCase,
+                              @ConfigProperty(name = "companies.deletion.batch-size", defaultValue = "500")
+                              int batchSize,
+                              @ConfigProperty(name = "companies.deletion.max-batches", defaultValue = "200")
+                              int maxBatches,
+                              @ConfigProperty(name = "companies.deletion.pause", defaultValue = "PT0.2S")
+                              Duration pause,
+                              MeterRegistry meterRegistry) {
+        this.processCompanyDeletionsUseCase = processCompanyDeletionsUseCase;
+        this.command = new ProcessCommand(batchSize, maxBatches, pause);
+        this.deletedPerRun = DistributionSummary.builder("upkeep.companies.deletion.rows")
+                .description("Rows removed or detached by company deletion per run")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.companiesDeleted = meterRegistry.counter("upkeep.companies.deleted");
+    }
+
+    @Scheduled(identity = "company-deletion",
+            every = "${companies.deletion.every:30s}",
+            delayed = "${companies.deletion.initial-delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        ProcessResult result = processCompanyDeletionsUseCase.execute(command);
+        if (!result.lockAcquired()) {
+            LOG.debug("Company deletion skipped, another node holds the lock");
+            return;
+        }
+        if (result.rowsDeleted() == 0) {
+            return;
+        }
+        deletedPerRun.record(result.rowsDeleted());
+        companiesDeleted.increment(result.companiesDeleted());
+        LOG.infof("Company deletion removed %d rows and finished %d companies", result.rowsDeleted(), result.companiesDeleted());
+    }
+}
@@ -0,0 +1,67 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase;
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchCommand;
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApplicationScoped
+public class EmailOutboxDispatchJob {
+
+    private static final Logger LOG = Logger.getLogger(EmailOutboxDispatchJob.class);
+
+    private final DispatchEmailOutboxUseCase dispatchEmailOutboxUseCase;
+    private final DispatchCommand command;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong outboxLagMillis = new AtomicLong();
+
+    public EmailOutboxDispatchJob(DispatchEmailOutboxUseCase dispatchEmailOutboxUseCase,
+                                  @ConfigProperty(name = "email.outbox.batch-size", defaultValue = "50")
+                                  int batchSize,
+                                  @ConfigProperty(name = "email.outbox.max-batches", defaultValue = "20")
+                                  int maxBatches,
+                                  @ConfigProperty(name = "email.outbox.max-attempts", defaultValue = "8")
+                                  int maxAttempts,
+                                  @ConfigProperty(name = "email.outbox.lease", defaultValue = "PT2M")
+                                  Duration lease,
+                                  @ConfigProperty(name = "email.outbox.initial-backoff", defaultValue = "PT30S")
+                                  Duration initialBackoff,
+                                  @ConfigProperty(name = "email.outbox.max-backoff", defaultValue = "PT1H")
+                                  Duration maxBackoff,
+                                  MeterRegistry meterRegistry) {
+        this.dispatchEmailOutboxUseCase = dispatchEmailOutboxUseCase;
+        this.command = new DispatchCommand(batchSize, maxBatches, maxAttempts, lease, initialBackoff, maxBackoff);
+        this.sent = meterRegistry.counter("upkeep.email.outbox.sent");
+        this.retried = meterRegistry.counter("upkeep.email.outbox.retried");
+        this.failed = meterRegistry.counter("upkeep.email.outbox.failed");
+        TimeGauge.builder("upkeep.email.outbox.lag", outboxLagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest email still waiting in the outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(identity = "email-outbox-dispatch",
+            every = "${email.outbox.every:2s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        DispatchResult result = dispatchEmailOutboxUseCase.execute(command);
+        sent.increment(result.sent());
+        retried.increment(result.retried());
+        failed.increment(result.failed());
+        outboxLagMillis.set(result.outboxLag().toMillis());
+        if (result.retried() > 0 || result.failed() > 0) {
+            LOG.infof("Email outbox: %d sent, %d to retry, %d failed", result.sent(), result.retried(), result.failed());
+        }
+    }
+}
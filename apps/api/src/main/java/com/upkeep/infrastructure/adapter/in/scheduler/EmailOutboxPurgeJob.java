@@ -0,0 +1,40 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.PurgeEmailOutboxUseCase;
+import com.upkeep.application.port.in.PurgeEmailOutboxUseCase.PurgeCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+@ApplicationScoped
+public class EmailOutboxPurgeJob {
+
+    private final PurgeEmailOutboxUseCase purgeEmailOutboxUseCase;
+    private final PurgeCommand command;
+    private final Counter purged;
+
+    public EmailOutboxPurgeJob(PurgeEmailOutboxUseCase purgeEmailOutboxUseCase,
+                               @ConfigProperty(name = "email.outbox.purge.retention", defaultValue = "P30D")
+                               Duration retention,
+                               @ConfigProperty(name = "email.outbox.purge.batch-size", defaultValue = "1000")
+                               int batchSize,
+                               @ConfigProperty(name = "email.outbox.purge.max-batches", defaultValue = "100")
+                               int maxBatches,
+                               MeterRegistry meterRegistry) {
+        this.purgeEmailOutboxUseCase = purgeEmailOutboxUseCase;
+        this.command = new PurgeCommand(retention, batchSize, maxBatches);
+        this.purged = meterRegistry.counter("upkeep.email.outbox.purged");
+    }
+
+    @Scheduled(identity = "email-outbox-purge",
+            every = "${email.outbox.purge.every:1h}",
+            delayed = "${email.outbox.purge.initial-delay:5m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        purged.increment(purgeEmailOutboxUseCase.execute(command));
+    }
+}
@@ -0,0 +1,55 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.ExpireInvitationsUseCase;
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireCommand;
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+
+@ApplicationScoped
+public class InvitationExpiryJob {
+
+    private static final Logger LOG = Logger.getLogger(InvitationExpiryJob.class);
+
+    private final ExpireInvitationsUseCase expireInvitationsUseCase;
+    private final ExpireCommand command;
+    private final DistributionSummary expiredPerRun;
+
+    public InvitationExpiryJob(ExpireInvitationsUseCase expireInvitationsUseCase,
+                               @ConfigProperty(name = "invitations.expiry-sweep.batch-size", defaultValue = "1000")
+                               int batchSize,
+                               @ConfigProperty(name = "invitations.expiry-sweep.max-batches", defaultValue = "100")
+                               int maxBatches,
+                               @ConfigProperty(name = "invitations.expiry-sweep.pause", defaultValue = "PT0.1S")
+                               Duration pause,
+                               MeterRegistry meterRegistry) {
+        this.expireInvitationsUseCase = expireInvitationsUseCase;
+        this.command = new ExpireCommand(batchSize, maxBatches, pause);
+        this.expiredPerRun = DistributionSummary.builder("upkeep.invitations.expired")
+                .description("Pending invitations marked expired per sweep")
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(identity = "invitation-expiry-sweep",
+            every = "${invitations.expiry-sweep.every:10m}",
+            delayed = "${invitations.expiry-sweep.initial-delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        ExpireResult result = expireInvitationsUseCase.execute(command);
+        if (!result.lockAcquired()) {
+            LOG.debug("Invitation expiry sweep skipped, another node holds the lock");
+            return;
+        }
+        expiredPerRun.record(result.expired());
+        if (result.expired() > 0) {
+            LOG.infof("Expired %d overdue invitations", result.expired());
+        }
+    }
+}
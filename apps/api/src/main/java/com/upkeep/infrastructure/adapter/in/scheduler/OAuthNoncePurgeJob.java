@@ -0,0 +1,36 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.PurgeOAuthNoncesUseCase;
+import com.upkeep.application.port.in.PurgeOAuthNoncesUseCase.PurgeCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class OAuthNoncePurgeJob {
+
+    private final PurgeOAuthNoncesUseCase purgeOAuthNoncesUseCase;
+    private final PurgeCommand command;
+    private final Counter purged;
+
+    public OAuthNoncePurgeJob(PurgeOAuthNoncesUseCase purgeOAuthNoncesUseCase,
+                              @ConfigProperty(name = "oauth.state.nonce-purge.batch-size", defaultValue = "1000")
+                              int batchSize,
+                              @ConfigProperty(name = "oauth.state.nonce-purge.max-batches", defaultValue = "100")
+                              int maxBatches,
+                              MeterRegistry meterRegistry) {
+        this.purgeOAuthNoncesUseCase = purgeOAuthNoncesUseCase;
+        this.command = new PurgeCommand(batchSize, maxBatches);
+        this.purged = meterRegistry.counter("upkeep.oauth.nonces.purged");
+    }
+
+    @Scheduled(identity = "oauth-nonce-purge",
+            every = "${oauth.state.nonce-purge.every:15m}",
+            delayed = "${oauth.state.nonce-purge.initial-delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        purged.increment(purgeOAuthNoncesUseCase.execute(command));
+    }
+}
@@ -0,0 +1,53 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase;
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeCommand;
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+
+@ApplicationScoped
+public class RefreshTokenPurgeJob {
+
+    private static final Logger LOG = Logger.getLogger(RefreshTokenPurgeJob.class);
+
+    private final PurgeRefreshTokensUseCase purgeRefreshTokensUseCase;
+    private final PurgeCommand command;
+    private final DistributionSummary purgedPerRun;
+
+    public RefreshTokenPurgeJob(PurgeRefreshTokensUseCase purgeRefreshTokensUseCase,
+                                @ConfigProperty(name = "auth.refresh-token-purge.batch-size", defaultValue = "1000")
+                                int batchSize,
+                                @ConfigProperty(name = "auth.refresh-token-purge.max-batches", defaultValue = "100")
+                                int maxBatches,
+                                @ConfigProperty(name = "auth.refresh-token-purge.pause", defaultValue = "PT0.1S")
+                                Duration pause,
+                                MeterRegistry meterRegistry) {
+        this.purgeRefreshTokensUseCase = purgeRefreshTokensUseCase;
+        this.command = new PurgeCommand(batchSize, maxBatches, pause);
+        this.purgedPerRun = DistributionSummary.builder("upkeep.refresh.tokens.purged")
+                .description("Refresh tokens deleted per purge run")
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(identity = "refresh-token-purge",
+            every = "${auth.refresh-token-purge.every:15m}",
+            delayed = "${auth.refresh-token-purge.initial-delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        PurgeResult result = purgeRefreshTokensUseCase.execute(command);
+        if (!result.lockAcquired()) {
+            LOG.debug("Refresh token purge skipped, another node holds the lock");
+            return;
+        }
+        purgedPerRun.record(result.totalDeleted());
+        LOG.infof("Purged %d expired and %d revoked refresh tokens", result.expiredDeleted(), result.revokedDeleted());
+    }
+}
@@ -0,0 +1,32 @@
+package com.upkeep.infrastructure.adapter.out.email;
+
+import com.upkeep.application.port.out.notification.EmailTransport.OutgoingEmail;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class EmailTemplates {
+
+    private final String frontendUrl;
+
+    public EmailTemplates(@ConfigProperty(name = "app.frontend-url", defaultValue = "http://localhost:5173")
+                          String frontendUrl) {
+        this.frontendUrl = frontendUrl;
+    }
+
+    public RenderedEmail render(OutgoingEmail email) {
+        return switch (email.kind()) {
+            case WELCOME -> new RenderedEmail(
+                    "Welcome to Upkeep!",
+                    "Thank you for creating an account with Upkeep. We're excited to have you!"
+            );
+            case INVITATION -> new RenderedEmail(
+                    "You've been invited to join a company on Upkeep",
+                    "You've been invited to join a company on Upkeep.\n\nAccept the invitation: "
+                            + frontendUrl + "/invitations/accept?token=" + email.invitationToken()
+            );
+        };
+    }
+
+    public record RenderedEmail(String subject, String body) {}
+}
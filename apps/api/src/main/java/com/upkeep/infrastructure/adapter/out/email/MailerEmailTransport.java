@@ -0,0 +1,56 @@
+package com.upkeep.infrastructure.adapter.out.email;
+
+import com.upkeep.application.port.out.notification.EmailTransport;
+import com.upkeep.infrastructure.adapter.out.email.EmailTemplates.RenderedEmail;
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.Mailer;
+import io.vertx.ext.mail.SMTPException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import org.jboss.logging.Logger;
+
+/**
+ * Sends emails through the Quarkus mailer, which pools SMTP connections and owns TLS and authentication
+ * ({@code quarkus.mailer.*}). Enabled with {@code quarkus.arc.selected-alternatives}; without it emails are only
+ * logged. A permanent (5xx) rejection fails the email; anything else is left for the dispatcher to retry.
+ */
+@Alternative
+@ApplicationScoped
+public class MailerEmailTransport implements EmailTransport {
+
+    private static final Logger LOG = Logger.getLogger(MailerEmailTransport.class);
+
+    private final EmailTemplates templates;
+    private final Mailer mailer;
+
+    public MailerEmailTransport(EmailTemplates templates, Mailer mailer) {
+        this.templates = templates;
+        this.mailer = mailer;
+    }
+
+    @Override
+    public DeliveryResult send(OutgoingEmail email) {
+        RenderedEmail rendered = templates.render(email);
+        try {
+            mailer.send(Mail.withText(email.recipient().value(), rendered.subject(), rendered.body()));
+            return DeliveryResult.success();
+        } catch (RuntimeException e) {
+            SMTPException rejection = smtpRejection(e);
+            if (rejection != null && rejection.isPermanent()) {
+                return DeliveryResult.rejected(rejection.getMessage());
+            }
+            LOG.debugf(e, "Sending %s email failed", email.kind());
+            return DeliveryResult.retryable(rejection != null ? rejection.getMessage() : e.getMessage());
+        }
+    }
+
+    // The blocking mailer wraps the Vert.x failure, which is not an Exception, in a CompletionException
+    private static SMTPException smtpRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SMTPException rejection) {
+                return rejection;
+            }
+        }
+        return null;
+    }
+}
@@ -1,25 +0,0 @@
-package com.upkeep.infrastructure.adapter.out.email;
-
-import com.upkeep.application.port.out.notification.EmailService;
-import com.upkeep.domain.model.customer.Email;
-import jakarta.enterprise.context.ApplicationScoped;
-import org.jboss.logging.Logger;
-
-@ApplicationScoped
-public class MockEmailService implements EmailService {
-    private static final Logger LOG = Logger.getLogger(MockEmailService.class);
-
-    @Override
-    public void sendWelcomeEmail(Email email) {
-        LOG.infof("📧 [MOCK] Sending welcome email to: %s", email.value());
-        LOG.infof("📧 [MOCK] Subject: Welcome to Upkeep!");
-        LOG.infof("📧 [MOCK] Body: Thank you for creating an account with Upkeep. We're excited to have you!");
-    }
-
-    @Override
-    public void sendInvitationEmail(Email email, String invitationToken) {
-        LOG.infof("📧 [MOCK] Sending invitation email to: %s", email.value());
-        LOG.infof("📧 [MOCK] Subject: You've been invited to join a company on Upkeep");
-        LOG.infof("📧 [MOCK] Invitation link: /invitations/accept?token=%s", invitationToken);
-    }
-}
\ No newline at end of file
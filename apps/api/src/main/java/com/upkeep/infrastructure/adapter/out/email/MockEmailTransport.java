@@ -0,0 +1,26 @@
+package com.upkeep.infrastructure.adapter.out.email;
+
+import com.upkeep.application.port.out.notification.EmailTransport;
+import com.upkeep.infrastructure.adapter.out.email.EmailTemplates.RenderedEmail;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class MockEmailTransport implements EmailTransport {
+    private static final Logger LOG = Logger.getLogger(MockEmailTransport.class);
+
+    private final EmailTemplates templates;
+
+    public MockEmailTransport(EmailTemplates templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    public DeliveryResult send(OutgoingEmail email) {
+        RenderedEmail rendered = templates.render(email);
+        LOG.infof("📧 [MOCK] Sending %s email to: %s", email.kind(), email.recipient().value());
+        LOG.infof("📧 [MOCK] Subject: %s", rendered.subject());
+        LOG.infof("📧 [MOCK] Body: %s", rendered.body());
+        return DeliveryResult.success();
+    }
+}
@@ -1,5 +1,6 @@
 package com.upkeep.infrastructure.adapter.out.oauth;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.upkeep.application.port.out.oauth.OAuthProviderAdapter;
@@ -9,28 +10,47 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+
+/**
+ * GitHub OAuth client built on {@link HttpClient#sendAsync}. Every call has connect and request timeouts, and
+ * in-flight calls are capped by a bulkhead so a slow GitHub cannot accumulate unbounded pending requests.
+ * {@code /user} and {@code /user/emails} are fetched concurrently.
+ */
 @ApplicationScoped
 @Named("github")
 public class GitHubOAuthAdapter implements OAuthProviderAdapter {
 
-    private static final String AUTH_URL = "https://github.com/login/oauth/authorize";
-    private static final String TOKEN_URL = "https://github.com/login/oauth/access_token";
-    private static final String USER_URL = "https://api.github.com/user";
-    private static final String EMAILS_URL = "https://api.github.com/user/emails";
+    private static final Logger LOG = Logger.getLogger(GitHubOAuthAdapter.class);
+    private static final String AUTH_PATH = "/login/oauth/authorize";
+    private static final String TOKEN_PATH = "/login/oauth/access_token";
+    private static final String USER_PATH = "/user";
+    private static final String EMAILS_PATH = "/user/emails";
+    // What GitHub answers when the token cannot read the account's emails, e.g. without the user:email scope
+    private static final Set<Integer> EMAILS_UNAVAILABLE = Set.of(401, 403, 404);
 
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final Semaphore bulkhead;
+    private final String githubUrl;
+    private final String apiUrl;
 
     @ConfigProperty(name = "oauth.github.client-id")
     String clientId;
@@ -42,9 +62,26 @@ public class GitHubOAuthAdapter implements OAuthProviderAdapter {
     String redirectUri;
 
     @Inject
-    public GitHubOAuthAdapter(ObjectMapper objectMapper) {
+    public GitHubOAuthAdapter(ObjectMapper objectMapper,
+                              @ConfigProperty(name = "oauth.github.url", defaultValue = "https://github.com")
+                              String githubUrl,
+                              @ConfigProperty(name = "oauth.github.api-url", defaultValue = "https://api.github.com")
+                              String apiUrl,
+                              @ConfigProperty(name = "oauth.github.connect-timeout-ms", defaultValue = "2000")
+                              long connectTimeoutMillis,
+                              @ConfigProperty(name = "oauth.github.request-timeout-ms", defaultValue = "5000")
+                              long requestTimeoutMillis,
+                              @ConfigProperty(name = "oauth.github.max-concurrent-requests", defaultValue = "64")
+                              int maxConcurrentRequests) {
         this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newHttpClient();
+        this.githubUrl = githubUrl;
+        this.apiUrl = apiUrl;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.bulkhead = new Semaphore(maxConcurrentRequests);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
     }
 
     @Override
@@ -54,7 +91,7 @@ public class GitHubOAuthAdapter implements OAuthProviderAdapter {
 
     @Override
     public String getAuthorizationUrl(String state) {
-        return AUTH_URL + "?" +
+        return githubUrl + AUTH_PATH + "?" +
                 "client_id=" + clientId +
                 "&redirect_uri=" + URLEncoder.encode(redirectUri, StandardCharsets.UTF_8) +
                 "&scope=user:email" +
@@ -62,27 +99,26 @@ public class GitHubOAuthAdapter implements OAuthProviderAdapter {
     }
 
     @Override
-    public OAuthTokenResponse exchangeCode(String code) {
+    public CompletionStage<OAuthTokenResponse> exchangeCodeAsync(String code) {
         String formBody = "client_id=" + URLEncoder.encode(clientId, StandardCharsets.UTF_8) +
                 "&client_secret=" + URLEncoder.encode(clientSecret, StandardCharsets.UTF_8) +
                 "&code=" + URLEncoder.encode(code, StandardCharsets.UTF_8) +
                 "&redirect_uri=" + URLEncoder.encode(redirectUri, StandardCharsets.UTF_8);
 
         HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(TOKEN_URL))
+                .uri(URI.create(githubUrl + TOKEN_PATH))
+                .timeout(requestTimeout)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .header("Accept", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(formBody))
                 .build();
 
-        try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
+        return send(request, "exchange code").thenApply(response -> {
             if (response.statusCode() != 200) {
                 throw new OAuthException("Failed to exchange code for token: " + response.statusCode());
             }
 
-            Map<String, Object> body = objectMapper.readValue(response.body(), new TypeReference<>() {});
+            Map<String, Object> body = parse(response.body(), new TypeReference<>() {}, "exchange code");
 
             if (body.containsKey("error")) {
                 throw new OAuthException("OAuth error: " + body.get("error_description"));
@@ -93,34 +129,29 @@ public class GitHubOAuthAdapter implements OAuthProviderAdapter {
                     (String) body.get("token_type"),
                     (String) body.get("scope")
             );
-        } catch (IOException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new OAuthException("Failed to exchange code: " + e.getMessage());
-        }
+        });
     }
 
     @Override
-    public OAuthUserInfo getUserInfo(String accessToken) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(USER_URL))
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Accept", "application/vnd.github+json")
-                .GET()
-                .build();
-
-        try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() != 200) {
-                throw new OAuthException("Failed to get user info: " + response.statusCode());
-            }
-
-            Map<String, Object> userInfo = objectMapper.readValue(response.body(), new TypeReference<>() {});
-
+    public CompletionStage<OAuthUserInfo> getUserInfoAsync(String accessToken) {
+        CompletableFuture<Map<String, Object>> user = send(apiRequest(USER_PATH, accessToken), "get user info")
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new OAuthException("Failed to get user info: " + response.statusCode());
+                    }
+                    return parse(response.body(), new TypeReference<>() {}, "get user info");
+                });
+        CompletableFuture<EmailLookup> primaryEmail = send(apiRequest(EMAILS_PATH, accessToken), "get user emails")
+                .thenApply(this::primaryEmail)
+                .exceptionally(failure -> EmailLookup.failed(unwrap(failure)));
+
+        return user.thenCombine(primaryEmail, (userInfo, emailLookup) -> {
             String email = (String) userInfo.get("email");
 
             if (email == null) {
-                email = fetchPrimaryEmail(accessToken);
+                email = emailLookup.orElseThrow();
+            } else if (emailLookup.failure() != null) {
+                LOG.warnf("Ignoring a GitHub emails failure, the profile has an email: %s", emailLookup.failure().getMessage());
             }
 
             if (email == null) {
@@ -132,37 +163,93 @@ public class GitHubOAuthAdapter implements OAuthProviderAdapter {
             String avatarUrl = (String) userInfo.get("avatar_url");
 
             return new OAuthUserInfo(id, email, name, avatarUrl);
-        } catch (IOException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new OAuthException("Failed to get user info: " + e.getMessage());
-        }
+        });
     }
 
-    private String fetchPrimaryEmail(String accessToken) {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(EMAILS_URL))
+    private HttpRequest apiRequest(String path, String accessToken) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(apiUrl + path))
+                .timeout(requestTimeout)
                 .header("Authorization", "Bearer " + accessToken)
                 .header("Accept", "application/vnd.github+json")
                 .GET()
                 .build();
+    }
 
+    /**
+     * A token that may not read the emails only leaves the profile email to go on; any other failure is an error.
+     */
+    private EmailLookup primaryEmail(HttpResponse<String> response) {
+        if (EMAILS_UNAVAILABLE.contains(response.statusCode())) {
+            LOG.debugf("GitHub emails are not readable with this token (%d)", response.statusCode());
+            return EmailLookup.found(null);
+        }
+        if (response.statusCode() != 200) {
+            return EmailLookup.failed(new OAuthException("Failed to get user emails: " + response.statusCode()));
+        }
+
+        List<Map<String, Object>> emails = parse(response.body(), new TypeReference<>() {}, "get user emails");
+
+        return EmailLookup.found(emails.stream()
+                .filter(e -> Boolean.TRUE.equals(e.get("primary")) && Boolean.TRUE.equals(e.get("verified")))
+                .map(e -> (String) e.get("email"))
+                .findFirst()
+                .orElse(null));
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new OAuthException("Failed to get user emails: " + cause.getMessage());
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request, String operation) {
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new OAuthException("Failed to " + operation + ": too many concurrent GitHub requests"));
+        }
+        try {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> bulkhead.release())
+                    .exceptionally(failure -> {
+                        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause()
+                                : failure;
+                        String reason = cause instanceof HttpTimeoutException ? "timed out" : cause.getMessage();
+                        throw new OAuthException("Failed to " + operation + ": " + reason);
+                    });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    private <T> T parse(String body, TypeReference<T> type, String operation) {
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new OAuthException("Failed to " + operation + ": " + e.getOriginalMessage());
+        }
+    }
 
-            if (response.statusCode() != 200) {
-                return null;
-            }
+    private record EmailLookup(String email, RuntimeException failure) {
 
-            List<Map<String, Object>> emails = objectMapper.readValue(response.body(), new TypeReference<>() {});
+        static EmailLookup found(String email) {
+            return new EmailLookup(email, null);
+        }
 
-            return emails.stream()
-                    .filter(e -> Boolean.TRUE.equals(e.get("primary")) && Boolean.TRUE.equals(e.get("verified")))
-                    .map(e -> (String) e.get("email"))
-                    .findFirst()
-                    .orElse(null);
-        } catch (IOException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
+        static EmailLookup failed(RuntimeException failure) {
+            return new EmailLookup(null, failure);
+        }
+
+        String orElseThrow() {
+            if (failure != null) {
+                throw failure;
+            }
+            return email;
         }
     }
 
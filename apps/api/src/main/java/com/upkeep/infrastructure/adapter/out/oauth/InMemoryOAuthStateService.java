@@ -3,14 +3,23 @@ package com.upkeep.infrastructure.adapter.out.oauth;
 import com.upkeep.application.port.out.oauth.OAuthStateService;
 import com.upkeep.domain.model.customer.AccountType;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Single-node fallback for {@link SignedOAuthStateService}, enabled with {@code quarkus.arc.selected-alternatives}.
+ * States share one TTL, so insertion order is expiry order: generation only prunes the expired head of the queue.
+ */
+@Alternative
 @ApplicationScoped
 public class InMemoryOAuthStateService implements OAuthStateService {
 
@@ -18,18 +27,30 @@ public class InMemoryOAuthStateService implements OAuthStateService {
     private static final int STATE_LENGTH = 32;
 
     private final Map<String, StateEntry> stateStore = new ConcurrentHashMap<>();
+    private final Queue<ExpiringState> expiryQueue = new ConcurrentLinkedQueue<>();
     private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+
+    public InMemoryOAuthStateService() {
+        this(Duration.ofMinutes(STATE_EXPIRY_MINUTES));
+    }
+
+    InMemoryOAuthStateService(Duration ttl) {
+        this.ttl = ttl;
+    }
 
     @Override
     public String generateState(AccountType accountType) {
-        cleanupExpiredStates();
+        Instant now = Instant.now();
+        pruneExpiredStates(now);
 
         byte[] bytes = new byte[STATE_LENGTH];
         secureRandom.nextBytes(bytes);
         String state = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
 
-        Instant expiresAt = Instant.now().plusSeconds(STATE_EXPIRY_MINUTES * 60L);
+        Instant expiresAt = now.plus(ttl);
         stateStore.put(state, new StateEntry(accountType, expiresAt));
+        expiryQueue.add(new ExpiringState(state, expiresAt));
 
         return state;
     }
@@ -46,10 +67,20 @@ public class InMemoryOAuthStateService implements OAuthStateService {
         return Optional.of(new StateData(entry.accountType()));
     }
 
-    private void cleanupExpiredStates() {
-        Instant now = Instant.now();
-        stateStore.entrySet().removeIf(e -> e.getValue().expiresAt().isBefore(now));
+    int pendingStates() {
+        return stateStore.size();
+    }
+
+    private void pruneExpiredStates(Instant now) {
+        ExpiringState head;
+        while ((head = expiryQueue.peek()) != null && head.expiresAt().isBefore(now)) {
+            if (expiryQueue.remove(head)) {
+                stateStore.remove(head.state());
+            }
+        }
     }
 
     private record StateEntry(AccountType accountType, Instant expiresAt) {}
+
+    private record ExpiringState(String state, Instant expiresAt) {}
 }
@@ -0,0 +1,133 @@
+package com.upkeep.infrastructure.adapter.out.oauth;
+
+import com.upkeep.application.port.out.oauth.OAuthNonceRepository;
+import com.upkeep.application.port.out.oauth.OAuthStateService;
+import com.upkeep.domain.model.customer.AccountType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Stateless OAuth state: {@code base64url(expiresAt | nonce | accountType) . base64url(truncated HMAC-SHA256)}.
+ * Any node sharing the secret can validate a state, so nothing is stored on generation. Single use is enforced
+ * across nodes by recording consumed nonces in {@link OAuthNonceRepository} until their state would have expired.
+ */
+@ApplicationScoped
+public class SignedOAuthStateService implements OAuthStateService {
+
+    private static final Logger LOG = Logger.getLogger(SignedOAuthStateService.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int NONCE_LENGTH = 16;
+    private static final int MAC_LENGTH = 16;
+    private static final int HEADER_LENGTH = Long.BYTES + NONCE_LENGTH;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final OAuthNonceRepository consumedNonces;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Inject
+    public SignedOAuthStateService(@ConfigProperty(name = "oauth.state.secret") Optional<String> secret,
+                                   @ConfigProperty(name = "oauth.state.ttl-seconds", defaultValue = "600") long ttlSeconds,
+                                   OAuthNonceRepository consumedNonces) {
+        this(secret.filter(s -> !s.isBlank())
+                        .map(s -> s.getBytes(StandardCharsets.UTF_8))
+                        .orElseGet(SignedOAuthStateService::ephemeralSecret),
+                Duration.ofSeconds(ttlSeconds),
+                consumedNonces);
+    }
+
+    SignedOAuthStateService(byte[] secret, Duration ttl, OAuthNonceRepository consumedNonces) {
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.consumedNonces = consumedNonces;
+    }
+
+    @Override
+    public String generateState(AccountType accountType) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        secureRandom.nextBytes(nonce);
+        byte[] type = accountType.name().getBytes(StandardCharsets.US_ASCII);
+
+        byte[] payload = ByteBuffer.allocate(HEADER_LENGTH + type.length)
+                .putLong(Instant.now().plus(ttl).getEpochSecond())
+                .put(nonce)
+                .put(type)
+                .array();
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    @Override
+    public Optional<StateData> consumeState(String state) {
+        if (state == null) {
+            return Optional.empty();
+        }
+        int separator = state.indexOf('.');
+        if (separator <= 0 || separator == state.length() - 1) {
+            return Optional.empty();
+        }
+
+        byte[] payload;
+        byte[] mac;
+        try {
+            payload = DECODER.decode(state.substring(0, separator));
+            mac = DECODER.decode(state.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length <= HEADER_LENGTH || !MessageDigest.isEqual(sign(payload), mac)) {
+            return Optional.empty();
+        }
+
+        Instant expiresAt = Instant.ofEpochSecond(ByteBuffer.wrap(payload).getLong());
+        if (expiresAt.isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        String type = new String(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, StandardCharsets.US_ASCII);
+        AccountType accountType;
+        try {
+            accountType = AccountType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        String nonce = ENCODER.encodeToString(Arrays.copyOfRange(payload, Long.BYTES, HEADER_LENGTH));
+        if (!consumedNonces.markConsumed(nonce, expiresAt)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StateData(accountType));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), MAC_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    private static byte[] ephemeralSecret() {
+        LOG.warn("oauth.state.secret is not set; using a per-process key, OAuth callbacks must return to the same node");
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
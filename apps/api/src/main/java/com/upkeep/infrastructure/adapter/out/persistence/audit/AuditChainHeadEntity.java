@@ -0,0 +1,24 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "audit_chain_heads")
+public class AuditChainHeadEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "company_id", nullable = false)
+    public UUID companyId;
+
+    @Column(name = "sequence", nullable = false)
+    public long sequence;
+
+    @Column(name = "chain_hash", nullable = false, length = 64)
+    public String chainHash;
+}
@@ -0,0 +1,256 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.audit.MerkleNode;
+import com.upkeep.domain.model.audit.MerkleSpan;
+import com.upkeep.domain.model.company.CompanyId;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class AuditChainJpaRepository implements AuditChainRepository, PanacheRepositoryBase<AuditCheckpointEntity, UUID> {
+
+    private final AuditLeafHasher leafHasher;
+
+    public AuditChainJpaRepository(AuditLeafHasher leafHasher) {
+        this.leafHasher = leafHasher;
+    }
+
+    @Override
+    public Optional<AuditChainLink> findHead(CompanyId companyId) {
+        // A projection, not find(): the verifier re-reads the head in the same session to notice a retired chain
+        return getEntityManager()
+                .createQuery("SELECT h.sequence, h.chainHash FROM AuditChainHeadEntity h WHERE h.companyId = :companyId",
+                        Object[].class)
+                .setParameter("companyId", companyId.value())
+                .getResultStream()
+                .findFirst()
+                .map(head -> new AuditChainLink((Long) head[0], (String) head[1]));
+    }
+
+    @Override
+    public List<CompanyId> findChainedCompanies() {
+        return getEntityManager()
+                .createQuery("SELECT h.companyId FROM AuditChainHeadEntity h ORDER BY h.companyId", UUID.class)
+                .getResultList()
+                .stream()
+                .map(CompanyId::from)
+                .toList();
+    }
+
+    /**
+     * Reads the columns as a projection rather than managed entities, so a long verification transaction does not
+     * pile every row it has seen into the session.
+     */
+    @Override
+    public List<AuditChainEntry> findEntries(CompanyId companyId, long fromSequence, long toSequence) {
+        return getEntityManager()
+                .createQuery("""
+                        SELECT a.id, a.companyId, a.eventType, a.actorId, a.targetType, a.targetId, a.payload, a.timestamp,
+                               a.sequence, a.chainHash
+                        FROM AuditEventEntity a
+                        WHERE a.companyId = :companyId AND a.sequence BETWEEN :fromSequence AND :toSequence
+                        ORDER BY a.sequence
+                        """, Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setParameter("fromSequence", fromSequence)
+                .setParameter("toSequence", toSequence)
+                .getResultList()
+                .stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    @Override
+    public Optional<SequenceRange> findSequenceRange(CompanyId companyId, Instant from, Instant to) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT MIN(a.sequence), MAX(a.sequence) FROM AuditEventEntity a
+                WHERE a.companyId = :companyId AND a.sequence IS NOT NULL
+                """);
+        if (from != null) {
+            jpql.append("AND a.timestamp >= :from ");
+        }
+        if (to != null) {
+            jpql.append("AND a.timestamp < :to ");
+        }
+        TypedQuery<Object[]> query = getEntityManager().createQuery(jpql.toString(), Object[].class)
+                .setParameter("companyId", companyId.value());
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        Object[] bounds = query.getSingleResult();
+        return bounds[0] == null
+                ? Optional.empty()
+                : Optional.of(new SequenceRange((Long) bounds[0], (Long) bounds[1]));
+    }
+
+    @Override
+    public Map<CompanyId, Long> findLastSequences(Instant from, Instant to) {
+        return getEntityManager()
+                .createQuery("""
+                        SELECT a.companyId, MAX(a.sequence) FROM AuditEventEntity a
+                        WHERE a.sequence IS NOT NULL AND a.timestamp >= :from AND a.timestamp < :to
+                        GROUP BY a.companyId
+                        """, Object[].class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> CompanyId.from((UUID) row[0]), row -> (Long) row[1]));
+    }
+
+    @Override
+    public Optional<AuditCheckpoint> findLatestCheckpoint(CompanyId companyId) {
+        return find("companyId = ?1 ORDER BY toSequence DESC", companyId.value())
+                .firstResultOptional()
+                .map(AuditChainJpaRepository::toDomain);
+    }
+
+    @Override
+    public List<AuditCheckpoint> findCheckpoints(CompanyId companyId, long fromSequence, long toSequence) {
+        return find("companyId = ?1 AND toSequence >= ?2 AND fromSequence <= ?3 AND archivedAt IS NULL ORDER BY toSequence",
+                companyId.value(), fromSequence, toSequence)
+                .stream()
+                .map(AuditChainJpaRepository::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<AuditCheckpoint> findLeastRecentlyVerified(CompanyId companyId, int limit) {
+        return find("companyId = ?1 AND archivedAt IS NULL ORDER BY lastVerifiedAt, toSequence", companyId.value())
+                .page(0, limit)
+                .stream()
+                .map(AuditChainJpaRepository::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void saveCheckpoint(AuditCheckpoint checkpoint, List<MerkleNode> nodes) {
+        AuditCheckpointEntity entity = new AuditCheckpointEntity();
+        entity.id = UUID.randomUUID();
+        entity.companyId = checkpoint.companyId().value();
+        entity.fromSequence = checkpoint.fromSequence();
+        entity.toSequence = checkpoint.toSequence();
+        entity.anchorHash = checkpoint.anchorHash();
+        entity.chainHash = checkpoint.chainHash();
+        entity.merkleRoot = checkpoint.merkleRoot();
+        entity.createdAt = checkpoint.createdAt();
+        entity.lastVerifiedAt = checkpoint.lastVerifiedAt();
+        persist(entity);
+
+        for (MerkleNode node : nodes) {
+            AuditMerkleNodeEntity nodeEntity = new AuditMerkleNodeEntity();
+            nodeEntity.id = UUID.randomUUID();
+            nodeEntity.companyId = entity.companyId;
+            nodeEntity.fromSequence = node.span().fromSequence();
+            nodeEntity.toSequence = node.span().toSequence();
+            nodeEntity.hash = node.hash();
+            getEntityManager().persist(nodeEntity);
+        }
+    }
+
+    /**
+     * An audit path's spans never share a start, so matching starts and ends separately only lets through a few extra
+     * nodes, which are filtered out here.
+     */
+    @Override
+    public List<MerkleNode> findMerkleNodes(CompanyId companyId, Collection<MerkleSpan> spans) {
+        if (spans.isEmpty()) {
+            return List.of();
+        }
+        return getEntityManager()
+                .createQuery("""
+                        SELECT n.fromSequence, n.toSequence, n.hash FROM AuditMerkleNodeEntity n
+                        WHERE n.companyId = :companyId AND n.fromSequence IN :froms AND n.toSequence IN :tos
+                        """, Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setParameter("froms", spans.stream().map(MerkleSpan::fromSequence).toList())
+                .setParameter("tos", spans.stream().map(MerkleSpan::toSequence).toList())
+                .getResultStream()
+                .map(row -> new MerkleNode(new MerkleSpan((Long) row[0], (Long) row[1]), (String) row[2]))
+                .filter(node -> spans.contains(node.span()))
+                .toList();
+    }
+
+    @Override
+    public void markVerified(CompanyId companyId, long toSequence, Instant verifiedAt) {
+        update("lastVerifiedAt = ?1 WHERE companyId = ?2 AND toSequence = ?3", verifiedAt, companyId.value(), toSequence);
+    }
+
+    @Override
+    public void archiveCheckpoints(CompanyId companyId, long throughSequence, Instant archivedAt) {
+        getEntityManager()
+                .createQuery("""
+                        DELETE FROM AuditMerkleNodeEntity n
+                        WHERE n.companyId = :companyId AND n.fromSequence <= (
+                            SELECT MAX(c.toSequence) FROM AuditCheckpointEntity c
+                            WHERE c.companyId = :companyId AND c.fromSequence <= :throughSequence)
+                        """)
+                .setParameter("companyId", companyId.value())
+                .setParameter("throughSequence", throughSequence)
+                .executeUpdate();
+        update("archivedAt = ?1 WHERE companyId = ?2 AND fromSequence <= ?3 AND archivedAt IS NULL",
+                archivedAt, companyId.value(), throughSequence);
+    }
+
+    @Override
+    public int deleteChain(CompanyId companyId) {
+        long checkpoints = delete("companyId", companyId.value());
+        return (int) checkpoints + getEntityManager()
+                .createQuery("DELETE FROM AuditChainHeadEntity h WHERE h.companyId = :companyId")
+                .setParameter("companyId", companyId.value())
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteMerkleNodesChunk(CompanyId companyId, int limit) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM audit_merkle_nodes
+                        WHERE id IN (SELECT id FROM audit_merkle_nodes WHERE company_id = :companyId LIMIT :limit)
+                        """)
+                .setParameter("companyId", companyId.value())
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private AuditChainEntry toEntry(Object[] row) {
+        AuditEventEntity entity = new AuditEventEntity();
+        entity.id = (UUID) row[0];
+        entity.companyId = (UUID) row[1];
+        entity.eventType = (String) row[2];
+        entity.actorId = (UUID) row[3];
+        entity.targetType = (String) row[4];
+        entity.targetId = (String) row[5];
+        entity.payload = (String) row[6];
+        entity.timestamp = (Instant) row[7];
+        entity.sequence = (Long) row[8];
+        return new AuditChainEntry(entity.sequence, leafHasher.leafHash(entity), (String) row[9]);
+    }
+
+    private static AuditCheckpoint toDomain(AuditCheckpointEntity entity) {
+        return new AuditCheckpoint(
+                CompanyId.from(entity.companyId),
+                entity.fromSequence,
+                entity.toSequence,
+                entity.anchorHash,
+                entity.chainHash,
+                entity.merkleRoot,
+                entity.createdAt,
+                entity.lastVerifiedAt
+        );
+    }
+}
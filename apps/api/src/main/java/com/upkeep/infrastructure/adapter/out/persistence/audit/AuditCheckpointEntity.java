@@ -0,0 +1,47 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "audit_checkpoints", uniqueConstraints = @UniqueConstraint(columnNames = {"company_id", "to_sequence"}))
+public class AuditCheckpointEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    public UUID id;
+
+    @Column(name = "company_id", nullable = false)
+    public UUID companyId;
+
+    @Column(name = "from_sequence", nullable = false)
+    public long fromSequence;
+
+    @Column(name = "to_sequence", nullable = false)
+    public long toSequence;
+
+    @Column(name = "anchor_hash", nullable = false, length = 64)
+    public String anchorHash;
+
+    @Column(name = "chain_hash", nullable = false, length = 64)
+    public String chainHash;
+
+    @Column(name = "merkle_root", nullable = false, length = 64)
+    public String merkleRoot;
+
+    @Column(name = "created_at", nullable = false)
+    public Instant createdAt;
+
+    @Column(name = "last_verified_at", nullable = false)
+    public Instant lastVerifiedAt;
+
+    @Column(name = "archived_at")
+    public Instant archivedAt;
+}
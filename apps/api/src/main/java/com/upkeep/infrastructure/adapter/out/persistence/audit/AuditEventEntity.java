@@ -40,4 +40,10 @@ public class AuditEventEntity extends PanacheEntityBase {
 
     @Column(name = "timestamp", nullable = false)
     public Instant timestamp;
+
+    @Column(name = "sequence")
+    public Long sequence;
+
+    @Column(name = "chain_hash", length = 64)
+    public String chainHash;
 }
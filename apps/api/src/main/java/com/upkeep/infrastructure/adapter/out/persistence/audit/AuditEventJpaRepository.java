@@ -1,27 +1,153 @@
 package com.upkeep.infrastructure.adapter.out.persistence.audit;
 
 import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.domain.model.audit.AuditChain;
+import com.upkeep.domain.model.audit.AuditChainLink;
 import com.upkeep.domain.model.audit.AuditEvent;
 import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.company.CompanyId;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @ApplicationScoped
 public class AuditEventJpaRepository implements AuditEventRepository, PanacheRepositoryBase<AuditEventEntity, UUID> {
 
+    private final AuditPayloadCodec codec;
+    private final AuditLeafHasher leafHasher;
+    private final int batchSize;
+
+    public AuditEventJpaRepository(AuditPayloadCodec codec,
+                                   AuditLeafHasher leafHasher,
+                                   @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+                                   int batchSize) {
+        this.codec = codec;
+        this.leafHasher = leafHasher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Chains each company's events onto its head before inserting them. Heads are locked in company order so two
+     * transactions auditing the same companies cannot deadlock each other.
+     */
     @Override
-    public void save(AuditEvent auditEvent) {
-        AuditEventEntity entity = AuditEventMapper.toEntity(auditEvent);
-        persist(entity);
+    public void insertAll(List<AuditEvent> auditEvents) {
+        EntityManager entityManager = getEntityManager();
+        List<AuditEventEntity> entities = new ArrayList<>(auditEvents.size());
+        Map<UUID, List<AuditEventEntity>> byCompany = new TreeMap<>();
+        for (AuditEvent auditEvent : auditEvents) {
+            AuditEventEntity entity = AuditEventMapper.toEntity(auditEvent, codec);
+            entities.add(entity);
+            if (entity.companyId != null) {
+                byCompany.computeIfAbsent(entity.companyId, companyId -> new ArrayList<>()).add(entity);
+            }
+        }
+        byCompany.forEach((companyId, chained) -> append(entityManager, companyId, chained));
+
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+
+        for (int i = 0; i < entities.size(); i++) {
+            AuditEventEntity entity = entities.get(i);
+            if (entity.sequence != null) {
+                auditEvents.get(i).linkToChain(new AuditChainLink(entity.sequence, entity.chainHash));
+            }
+        }
+    }
+
+    private void append(EntityManager entityManager, UUID companyId, List<AuditEventEntity> chained) {
+        entityManager.createNativeQuery("""
+                        INSERT INTO audit_chain_heads (company_id, sequence, chain_hash)
+                        VALUES (:companyId, 0, :genesis)
+                        ON CONFLICT DO NOTHING
+                        """)
+                .setParameter("companyId", companyId)
+                .setParameter("genesis", AuditChain.GENESIS)
+                .executeUpdate();
+        AuditChainHeadEntity head = entityManager.find(AuditChainHeadEntity.class, companyId, LockModeType.PESSIMISTIC_WRITE);
+
+        for (AuditEventEntity entity : chained) {
+            entity.sequence = head.sequence + 1;
+            entity.chainHash = AuditChain.link(head.chainHash, leafHasher.leafHash(entity));
+            head.sequence = entity.sequence;
+            head.chainHash = entity.chainHash;
+        }
     }
 
     @Override
     public Optional<AuditEvent> findById(AuditEventId id) {
         return find("id", id.value())
                 .firstResultOptional()
-                .map(AuditEventMapper::toDomain);
+                .map(entity -> AuditEventMapper.toDomain(entity, codec));
+    }
+
+    @Override
+    public List<AuditEvent> findCompanyPage(CompanyId companyId, Set<AuditEventType> eventTypes, Instant from, Instant to,
+                                            AuditCursor before, int limit) {
+        StringBuilder where = new StringBuilder("WHERE a.companyId = :companyId ");
+        if (!eventTypes.isEmpty()) {
+            where.append("AND a.eventType IN :eventTypes ");
+        }
+        // Explicit bounds on the partition key let PostgreSQL prune the monthly partitions outside the range
+        if (from != null) {
+            where.append("AND a.timestamp >= :from ");
+        }
+        if (to != null) {
+            where.append("AND a.timestamp < :to ");
+        }
+        if (before != null) {
+            where.append("AND (a.timestamp, a.id) < (:beforeTimestamp, :beforeId) ");
+        }
+        TypedQuery<AuditEventEntity> query = getEntityManager()
+                .createQuery("FROM AuditEventEntity a " + where + "ORDER BY a.timestamp DESC, a.id DESC", AuditEventEntity.class)
+                .setParameter("companyId", companyId.value())
+                .setMaxResults(limit);
+        if (!eventTypes.isEmpty()) {
+            query.setParameter("eventTypes", eventTypes.stream().map(AuditEventType::name).toList());
+        }
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        if (before != null) {
+            query.setParameter("beforeTimestamp", before.timestamp());
+            query.setParameter("beforeId", before.auditEventId().value());
+        }
+        return query.getResultStream()
+                .map(entity -> AuditEventMapper.toDomain(entity, codec))
+                .toList();
+    }
+
+    @Override
+    public int detachChunkFromCompany(CompanyId companyId, int limit) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        UPDATE audit_events
+                        SET company_id = NULL
+                        WHERE id IN (SELECT id FROM audit_events WHERE company_id = :companyId LIMIT :limit)
+                        """)
+                .setParameter("companyId", companyId.value())
+                .setParameter("limit", limit)
+                .executeUpdate();
     }
 }
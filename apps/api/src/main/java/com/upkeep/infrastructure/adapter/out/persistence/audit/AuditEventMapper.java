@@ -1,26 +1,20 @@
 package com.upkeep.infrastructure.adapter.out.persistence.audit;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upkeep.domain.model.audit.AuditChainLink;
 import com.upkeep.domain.model.audit.AuditEvent;
 import com.upkeep.domain.model.audit.AuditEventId;
 import com.upkeep.domain.model.audit.AuditEventType;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.temporal.ChronoUnit;
 
 public final class AuditEventMapper {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<>() {};
-
     private AuditEventMapper() {
     }
 
-    public static AuditEventEntity toEntity(AuditEvent auditEvent) {
+    public static AuditEventEntity toEntity(AuditEvent auditEvent, AuditPayloadCodec codec) {
         AuditEventEntity entity = new AuditEventEntity();
         entity.id = auditEvent.getId().value();
         entity.companyId = auditEvent.getCompanyId() != null ? auditEvent.getCompanyId().value() : null;
@@ -28,40 +22,31 @@ public final class AuditEventMapper {
         entity.actorId = auditEvent.getActorId() != null ? auditEvent.getActorId().value() : null;
         entity.targetType = auditEvent.getTargetType();
         entity.targetId = auditEvent.getTargetId();
-        entity.payload = serializePayload(auditEvent.getPayload());
-        entity.timestamp = auditEvent.getTimestamp();
+        entity.payload = codec.encode(auditEvent.getPayload());
+        // The column keeps microseconds; truncating here means the chain hashes the value that is stored
+        entity.timestamp = auditEvent.getTimestamp().truncatedTo(ChronoUnit.MICROS);
         return entity;
     }
 
-    public static AuditEvent toDomain(AuditEventEntity entity) {
-        return AuditEvent.reconstitute(
+    /**
+     * Maps the row without decoding its payload; the JSON is only parsed if {@link AuditEvent#getPayload()} is called.
+     */
+    public static AuditEvent toDomain(AuditEventEntity entity, AuditPayloadCodec codec) {
+        AuditEventType eventType = AuditEventType.valueOf(entity.eventType);
+        String payload = entity.payload;
+        AuditEvent event = AuditEvent.reconstitute(
                 AuditEventId.from(entity.id),
                 entity.companyId != null ? CompanyId.from(entity.companyId) : null,
-                AuditEventType.valueOf(entity.eventType),
+                eventType,
                 entity.actorId != null ? CustomerId.from(entity.actorId) : null,
                 entity.targetType,
                 entity.targetId,
-                deserializePayload(entity.payload),
+                () -> codec.decode(eventType, payload),
                 entity.timestamp
         );
-    }
-
-    private static String serializePayload(Map<String, Object> payload) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(payload);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize audit event payload", e);
-        }
-    }
-
-    private static Map<String, Object> deserializePayload(String payload) {
-        try {
-            if (payload == null || payload.isEmpty()) {
-                return new HashMap<>();
-            }
-            return OBJECT_MAPPER.readValue(payload, MAP_TYPE_REF);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize audit event payload", e);
+        if (entity.sequence != null) {
+            event.linkToChain(new AuditChainLink(entity.sequence, entity.chainHash));
         }
+        return event;
     }
 }
@@ -0,0 +1,133 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes export rows one at a time for the JDBC cursor path of {@link JdbcAuditEventExporter}. The output matches what
+ * its {@code COPY} statements produce, so an export reads the same whichever path served it. Closing flushes but leaves
+ * the target stream open for its owner.
+ */
+abstract class AuditExportWriter implements Closeable {
+
+    static final String[] CSV_HEADER = {"id", "event_type", "actor_id", "target_type", "target_id", "payload", "timestamp"};
+    static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static AuditExportWriter open(AuditExportFormat format, JsonFactory jsonFactory, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(jsonFactory, out);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    abstract void write(Row row) throws IOException;
+
+    /**
+     * An {@code audit_events} row as stored; {@code payload} is the raw JSON text.
+     */
+    record Row(
+            String id,
+            String eventType,
+            String actorId,
+            String targetType,
+            String targetId,
+            String payload,
+            Instant timestamp
+    ) {}
+
+    private static final class Ndjson extends AuditExportWriter {
+
+        private final JsonGenerator json;
+
+        private Ndjson(JsonFactory jsonFactory, OutputStream out) throws IOException {
+            this.json = jsonFactory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        void write(Row row) throws IOException {
+            json.writeStartObject();
+            json.writeStringField("id", row.id());
+            json.writeStringField("eventType", row.eventType());
+            json.writeStringField("actorId", row.actorId());
+            json.writeStringField("targetType", row.targetType());
+            json.writeStringField("targetId", row.targetId());
+            json.writeFieldName("payload");
+            if (row.payload() == null) {
+                json.writeNull();
+            } else {
+                json.writeRawValue(row.payload());
+            }
+            json.writeStringField("timestamp", TIMESTAMP.format(row.timestamp()));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+
+    private static final class Csv extends AuditExportWriter {
+
+        private final Writer writer;
+
+        private Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        @Override
+        void write(Row row) throws IOException {
+            field(row.id());
+            writer.write(',');
+            field(row.eventType());
+            writer.write(',');
+            field(row.actorId());
+            writer.write(',');
+            field(row.targetType());
+            writer.write(',');
+            field(row.targetId());
+            writer.write(',');
+            field(row.payload());
+            writer.write(',');
+            field(TIMESTAMP.format(row.timestamp()));
+            writer.write('\n');
+        }
+
+        // Same rules as COPY's CSV format: NULL is an empty field, an empty string is quoted
+        private void field(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (!value.isEmpty() && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upkeep.domain.model.audit.AuditChain;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Computes an audit row's leaf hash from the values the database hands back, so the hash taken at insert is the one
+ * verification recomputes. Fields are length-prefixed to keep their boundaries unambiguous; the payload is hashed in
+ * a canonical form with sorted keys, since {@code jsonb} does not keep the text it was given, and the timestamp at the
+ * microsecond precision the column stores.
+ */
+@ApplicationScoped
+public class AuditLeafHasher {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ObjectMapper objectMapper;
+
+    public AuditLeafHasher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String leafHash(AuditEventEntity entity) {
+        MessageDigest digest = AuditChain.sha256();
+        field(digest, Long.toString(entity.sequence));
+        field(digest, text(entity.id));
+        field(digest, text(entity.companyId));
+        field(digest, entity.eventType);
+        field(digest, text(entity.actorId));
+        field(digest, entity.targetType);
+        field(digest, entity.targetId);
+        field(digest, canonicalJson(entity.payload));
+        field(digest, entity.timestamp.truncatedTo(ChronoUnit.MICROS).toString());
+        return HEX.formatHex(digest.digest());
+    }
+
+    private static String text(UUID value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static void field(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private String canonicalJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            StringWriter out = new StringWriter(json.length());
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                writeCanonical(objectMapper.readTree(json), generator);
+            }
+            return out.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable audit payload", e);
+        }
+    }
+
+    private static void writeCanonical(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isObject()) {
+            TreeMap<String, JsonNode> fields = new TreeMap<>();
+            for (Iterator<String> names = node.fieldNames(); names.hasNext(); ) {
+                String name = names.next();
+                fields.put(name, node.get(name));
+            }
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonNode> field : fields.entrySet()) {
+                generator.writeFieldName(field.getKey());
+                writeCanonical(field.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (JsonNode element : node) {
+                writeCanonical(element, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeTree(node);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "audit_merkle_nodes",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"company_id", "from_sequence", "to_sequence"}))
+public class AuditMerkleNodeEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    public UUID id;
+
+    @Column(name = "company_id", nullable = false)
+    public UUID companyId;
+
+    @Column(name = "from_sequence", nullable = false)
+    public long fromSequence;
+
+    @Column(name = "to_sequence", nullable = false)
+    public long toSequence;
+
+    @Column(name = "hash", nullable = false, length = 64)
+    public String hash;
+}
@@ -0,0 +1,70 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.AuditPayload;
+import com.upkeep.domain.model.audit.BudgetCreatedPayload;
+import com.upkeep.domain.model.audit.BudgetUpdatedPayload;
+import com.upkeep.domain.model.audit.UnstructuredPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON form of audit payloads, written and read by the application's shared {@link ObjectMapper}. Writers and
+ * readers are resolved once per payload type, so no per-event type lookup or serializer construction happens.
+ */
+@ApplicationScoped
+public class AuditPayloadCodec {
+
+    private static final Map<AuditEventType, Class<? extends AuditPayload>> PAYLOAD_TYPES = Map.of(
+            AuditEventType.BUDGET_CREATED, BudgetCreatedPayload.class,
+            AuditEventType.BUDGET_UPDATED, BudgetUpdatedPayload.class
+    );
+
+    private final Map<Class<? extends AuditPayload>, ObjectWriter> writers = new HashMap<>();
+    private final Map<AuditEventType, ObjectReader> readers = new EnumMap<>(AuditEventType.class);
+    private final ObjectWriter unstructuredWriter;
+    private final ObjectReader unstructuredReader;
+
+    public AuditPayloadCodec(ObjectMapper objectMapper) {
+        PAYLOAD_TYPES.forEach((eventType, payloadType) -> {
+            writers.put(payloadType, objectMapper.writerFor(payloadType));
+            readers.put(eventType, objectMapper.readerFor(payloadType));
+        });
+        this.unstructuredWriter = objectMapper.writerFor(new TypeReference<Map<String, Object>>() {});
+        this.unstructuredReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {});
+    }
+
+    public String encode(AuditPayload payload) {
+        try {
+            if (payload instanceof UnstructuredPayload unstructured) {
+                return unstructuredWriter.writeValueAsString(unstructured.fields());
+            }
+            return writers.get(payload.getClass()).writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize audit event payload", e);
+        }
+    }
+
+    public AuditPayload decode(AuditEventType eventType, String json) {
+        try {
+            if (json == null || json.isEmpty()) {
+                return new UnstructuredPayload(Map.of());
+            }
+            ObjectReader reader = readers.get(eventType);
+            if (reader == null) {
+                return new UnstructuredPayload(unstructuredReader.readValue(json));
+            }
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize audit event payload", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upkeep.application.port.out.audit.AuditEventExporter;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import com.upkeep.domain.model.company.CompanyId;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link AuditEventExporter} that lets the database do the formatting where it can. On PostgreSQL the export is a
+ * single {@code COPY (SELECT ...) TO STDOUT} read through the driver's {@code CopyManager}, which hands each row to the
+ * output stream as it arrives. Other databases fall back to a forward-only cursor written by {@link AuditExportWriter}.
+ * Either way no more than a fetch's worth of rows is held in memory.
+ */
+@ApplicationScoped
+public class JdbcAuditEventExporter implements AuditEventExporter {
+
+    private static final String TIMESTAMP_UTC = "to_char(timestamp AT TIME ZONE 'UTC', 'YYYY-MM-DD\"T\"HH24:MI:SS.US\"Z\"')";
+    private static final String CSV_COLUMNS = "id::text AS id, event_type, actor_id::text AS actor_id, target_type, target_id, "
+            + "payload::text AS payload, " + TIMESTAMP_UTC + " AS timestamp";
+    private static final String NDJSON_COLUMN = "json_build_object('id', id, 'eventType', event_type, 'actorId', actor_id, "
+            + "'targetType', target_type, 'targetId', target_id, 'payload', payload, 'timestamp', " + TIMESTAMP_UTC + ")::text";
+    // CSV with control characters as quote and delimiter never quotes a JSON line, and unlike the text format it does
+    // not double the backslashes in the JSON's own escapes
+    private static final String NDJSON_OPTIONS = "(FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')";
+    private static final String CSV_OPTIONS = "(FORMAT csv, HEADER true)";
+    private static final String SELECT_ROWS = """
+            SELECT id, event_type, actor_id, target_type, target_id, payload, timestamp
+            FROM audit_events
+            WHERE company_id = ? AND timestamp >= ? AND timestamp < ?
+            ORDER BY timestamp, id
+            """;
+
+    private final DataSource dataSource;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+
+    public JdbcAuditEventExporter(DataSource dataSource,
+                                  ObjectMapper objectMapper,
+                                  @ConfigProperty(name = "audit.export.fetch-size", defaultValue = "1000") int fetchSize) {
+        this.dataSource = dataSource;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void export(CompanyId companyId, Instant from, Instant to, AuditExportFormat format, OutputStream out)
+            throws IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copyStatement(companyId, from, to, format), out);
+            } else {
+                streamRows(connection, companyId, from, to, format, out);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Audit export of company " + companyId + " failed", e);
+        }
+    }
+
+    // COPY takes no bind parameters; what gets inlined is a UUID and two ISO-8601 instants, never caller-supplied text
+    private static String copyStatement(CompanyId companyId, Instant from, Instant to, AuditExportFormat format) {
+        String columns = switch (format) {
+            case NDJSON -> NDJSON_COLUMN;
+            case CSV -> CSV_COLUMNS;
+        };
+        String options = switch (format) {
+            case NDJSON -> NDJSON_OPTIONS;
+            case CSV -> CSV_OPTIONS;
+        };
+        return "COPY (SELECT " + columns + " FROM audit_events"
+                + " WHERE company_id = '" + companyId.value() + "'::uuid"
+                + " AND timestamp >= '" + from + "'::timestamptz AND timestamp < '" + to + "'::timestamptz"
+                + " ORDER BY audit_events.timestamp, audit_events.id) TO STDOUT WITH " + options;
+    }
+
+    private void streamRows(Connection connection, CompanyId companyId, Instant from, Instant to, AuditExportFormat format,
+                            OutputStream out) throws SQLException, IOException {
+        // Drivers that page with cursors only honour the fetch size outside autocommit
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_ROWS,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, companyId.value());
+            statement.setObject(2, from.atOffset(ZoneOffset.UTC));
+            statement.setObject(3, to.atOffset(ZoneOffset.UTC));
+            try (ResultSet rows = statement.executeQuery();
+                 AuditExportWriter writer = AuditExportWriter.open(format, jsonFactory, out)) {
+                while (rows.next()) {
+                    writer.write(new AuditExportWriter.Row(
+                            rows.getString(1),
+                            rows.getString(2),
+                            rows.getString(3),
+                            rows.getString(4),
+                            rows.getString(5),
+                            rows.getString(6),
+                            rows.getObject(7, OffsetDateTime.class).toInstant()
+                    ));
+                }
+            }
+        } finally {
+            connection.rollback();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.application.port.out.audit.AuditPartitionManager;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link AuditPartitionManager} for the {@code audit_events} table partitioned by {@code RANGE (timestamp)} in
+ * {@code V18}. Partitions are named {@code audit_events_yyyy_MM}. There is deliberately no default partition: it would
+ * rule out {@code DETACH PARTITION ... CONCURRENTLY}, so months must be created before their first event arrives.
+ */
+@ApplicationScoped
+public class PostgresAuditPartitionManager implements AuditPartitionManager {
+
+    private static final String TABLE = "audit_events";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String ATTACHED_PARTITIONS = """
+            SELECT child.relname::text AS relname
+            FROM pg_inherits
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            WHERE parent.relname = 'audit_events' AND child.relname ~ '^audit_events_[0-9]{4}_[0-9]{2}$'
+            ORDER BY child.relname
+            """;
+
+    private final DataSource dataSource;
+
+    public PostgresAuditPartitionManager(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<YearMonth> createPartitions(YearMonth from, YearMonth through) {
+        Set<YearMonth> attached = new HashSet<>(findAttachedPartitions());
+        List<YearMonth> created = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            if (attached.contains(month)) {
+                continue;
+            }
+            Panache.getEntityManager()
+                    .createNativeQuery("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+                            + " FOR VALUES FROM ('" + monthStart(month) + "') TO ('" + monthStart(month.plusMonths(1)) + "')")
+                    .executeUpdate();
+            created.add(month);
+        }
+        return created;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<YearMonth> findAttachedPartitions() {
+        List<String> names = Panache.getEntityManager()
+                .createNativeQuery(ATTACHED_PARTITIONS)
+                .getResultList();
+        return names.stream()
+                .map(name -> YearMonth.parse(name.substring(TABLE.length() + 1), SUFFIX))
+                .toList();
+    }
+
+    @Override
+    public boolean detachPartition(YearMonth month) {
+        String partition = partitionName(month);
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 1 FROM (" + ATTACHED_PARTITIONS + ") attached WHERE relname = ?")) {
+                statement.setString(1, partition);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (!result.next()) {
+                        return false;
+                    }
+                }
+            }
+            // CONCURRENTLY only takes a SHARE UPDATE EXCLUSIVE lock on the parent, so inserts keep flowing
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " CONCURRENTLY");
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to detach audit partition " + partition, e);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_" + month.format(SUFFIX);
+    }
+
+    private static String monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toString();
+    }
+}
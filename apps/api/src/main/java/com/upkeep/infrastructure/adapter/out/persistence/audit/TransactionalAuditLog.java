@@ -0,0 +1,97 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditLog;
+import com.upkeep.domain.model.audit.AuditEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuditLog} that keeps a transaction's events in memory and hands them to {@link AuditEventRepository#insertAll}
+ * from the transaction's {@code beforeCompletion}. The insert still runs inside the transaction, so a failed flush
+ * rolls the business change back with it rather than committing it without its audit trail.
+ */
+@ApplicationScoped
+public class TransactionalAuditLog implements AuditLog {
+
+    private static final Object BUFFER_KEY = new Object();
+
+    private final TransactionSynchronizationRegistry transactions;
+    private final AuditEventRepository auditEventRepository;
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Timer flushDuration;
+    private final Counter flushFailures;
+
+    public TransactionalAuditLog(TransactionSynchronizationRegistry transactions,
+                                 AuditEventRepository auditEventRepository,
+                                 MeterRegistry meterRegistry) {
+        this.transactions = transactions;
+        this.auditEventRepository = auditEventRepository;
+        this.flushSize = DistributionSummary.builder("upkeep.audit.flush.size")
+                .description("Audit events written per transaction")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("upkeep.audit.flush.lag")
+                .description("Time from a transaction's first audit event to its flush")
+                .register(meterRegistry);
+        this.flushDuration = meterRegistry.timer("upkeep.audit.flush.duration");
+        this.flushFailures = meterRegistry.counter("upkeep.audit.flush.failures");
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void record(AuditEvent event) {
+        Buffer buffer = (Buffer) transactions.getResource(BUFFER_KEY);
+        if (buffer == null) {
+            buffer = new Buffer(System.nanoTime());
+            // The session has to join now: the transaction accepts no new synchronizations once it starts completing
+            Panache.getEntityManager().joinTransaction();
+            transactions.putResource(BUFFER_KEY, buffer);
+            transactions.registerInterposedSynchronization(buffer);
+        }
+        buffer.events.add(event);
+    }
+
+    private final class Buffer implements Synchronization {
+
+        private final long firstRecordedAt;
+        private final List<AuditEvent> events = new ArrayList<>();
+
+        private Buffer(long firstRecordedAt) {
+            this.firstRecordedAt = firstRecordedAt;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            if (transactions.getRollbackOnly()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                auditEventRepository.insertAll(events);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                throw e;
+            }
+            flushDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            flushLag.record(start - firstRecordedAt, TimeUnit.NANOSECONDS);
+            flushSize.record(events.size());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+        }
+    }
+}
@@ -14,8 +14,8 @@ import java.util.UUID;
 public class RefreshTokenEntity extends PanacheEntityBase {
 
     @Id
-    @Column(name = "token", nullable = false)
-    public String token;
+    @Column(name = "token_hash", nullable = false, length = 32)
+    public byte[] tokenHash;
 
     @Column(name = "customer_id", nullable = false)
     public UUID customerId;
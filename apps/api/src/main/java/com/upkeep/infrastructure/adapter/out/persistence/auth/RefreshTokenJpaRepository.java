@@ -1,11 +1,13 @@
 package com.upkeep.infrastructure.adapter.out.persistence.auth;
 
 import com.upkeep.application.port.out.auth.RefreshTokenRepository;
+import com.upkeep.domain.model.customer.AccountType;
 import com.upkeep.domain.model.customer.CustomerId;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 @ApplicationScoped
 public class RefreshTokenJpaRepository implements RefreshTokenRepository {
@@ -13,7 +15,7 @@ public class RefreshTokenJpaRepository implements RefreshTokenRepository {
     @Override
     public void save(RefreshTokenData tokenData) {
         RefreshTokenEntity entity = new RefreshTokenEntity();
-        entity.token = tokenData.token();
+        entity.tokenHash = tokenData.tokenHash();
         entity.customerId = tokenData.customerId().value();
         entity.expiresAt = tokenData.expiresAt();
         entity.createdAt = tokenData.createdAt();
@@ -22,15 +24,33 @@ public class RefreshTokenJpaRepository implements RefreshTokenRepository {
     }
 
     @Override
-    public Optional<RefreshTokenData> findByToken(String token) {
-        return RefreshTokenEntity.<RefreshTokenEntity>findByIdOptional(token)
-                .map(this::toData);
+    public Optional<RefreshTokenSession> findSessionByTokenHash(byte[] tokenHash) {
+        return RefreshTokenEntity.getEntityManager()
+                .createQuery("""
+                        SELECT r.customerId, c.email, c.accountType, r.expiresAt, r.revokedAt
+                        FROM RefreshTokenEntity r
+                        JOIN CustomerEntity c ON c.id = r.customerId
+                        WHERE r.tokenHash = :tokenHash
+                        """, Object[].class)
+                .setParameter("tokenHash", tokenHash)
+                .getResultStream()
+                .findFirst()
+                .map(row -> new RefreshTokenSession(
+                        CustomerId.from((UUID) row[0]),
+                        (String) row[1],
+                        (AccountType) row[2],
+                        (Instant) row[3],
+                        (Instant) row[4]
+                ));
     }
 
     @Override
-    public void revokeByToken(String token) {
-        RefreshTokenEntity.<RefreshTokenEntity>findByIdOptional(token)
-                .ifPresent(entity -> entity.revokedAt = Instant.now());
+    public void revokeByTokenHash(byte[] tokenHash) {
+        RefreshTokenEntity.update(
+                "revokedAt = ?1 WHERE tokenHash = ?2 AND revokedAt IS NULL",
+                Instant.now(),
+                tokenHash
+        );
     }
 
     @Override
@@ -43,17 +63,32 @@ public class RefreshTokenJpaRepository implements RefreshTokenRepository {
     }
 
     @Override
-    public void deleteExpiredTokens() {
-        RefreshTokenEntity.delete("expiresAt < ?1", Instant.now());
+    public int deleteExpiredTokens(Instant cutoff, int limit) {
+        return RefreshTokenEntity.getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM refresh_tokens
+                        WHERE token_hash IN (SELECT token_hash FROM refresh_tokens
+                                             WHERE expires_at < :cutoff
+                                             ORDER BY expires_at
+                                             LIMIT :limit)
+                        """)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
     }
 
-    private RefreshTokenData toData(RefreshTokenEntity entity) {
-        return new RefreshTokenData(
-                entity.token,
-                CustomerId.from(entity.customerId),
-                entity.expiresAt,
-                entity.createdAt,
-                entity.revokedAt
-        );
+    @Override
+    public int deleteRevokedTokens(Instant cutoff, int limit) {
+        return RefreshTokenEntity.getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM refresh_tokens
+                        WHERE token_hash IN (SELECT token_hash FROM refresh_tokens
+                                             WHERE revoked_at < :cutoff
+                                             ORDER BY revoked_at
+                                             LIMIT :limit)
+                        """)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
     }
 }
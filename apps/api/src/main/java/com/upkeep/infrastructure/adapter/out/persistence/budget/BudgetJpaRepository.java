@@ -4,6 +4,7 @@ import com.upkeep.application.port.out.budget.BudgetRepository;
 import com.upkeep.domain.model.budget.Budget;
 import com.upkeep.domain.model.budget.BudgetId;
 import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.infrastructure.adapter.out.persistence.company.CompanyStatsProjection;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -14,6 +15,12 @@ import java.util.UUID;
 @ApplicationScoped
 public class BudgetJpaRepository implements BudgetRepository, PanacheRepositoryBase<BudgetEntity, UUID> {
 
+    private final CompanyStatsProjection companyStats;
+
+    public BudgetJpaRepository(CompanyStatsProjection companyStats) {
+        this.companyStats = companyStats;
+    }
+
     @Override
     public void save(Budget budget) {
         BudgetEntity entity = BudgetMapper.toEntity(budget);
@@ -25,6 +32,7 @@ public class BudgetJpaRepository implements BudgetRepository, PanacheRepositoryB
             existingEntity.updatedAt = entity.updatedAt;
         } else {
             persist(entity);
+            companyStats.markBudgetSet(budget.getCompanyId());
         }
     }
 
@@ -53,4 +61,16 @@ public class BudgetJpaRepository implements BudgetRepository, PanacheRepositoryB
     public boolean existsByCompanyId(CompanyId companyId) {
         return count("companyId", companyId.value()) > 0;
     }
+
+    @Override
+    public int deleteChunkByCompanyId(CompanyId companyId, int limit) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM budgets
+                        WHERE id IN (SELECT id FROM budgets WHERE company_id = :companyId LIMIT :limit)
+                        """)
+                .setParameter("companyId", companyId.value())
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
 }
@@ -0,0 +1,111 @@
+package com.upkeep.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds one pooled connection in {@code LISTEN} on every {@link InvalidationChannel} and applies the evictions
+ * other nodes publish. Whenever the connection is (re)established all caches are cleared, since notifications sent
+ * while it was down are lost.
+ */
+@ApplicationScoped
+public class CacheInvalidationListener {
+
+    private static final Logger LOG = Logger.getLogger(CacheInvalidationListener.class);
+
+    private final DataSource dataSource;
+    private final Instance<InvalidationChannel> channels;
+    private final boolean enabled;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+
+    public CacheInvalidationListener(DataSource dataSource,
+                                     Instance<InvalidationChannel> channels,
+                                     @ConfigProperty(name = "cache.cluster-invalidation.enabled", defaultValue = "true")
+                                     boolean enabled,
+                                     @ConfigProperty(name = "cache.cluster-invalidation.poll-timeout", defaultValue = "PT5S")
+                                     Duration pollTimeout,
+                                     @ConfigProperty(name = "cache.cluster-invalidation.reconnect-delay", defaultValue = "PT5S")
+                                     Duration reconnectDelay) {
+        this.dataSource = dataSource;
+        this.channels = channels;
+        this.enabled = enabled;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+    }
+
+    private void run() {
+        Map<String, InvalidationChannel> byName = channels.stream()
+                .collect(Collectors.toMap(InvalidationChannel::channel, Function.identity()));
+        while (running) {
+            try {
+                listen(byName);
+            } catch (SQLException e) {
+                LOG.warnf(e, "Cache invalidation notifications interrupted, reconnecting in %s", reconnectDelay);
+                sleep(reconnectDelay);
+            }
+        }
+    }
+
+    private void listen(Map<String, InvalidationChannel> byName) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String channel : byName.keySet()) {
+                statement.execute("LISTEN " + channel);
+            }
+            byName.values().forEach(InvalidationChannel::invalidateAll);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            while (running) {
+                PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                if (notifications == null) {
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    InvalidationChannel target = byName.get(notification.getName());
+                    if (target != null) {
+                        target.onInvalidation(notification.getParameter());
+                    }
+                }
+            }
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.upkeep.infrastructure.adapter.out.persistence.cache;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Runs a local cache eviction after the current transaction commits, so a concurrent reader cannot re-cache the
+ * old value, and publishes it to other nodes with {@code pg_notify}, which Postgres only delivers on commit.
+ */
+@ApplicationScoped
+public class ClusterCacheInvalidation {
+
+    private final TransactionSynchronizationRegistry transactions;
+    private final boolean notifyCluster;
+
+    public ClusterCacheInvalidation(TransactionSynchronizationRegistry transactions,
+                                    @ConfigProperty(name = "cache.cluster-invalidation.enabled", defaultValue = "true")
+                                    boolean notifyCluster) {
+        this.transactions = transactions;
+        this.notifyCluster = notifyCluster;
+    }
+
+    /**
+     * Runs {@code localEviction} once the current transaction commits, or right away outside a transaction,
+     * and sends {@code payload} to the {@link InvalidationChannel} named {@code channel} on every node.
+     */
+    public void afterCommit(String channel, String payload, Runnable localEviction) {
+        if (notifyCluster) {
+            notify(channel, payload);
+        }
+        if (transactions.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            localEviction.run();
+            return;
+        }
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    localEviction.run();
+                }
+            }
+        });
+    }
+
+    private void notify(String channel, String payload) {
+        Panache.getEntityManager().unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        });
+    }
+}
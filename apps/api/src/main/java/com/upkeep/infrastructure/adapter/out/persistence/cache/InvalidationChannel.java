@@ -0,0 +1,19 @@
+package com.upkeep.infrastructure.adapter.out.persistence.cache;
+
+/**
+ * A local cache that other nodes keep coherent over a Postgres {@code NOTIFY} channel.
+ */
+public interface InvalidationChannel {
+
+    String channel();
+
+    /**
+     * Applies an invalidation published by {@link ClusterCacheInvalidation#afterCommit} on any node.
+     */
+    void onInvalidation(String payload);
+
+    /**
+     * Called whenever the listener (re)connects, since notifications sent while it was down are lost.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,41 @@
+package com.upkeep.infrastructure.adapter.out.persistence.company;
+
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "company_deletions")
+public class CompanyDeletionEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "company_id", nullable = false)
+    public UUID companyId;
+
+    @Column(name = "requested_by", nullable = false)
+    public UUID requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 20)
+    public CompanyDeletionStep step;
+
+    @Column(name = "rows_deleted", nullable = false)
+    public long rowsDeleted;
+
+    @Column(name = "requested_at", nullable = false)
+    public Instant requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    public Instant updatedAt;
+
+    @Column(name = "completed_at")
+    public Instant completedAt;
+}
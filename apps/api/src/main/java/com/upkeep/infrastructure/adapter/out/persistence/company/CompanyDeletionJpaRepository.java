@@ -0,0 +1,68 @@
+package com.upkeep.infrastructure.adapter.out.persistence.company;
+
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@ApplicationScoped
+public class CompanyDeletionJpaRepository implements CompanyDeletionRepository,
+        PanacheRepositoryBase<CompanyDeletionEntity, UUID> {
+
+    @Override
+    public CompanyDeletion create(CompanyId companyId, CustomerId requestedBy, Instant requestedAt) {
+        CompanyDeletionEntity entity = new CompanyDeletionEntity();
+        entity.companyId = companyId.value();
+        entity.requestedBy = requestedBy.value();
+        entity.step = CompanyDeletionStep.MEMBERSHIPS;
+        entity.requestedAt = requestedAt;
+        entity.updatedAt = requestedAt;
+        persist(entity);
+        return toDeletion(entity);
+    }
+
+    @Override
+    public Optional<CompanyDeletion> findByCompanyId(CompanyId companyId) {
+        return find("companyId", companyId.value())
+                .firstResultOptional()
+                .map(CompanyDeletionJpaRepository::toDeletion);
+    }
+
+    @Override
+    public Optional<CompanyDeletion> findNextPending() {
+        return find("completedAt IS NULL ORDER BY requestedAt")
+                .firstResultOptional()
+                .map(CompanyDeletionJpaRepository::toDeletion);
+    }
+
+    @Override
+    public void recordProgress(CompanyId companyId, CompanyDeletionStep step, int rowsDeleted, Instant at) {
+        String completion = step == CompanyDeletionStep.COMPLETED ? ", d.completedAt = :at" : "";
+        getEntityManager()
+                .createQuery("UPDATE CompanyDeletionEntity d"
+                        + " SET d.step = :step, d.rowsDeleted = d.rowsDeleted + :rowsDeleted, d.updatedAt = :at" + completion
+                        + " WHERE d.companyId = :companyId")
+                .setParameter("step", step)
+                .setParameter("rowsDeleted", (long) rowsDeleted)
+                .setParameter("at", at)
+                .setParameter("companyId", companyId.value())
+                .executeUpdate();
+    }
+
+    private static CompanyDeletion toDeletion(CompanyDeletionEntity entity) {
+        return new CompanyDeletion(
+                CompanyId.from(entity.companyId),
+                CustomerId.from(entity.requestedBy),
+                entity.step,
+                entity.rowsDeleted,
+                entity.requestedAt,
+                entity.completedAt
+        );
+    }
+}
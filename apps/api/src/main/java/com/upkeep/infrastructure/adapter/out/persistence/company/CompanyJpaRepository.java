@@ -4,6 +4,8 @@ import com.upkeep.application.port.out.company.CompanyRepository;
 import com.upkeep.domain.model.company.Company;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.company.CompanySlug;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -13,10 +15,17 @@ import java.util.UUID;
 @ApplicationScoped
 public class CompanyJpaRepository implements CompanyRepository, PanacheRepositoryBase<CompanyEntity, UUID> {
 
+    private final CompanyStatsProjection companyStats;
+
+    public CompanyJpaRepository(CompanyStatsProjection companyStats) {
+        this.companyStats = companyStats;
+    }
+
     @Override
     public Company save(Company company) {
         CompanyEntity entity = CompanyMapper.toEntity(company);
         persist(entity);
+        companyStats.initialize(company.getId());
         return CompanyMapper.toDomain(entity);
     }
 
@@ -38,4 +47,37 @@ public class CompanyJpaRepository implements CompanyRepository, PanacheRepositor
     public boolean existsBySlug(CompanySlug slug) {
         return count("slug", slug.value()) > 0;
     }
+
+    @Override
+    public void delete(CompanyId companyId) {
+        companyStats.delete(companyId);
+        delete("id", companyId.value());
+    }
+
+    @Override
+    public Optional<CompanyDashboardRow> findDashboard(CompanyId companyId, CustomerId customerId) {
+        return getEntityManager()
+                .createQuery("""
+                        SELECT c.id, c.name, c.slug, m.role, s.memberCount, s.hasBudget, s.packageCount, s.hasAllocations
+                        FROM CompanyEntity c
+                        JOIN MembershipEntity m ON m.companyId = c.id AND m.customerId = :customerId
+                        LEFT JOIN CompanyStatsEntity s ON s.companyId = c.id
+                        WHERE c.id = :companyId
+                        AND NOT EXISTS (SELECT 1 FROM CompanyDeletionEntity d WHERE d.companyId = c.id)
+                        """, Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setParameter("customerId", customerId.value())
+                .getResultStream()
+                .findFirst()
+                .map(row -> new CompanyDashboardRow(
+                        CompanyId.from((UUID) row[0]),
+                        (String) row[1],
+                        (String) row[2],
+                        (Role) row[3],
+                        row[4] != null ? (Integer) row[4] : 0,
+                        Boolean.TRUE.equals(row[5]),
+                        row[6] != null ? (Integer) row[6] : 0,
+                        Boolean.TRUE.equals(row[7])
+                ));
+    }
 }
@@ -0,0 +1,34 @@
+package com.upkeep.infrastructure.adapter.out.persistence.company;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "company_stats")
+public class CompanyStatsEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "company_id", nullable = false)
+    public UUID companyId;
+
+    @Column(name = "member_count", nullable = false)
+    public int memberCount;
+
+    @Column(name = "has_budget", nullable = false)
+    public boolean hasBudget;
+
+    @Column(name = "package_count", nullable = false)
+    public int packageCount;
+
+    @Column(name = "has_allocations", nullable = false)
+    public boolean hasAllocations;
+
+    @Column(name = "updated_at", nullable = false)
+    public Instant updatedAt;
+}
@@ -0,0 +1,55 @@
+package com.upkeep.infrastructure.adapter.out.persistence.company;
+
+import com.upkeep.domain.model.company.CompanyId;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+
+/**
+ * Maintains the {@code company_stats} row read by the dashboard. Every method must run inside the transaction
+ * that changes the underlying fact; counters are adjusted with a single atomic {@code UPDATE} so concurrent
+ * writers serialize on the stats row instead of racing on a read-modify-write.
+ */
+@ApplicationScoped
+public class CompanyStatsProjection {
+
+    public void initialize(CompanyId companyId) {
+        CompanyStatsEntity stats = new CompanyStatsEntity();
+        stats.companyId = companyId.value();
+        stats.updatedAt = Instant.now();
+        Panache.getEntityManager().persist(stats);
+    }
+
+    public void delete(CompanyId companyId) {
+        Panache.getEntityManager()
+                .createQuery("DELETE FROM CompanyStatsEntity s WHERE s.companyId = :companyId")
+                .setParameter("companyId", companyId.value())
+                .executeUpdate();
+    }
+
+    public void adjustMemberCount(CompanyId companyId, int delta) {
+        Panache.getEntityManager()
+                .createQuery("""
+                        UPDATE CompanyStatsEntity s
+                        SET s.memberCount = s.memberCount + :delta, s.updatedAt = :now
+                        WHERE s.companyId = :companyId
+                        """)
+                .setParameter("delta", delta)
+                .setParameter("now", Instant.now())
+                .setParameter("companyId", companyId.value())
+                .executeUpdate();
+    }
+
+    public void markBudgetSet(CompanyId companyId) {
+        Panache.getEntityManager()
+                .createQuery("""
+                        UPDATE CompanyStatsEntity s
+                        SET s.hasBudget = true, s.updatedAt = :now
+                        WHERE s.companyId = :companyId AND s.hasBudget = false
+                        """)
+                .setParameter("now", Instant.now())
+                .setParameter("companyId", companyId.value())
+                .executeUpdate();
+    }
+}
@@ -35,4 +35,7 @@ public class CustomerEntity extends PanacheEntityBase {
 
     @Column(name = "updated_at", nullable = false)
     public Instant updatedAt;
+
+    @Column(name = "membership_version", nullable = false)
+    public long membershipVersion;
 }
@@ -4,9 +4,11 @@ import com.upkeep.application.port.out.customer.CustomerRepository;
 import com.upkeep.domain.model.customer.Customer;
 import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.customer.PasswordHash;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @ApplicationScoped
@@ -42,4 +44,10 @@ public class CustomerJpaRepository implements CustomerRepository {
     public boolean existsByEmail(Email email) {
         return CustomerEntity.count("email", email.value()) > 0;
     }
+
+    @Override
+    public void updatePasswordHash(CustomerId id, PasswordHash passwordHash) {
+        CustomerEntity.update("passwordHash = ?1, updatedAt = ?2 WHERE id = ?3",
+                passwordHash.value(), Instant.now(), id.value());
+    }
 }
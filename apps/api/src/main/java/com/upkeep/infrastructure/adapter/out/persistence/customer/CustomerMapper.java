@@ -16,6 +16,8 @@ public interface CustomerMapper {
     @Mapping(target = "id", source = "id.value")
     @Mapping(target = "email", source = "email.value")
     @Mapping(target = "passwordHash", source = "customer", qualifiedByName = "extractPasswordHash")
+    // Owned by MembershipVersionStore; a new customer starts at the column default
+    @Mapping(target = "membershipVersion", ignore = true)
     CustomerEntity toEntity(Customer customer);
 
     @Named("extractPasswordHash")
@@ -0,0 +1,226 @@
+package com.upkeep.infrastructure.adapter.out.persistence.invitation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.ClusterCacheInvalidation;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.InvalidationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link InvitationTokenCache} that answers unknown tokens from a {@link TokenBloomFilter} of every issued token
+ * and caches lookups that get past it in a bounded Caffeine cache, including the filter's false positives.
+ * The filter is rebuilt from the database on startup and whenever the invalidation listener reconnects, and
+ * issued tokens are added on every node through {@link ClusterCacheInvalidation} on the {@value #CHANNEL} channel.
+ */
+@ApplicationScoped
+public class CaffeineInvitationTokenCache implements InvitationTokenCache, InvalidationChannel {
+
+    static final String CHANNEL = "invitation_tokens";
+    private static final String TOKENS_PREFIX = "tokens:";
+    private static final String EXPIRING_PREFIX = "expiring:";
+    // Keeps each notification well under the 8000 byte pg_notify payload limit
+    private static final int TOKENS_PER_NOTIFICATION = 100;
+    private static final Logger LOG = Logger.getLogger(CaffeineInvitationTokenCache.class);
+
+    private final ClusterCacheInvalidation invalidation;
+    private final Cache<String, Optional<InvitationSummary>> cache;
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter filtered;
+    private volatile TokenBloomFilter filter;
+    private volatile TokenBloomFilter rebuilding;
+
+    public CaffeineInvitationTokenCache(ClusterCacheInvalidation invalidation,
+                                        @ConfigProperty(name = "invitations.token-cache.max-size", defaultValue = "10000")
+                                        long maximumSize,
+                                        @ConfigProperty(name = "invitations.token-cache.ttl", defaultValue = "PT1M")
+                                        Duration ttl,
+                                        @ConfigProperty(name = "invitations.token-filter.expected-tokens", defaultValue = "1000000")
+                                        long expectedTokens,
+                                        @ConfigProperty(name = "invitations.token-filter.false-positive-rate", defaultValue = "0.01")
+                                        double falsePositiveRate,
+                                        MeterRegistry meterRegistry) {
+        this.invalidation = invalidation;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.hits = meterRegistry.counter("upkeep.invitation.token.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("upkeep.invitation.token.cache.requests", "result", "miss");
+        this.filtered = meterRegistry.counter("upkeep.invitation.token.cache.requests", "result", "filtered");
+        meterRegistry.gauge("upkeep.invitation.token.cache.size", cache, Cache::estimatedSize);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        rebuildFilter();
+    }
+
+    @Override
+    public Optional<InvitationSummary> findByToken(InvitationToken token) {
+        if (!mightExist(token)) {
+            return Optional.empty();
+        }
+        Optional<InvitationSummary> cached = cache.getIfPresent(token.value());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return cache.get(token.value(), this::load);
+    }
+
+    @Override
+    public boolean mightExist(InvitationToken token) {
+        TokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(token.value())) {
+            filtered.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void invalidateAfterCommit(Collection<InvitationToken> tokens) {
+        List<String> values = tokens.stream().map(InvitationToken::value).toList();
+        for (int from = 0; from < values.size(); from += TOKENS_PER_NOTIFICATION) {
+            List<String> chunk = values.subList(from, Math.min(values.size(), from + TOKENS_PER_NOTIFICATION));
+            invalidation.afterCommit(CHANNEL, TOKENS_PREFIX + String.join(",", chunk), () -> register(chunk));
+        }
+    }
+
+    @Override
+    public void invalidateExpiringBeforeAfterCommit(Instant cutoff) {
+        invalidation.afterCommit(CHANNEL, EXPIRING_PREFIX + cutoff, () -> evictExpiringBefore(cutoff));
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        if (payload == null) {
+            return;
+        }
+        if (payload.startsWith(TOKENS_PREFIX)) {
+            register(List.of(payload.substring(TOKENS_PREFIX.length()).split(",")));
+        } else if (payload.startsWith(EXPIRING_PREFIX)) {
+            try {
+                evictExpiringBefore(Instant.parse(payload.substring(EXPIRING_PREFIX.length())));
+            } catch (DateTimeParseException e) {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+        rebuildFilter();
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Replaces the filter with one loaded from the database. Tokens registered while the load runs go into both
+     * filters, and anything committed before {@link #rebuilding} was published is visible to the load query,
+     * so no issued token can be missing from the result.
+     */
+    synchronized void rebuildFilter() {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                long issued = Panache.getEntityManager()
+                        .createQuery("SELECT count(i) FROM InvitationEntity i", Long.class)
+                        .getSingleResult();
+                TokenBloomFilter next = new TokenBloomFilter(Math.max(expectedTokens, issued * 2), falsePositiveRate);
+                rebuilding = next;
+                Panache.getEntityManager()
+                        .createQuery("SELECT i.token FROM InvitationEntity i", String.class)
+                        .setHint("org.hibernate.fetchSize", 10_000)
+                        .getResultStream()
+                        .forEach(next::put);
+                filter = next;
+            });
+        } catch (RuntimeException e) {
+            // Without a trustworthy filter every lookup goes to the cache and the database
+            filter = null;
+            LOG.warn("Could not load issued invitation tokens, unknown tokens will be looked up", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void register(Collection<String> tokens) {
+        // Read in the opposite order to the rebuild's writes, so a token either lands in the new filter or was loaded
+        TokenBloomFilter next = rebuilding;
+        TokenBloomFilter current = filter;
+        for (String token : tokens) {
+            if (current != null) {
+                current.put(token);
+            }
+            if (next != null) {
+                next.put(token);
+            }
+        }
+        cache.invalidateAll(tokens);
+    }
+
+    private void evictExpiringBefore(Instant cutoff) {
+        List<String> expiring = new ArrayList<>();
+        cache.asMap().forEach((token, summary) -> {
+            if (summary.isPresent() && summary.get().expiresAt().isBefore(cutoff)) {
+                expiring.add(token);
+            }
+        });
+        cache.invalidateAll(expiring);
+    }
+
+    private Optional<InvitationSummary> load(String token) {
+        return Panache.getEntityManager()
+                .createQuery("""
+                        SELECT i.id, i.companyId, i.role, i.status, i.expiresAt
+                        FROM InvitationEntity i
+                        WHERE i.token = :token
+                        """, Object[].class)
+                .setParameter("token", token)
+                .getResultStream()
+                .findFirst()
+                .map(row -> new InvitationSummary(
+                        InvitationId.from((UUID) row[0]),
+                        CompanyId.from((UUID) row[1]),
+                        (Role) row[2],
+                        (InvitationStatus) row[3],
+                        (Instant) row[4]
+                ));
+    }
+}
@@ -1,29 +1,66 @@
 package com.upkeep.infrastructure.adapter.out.persistence.invitation;
 
 import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
 import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
 import com.upkeep.domain.model.invitation.Invitation;
 import com.upkeep.domain.model.invitation.InvitationId;
 import com.upkeep.domain.model.invitation.InvitationStatus;
 import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class InvitationJpaRepository implements InvitationRepository, PanacheRepositoryBase<InvitationEntity, UUID> {
 
+    // Inlined rather than bound so PostgreSQL can match the partial pending index even when it switches to a generic plan
+    private static final String PENDING = InvitationStatus.class.getName() + "." + InvitationStatus.PENDING.name();
+
+    private final InvitationTokenCache tokenCache;
+    private final int batchSize;
+
+    public InvitationJpaRepository(InvitationTokenCache tokenCache,
+                                   @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+                                   int batchSize) {
+        this.tokenCache = tokenCache;
+        this.batchSize = batchSize;
+    }
+
     @Override
     public Invitation save(Invitation invitation) {
         InvitationEntity entity = InvitationMapper.toEntity(invitation);
         InvitationEntity managed = getEntityManager().merge(entity);
+        tokenCache.invalidateAfterCommit(List.of(invitation.getToken()));
         return InvitationMapper.toDomain(managed);
     }
 
+    @Override
+    public void insertAll(List<Invitation> invitations) {
+        EntityManager entityManager = getEntityManager();
+        for (int i = 0; i < invitations.size(); i++) {
+            entityManager.persist(InvitationMapper.toEntity(invitations.get(i)));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+        tokenCache.invalidateAfterCommit(invitations.stream().map(Invitation::getToken).toList());
+    }
+
     @Override
     public Optional<Invitation> findById(InvitationId id) {
         return find("id", id.value())
@@ -48,26 +85,105 @@ public class InvitationJpaRepository implements InvitationRepository, PanacheRep
     }
 
     @Override
-    public List<Invitation> findAllByCompanyId(CompanyId companyId) {
-        return find("companyId", companyId.value())
-                .list()
-                .stream()
-                .map(InvitationMapper::toDomain)
-                .toList();
-    }
-
-    @Override
-    public List<Invitation> findAllByCompanyIdAndStatus(CompanyId companyId, InvitationStatus status) {
-        return find("companyId = ?1 and status = ?2", companyId.value(), status)
-                .list()
-                .stream()
-                .map(InvitationMapper::toDomain)
+    public List<InvitationRow> findInvitationPage(CompanyId companyId,
+                                                  Set<InvitationStatus> statuses,
+                                                  InvitationCursor before,
+                                                  int limit) {
+        String statusFilter = statuses.isEmpty() ? "" : "AND i.status IN :statuses ";
+        String keyset = before != null ? "AND (i.createdAt, i.id) < (:beforeCreatedAt, :beforeId) " : "";
+        TypedQuery<Object[]> query = getEntityManager()
+                .createQuery("""
+                        SELECT i.id, i.email, i.role, i.status, i.invitedBy, i.createdAt, i.expiresAt
+                        FROM InvitationEntity i
+                        WHERE i.companyId = :companyId
+                        """ + statusFilter + keyset + "ORDER BY i.createdAt DESC, i.id DESC", Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setMaxResults(limit);
+        if (!statuses.isEmpty()) {
+            query.setParameter("statuses", statuses);
+        }
+        if (before != null) {
+            query.setParameter("beforeCreatedAt", before.createdAt());
+            query.setParameter("beforeId", before.invitationId().value());
+        }
+        return query.getResultStream()
+                .map(row -> new InvitationRow(
+                        InvitationId.from((UUID) row[0]),
+                        (String) row[1],
+                        (Role) row[2],
+                        (InvitationStatus) row[3],
+                        CustomerId.from((UUID) row[4]),
+                        (Instant) row[5],
+                        (Instant) row[6]
+                ))
                 .toList();
     }
 
     @Override
     public boolean existsByCompanyIdAndEmailAndStatus(CompanyId companyId, Email email, InvitationStatus status) {
+        if (status == InvitationStatus.PENDING) {
+            return count("companyId = ?1 and email = ?2 and status = " + PENDING, companyId.value(), email.value()) > 0;
+        }
         return count("companyId = ?1 and email = ?2 and status = ?3",
                 companyId.value(), email.value(), status) > 0;
     }
+
+    @Override
+    public Set<Email> findEmailsWithStatus(CompanyId companyId, Collection<Email> emails, InvitationStatus status) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        boolean pending = status == InvitationStatus.PENDING;
+        TypedQuery<String> query = getEntityManager()
+                .createQuery("SELECT DISTINCT i.email FROM InvitationEntity i"
+                        + " WHERE i.companyId = :companyId AND i.email IN :emails"
+                        + " AND i.status = " + (pending ? PENDING : ":status"), String.class)
+                .setParameter("companyId", companyId.value())
+                .setParameter("emails", emails.stream().map(Email::value).toList());
+        if (!pending) {
+            query.setParameter("status", status);
+        }
+        return query.getResultStream()
+                .map(Email::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public int expireOverdue(Instant cutoff, int limit) {
+        int expired = getEntityManager()
+                .createNativeQuery("""
+                        UPDATE invitations
+                        SET status = 'EXPIRED', updated_at = :now
+                        WHERE id IN (SELECT id FROM invitations
+                                     WHERE status = 'PENDING' AND expires_at < :cutoff
+                                     ORDER BY expires_at
+                                     LIMIT :limit)
+                        """)
+                .setParameter("now", Instant.now())
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+        if (expired > 0) {
+            tokenCache.invalidateExpiringBeforeAfterCommit(cutoff);
+        }
+        return expired;
+    }
+
+    @Override
+    public int deleteChunkByCompanyId(CompanyId companyId, int limit) {
+        List<Object[]> chunk = getEntityManager()
+                .createQuery("SELECT i.id, i.token FROM InvitationEntity i WHERE i.companyId = :companyId", Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setMaxResults(limit)
+                .getResultList();
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int deleted = getEntityManager()
+                .createQuery("DELETE FROM InvitationEntity i WHERE i.id IN :ids")
+                .setParameter("ids", chunk.stream().map(row -> (UUID) row[0]).toList())
+                .executeUpdate();
+        tokenCache.invalidateAfterCommit(chunk.stream().map(row -> InvitationToken.from((String) row[1])).toList());
+        return deleted;
+    }
 }
@@ -0,0 +1,68 @@
+package com.upkeep.infrastructure.adapter.out.persistence.invitation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over token strings that is safe to add to while other threads read it.
+ * Hashes are seeded per instance, so tokens crafted against one node's filter do not carry over to another.
+ */
+final class TokenBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long seed;
+
+    TokenBloomFilter(long expectedTokens, double falsePositiveRate) {
+        long expected = Math.max(1, expectedTokens);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expected * Math.log(2)));
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    void put(String token) {
+        long hash1 = hash(token, seed);
+        long hash2 = hash(token, ~seed) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String token) {
+        long hash1 = hash(token, seed);
+        long hash2 = hash(token, ~seed) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String token, long seed) {
+        long hash = seed;
+        for (int i = 0; i < token.length(); i++) {
+            hash = mix(hash ^ token.charAt(i));
+        }
+        return mix(hash ^ token.length());
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,28 @@
+package com.upkeep.infrastructure.adapter.out.persistence.lock;
+
+import com.upkeep.application.port.out.lock.ClusterLock;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * {@link ClusterLock} backed by {@code pg_try_advisory_xact_lock}; the lock is released when the transaction ends,
+ * so a crashed node never leaves it held.
+ */
+@ApplicationScoped
+public class PostgresAdvisoryLock implements ClusterLock {
+
+    @Override
+    public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Boolean acquired = (Boolean) Panache.getEntityManager()
+                    .createNativeQuery("SELECT pg_try_advisory_xact_lock(hashtext(:name))")
+                    .setParameter("name", lockName)
+                    .getSingleResult();
+            return Boolean.TRUE.equals(acquired) ? Optional.ofNullable(work.get()) : Optional.<T>empty();
+        });
+    }
+}
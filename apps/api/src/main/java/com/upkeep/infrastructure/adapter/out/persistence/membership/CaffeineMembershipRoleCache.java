@@ -0,0 +1,150 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.ClusterCacheInvalidation;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.InvalidationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MembershipRoleCache} kept in a bounded Caffeine cache and invalidated through
+ * {@link ClusterCacheInvalidation} on the {@value #CHANNEL} channel. Entries are only ever evicted by key: unlike a
+ * scan of the cache, a keyed eviction also waits for a load of that key already in flight.
+ */
+@ApplicationScoped
+public class CaffeineMembershipRoleCache implements MembershipRoleCache, InvalidationChannel {
+
+    static final String CHANNEL = "membership_roles";
+    private static final String COMPANY_PREFIX = "company:";
+    // Keeps each notification well under the 8000 byte pg_notify payload limit
+    private static final int CUSTOMERS_PER_PAYLOAD = 100;
+
+    private final ClusterCacheInvalidation invalidation;
+    private final Cache<Key, Optional<Role>> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CaffeineMembershipRoleCache(ClusterCacheInvalidation invalidation,
+                                       @ConfigProperty(name = "membership.role-cache.max-size", defaultValue = "10000")
+                                       long maximumSize,
+                                       @ConfigProperty(name = "membership.role-cache.ttl", defaultValue = "PT5M")
+                                       Duration ttl,
+                                       MeterRegistry meterRegistry) {
+        this.invalidation = invalidation;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = meterRegistry.counter("upkeep.membership.role.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("upkeep.membership.role.cache.requests", "result", "miss");
+        meterRegistry.gauge("upkeep.membership.role.cache.size", cache, Cache::estimatedSize);
+    }
+
+    @Override
+    public Optional<Role> findRole(CustomerId customerId, CompanyId companyId) {
+        Key key = new Key(customerId.value(), companyId.value());
+        Optional<Role> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return cache.get(key, this::load);
+    }
+
+    @Override
+    public void invalidateAfterCommit(CustomerId customerId, CompanyId companyId) {
+        Key key = new Key(customerId.value(), companyId.value());
+        invalidation.afterCommit(CHANNEL, key.toPayload(), () -> cache.invalidate(key));
+    }
+
+    @Override
+    public void invalidateAllAfterCommit(CompanyId companyId, Collection<CustomerId> customerIds) {
+        List<UUID> ids = customerIds.stream().map(CustomerId::value).toList();
+        for (int from = 0; from < ids.size(); from += CUSTOMERS_PER_PAYLOAD) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + CUSTOMERS_PER_PAYLOAD));
+            String payload = COMPANY_PREFIX + companyId + ":" + chunk.stream().map(UUID::toString).collect(Collectors.joining(","));
+            invalidation.afterCommit(CHANNEL, payload, () -> evictMembers(companyId.value(), chunk));
+        }
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        if (payload != null && payload.startsWith(COMPANY_PREFIX)) {
+            String[] parts = payload.substring(COMPANY_PREFIX.length()).split(":", 2);
+            try {
+                if (parts.length == 2) {
+                    evictMembers(UUID.fromString(parts[0]), Arrays.stream(parts[1].split(",")).map(UUID::fromString).toList());
+                }
+            } catch (IllegalArgumentException e) {
+                // not one of ours; nothing to evict
+            }
+            return;
+        }
+        Key.fromPayload(payload).ifPresent(cache::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void evictMembers(UUID companyId, List<UUID> customerIds) {
+        cache.invalidateAll(customerIds.stream().map(customerId -> new Key(customerId, companyId)).toList());
+    }
+
+    private Optional<Role> load(Key key) {
+        return Panache.getEntityManager()
+                .createQuery("""
+                        select m.role from MembershipEntity m
+                        where m.customerId = ?1 and m.companyId = ?2
+                        and not exists (select 1 from CompanyDeletionEntity d where d.companyId = m.companyId)
+                        """, Role.class)
+                .setParameter(1, key.customerId())
+                .setParameter(2, key.companyId())
+                .getResultStream()
+                .findFirst();
+    }
+
+    record Key(UUID customerId, UUID companyId) {
+
+        String toPayload() {
+            return customerId + ":" + companyId;
+        }
+
+        static Optional<Key> fromPayload(String payload) {
+            int separator = payload == null ? -1 : payload.indexOf(':');
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new Key(
+                        UUID.fromString(payload.substring(0, separator)),
+                        UUID.fromString(payload.substring(separator + 1))));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.ClusterCacheInvalidation;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.InvalidationChannel;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * {@link MembershipVersionStore} backed by {@code customers.membership_version}, with versions cached in Caffeine
+ * and evicted through {@link ClusterCacheInvalidation} on the {@value #CHANNEL} channel.
+ */
+@ApplicationScoped
+public class CaffeineMembershipVersionStore implements MembershipVersionStore, InvalidationChannel {
+
+    static final String CHANNEL = "membership_versions";
+    // Keeps each notification well under the 8000 byte pg_notify payload limit
+    private static final int IDS_PER_NOTIFICATION = 100;
+
+    private final ClusterCacheInvalidation invalidation;
+    private final Cache<UUID, Long> cache;
+
+    public CaffeineMembershipVersionStore(ClusterCacheInvalidation invalidation,
+                                          @ConfigProperty(name = "membership.version-cache.max-size", defaultValue = "100000")
+                                          long maximumSize,
+                                          @ConfigProperty(name = "membership.version-cache.ttl", defaultValue = "PT5M")
+                                          Duration ttl) {
+        this.invalidation = invalidation;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public long currentVersion(CustomerId customerId) {
+        return cache.get(customerId.value(), this::load);
+    }
+
+    @Override
+    public void bumpVersion(CustomerId customerId) {
+        Panache.getEntityManager()
+                .createQuery("UPDATE CustomerEntity c SET c.membershipVersion = c.membershipVersion + 1 WHERE c.id = :id")
+                .setParameter("id", customerId.value())
+                .executeUpdate();
+        invalidation.afterCommit(CHANNEL, customerId.toString(), () -> cache.invalidate(customerId.value()));
+    }
+
+    @Override
+    public void bumpVersions(Collection<CustomerId> customerIds) {
+        if (customerIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = customerIds.stream().map(CustomerId::value).toList();
+        Panache.getEntityManager()
+                .createQuery("UPDATE CustomerEntity c SET c.membershipVersion = c.membershipVersion + 1 WHERE c.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        for (int from = 0; from < ids.size(); from += IDS_PER_NOTIFICATION) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + IDS_PER_NOTIFICATION));
+            String payload = chunk.stream().map(UUID::toString).collect(Collectors.joining(","));
+            invalidation.afterCommit(CHANNEL, payload, () -> cache.invalidateAll(chunk));
+        }
+    }
+
+    @Override
+    public MembershipSnapshot snapshot(CustomerId customerId) {
+        List<Object[]> rows = Panache.getEntityManager()
+                .createQuery("""
+                        SELECT c.membershipVersion, m.companyId, m.role
+                        FROM CustomerEntity c
+                        LEFT JOIN MembershipEntity m ON m.customerId = c.id
+                            AND NOT EXISTS (SELECT 1 FROM CompanyDeletionEntity d WHERE d.companyId = m.companyId)
+                        WHERE c.id = :id
+                        """, Object[].class)
+                .setParameter("id", customerId.value())
+                .getResultList();
+        if (rows.isEmpty()) {
+            return new MembershipSnapshot(0, Map.of());
+        }
+        Map<CompanyId, Role> roles = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                roles.put(CompanyId.from((UUID) row[1]), (Role) row[2]);
+            }
+        }
+        return new MembershipSnapshot((Long) rows.getFirst()[0], Map.copyOf(roles));
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        try {
+            for (String id : payload.split(",")) {
+                cache.invalidate(UUID.fromString(id));
+            }
+        } catch (IllegalArgumentException e) {
+            // not one of ours; nothing to evict
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private long load(UUID customerId) {
+        return Panache.getEntityManager()
+                .createQuery("SELECT c.membershipVersion FROM CustomerEntity c WHERE c.id = :id", Long.class)
+                .setParameter("id", customerId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.ClusterCacheInvalidation;
+import com.upkeep.infrastructure.adapter.out.persistence.cache.InvalidationChannel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UserCompaniesCache} loading each list with one memberships-to-companies join and invalidated through
+ * {@link ClusterCacheInvalidation} on the {@value #CHANNEL} channel. Payloads name one or more customers.
+ *
+ * <p>Evictions are always by customer key: Caffeine makes an invalidation of a key wait for a load of that key in
+ * progress, so a list read before the commit cannot be put back afterwards. A scan over the cached values would
+ * not see such a load.
+ */
+@ApplicationScoped
+public class CaffeineUserCompaniesCache implements UserCompaniesCache, InvalidationChannel {
+
+    static final String CHANNEL = "user_companies";
+    private static final String CUSTOMER_PREFIX = "customer:";
+    // Keeps each payload well under the 8000-byte pg_notify limit
+    private static final int CUSTOMERS_PER_PAYLOAD = 100;
+
+    private final ClusterCacheInvalidation invalidation;
+    private final Cache<UUID, List<UserCompany>> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CaffeineUserCompaniesCache(ClusterCacheInvalidation invalidation,
+                                      @ConfigProperty(name = "user-companies-cache.max-size", defaultValue = "10000")
+                                      long maximumSize,
+                                      @ConfigProperty(name = "user-companies-cache.ttl", defaultValue = "PT5M")
+                                      Duration ttl,
+                                      MeterRegistry meterRegistry) {
+        this.invalidation = invalidation;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hits = meterRegistry.counter("upkeep.user.companies.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("upkeep.user.companies.cache.requests", "result", "miss");
+    }
+
+    @Override
+    public List<UserCompany> findCompanies(CustomerId customerId) {
+        List<UserCompany> cached = cache.getIfPresent(customerId.value());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return cache.get(customerId.value(), this::load);
+    }
+
+    @Override
+    public void invalidateAfterCommit(CustomerId customerId) {
+        invalidation.afterCommit(CHANNEL, CUSTOMER_PREFIX + customerId, () -> cache.invalidate(customerId.value()));
+    }
+
+    @Override
+    public void invalidateAllAfterCommit(Collection<CustomerId> customerIds) {
+        List<UUID> keys = customerIds.stream().map(CustomerId::value).toList();
+        for (int from = 0; from < keys.size(); from += CUSTOMERS_PER_PAYLOAD) {
+            List<UUID> chunk = keys.subList(from, Math.min(from + CUSTOMERS_PER_PAYLOAD, keys.size()));
+            String payload = chunk.stream().map(UUID::toString).collect(Collectors.joining(",", CUSTOMER_PREFIX, ""));
+            invalidation.afterCommit(CHANNEL, payload, () -> cache.invalidateAll(chunk));
+        }
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void onInvalidation(String payload) {
+        if (payload == null || !payload.startsWith(CUSTOMER_PREFIX)) {
+            return;
+        }
+        try {
+            cache.invalidateAll(Arrays.stream(payload.substring(CUSTOMER_PREFIX.length()).split(","))
+                    .map(UUID::fromString)
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            // not one of ours; nothing to evict
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private List<UserCompany> load(UUID customerId) {
+        return Panache.getEntityManager()
+                .createQuery("""
+                        SELECT c.id, c.name, c.slug, m.role
+                        FROM MembershipEntity m
+                        JOIN CompanyEntity c ON c.id = m.companyId
+                        WHERE m.customerId = :customerId
+                        AND NOT EXISTS (SELECT 1 FROM CompanyDeletionEntity d WHERE d.companyId = c.id)
+                        ORDER BY c.name, c.id
+                        """, Object[].class)
+                .setParameter("customerId", customerId)
+                .getResultStream()
+                .map(row -> new UserCompany(
+                        CompanyId.from((UUID) row[0]),
+                        (String) row[1],
+                        (String) row[2],
+                        (Role) row[3]
+                ))
+                .toList();
+    }
+}
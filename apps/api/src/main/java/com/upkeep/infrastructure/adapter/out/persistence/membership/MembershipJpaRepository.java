@@ -1,25 +1,56 @@
 package com.upkeep.infrastructure.adapter.out.persistence.membership;
 
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
 import com.upkeep.domain.model.membership.Membership;
 import com.upkeep.domain.model.membership.MembershipId;
 import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.company.CompanyStatsProjection;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class MembershipJpaRepository implements MembershipRepository, PanacheRepositoryBase<MembershipEntity, UUID> {
 
+    private final MembershipRoleCache membershipRoleCache;
+    private final CompanyStatsProjection companyStats;
+    private final MembershipVersionStore membershipVersions;
+
+    public MembershipJpaRepository(MembershipRoleCache membershipRoleCache,
+                                   CompanyStatsProjection companyStats,
+                                   MembershipVersionStore membershipVersions) {
+        this.membershipRoleCache = membershipRoleCache;
+        this.companyStats = companyStats;
+        this.membershipVersions = membershipVersions;
+    }
+
     @Override
     public Membership save(Membership membership) {
         MembershipEntity entity = MembershipMapper.toEntity(membership);
+        MembershipEntity existingEntity = findById(entity.id);
+
+        if (existingEntity != null) {
+            existingEntity.role = entity.role;
+            existingEntity.updatedAt = entity.updatedAt;
+            membershipVersions.bumpVersion(membership.getCustomerId());
+            return MembershipMapper.toDomain(existingEntity);
+        }
         persist(entity);
+        companyStats.adjustMemberCount(membership.getCompanyId(), 1);
+        membershipVersions.bumpVersion(membership.getCustomerId());
         return MembershipMapper.toDomain(entity);
     }
 
@@ -55,6 +86,47 @@ public class MembershipJpaRepository implements MembershipRepository, PanacheRep
                 .toList();
     }
 
+    @Override
+    public List<CustomerId> findCustomerIdsByCompanyId(CompanyId companyId) {
+        return getEntityManager()
+                .createQuery("SELECT m.customerId FROM MembershipEntity m WHERE m.companyId = :companyId", UUID.class)
+                .setParameter("companyId", companyId.value())
+                .getResultStream()
+                .map(CustomerId::from)
+                .toList();
+    }
+
+    @Override
+    public List<MemberRow> findMemberPage(CompanyId companyId, Role role, MemberCursor after, int limit) {
+        String roleFilter = role != null ? "AND m.role = :role " : "";
+        String keyset = after != null ? "AND (m.joinedAt, m.id) > (:afterJoinedAt, :afterId) " : "";
+        TypedQuery<Object[]> query = getEntityManager()
+                .createQuery("""
+                        SELECT m.id, m.customerId, c.email, m.role, m.joinedAt
+                        FROM MembershipEntity m
+                        JOIN CustomerEntity c ON c.id = m.customerId
+                        WHERE m.companyId = :companyId
+                        """ + roleFilter + keyset + "ORDER BY m.joinedAt, m.id", Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setMaxResults(limit);
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        if (after != null) {
+            query.setParameter("afterJoinedAt", after.joinedAt());
+            query.setParameter("afterId", after.membershipId().value());
+        }
+        return query.getResultStream()
+                .map(row -> new MemberRow(
+                        MembershipId.from((UUID) row[0]),
+                        CustomerId.from((UUID) row[1]),
+                        (String) row[2],
+                        (Role) row[3],
+                        (Instant) row[4]
+                ))
+                .toList();
+    }
+
     @Override
     public long countByCompanyId(CompanyId companyId) {
         return count("companyId", companyId.value());
@@ -70,8 +142,50 @@ public class MembershipJpaRepository implements MembershipRepository, PanacheRep
         return count("customerId = ?1 and companyId = ?2", customerId.value(), companyId.value()) > 0;
     }
 
+    @Override
+    public Set<Email> findMemberEmails(CompanyId companyId, Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return getEntityManager()
+                .createQuery("""
+                        SELECT c.email FROM MembershipEntity m
+                        JOIN CustomerEntity c ON c.id = m.customerId
+                        WHERE m.companyId = :companyId AND c.email IN :emails
+                        """, String.class)
+                .setParameter("companyId", companyId.value())
+                .setParameter("emails", emails.stream().map(Email::value).toList())
+                .getResultStream()
+                .map(Email::new)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public void delete(Membership membership) {
-        delete("id", membership.getId().value());
+        if (delete("id", membership.getId().value()) > 0) {
+            companyStats.adjustMemberCount(membership.getCompanyId(), -1);
+            membershipVersions.bumpVersion(membership.getCustomerId());
+        }
+        membershipRoleCache.invalidateAfterCommit(membership.getCustomerId(), membership.getCompanyId());
+    }
+
+    @Override
+    public int deleteChunkByCompanyId(CompanyId companyId, int limit) {
+        List<Object[]> chunk = getEntityManager()
+                .createQuery("SELECT m.id, m.customerId FROM MembershipEntity m WHERE m.companyId = :companyId", Object[].class)
+                .setParameter("companyId", companyId.value())
+                .setMaxResults(limit)
+                .getResultList();
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int deleted = getEntityManager()
+                .createQuery("DELETE FROM MembershipEntity m WHERE m.id IN :ids")
+                .setParameter("ids", chunk.stream().map(row -> (UUID) row[0]).toList())
+                .executeUpdate();
+        // Roles, company lists and membership claims were retired when the deletion was requested; this bump covers
+        // members who joined while the request was committing
+        membershipVersions.bumpVersions(chunk.stream().map(row -> CustomerId.from((UUID) row[1])).toList());
+        return deleted;
     }
 }
@@ -0,0 +1,52 @@
+package com.upkeep.infrastructure.adapter.out.persistence.notification;
+
+import com.upkeep.application.port.out.notification.EmailKind;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryStatus;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    public UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    public EmailKind kind;
+
+    @Column(name = "recipient", nullable = false)
+    public String recipient;
+
+    @Column(name = "invitation_token")
+    public String invitationToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    public DeliveryStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    public int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    public Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    public String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    public Instant createdAt;
+
+    @Column(name = "sent_at")
+    public Instant sentAt;
+}
@@ -0,0 +1,165 @@
+package com.upkeep.infrastructure.adapter.out.persistence.notification;
+
+import com.upkeep.application.port.out.notification.EmailKind;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository;
+import com.upkeep.application.port.out.notification.EmailQueue;
+import com.upkeep.application.port.out.notification.EmailTransport.OutgoingEmail;
+import com.upkeep.domain.model.customer.Email;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The email outbox table. Emails are enqueued inside the caller's transaction; dispatchers claim due rows with
+ * {@code FOR UPDATE SKIP LOCKED} and move them forward under a lease, so rows locked by another node are skipped
+ * rather than waited on.
+ */
+@ApplicationScoped
+public class EmailOutboxJpaRepository implements EmailQueue, EmailOutboxRepository,
+        PanacheRepositoryBase<EmailOutboxEntity, UUID> {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void enqueueWelcomeEmail(Email email) {
+        persist(pending(EmailKind.WELCOME, email, null, Instant.now()));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void enqueueInvitationEmails(List<InvitationEmail> emails) {
+        Instant now = Instant.now();
+        for (InvitationEmail email : emails) {
+            persist(pending(EmailKind.INVITATION, email.email(), email.invitationToken(), now));
+        }
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<ClaimedEmail> claimDue(Instant now, Instant leaseUntil, int limit) {
+        List<EmailOutboxEntity> due = getEntityManager()
+                .createNativeQuery("""
+                        SELECT * FROM email_outbox
+                        WHERE status = 'PENDING' AND next_attempt_at <= :now
+                        ORDER BY next_attempt_at
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """, EmailOutboxEntity.class)
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .getResultList();
+        return due.stream()
+                .map(entity -> {
+                    entity.attempts++;
+                    entity.nextAttemptAt = leaseUntil;
+                    return new ClaimedEmail(
+                            entity.id,
+                            new OutgoingEmail(entity.kind, new Email(entity.recipient), entity.invitationToken),
+                            entity.attempts
+                    );
+                })
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> renewLease(List<ClaimedEmail> emails, Instant leaseUntil) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        // Locked so a concurrent claim either commits first, and bumps attempts, or waits for the renewal
+        Map<UUID, EmailOutboxEntity> entities = find("id in ?1", emails.stream().map(ClaimedEmail::id).toList())
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .stream()
+                .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+        Set<UUID> held = new HashSet<>();
+        for (ClaimedEmail email : emails) {
+            EmailOutboxEntity entity = entities.get(email.id());
+            if (entity != null && entity.status == DeliveryStatus.PENDING && entity.attempts == email.attempts()) {
+                entity.nextAttemptAt = leaseUntil;
+                held.add(entity.id);
+            }
+        }
+        return held;
+    }
+
+    @Override
+    @Transactional
+    public void recordOutcomes(List<DeliveryOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        // Locked and fenced on attempts like renewLease, so a late outcome never overwrites a newer claim's
+        Map<UUID, EmailOutboxEntity> entities = find("id in ?1", outcomes.stream().map(DeliveryOutcome::id).toList())
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .stream()
+                .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+        for (DeliveryOutcome outcome : outcomes) {
+            EmailOutboxEntity entity = entities.get(outcome.id());
+            if (entity == null || entity.status != DeliveryStatus.PENDING || entity.attempts != outcome.attempts()) {
+                continue;
+            }
+            entity.status = outcome.status();
+            entity.lastError = truncate(outcome.error());
+            if (outcome.status() == DeliveryStatus.SENT) {
+                entity.sentAt = outcome.at();
+            } else {
+                entity.nextAttemptAt = outcome.at();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Instant> findOldestPendingCreatedAt() {
+        return Optional.ofNullable(getEntityManager()
+                .createQuery("SELECT MIN(e.createdAt) FROM EmailOutboxEntity e WHERE e.status = :status", Instant.class)
+                .setParameter("status", DeliveryStatus.PENDING)
+                .getSingleResult());
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(Instant cutoff, int limit) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM email_outbox
+                        WHERE id IN (SELECT id FROM email_outbox
+                                     WHERE status <> 'PENDING' AND created_at < :cutoff
+                                     ORDER BY created_at
+                                     LIMIT :limit)
+                        """)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private static EmailOutboxEntity pending(EmailKind kind, Email recipient, String invitationToken, Instant now) {
+        EmailOutboxEntity entity = new EmailOutboxEntity();
+        entity.id = UUID.randomUUID();
+        entity.kind = kind;
+        entity.recipient = recipient.value();
+        entity.invitationToken = invitationToken;
+        entity.status = DeliveryStatus.PENDING;
+        entity.attempts = 0;
+        entity.nextAttemptAt = now;
+        entity.createdAt = now;
+        return entity;
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
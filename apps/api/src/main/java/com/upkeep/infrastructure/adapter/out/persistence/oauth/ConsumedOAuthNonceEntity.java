@@ -0,0 +1,21 @@
+package com.upkeep.infrastructure.adapter.out.persistence.oauth;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "oauth_consumed_nonces")
+public class ConsumedOAuthNonceEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "nonce", nullable = false, length = 32)
+    public String nonce;
+
+    @Column(name = "expires_at", nullable = false)
+    public Instant expiresAt;
+}
@@ -0,0 +1,45 @@
+package com.upkeep.infrastructure.adapter.out.persistence.oauth;
+
+import com.upkeep.application.port.out.oauth.OAuthNonceRepository;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.Instant;
+
+@ApplicationScoped
+public class OAuthNonceJpaRepository implements OAuthNonceRepository, PanacheRepositoryBase<ConsumedOAuthNonceEntity, String> {
+
+    /**
+     * The primary key decides the race: of two nodes consuming the same state, only one insert takes effect.
+     */
+    @Override
+    @Transactional
+    public boolean markConsumed(String nonce, Instant expiresAt) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        INSERT INTO oauth_consumed_nonces (nonce, expires_at)
+                        VALUES (:nonce, :expiresAt)
+                        ON CONFLICT DO NOTHING
+                        """)
+                .setParameter("nonce", nonce)
+                .setParameter("expiresAt", expiresAt)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant cutoff, int limit) {
+        return getEntityManager()
+                .createNativeQuery("""
+                        DELETE FROM oauth_consumed_nonces
+                        WHERE nonce IN (SELECT nonce FROM oauth_consumed_nonces
+                                        WHERE expires_at < :cutoff
+                                        ORDER BY expires_at
+                                        LIMIT :limit)
+                        """)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,58 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import io.smallrye.jwt.algorithm.SignatureAlgorithm;
+import io.smallrye.jwt.util.KeyUtils;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.Optional;
+
+/**
+ * Private key, algorithm and key ID used to sign access tokens. The key is parsed once at startup.
+ * The {@code kid} header lets verifiers select the matching public key from a JWK set, so a new key can be
+ * published alongside the old one before signing switches over.
+ */
+@ApplicationScoped
+public class AccessTokenSigningKey {
+
+    private final SignatureAlgorithm algorithm;
+    private final String keyId;
+    private final PrivateKey privateKey;
+
+    @Inject
+    public AccessTokenSigningKey(@ConfigProperty(name = "jwt.signing.algorithm", defaultValue = "RS256") String algorithm,
+                                 @ConfigProperty(name = "jwt.signing.key-id") Optional<String> keyId,
+                                 @ConfigProperty(name = "smallrye.jwt.sign.key.location") String keyLocation) {
+        this(SignatureAlgorithm.fromAlgorithm(algorithm), keyId.orElse(null), readKey(keyLocation, algorithm));
+    }
+
+    public AccessTokenSigningKey(SignatureAlgorithm algorithm, String keyId, PrivateKey privateKey) {
+        this.algorithm = algorithm;
+        this.keyId = keyId;
+        this.privateKey = privateKey;
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public Optional<String> keyId() {
+        return Optional.ofNullable(keyId);
+    }
+
+    public PrivateKey privateKey() {
+        return privateKey;
+    }
+
+    private static PrivateKey readKey(String keyLocation, String algorithm) {
+        try {
+            return KeyUtils.readPrivateKey(keyLocation, SignatureAlgorithm.fromAlgorithm(algorithm));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load JWT signing key from " + keyLocation, e);
+        }
+    }
+}
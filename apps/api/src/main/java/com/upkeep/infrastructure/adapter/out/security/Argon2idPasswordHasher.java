@@ -0,0 +1,128 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.upkeep.application.port.out.auth.PasswordHasher;
+import com.upkeep.domain.model.customer.Password;
+import com.upkeep.domain.model.customer.PasswordHash;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Optional memory-hard hasher producing PHC strings ({@code $argon2id$v=19$m=..,t=..,p=..$salt$hash}).
+ * Enabled with {@code quarkus.arc.selected-alternatives}; existing BCrypt hashes still verify and are
+ * flagged for rehash so accounts migrate on their next login. Parameters are shared config, like the BCrypt cost.
+ */
+@Alternative
+@ApplicationScoped
+public class Argon2idPasswordHasher implements PasswordHasher {
+
+    private static final Pattern PHC_HASH = Pattern.compile(
+            "^\\$argon2id\\$v=19\\$m=(\\d+),t=(\\d+),p=(\\d+)\\$([A-Za-z0-9+/]+)\\$([A-Za-z0-9+/]+)$");
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final BcryptPasswordHasher legacyHasher;
+    private final SecureRandom random = new SecureRandom();
+    private final int memoryKib;
+    private final int parallelism;
+    private final int iterations;
+
+    @Inject
+    public Argon2idPasswordHasher(PasswordHashingExecutor hashingExecutor,
+                                  BcryptPasswordHasher legacyHasher,
+                                  @ConfigProperty(name = "auth.password-hashing.argon2.memory-kib", defaultValue = "19456")
+                                  int memoryKib,
+                                  @ConfigProperty(name = "auth.password-hashing.argon2.iterations", defaultValue = "2")
+                                  int iterations,
+                                  @ConfigProperty(name = "auth.password-hashing.argon2.parallelism", defaultValue = "1")
+                                  int parallelism) {
+        this.hashingExecutor = hashingExecutor;
+        this.legacyHasher = legacyHasher;
+        this.memoryKib = memoryKib;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public PasswordHash hash(Password password) {
+        Argon2Settings settings = new Argon2Settings(memoryKib, iterations, parallelism);
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = hashingExecutor.execute("hash", () -> derive(password.value(), salt, settings, HASH_LENGTH));
+        return new PasswordHash("$argon2id$v=19$m=%d,t=%d,p=%d$%s$%s".formatted(
+                settings.memoryKib(), settings.iterations(), settings.parallelism(),
+                ENCODER.encodeToString(salt), ENCODER.encodeToString(hash)));
+    }
+
+    @Override
+    public boolean verify(Password password, PasswordHash hash) {
+        if (legacyHasher.isBcryptHash(hash)) {
+            return legacyHasher.verify(password, hash);
+        }
+        Matcher matcher = PHC_HASH.matcher(hash.value());
+        if (!matcher.matches()) {
+            return false;
+        }
+        Argon2Settings settings = Argon2Settings.from(matcher);
+        byte[] salt = DECODER.decode(matcher.group(4));
+        byte[] expected = DECODER.decode(matcher.group(5));
+        byte[] actual = hashingExecutor.execute("verify",
+                () -> derive(password.value(), salt, settings, expected.length));
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    /**
+     * Only weaker hashes are upgraded: less memory, fewer iterations or a different parallelism.
+     */
+    @Override
+    public boolean needsRehash(PasswordHash hash) {
+        Matcher matcher = PHC_HASH.matcher(hash.value());
+        if (!matcher.matches()) {
+            return true;
+        }
+        Argon2Settings settings = Argon2Settings.from(matcher);
+        return settings.memoryKib() < memoryKib || settings.iterations() < iterations || settings.parallelism() != parallelism;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private static byte[] derive(String password, byte[] salt, Argon2Settings settings, int length) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withMemoryAsKB(settings.memoryKib())
+                .withIterations(settings.iterations())
+                .withParallelism(settings.parallelism())
+                .withSalt(salt)
+                .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        byte[] out = new byte[length];
+        generator.generateBytes(password.getBytes(StandardCharsets.UTF_8), out);
+        return out;
+    }
+
+    private record Argon2Settings(int memoryKib, int iterations, int parallelism) {
+
+        static Argon2Settings from(Matcher matcher) {
+            return new Argon2Settings(
+                    Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3)));
+        }
+    }
+}
@@ -4,20 +4,64 @@ import com.upkeep.application.port.out.auth.PasswordHasher;
 import com.upkeep.domain.model.customer.Password;
 import com.upkeep.domain.model.customer.PasswordHash;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.mindrot.jbcrypt.BCrypt;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt hasher with a configured cost factor, embedded in every hash ({@code $2a$<cost>$...}). The cost is shared
+ * config rather than calibrated per node, so nodes on different hardware agree on it and never rehash each other's
+ * hashes back and forth.
+ */
 @ApplicationScoped
 public class BcryptPasswordHasher implements PasswordHasher {
-    private static final int COST_FACTOR = 12;
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$.{53}$");
+
+    private final PasswordHashingExecutor hashingExecutor;
+    private final int cost;
+
+    @Inject
+    public BcryptPasswordHasher(PasswordHashingExecutor hashingExecutor,
+                                @ConfigProperty(name = "auth.password-hashing.bcrypt.cost", defaultValue = "12") int cost) {
+        this.hashingExecutor = hashingExecutor;
+        this.cost = cost;
+    }
 
     @Override
     public PasswordHash hash(Password password) {
-        String hashed = BCrypt.hashpw(password.value(), BCrypt.gensalt(COST_FACTOR));
+        String hashed = hashingExecutor.execute("hash",
+                () -> BCrypt.hashpw(password.value(), BCrypt.gensalt(cost)));
         return new PasswordHash(hashed);
     }
 
     @Override
     public boolean verify(Password password, PasswordHash hash) {
-        return BCrypt.checkpw(password.value(), hash.value());
+        return hashingExecutor.execute("verify", () -> BCrypt.checkpw(password.value(), hash.value()));
+    }
+
+    /**
+     * Only weaker hashes are upgraded; a hash made at a higher cost is kept rather than downgraded.
+     */
+    @Override
+    public boolean needsRehash(PasswordHash hash) {
+        return costOf(hash).map(hashCost -> hashCost < cost).orElse(true);
+    }
+
+    public boolean isBcryptHash(PasswordHash hash) {
+        return costOf(hash).isPresent();
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private static Optional<Integer> costOf(PasswordHash hash) {
+        Matcher matcher = BCRYPT_HASH.matcher(hash.value());
+        return matcher.matches() ? Optional.of(Integer.parseInt(matcher.group(1))) : Optional.empty();
     }
-}
\ No newline at end of file
+}
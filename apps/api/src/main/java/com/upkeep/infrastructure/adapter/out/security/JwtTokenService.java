@@ -2,29 +2,47 @@ package com.upkeep.infrastructure.adapter.out.security;
 
 import com.upkeep.application.port.out.auth.RefreshTokenRepository;
 import com.upkeep.application.port.out.auth.RefreshTokenRepository.RefreshTokenData;
+import com.upkeep.application.port.out.auth.RefreshTokenRepository.RefreshTokenSession;
 import com.upkeep.application.port.out.auth.TokenService;
-import com.upkeep.application.port.out.customer.CustomerRepository;
-import com.upkeep.domain.exception.CustomerNotFoundException;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.application.port.out.membership.MembershipVersionStore.MembershipSnapshot;
 import com.upkeep.domain.exception.InvalidRefreshTokenException;
 import com.upkeep.domain.model.customer.Customer;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.build.JwtClaimsBuilder;
+import io.smallrye.jwt.build.JwtSignatureBuilder;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.JsonNumber;
 import jakarta.transaction.Transactional;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.UUID;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class JwtTokenService implements TokenService {
 
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    static final String MEMBERSHIPS_CLAIM = "mbr";
+    static final String MEMBERSHIP_VERSION_CLAIM = "mver";
+
     private final RefreshTokenRepository refreshTokenRepository;
-    private final CustomerRepository customerRepository;
     private final JWTParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedRefreshTokenFilter revokedRefreshTokens;
+    private final AccessTokenSigningKey signingKey;
+    private final MembershipVersionStore membershipVersions;
+    private final SecureRandom secureRandom = new SecureRandom();
 
     @ConfigProperty(name = "jwt.access-token-expiry-seconds", defaultValue = "900")
     int accessTokenExpirySeconds;
@@ -32,32 +50,45 @@ public class JwtTokenService implements TokenService {
     @ConfigProperty(name = "jwt.refresh-token-expiry-seconds", defaultValue = "604800")
     int refreshTokenExpirySeconds;
 
+    /**
+     * Customers with more memberships than this get tokens without membership claims; 0 disables the claims.
+     */
+    @ConfigProperty(name = "jwt.membership-claims.max-companies", defaultValue = "50")
+    int membershipClaimsMaxCompanies;
+
     public JwtTokenService(RefreshTokenRepository refreshTokenRepository,
-                           CustomerRepository customerRepository,
-                           JWTParser jwtParser) {
+                           JWTParser jwtParser,
+                           VerifiedTokenCache verifiedTokenCache,
+                           RevokedRefreshTokenFilter revokedRefreshTokens,
+                           AccessTokenSigningKey signingKey,
+                           MembershipVersionStore membershipVersions) {
         this.refreshTokenRepository = refreshTokenRepository;
-        this.customerRepository = customerRepository;
         this.jwtParser = jwtParser;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedRefreshTokens = revokedRefreshTokens;
+        this.signingKey = signingKey;
+        this.membershipVersions = membershipVersions;
     }
 
     @Override
     public String generateAccessToken(Customer customer) {
-        return Jwt.issuer("upkeep")
-                .subject(customer.getId().value().toString())
-                .claim("email", customer.getEmail().value())
-                .claim("accountType", customer.getAccountType().name())
-                .expiresIn(Duration.ofSeconds(accessTokenExpirySeconds))
-                .sign();
+        return signAccessToken(
+                customer.getId().value().toString(),
+                customer.getEmail().value(),
+                customer.getAccountType().name()
+        );
     }
 
     @Override
     @Transactional
     public String generateRefreshToken(Customer customer) {
-        String token = UUID.randomUUID().toString();
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
         Instant expiresAt = Instant.now().plusSeconds(refreshTokenExpirySeconds);
 
         RefreshTokenData tokenData = RefreshTokenData.create(
-                token,
+                TokenDigests.sha256(token),
                 customer.getId(),
                 expiresAt
         );
@@ -68,13 +99,20 @@ public class JwtTokenService implements TokenService {
 
     @Override
     public TokenClaims validateAccessToken(String token) {
+        TokenClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
             JsonWebToken jwt = jwtParser.parse(token);
-            return new TokenClaims(
+            TokenClaims claims = new TokenClaims(
                     jwt.getSubject(),
                     jwt.getClaim("email"),
-                    jwt.getClaim("accountType")
+                    jwt.getClaim("accountType"),
+                    readMembershipClaims(jwt)
             );
+            verifiedTokenCache.put(token, claims, Instant.ofEpochSecond(jwt.getExpirationTime()));
+            return claims;
         } catch (ParseException e) {
             throw new IllegalArgumentException("Invalid or expired token", e);
         }
@@ -83,27 +121,76 @@ public class JwtTokenService implements TokenService {
     @Override
     @Transactional
     public RefreshResult refreshAccessToken(String refreshToken) {
-        RefreshTokenData tokenData = refreshTokenRepository.findByToken(refreshToken)
+        byte[] tokenHash = TokenDigests.sha256(refreshToken);
+        if (revokedRefreshTokens.mightBeRevoked(tokenHash)) {
+            throw InvalidRefreshTokenException.revoked();
+        }
+
+        RefreshTokenSession session = refreshTokenRepository.findSessionByTokenHash(tokenHash)
                 .orElseThrow(InvalidRefreshTokenException::notFound);
 
-        if (tokenData.isExpired()) {
+        if (session.isExpired()) {
             throw InvalidRefreshTokenException.expired();
         }
-        if (tokenData.isRevoked()) {
+        if (session.isRevoked()) {
+            revokedRefreshTokens.markRevoked(tokenHash);
             throw InvalidRefreshTokenException.revoked();
         }
 
-        Customer customer = customerRepository.findById(tokenData.customerId())
-                .orElseThrow(() -> new CustomerNotFoundException(tokenData.customerId().toString()));
+        String userId = session.customerId().value().toString();
+        String newAccessToken = signAccessToken(userId, session.email(), session.accountType().name());
 
-        String newAccessToken = generateAccessToken(customer);
-
-        return new RefreshResult(newAccessToken, customer.getId().value().toString());
+        return new RefreshResult(newAccessToken, userId);
     }
 
     @Override
     @Transactional
     public void revokeRefreshToken(String refreshToken) {
-        refreshTokenRepository.revokeByToken(refreshToken);
+        byte[] tokenHash = TokenDigests.sha256(refreshToken);
+        refreshTokenRepository.revokeByTokenHash(tokenHash);
+        revokedRefreshTokens.markRevoked(tokenHash);
+    }
+
+    private String signAccessToken(String subject, String email, String accountType) {
+        JwtClaimsBuilder claims = Jwt.issuer("upkeep")
+                .subject(subject)
+                .claim("email", email)
+                .claim("accountType", accountType)
+                .expiresIn(Duration.ofSeconds(accessTokenExpirySeconds));
+        if (membershipClaimsMaxCompanies > 0) {
+            MembershipSnapshot snapshot = membershipVersions.snapshot(CustomerId.from(subject));
+            if (snapshot.roles().size() <= membershipClaimsMaxCompanies) {
+                claims.claim(MEMBERSHIP_VERSION_CLAIM, snapshot.version())
+                        .claim(MEMBERSHIPS_CLAIM, encodeMemberships(snapshot));
+            }
+        }
+        JwtSignatureBuilder signature = claims
+                .jws()
+                .algorithm(signingKey.algorithm());
+        signingKey.keyId().ifPresent(signature::keyId);
+        return signature.sign(signingKey.privateKey());
+    }
+
+    private static String encodeMemberships(MembershipSnapshot snapshot) {
+        return snapshot.roles().entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue().name())
+                .collect(Collectors.joining(","));
+    }
+
+    private static MembershipClaims readMembershipClaims(JsonWebToken jwt) {
+        Object version = jwt.getClaim(MEMBERSHIP_VERSION_CLAIM);
+        String encoded = jwt.getClaim(MEMBERSHIPS_CLAIM);
+        if (version == null || encoded == null) {
+            return null;
+        }
+        Map<String, Role> roles = new HashMap<>();
+        if (!encoded.isEmpty()) {
+            for (String membership : encoded.split(",")) {
+                int separator = membership.indexOf(':');
+                roles.put(membership.substring(0, separator), Role.valueOf(membership.substring(separator + 1)));
+            }
+        }
+        long versionValue = version instanceof JsonNumber number ? number.longValue() : Long.parseLong(version.toString());
+        return new MembershipClaims(versionValue, Map.copyOf(roles));
     }
 }
@@ -0,0 +1,89 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.upkeep.domain.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated, size-limited pool so a login burst cannot starve request workers.
+ * Work beyond the pool and its bounded queue is rejected immediately with {@link ServiceBusyException}.
+ */
+@ApplicationScoped
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+
+    public PasswordHashingExecutor(@ConfigProperty(name = "auth.password-hashing.pool-size", defaultValue = "4")
+                                   int poolSize,
+                                   @ConfigProperty(name = "auth.password-hashing.queue-capacity", defaultValue = "32")
+                                   int queueCapacity,
+                                   @ConfigProperty(name = "auth.password-hashing.retry-after-seconds", defaultValue = "1")
+                                   int retryAfterSeconds,
+                                   MeterRegistry meterRegistry) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.retryAfter = Duration.ofSeconds(retryAfterSeconds);
+        this.meterRegistry = meterRegistry;
+        this.rejections = meterRegistry.counter("upkeep.password.hashing.rejected");
+        meterRegistry.gauge("upkeep.password.hashing.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("upkeep.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer timer = meterRegistry.timer("upkeep.password.hashing.duration", "operation", operation);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceBusyException("Authentication is temporarily overloaded, please retry", retryAfter);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
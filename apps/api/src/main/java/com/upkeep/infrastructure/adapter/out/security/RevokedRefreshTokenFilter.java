@@ -0,0 +1,121 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Node-local Bloom filter of revoked refresh-token digests, letting refresh reject a revoked token without
+ * a database round trip. Entries only matter until the token would have expired, so the filter keeps two
+ * generations and rotates every refresh-token lifetime instead of growing forever.
+ * A false positive rejects a valid token, which fails closed: the user signs in again.
+ */
+@ApplicationScoped
+public class RevokedRefreshTokenFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final Duration generationLifetime;
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    @Inject
+    public RevokedRefreshTokenFilter(@ConfigProperty(name = "jwt.revoked-refresh-filter.expected-insertions", defaultValue = "100000")
+                                     int expectedInsertions,
+                                     @ConfigProperty(name = "jwt.revoked-refresh-filter.false-positive-rate", defaultValue = "0.000001")
+                                     double falsePositiveRate,
+                                     @ConfigProperty(name = "jwt.refresh-token-expiry-seconds", defaultValue = "604800")
+                                     long refreshTokenExpirySeconds) {
+        this(expectedInsertions, falsePositiveRate, Duration.ofSeconds(refreshTokenExpirySeconds));
+    }
+
+    RevokedRefreshTokenFilter(int expectedInsertions, double falsePositiveRate, Duration generationLifetime) {
+        double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(bits)));
+        this.hashCount = Math.max(1, (int) Math.round(bitCount / (double) expectedInsertions * Math.log(2)));
+        this.generationLifetime = generationLifetime;
+        this.current = new Generation(bitCount, Instant.now());
+        this.previous = new Generation(bitCount, Instant.now());
+    }
+
+    /**
+     * @param tokenHash SHA-256 digest of the refresh token
+     */
+    public void markRevoked(byte[] tokenHash) {
+        rotateIfDue();
+        Generation generation = current;
+        ByteBuffer digest = ByteBuffer.wrap(tokenHash);
+        long h1 = digest.getLong(0);
+        long h2 = digest.getLong(Long.BYTES);
+        for (int i = 0; i < hashCount; i++) {
+            generation.set(index(h1, h2, i));
+        }
+    }
+
+    /**
+     * @param tokenHash SHA-256 digest of the refresh token
+     * @return {@code false} if the token was definitely not revoked on this node
+     */
+    public boolean mightBeRevoked(byte[] tokenHash) {
+        rotateIfDue();
+        ByteBuffer digest = ByteBuffer.wrap(tokenHash);
+        long h1 = digest.getLong(0);
+        long h2 = digest.getLong(Long.BYTES);
+        return contains(current, h1, h2) || contains(previous, h1, h2);
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private boolean contains(Generation generation, long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            if (!generation.get(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) bitCount);
+    }
+
+    private void rotateIfDue() {
+        if (current.createdAt().plus(generationLifetime).isAfter(Instant.now())) {
+            return;
+        }
+        synchronized (this) {
+            Instant now = Instant.now();
+            if (!current.createdAt().plus(generationLifetime).isAfter(now)) {
+                previous = current;
+                current = new Generation(bitCount, now);
+            }
+        }
+    }
+
+    private record Generation(AtomicLongArray words, Instant createdAt) {
+
+        Generation(int bitCount, Instant createdAt) {
+            this(new AtomicLongArray((bitCount + 63) / 64), createdAt);
+        }
+
+        void set(int bit) {
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long value;
+            do {
+                value = words.get(word);
+            } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+        }
+
+        boolean get(int bit) {
+            return (words.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Bounded cache of access tokens whose signature has already been verified.
+ * Entries are keyed by a SHA-256 digest of the raw token and evicted at the token's {@code exp}.
+ * A maximum size of 0 disables the cache.
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@ConfigProperty(name = "jwt.verified-token-cache.max-size", defaultValue = "10000")
+                              long maximumSize) {
+        this.cache = maximumSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
+    }
+
+    public TokenClaims get(String token) {
+        if (cache == null) {
+            return null;
+        }
+        VerifiedToken verified = cache.getIfPresent(digest(token));
+        if (verified == null || !verified.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return verified.claims();
+    }
+
+    public void put(String token, TokenClaims claims, Instant expiresAt) {
+        if (cache == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        cache.put(digest(token), new VerifiedToken(claims, expiresAt));
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        return Base64.getEncoder().withoutPadding().encodeToString(TokenDigests.sha256(token));
+    }
+
+    private record VerifiedToken(TokenClaims claims, Instant expiresAt) {}
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- V10__hash_refresh_tokens.sql
+-- Store refresh tokens as a fixed 32-byte SHA-256 digest instead of the plaintext value
+
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BYTEA;
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_tokens DROP COLUMN token;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT refresh_tokens_pkey PRIMARY KEY (token_hash);
+ALTER TABLE refresh_tokens ADD CONSTRAINT chk_refresh_tokens__token_hash_length CHECK (octet_length(token_hash) = 32);
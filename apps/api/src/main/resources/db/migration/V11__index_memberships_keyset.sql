@@ -0,0 +1,7 @@
+-- Member listing pages through a company's memberships ordered by (joined_at, id), optionally filtered by role.
+-- Both indexes keep the company-only and company+role lookups they replace.
+DROP INDEX IF EXISTS idx_memberships_company_id;
+DROP INDEX IF EXISTS idx_memberships_company_role;
+
+CREATE INDEX idx_memberships__company_id_joined_at_id ON memberships(company_id, joined_at, id);
+CREATE INDEX idx_memberships_company_role ON memberships(company_id, role, joined_at, id);
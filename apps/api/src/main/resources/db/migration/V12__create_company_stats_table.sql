@@ -0,0 +1,16 @@
+-- Per-company dashboard counters, maintained in the same transactions that change the underlying rows
+CREATE TABLE company_stats (
+    company_id UUID PRIMARY KEY REFERENCES companies(id) ON DELETE CASCADE,
+    member_count INTEGER NOT NULL DEFAULT 0,
+    has_budget BOOLEAN NOT NULL DEFAULT FALSE,
+    package_count INTEGER NOT NULL DEFAULT 0,
+    has_allocations BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO company_stats (company_id, member_count, has_budget, updated_at)
+SELECT c.id,
+       (SELECT COUNT(*) FROM memberships m WHERE m.company_id = c.id),
+       EXISTS (SELECT 1 FROM budgets b WHERE b.company_id = c.id),
+       NOW()
+FROM companies c;
@@ -0,0 +1,2 @@
+-- Bumped whenever a customer's memberships change; access tokens carry the version their membership claims were minted at
+ALTER TABLE customers ADD COLUMN membership_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Emails written in the same transaction as the change that triggers them and delivered by a background dispatcher
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    kind VARCHAR(20) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    invitation_token VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    sent_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Dispatchers only ever scan pending rows in due order; sent and failed rows stay out of the index
+CREATE INDEX idx_email_outbox_pending_due ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
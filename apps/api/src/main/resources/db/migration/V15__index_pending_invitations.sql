@@ -0,0 +1,6 @@
+-- Duplicate checks only ever look for pending invitations; accepted, declined and expired history stays out of the index
+CREATE INDEX idx_invitations_pending_company_email ON invitations(company_id, email) WHERE status = 'PENDING';
+DROP INDEX idx_invitations_company_email_status;
+
+-- Lets the expiry sweeper walk overdue pending invitations in expiry order
+CREATE INDEX idx_invitations_pending_expires_at ON invitations(expires_at) WHERE status = 'PENDING';
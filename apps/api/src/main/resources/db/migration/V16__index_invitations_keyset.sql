@@ -0,0 +1,5 @@
+-- Invitation listing pages through a company's invitations newest first by (created_at, id), optionally filtered by
+-- status. The index keeps the company-only lookups it replaces.
+DROP INDEX IF EXISTS idx_invitations_company_id;
+
+CREATE INDEX idx_invitations_company_id_created_at_id ON invitations(company_id, created_at, id);
@@ -0,0 +1,14 @@
+-- Progress of background company deletions. Kept after the company row is gone so the requester can see it finish,
+-- hence no foreign key to companies
+CREATE TABLE company_deletions (
+    company_id UUID PRIMARY KEY,
+    requested_by UUID NOT NULL,
+    step VARCHAR(20) NOT NULL,
+    rows_deleted BIGINT NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Lets the deletion job pick the oldest unfinished deletion without scanning finished ones
+CREATE INDEX idx_company_deletions_pending ON company_deletions(requested_at) WHERE completed_at IS NULL;
@@ -0,0 +1,34 @@
+-- Per-company hash chain over audit_events (NFR6). Each new event gets the next sequence of its company and a chain
+-- hash linking it to the previous event; events written before this migration stay unchained (NULL).
+-- The actor and company are part of the hash, so ON DELETE SET NULL on either shows up as a break for those events.
+ALTER TABLE audit_events ADD COLUMN sequence BIGINT;
+ALTER TABLE audit_events ADD COLUMN chain_hash VARCHAR(64);
+
+-- Serves verification, which reads a company's chain in sequence order
+CREATE INDEX idx_audit_events_company_sequence ON audit_events (company_id, sequence) WHERE sequence IS NOT NULL;
+
+-- Last link of each company's chain. Appending locks the row, which serializes a company's audit writes for the
+-- moment between the audit flush and the commit
+CREATE TABLE audit_chain_heads (
+    company_id UUID PRIMARY KEY,
+    sequence BIGINT NOT NULL,
+    chain_hash VARCHAR(64) NOT NULL
+);
+
+-- Sealed blocks of a chain: the Merkle root of the block's leaf hashes, the chain hash before and after it.
+-- No foreign key to companies, like company_deletions: retiring a chain is part of the chunked company deletion
+CREATE TABLE audit_checkpoints (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    from_sequence BIGINT NOT NULL,
+    to_sequence BIGINT NOT NULL,
+    anchor_hash VARCHAR(64) NOT NULL,
+    chain_hash VARCHAR(64) NOT NULL,
+    merkle_root VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_verified_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    UNIQUE (company_id, to_sequence)
+);
+
+-- Lets the background verifier pick each company's least recently verified checkpoints
+CREATE INDEX idx_audit_checkpoints_verified ON audit_checkpoints (company_id, last_verified_at);
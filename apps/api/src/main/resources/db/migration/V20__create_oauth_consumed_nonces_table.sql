@@ -0,0 +1,8 @@
+-- Nonces of OAuth states that have been used, shared by every node so a state cannot be replayed elsewhere.
+-- A row is only needed until its state would have expired anyway
+CREATE TABLE oauth_consumed_nonces (
+    nonce VARCHAR(32) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_oauth_consumed_nonces_expires_at ON oauth_consumed_nonces(expires_at);
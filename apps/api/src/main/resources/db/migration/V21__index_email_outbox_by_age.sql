@@ -0,0 +1,5 @@
+-- The outbox lag gauge reads the oldest pending email on every dispatch
+CREATE INDEX idx_email_outbox_pending_created ON email_outbox(created_at) WHERE status = 'PENDING';
+
+-- Sent and failed emails are purged by age; pending ones are never purged
+CREATE INDEX idx_email_outbox_finished_created ON email_outbox(created_at) WHERE status <> 'PENDING';
@@ -0,0 +1,6 @@
+-- Checkpoints whose events left audit_events with an expired partition are archived rather than deleted: they keep
+-- the detached month's hashes on record, but there is nothing attached left to recheck them against
+ALTER TABLE audit_checkpoints ADD COLUMN archived_at TIMESTAMP WITH TIME ZONE;
+
+DROP INDEX idx_audit_checkpoints_verified;
+CREATE INDEX idx_audit_checkpoints_verified ON audit_checkpoints (company_id, last_verified_at) WHERE archived_at IS NULL;
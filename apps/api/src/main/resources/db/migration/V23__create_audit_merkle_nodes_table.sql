@@ -0,0 +1,12 @@
+-- Merkle tree of each sealed block below its root, one row per node, keyed by the sequences the node covers. A range
+-- of a block is proven against the checkpoint's root with the nodes around it, at most two per level, instead of
+-- rehashing the whole block. Checkpoints sealed before this migration have no nodes and are still verified whole.
+-- The unique constraint's index serves the lookups
+CREATE TABLE audit_merkle_nodes (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    from_sequence BIGINT NOT NULL,
+    to_sequence BIGINT NOT NULL,
+    hash VARCHAR(64) NOT NULL,
+    UNIQUE (company_id, from_sequence, to_sequence)
+);
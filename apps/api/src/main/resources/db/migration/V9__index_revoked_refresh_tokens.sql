@@ -0,0 +1,2 @@
+-- Lets the purge job walk revoked tokens in revocation order without scanning live ones
+CREATE INDEX idx_refresh_tokens__revoked_at ON refresh_tokens (revoked_at) WHERE revoked_at IS NOT NULL;
@@ -2,14 +2,20 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.AcceptInvitationUseCase.AcceptInvitationCommand;
 import com.upkeep.application.port.in.AcceptInvitationUseCase.AcceptInvitationResult;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository.CompanyDeletion;
 import com.upkeep.application.port.out.company.CompanyRepository;
 import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.AlreadyMemberException;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.InvitationExpiredException;
 import com.upkeep.domain.exception.InvitationNotFoundException;
 import com.upkeep.domain.model.company.Company;
+import com.upkeep.domain.model.company.CompanyDeletionStep;
 import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.company.CompanyName;
 import com.upkeep.domain.model.company.CompanySlug;
@@ -43,8 +49,12 @@ import static org.mockito.Mockito.when;
 class AcceptInvitationUseCaseImplTest {
 
     private InvitationRepository invitationRepository;
+    private InvitationTokenCache invitationTokenCache;
     private MembershipRepository membershipRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private UserCompaniesCache userCompaniesCache;
     private CompanyRepository companyRepository;
+    private CompanyDeletionRepository companyDeletionRepository;
     private AcceptInvitationUseCaseImpl useCase;
 
     private String customerId;
@@ -54,9 +64,15 @@ class AcceptInvitationUseCaseImplTest {
     @BeforeEach
     void setUp() {
         invitationRepository = mock(InvitationRepository.class);
+        invitationTokenCache = mock(InvitationTokenCache.class);
+        when(invitationTokenCache.mightExist(any(InvitationToken.class))).thenReturn(true);
         membershipRepository = mock(MembershipRepository.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        userCompaniesCache = mock(UserCompaniesCache.class);
         companyRepository = mock(CompanyRepository.class);
-        useCase = new AcceptInvitationUseCaseImpl(invitationRepository, membershipRepository, companyRepository);
+        companyDeletionRepository = mock(CompanyDeletionRepository.class);
+        useCase = new AcceptInvitationUseCaseImpl(invitationRepository, invitationTokenCache, membershipRepository,
+                membershipRoleCache, userCompaniesCache, companyRepository, companyDeletionRepository);
 
         customerId = UUID.randomUUID().toString();
         token = "test-invitation-token";
@@ -91,6 +107,8 @@ class AcceptInvitationUseCaseImplTest {
         assertEquals(Role.MEMBER, result.role());
         assertNotNull(result.membershipId());
         verify(membershipRepository).save(any(Membership.class));
+        verify(membershipRoleCache).invalidateAfterCommit(any(CustomerId.class), any(CompanyId.class));
+        verify(userCompaniesCache).invalidateAfterCommit(any(CustomerId.class));
         verify(invitationRepository).save(any(Invitation.class));
     }
 
@@ -106,6 +124,17 @@ class AcceptInvitationUseCaseImplTest {
         verify(membershipRepository, never()).save(any(Membership.class));
     }
 
+    @Test
+    @DisplayName("should reject a token that was never issued without querying invitations")
+    void shouldRejectUnknownTokenWithoutLookup() {
+        when(invitationTokenCache.mightExist(any(InvitationToken.class))).thenReturn(false);
+
+        AcceptInvitationCommand command = new AcceptInvitationCommand(customerId, token);
+
+        assertThrows(InvitationNotFoundException.class, () -> useCase.execute(command));
+        verify(invitationRepository, never()).findByToken(any(InvitationToken.class));
+    }
+
     @Test
     @DisplayName("should throw InvitationExpiredException when invitation is expired")
     void shouldThrowInvitationExpiredWhenExpired() {
@@ -174,6 +203,26 @@ class AcceptInvitationUseCaseImplTest {
         verify(membershipRepository, never()).save(any(Membership.class));
     }
 
+    @Test
+    @DisplayName("should throw CompanyNotFoundException when the company is being deleted")
+    void shouldThrowCompanyNotFoundWhenCompanyBeingDeleted() {
+        Invitation invitation = createPendingInvitation(companyId, token, Role.MEMBER);
+        Company company = createCompany(companyId, "Test Company", "test-company");
+        CompanyId id = CompanyId.from(companyId);
+
+        when(invitationRepository.findByToken(any(InvitationToken.class)))
+                .thenReturn(Optional.of(invitation));
+        when(companyRepository.findById(any(CompanyId.class)))
+                .thenReturn(Optional.of(company));
+        when(companyDeletionRepository.findByCompanyId(id)).thenReturn(Optional.of(new CompanyDeletion(
+                id, CustomerId.generate(), CompanyDeletionStep.MEMBERSHIPS, 0, Instant.now(), null)));
+
+        AcceptInvitationCommand command = new AcceptInvitationCommand(customerId, token);
+
+        assertThrows(CompanyNotFoundException.class, () -> useCase.execute(command));
+        verify(membershipRepository, never()).save(any(Membership.class));
+    }
+
     @Test
     @DisplayName("should create membership with correct role from invitation")
     void shouldCreateMembershipWithCorrectRole() {
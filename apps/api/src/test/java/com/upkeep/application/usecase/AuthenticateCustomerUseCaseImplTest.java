@@ -120,6 +120,52 @@ class AuthenticateCustomerUseCaseImplTest {
         assertEquals("Invalid email or password", exception.getMessage());
     }
 
+    @Test
+    void shouldRehashPasswordWhenStoredHashIsOffTarget() {
+        String email = "test@example.com";
+        Customer customer = createTestCustomer(email);
+        PasswordHash upgradedHash = new PasswordHash("$2a$13$upgradedHash");
+
+        when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(customer));
+        when(passwordHasher.verify(any(Password.class), any(PasswordHash.class))).thenReturn(true);
+        when(passwordHasher.needsRehash(any(PasswordHash.class))).thenReturn(true);
+        when(passwordHasher.hash(any(Password.class))).thenReturn(upgradedHash);
+
+        useCase.execute(new AuthenticateCustomerUseCase.AuthCommand(email, "Password123"));
+
+        verify(customerRepository).updatePasswordHash(customer.getId(), upgradedHash);
+    }
+
+    @Test
+    void shouldNotRehashPasswordWhenStoredHashIsOnTarget() {
+        String email = "test@example.com";
+        Customer customer = createTestCustomer(email);
+
+        when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(customer));
+        when(passwordHasher.verify(any(Password.class), any(PasswordHash.class))).thenReturn(true);
+        when(passwordHasher.needsRehash(any(PasswordHash.class))).thenReturn(false);
+
+        useCase.execute(new AuthenticateCustomerUseCase.AuthCommand(email, "Password123"));
+
+        verify(passwordHasher, never()).hash(any());
+        verify(customerRepository, never()).updatePasswordHash(any(), any());
+    }
+
+    @Test
+    void shouldNotRehashWhenPasswordInvalid() {
+        String email = "test@example.com";
+        Customer customer = createTestCustomer(email);
+
+        when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(customer));
+        when(passwordHasher.verify(any(Password.class), any(PasswordHash.class))).thenReturn(false);
+        when(passwordHasher.needsRehash(any(PasswordHash.class))).thenReturn(true);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> useCase.execute(new AuthenticateCustomerUseCase.AuthCommand(email, "WrongPassword123")));
+
+        verify(customerRepository, never()).updatePasswordHash(any(), any());
+    }
+
     private Customer createTestCustomer(String email) {
         return Customer.reconstitute(
                 CustomerId.from(UUID.randomUUID()),
@@ -0,0 +1,160 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.BulkInviteCommand;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.BulkInviteResult;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.InviteeRow;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.RowResult;
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.RowStatus;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.notification.EmailQueue;
+import com.upkeep.application.port.out.notification.EmailQueue.InvitationEmail;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.invitation.Invitation;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BulkInviteUsersUseCaseImpl")
+class BulkInviteUsersUseCaseImplTest {
+
+    private MembershipRoleCache membershipRoleCache;
+    private InvitationRepository invitationRepository;
+    private MembershipRepository membershipRepository;
+    private EmailQueue emailQueue;
+    private BulkInviteUsersUseCaseImpl useCase;
+
+    private String customerId;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        invitationRepository = mock(InvitationRepository.class);
+        membershipRepository = mock(MembershipRepository.class);
+        emailQueue = mock(EmailQueue.class);
+        useCase = new BulkInviteUsersUseCaseImpl(membershipRoleCache, invitationRepository, membershipRepository, emailQueue);
+
+        customerId = UUID.randomUUID().toString();
+        companyId = UUID.randomUUID().toString();
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.OWNER));
+        when(invitationRepository.findEmailsWithStatus(any(CompanyId.class), anyCollection(), eq(InvitationStatus.PENDING)))
+                .thenReturn(Set.of());
+        when(membershipRepository.findMemberEmails(any(CompanyId.class), anyCollection())).thenReturn(Set.of());
+    }
+
+    @Test
+    @DisplayName("should report a status for every row and insert only new invitees")
+    @SuppressWarnings("unchecked")
+    void shouldReportEveryRow() {
+        when(invitationRepository.findEmailsWithStatus(any(CompanyId.class), anyCollection(), eq(InvitationStatus.PENDING)))
+                .thenReturn(Set.of(new Email("pending@example.com")));
+        when(membershipRepository.findMemberEmails(any(CompanyId.class), anyCollection()))
+                .thenReturn(Set.of(new Email("member@example.com")));
+
+        BulkInviteResult result = useCase.execute(command(List.of(
+                new InviteeRow("new@example.com", "member"),
+                new InviteeRow("not-an-email", null),
+                new InviteeRow("NEW@example.com", "OWNER"),
+                new InviteeRow("pending@example.com", null),
+                new InviteeRow("owner@example.com", "OWNER"),
+                new InviteeRow("odd@example.com", "ADMIN"),
+                new InviteeRow("Member@example.com", null)
+        )));
+
+        assertEquals(2, result.invited());
+        assertEquals(5, result.skipped());
+        List<RowStatus> statuses = result.rows().stream().map(RowResult::status).toList();
+        assertEquals(List.of(RowStatus.INVITED, RowStatus.INVALID, RowStatus.DUPLICATE,
+                RowStatus.ALREADY_PENDING, RowStatus.INVITED, RowStatus.INVALID, RowStatus.ALREADY_MEMBER), statuses);
+        assertEquals(3, result.rows().get(2).row());
+        assertNotNull(result.rows().get(0).invitationId());
+        assertNull(result.rows().get(3).invitationId());
+
+        ArgumentCaptor<Collection<Email>> checked = ArgumentCaptor.forClass(Collection.class);
+        verify(invitationRepository).findEmailsWithStatus(eq(CompanyId.from(companyId)), checked.capture(), eq(InvitationStatus.PENDING));
+        assertEquals(4, checked.getValue().size());
+
+        ArgumentCaptor<List<Invitation>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(invitationRepository).insertAll(inserted.capture());
+        assertEquals(List.of("new@example.com", "owner@example.com"),
+                inserted.getValue().stream().map(invitation -> invitation.getEmail().value()).toList());
+        assertEquals(Role.MEMBER, inserted.getValue().get(0).getRole());
+        assertEquals(Role.OWNER, inserted.getValue().get(1).getRole());
+
+        ArgumentCaptor<List<InvitationEmail>> queued = ArgumentCaptor.forClass(List.class);
+        verify(emailQueue).enqueueInvitationEmails(queued.capture());
+        assertEquals(inserted.getValue().get(0).getToken().value(), queued.getValue().get(0).invitationToken());
+        verify(invitationRepository, never()).save(any(Invitation.class));
+    }
+
+    @Test
+    @DisplayName("should throw UnauthorizedOperationException when inviter is not owner")
+    void shouldRequireOwner() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.MEMBER));
+
+        BulkInviteCommand command = command(List.of(new InviteeRow("a@example.com", null)));
+
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(command));
+        verify(invitationRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("should throw MembershipNotFoundException when inviter is not a member")
+    void shouldRequireMembership() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.empty());
+
+        BulkInviteCommand command = command(List.of(new InviteeRow("a@example.com", null)));
+
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(command));
+    }
+
+    @Test
+    @DisplayName("should reject empty and oversized batches")
+    void shouldRejectBatchSizeOutOfRange() {
+        BulkInviteCommand empty = command(Collections.emptyList());
+        BulkInviteCommand oversized = command(IntStream.range(0, 1001)
+                .mapToObj(i -> new InviteeRow("user" + i + "@example.com", null))
+                .toList());
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(empty));
+        assertThrows(DomainValidationException.class, () -> useCase.execute(oversized));
+    }
+
+    private BulkInviteCommand command(List<InviteeRow> rows) {
+        return new BulkInviteCommand(customerId, companyId, rows);
+    }
+}
@@ -5,10 +5,14 @@ import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyCommand;
 import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyResult;
 import com.upkeep.application.port.out.company.CompanyRepository;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.CompanySlugAlreadyExistsException;
 import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.model.company.Company;
+import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.company.CompanySlug;
+import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.membership.Membership;
 import com.upkeep.domain.model.membership.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,13 +33,18 @@ class CreateCompanyUseCaseImplTest {
 
     private CompanyRepository companyRepository;
     private MembershipRepository membershipRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private UserCompaniesCache userCompaniesCache;
     private CreateCompanyUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
         companyRepository = mock(CompanyRepository.class);
         membershipRepository = mock(MembershipRepository.class);
-        useCase = new CreateCompanyUseCaseImpl(companyRepository, membershipRepository);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        userCompaniesCache = mock(UserCompaniesCache.class);
+        useCase = new CreateCompanyUseCaseImpl(companyRepository, membershipRepository, membershipRoleCache,
+                userCompaniesCache);
     }
 
     @Test
@@ -61,6 +70,8 @@ class CreateCompanyUseCaseImplTest {
 
         verify(companyRepository).save(any(Company.class));
         verify(membershipRepository).save(any(Membership.class));
+        verify(membershipRoleCache).invalidateAfterCommit(any(CustomerId.class), any(CompanyId.class));
+        verify(userCompaniesCache).invalidateAfterCommit(any(CustomerId.class));
     }
 
     @Test
@@ -0,0 +1,220 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchCommand;
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchResult;
+import com.upkeep.application.port.out.notification.EmailKind;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.ClaimedEmail;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryOutcome;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryStatus;
+import com.upkeep.application.port.out.notification.EmailTransport;
+import com.upkeep.application.port.out.notification.EmailTransport.DeliveryResult;
+import com.upkeep.application.port.out.notification.EmailTransport.OutgoingEmail;
+import com.upkeep.domain.model.customer.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DispatchEmailOutboxUseCaseImpl")
+class DispatchEmailOutboxUseCaseImplTest {
+
+    private static final DispatchCommand COMMAND = new DispatchCommand(
+            2, 5, 3, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    private EmailOutboxRepository emailOutbox;
+    private EmailTransport emailTransport;
+    private DispatchEmailOutboxUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        emailOutbox = mock(EmailOutboxRepository.class);
+        emailTransport = mock(EmailTransport.class);
+        useCase = new DispatchEmailOutboxUseCaseImpl(emailOutbox, emailTransport);
+        when(emailOutbox.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("should send claimed batches until the outbox is drained")
+    void shouldDrainOutboxInBatches() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt()))
+                .thenReturn(claimed(2, 1), claimed(1, 1));
+        when(emailTransport.send(any(OutgoingEmail.class))).thenReturn(DeliveryResult.success());
+
+        DispatchResult result = useCase.execute(COMMAND);
+
+        assertEquals(3, result.sent());
+        assertEquals(Duration.ZERO, result.outboxLag());
+        verify(emailOutbox, times(2)).claimDue(any(Instant.class), any(Instant.class), anyInt());
+        verify(emailTransport, times(3)).send(any(OutgoingEmail.class));
+        verify(emailOutbox, never()).renewLease(anyList(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should stop after the configured number of batches")
+    void shouldStopAtMaxBatches() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt()))
+                .thenAnswer(invocation -> claimed(2, 1));
+        when(emailTransport.send(any(OutgoingEmail.class))).thenReturn(DeliveryResult.success());
+
+        DispatchResult result = useCase.execute(COMMAND);
+
+        assertEquals(10, result.sent());
+        verify(emailOutbox, times(5)).claimDue(any(Instant.class), any(Instant.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("should lease claimed emails for the configured duration")
+    void shouldLeaseClaimedEmails() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(List.of());
+
+        useCase.execute(COMMAND);
+
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> leaseUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(emailOutbox).claimDue(now.capture(), leaseUntil.capture(), anyInt());
+        assertEquals(COMMAND.lease(), Duration.between(now.getValue(), leaseUntil.getValue()));
+        verify(emailTransport, never()).send(any(OutgoingEmail.class));
+    }
+
+    @Test
+    @DisplayName("should renew the lease of unsent emails and skip those claimed by another dispatcher")
+    @SuppressWarnings("unchecked")
+    void shouldRenewLeaseDuringSlowBatch() {
+        List<ClaimedEmail> batch = claimed(3, 1);
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(batch);
+        when(emailTransport.send(any(OutgoingEmail.class))).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return DeliveryResult.success();
+        });
+        when(emailOutbox.renewLease(anyList(), any(Instant.class)))
+                .thenReturn(Set.of(batch.get(1).id()), Set.of());
+
+        // A lease this short is half gone before every email after the first
+        DispatchResult result = useCase.execute(new DispatchCommand(
+                3, 1, 3, Duration.ofMillis(2), Duration.ofSeconds(30), Duration.ofMinutes(5)));
+
+        assertEquals(2, result.sent());
+        verify(emailTransport, times(2)).send(any(OutgoingEmail.class));
+        ArgumentCaptor<List<ClaimedEmail>> renewed = ArgumentCaptor.forClass(List.class);
+        verify(emailOutbox, times(2)).renewLease(renewed.capture(), any(Instant.class));
+        assertEquals(batch.subList(1, 3), renewed.getAllValues().get(0));
+        assertEquals(batch.subList(2, 3), renewed.getAllValues().get(1));
+
+        ArgumentCaptor<List<DeliveryOutcome>> recorded = ArgumentCaptor.forClass(List.class);
+        verify(emailOutbox, times(3)).recordOutcomes(recorded.capture());
+        List<UUID> recordedIds = recorded.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(DeliveryOutcome::id)
+                .toList();
+        assertEquals(List.of(batch.get(0).id(), batch.get(1).id()), recordedIds);
+    }
+
+    @Test
+    @DisplayName("should retry transient failures with exponential backoff and give up after the last attempt")
+    void shouldRetryWithBackoff() {
+        List<ClaimedEmail> batch = List.of(claim(1), claim(2), claim(3));
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(batch);
+        when(emailTransport.send(any(OutgoingEmail.class))).thenReturn(DeliveryResult.retryable("421 busy"));
+
+        Instant before = Instant.now();
+        DispatchResult result = useCase.execute(new DispatchCommand(
+                3, 1, 3, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofMinutes(5)));
+
+        List<DeliveryOutcome> outcomes = recordedOutcomes();
+        assertEquals(2, result.retried());
+        assertEquals(1, result.failed());
+        assertEquals(DeliveryStatus.PENDING, outcomes.get(0).status());
+        assertBetween(before.plusSeconds(30), outcomes.get(0).at());
+        assertBetween(before.plusSeconds(60), outcomes.get(1).at());
+        assertEquals(DeliveryStatus.FAILED, outcomes.get(2).status());
+        assertEquals("421 busy", outcomes.get(2).error());
+    }
+
+    @Test
+    @DisplayName("should fail permanently rejected emails without retrying")
+    void shouldNotRetryRejectedEmails() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(claimed(1, 1));
+        when(emailTransport.send(any(OutgoingEmail.class))).thenReturn(DeliveryResult.rejected("550 no such user"));
+
+        DispatchResult result = useCase.execute(COMMAND);
+
+        assertEquals(1, result.failed());
+        assertEquals(DeliveryStatus.FAILED, recordedOutcomes().getFirst().status());
+    }
+
+    @Test
+    @DisplayName("should treat a transport error as a retryable failure")
+    void shouldRetryWhenTransportThrows() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(claimed(2, 1));
+        when(emailTransport.send(any(OutgoingEmail.class))).thenThrow(new IllegalStateException("boom"));
+
+        DispatchResult result = useCase.execute(COMMAND);
+
+        assertEquals(2, result.retried());
+        assertTrue(recordedOutcomes().stream().allMatch(outcome -> outcome.status() == DeliveryStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("should report the age of the oldest pending email")
+    void shouldReportOutboxLag() {
+        when(emailOutbox.claimDue(any(Instant.class), any(Instant.class), anyInt())).thenReturn(List.of());
+        when(emailOutbox.findOldestPendingCreatedAt()).thenReturn(Optional.of(Instant.now().minusSeconds(90)));
+
+        DispatchResult result = useCase.execute(COMMAND);
+
+        assertTrue(result.outboxLag().compareTo(Duration.ofSeconds(90)) >= 0);
+    }
+
+    @Test
+    @DisplayName("should double the backoff per attempt up to the maximum")
+    void shouldCapBackoff() {
+        assertEquals(Duration.ofSeconds(30), DispatchEmailOutboxUseCaseImpl.backoff(COMMAND, 1));
+        assertEquals(Duration.ofSeconds(120), DispatchEmailOutboxUseCaseImpl.backoff(COMMAND, 3));
+        assertEquals(Duration.ofMinutes(5), DispatchEmailOutboxUseCaseImpl.backoff(COMMAND, 5));
+        assertEquals(Duration.ofMinutes(5), DispatchEmailOutboxUseCaseImpl.backoff(COMMAND, 500));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DeliveryOutcome> recordedOutcomes() {
+        ArgumentCaptor<List<DeliveryOutcome>> outcomes = ArgumentCaptor.forClass(List.class);
+        verify(emailOutbox).recordOutcomes(outcomes.capture());
+        return outcomes.getValue();
+    }
+
+    private static void assertBetween(Instant expectedAfter, Instant actual) {
+        assertTrue(!actual.isBefore(expectedAfter) && actual.isBefore(expectedAfter.plusSeconds(5)),
+                "expected about " + expectedAfter + " but was " + actual);
+    }
+
+    private static List<ClaimedEmail> claimed(int count, int attempts) {
+        return IntStream.range(0, count).mapToObj(i -> claim(attempts)).toList();
+    }
+
+    private static ClaimedEmail claim(int attempts) {
+        return new ClaimedEmail(
+                UUID.randomUUID(),
+                new OutgoingEmail(EmailKind.WELCOME, new Email("user@example.com"), null),
+                attempts
+        );
+    }
+}
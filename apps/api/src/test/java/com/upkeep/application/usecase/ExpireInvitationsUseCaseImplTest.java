@@ -0,0 +1,90 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireCommand;
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireResult;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ExpireInvitationsUseCaseImpl")
+class ExpireInvitationsUseCaseImplTest {
+
+    private InvitationRepository invitationRepository;
+    private FakeClusterLock clusterLock;
+    private ExpireInvitationsUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        invitationRepository = mock(InvitationRepository.class);
+        clusterLock = new FakeClusterLock();
+        useCase = new ExpireInvitationsUseCaseImpl(invitationRepository, clusterLock);
+    }
+
+    @Test
+    @DisplayName("should expire in chunks until a chunk comes back short")
+    void shouldExpireInChunks() {
+        when(invitationRepository.expireOverdue(any(), eq(100))).thenReturn(100, 100, 17);
+
+        ExpireResult result = useCase.execute(new ExpireCommand(100, 10, Duration.ZERO));
+
+        assertTrue(result.lockAcquired());
+        assertEquals(217, result.expired());
+        verify(invitationRepository, times(3)).expireOverdue(any(), eq(100));
+        assertEquals(3, clusterLock.calls);
+        assertEquals(ExpireInvitationsUseCaseImpl.LOCK_NAME, clusterLock.lastLockName);
+    }
+
+    @Test
+    @DisplayName("should stop after the maximum number of batches")
+    void shouldStopAfterMaxBatches() {
+        when(invitationRepository.expireOverdue(any(), eq(50))).thenReturn(50);
+
+        ExpireResult result = useCase.execute(new ExpireCommand(50, 3, Duration.ZERO));
+
+        assertEquals(150, result.expired());
+        verify(invitationRepository, times(3)).expireOverdue(any(), eq(50));
+    }
+
+    @Test
+    @DisplayName("should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeld() {
+        clusterLock.available = false;
+
+        ExpireResult result = useCase.execute(new ExpireCommand(100, 10, Duration.ZERO));
+
+        assertFalse(result.lockAcquired());
+        assertEquals(0, result.expired());
+        verify(invitationRepository, never()).expireOverdue(any(), eq(100));
+    }
+
+    private static final class FakeClusterLock implements ClusterLock {
+
+        private boolean available = true;
+        private int calls;
+        private String lastLockName;
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            calls++;
+            lastLockName = lockName;
+            return available ? Optional.ofNullable(work.get()) : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase.AuditExport;
+import com.upkeep.application.port.in.audit.ExportCompanyAuditEventsUseCase.ExportCompanyAuditEventsQuery;
+import com.upkeep.application.port.out.audit.AuditEventExporter;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ExportCompanyAuditEventsUseCaseImpl")
+class ExportCompanyAuditEventsUseCaseImplTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-02-01T00:00:00Z");
+
+    private AuditEventExporter auditEventExporter;
+    private MembershipRoleCache membershipRoleCache;
+    private ExportCompanyAuditEventsUseCaseImpl useCase;
+
+    private String requesterId;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        auditEventExporter = mock(AuditEventExporter.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new ExportCompanyAuditEventsUseCaseImpl(auditEventExporter, membershipRoleCache);
+
+        requesterId = UUID.randomUUID().toString();
+        companyId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("should only start the export once the body is written")
+    void shouldExportLazily() throws Exception {
+        givenRole(Role.OWNER);
+
+        AuditExport export = useCase.execute(query(FROM, TO, AuditExportFormat.CSV));
+
+        verifyNoInteractions(auditEventExporter);
+        assertEquals("audit-" + companyId + "-20240101T000000Z-20240201T000000Z.csv", export.fileName());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.body().writeTo(out);
+
+        verify(auditEventExporter).export(CompanyId.from(companyId), FROM, TO, AuditExportFormat.CSV, out);
+    }
+
+    @Test
+    @DisplayName("should require a bounded period")
+    void shouldRequireBoundedPeriod() {
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query(null, TO, AuditExportFormat.NDJSON)));
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query(FROM, null, AuditExportFormat.NDJSON)));
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query(TO, FROM, AuditExportFormat.NDJSON)));
+    }
+
+    @Test
+    @DisplayName("should reject non-members and non-owners")
+    void shouldRejectNonOwners() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.empty());
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(query(FROM, TO, AuditExportFormat.NDJSON)));
+
+        givenRole(Role.MEMBER);
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(query(FROM, TO, AuditExportFormat.NDJSON)));
+
+        verifyNoInteractions(auditEventExporter);
+    }
+
+    private ExportCompanyAuditEventsQuery query(Instant from, Instant to, AuditExportFormat format) {
+        return new ExportCompanyAuditEventsQuery(requesterId, companyId, from, to, format);
+    }
+
+    private void givenRole(Role role) {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(role));
+    }
+}
@@ -2,11 +2,16 @@ package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase;
 import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase.BudgetSummary;
+import com.upkeep.application.port.in.budget.GetBudgetSummaryUseCase.GetBudgetSummaryQuery;
 import com.upkeep.application.port.out.budget.BudgetRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.model.budget.Budget;
 import com.upkeep.domain.model.budget.Currency;
 import com.upkeep.domain.model.budget.Money;
 import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,21 +23,43 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("GetBudgetSummaryUseCase")
 class GetBudgetSummaryUseCaseImplTest {
 
+    private static final String CUSTOMER_ID = UUID.randomUUID().toString();
+
     private BudgetRepository budgetRepository;
+    private MembershipRoleCache membershipRoleCache;
     private GetBudgetSummaryUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
         budgetRepository = mock(BudgetRepository.class);
-        useCase = new GetBudgetSummaryUseCaseImpl(budgetRepository);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new GetBudgetSummaryUseCaseImpl(budgetRepository, membershipRoleCache);
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+            .thenReturn(Optional.of(Role.MEMBER));
+    }
+
+    @Test
+    @DisplayName("should reject callers who are not members of the company")
+    void shouldRejectNonMembers() {
+        String companyId = UUID.randomUUID().toString();
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+            .thenReturn(Optional.empty());
+
+        GetBudgetSummaryQuery query = new GetBudgetSummaryQuery(companyId, CUSTOMER_ID);
+
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(query));
+        verify(budgetRepository, never()).findByCompanyId(any(CompanyId.class));
     }
 
     @Test
@@ -45,7 +72,7 @@ class GetBudgetSummaryUseCaseImplTest {
         when(budgetRepository.findByCompanyId(any(CompanyId.class)))
             .thenReturn(Optional.of(budget));
 
-        BudgetSummary summary = useCase.execute(companyId);
+        BudgetSummary summary = useCase.execute(new GetBudgetSummaryQuery(companyId, CUSTOMER_ID));
 
         assertNotNull(summary);
         assertTrue(summary.exists());
@@ -64,7 +91,7 @@ class GetBudgetSummaryUseCaseImplTest {
         when(budgetRepository.findByCompanyId(any(CompanyId.class)))
             .thenReturn(Optional.empty());
 
-        BudgetSummary summary = useCase.execute(companyId);
+        BudgetSummary summary = useCase.execute(new GetBudgetSummaryQuery(companyId, CUSTOMER_ID));
 
         assertNotNull(summary);
         assertFalse(summary.exists());
@@ -85,7 +112,7 @@ class GetBudgetSummaryUseCaseImplTest {
         when(budgetRepository.findByCompanyId(any(CompanyId.class)))
             .thenReturn(Optional.of(budget));
 
-        BudgetSummary summary = useCase.execute(companyId);
+        BudgetSummary summary = useCase.execute(new GetBudgetSummaryQuery(companyId, CUSTOMER_ID));
 
         assertEquals("USD", summary.currency());
         assertEquals(100000L, summary.totalCents());
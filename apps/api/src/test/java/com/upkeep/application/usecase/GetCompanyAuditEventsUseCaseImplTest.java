@@ -0,0 +1,155 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase.AuditEventPage;
+import com.upkeep.application.port.in.audit.GetCompanyAuditEventsUseCase.GetCompanyAuditEventsQuery;
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditEventRepository.AuditCursor;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.audit.AuditEvent;
+import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.BudgetUpdatedPayload;
+import com.upkeep.domain.model.budget.Currency;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GetCompanyAuditEventsUseCaseImpl")
+class GetCompanyAuditEventsUseCaseImplTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-02-01T00:00:00Z");
+
+    private AuditEventRepository auditEventRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private GetCompanyAuditEventsUseCaseImpl useCase;
+
+    private String requesterId;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        auditEventRepository = mock(AuditEventRepository.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new GetCompanyAuditEventsUseCaseImpl(auditEventRepository, membershipRoleCache);
+
+        requesterId = UUID.randomUUID().toString();
+        companyId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("should return the first page of audit events for an owner")
+    void shouldReturnAuditEvents() {
+        AuditEvent newest = createEvent(AuditEventType.BUDGET_UPDATED, Instant.parse("2024-01-20T00:00:00Z"));
+        AuditEvent older = createEvent(AuditEventType.BUDGET_CREATED, Instant.parse("2024-01-10T00:00:00Z"));
+
+        givenRole(Role.OWNER);
+        when(auditEventRepository.findCompanyPage(any(CompanyId.class), eq(Set.of()), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(newest, older));
+
+        AuditEventPage result = useCase.execute(new GetCompanyAuditEventsQuery(requesterId, companyId));
+
+        assertEquals(2, result.events().size());
+        assertEquals(AuditEventType.BUDGET_UPDATED, result.events().get(0).eventType());
+        assertEquals(older.getId().toString(), result.events().get(1).auditEventId());
+        assertEquals(new BudgetUpdatedPayload(100, 200, Currency.EUR), result.events().get(1).payload());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("should return a cursor that resumes after the last event of the page")
+    void shouldReturnCursorResumingAfterLastEvent() {
+        AuditEvent first = createEvent(AuditEventType.BUDGET_UPDATED, Instant.parse("2024-01-03T00:00:00.123456Z"));
+        AuditEvent second = createEvent(AuditEventType.BUDGET_UPDATED, Instant.parse("2024-01-02T00:00:00Z"));
+        AuditEvent extra = createEvent(AuditEventType.BUDGET_UPDATED, Instant.parse("2024-01-01T00:00:00Z"));
+        Set<AuditEventType> updates = Set.of(AuditEventType.BUDGET_UPDATED);
+
+        givenRole(Role.OWNER);
+        when(auditEventRepository.findCompanyPage(any(CompanyId.class), eq(updates), eq(FROM), eq(TO), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        AuditEventPage page = useCase.execute(new GetCompanyAuditEventsQuery(requesterId, companyId, updates, FROM, TO, null, 2));
+
+        assertEquals(2, page.events().size());
+        assertNotNull(page.nextCursor());
+
+        useCase.execute(new GetCompanyAuditEventsQuery(requesterId, companyId, updates, FROM, TO, page.nextCursor(), 2));
+
+        verify(auditEventRepository).findCompanyPage(CompanyId.from(companyId), updates, FROM, TO,
+                new AuditCursor(second.getTimestamp(), second.getId()), 3);
+    }
+
+    @Test
+    @DisplayName("should throw MembershipNotFoundException when requester is not a member")
+    void shouldThrowWhenRequesterNotMember() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.empty());
+
+        GetCompanyAuditEventsQuery query = new GetCompanyAuditEventsQuery(requesterId, companyId);
+
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(query));
+    }
+
+    @Test
+    @DisplayName("should only let owners view the audit trail")
+    void shouldRejectNonOwner() {
+        givenRole(Role.MEMBER);
+
+        GetCompanyAuditEventsQuery query = new GetCompanyAuditEventsQuery(requesterId, companyId);
+
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(query));
+        verify(auditEventRepository, never()).findCompanyPage(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should reject a time range that does not end after it starts")
+    void shouldRejectInvertedRange() {
+        GetCompanyAuditEventsQuery query = new GetCompanyAuditEventsQuery(requesterId, companyId, Set.of(), TO, FROM, null, 10);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        givenRole(Role.OWNER);
+
+        GetCompanyAuditEventsQuery query = new GetCompanyAuditEventsQuery(requesterId, companyId, Set.of(), null, null,
+                "not-a-cursor", 10);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
+    }
+
+    private void givenRole(Role role) {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(role));
+    }
+
+    private AuditEvent createEvent(AuditEventType type, Instant timestamp) {
+        return AuditEvent.reconstitute(AuditEventId.generate(), CompanyId.from(companyId), type, CustomerId.generate(),
+                "Budget", UUID.randomUUID().toString(), new BudgetUpdatedPayload(100, 200, Currency.EUR), timestamp);
+    }
+}
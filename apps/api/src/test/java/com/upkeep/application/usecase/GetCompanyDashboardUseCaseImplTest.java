@@ -3,7 +3,7 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase.CompanyDashboard;
 import com.upkeep.application.port.in.GetCompanyDashboardUseCase.GetCompanyDashboardQuery;
 import com.upkeep.application.port.out.company.CompanyRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.company.CompanyRepository.CompanyDashboardRow;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.model.company.Company;
@@ -11,8 +11,6 @@ import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.company.CompanyName;
 import com.upkeep.domain.model.company.CompanySlug;
 import com.upkeep.domain.model.customer.CustomerId;
-import com.upkeep.domain.model.membership.Membership;
-import com.upkeep.domain.model.membership.MembershipId;
 import com.upkeep.domain.model.membership.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,14 +23,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GetCompanyDashboardUseCaseImplTest {
 
     private CompanyRepository companyRepository;
-    private MembershipRepository membershipRepository;
     private GetCompanyDashboardUseCaseImpl useCase;
 
     private static final String CUSTOMER_ID = UUID.randomUUID().toString();
@@ -41,19 +41,13 @@ class GetCompanyDashboardUseCaseImplTest {
     @BeforeEach
     void setUp() {
         companyRepository = mock(CompanyRepository.class);
-        membershipRepository = mock(MembershipRepository.class);
-        useCase = new GetCompanyDashboardUseCaseImpl(companyRepository, membershipRepository);
+        useCase = new GetCompanyDashboardUseCaseImpl(companyRepository);
     }
 
     @Test
     void shouldReturnDashboardSuccessfully() {
-        Company company = createTestCompany();
-        Membership membership = createTestMembership(Role.OWNER);
-
-        when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.of(company));
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(membership));
-        when(membershipRepository.countByCompanyId(any(CompanyId.class))).thenReturn(2L);
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
+                .thenReturn(Optional.of(createRow(Role.OWNER, 2, false, 0, false)));
 
         GetCompanyDashboardQuery query = new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID);
 
@@ -67,10 +61,13 @@ class GetCompanyDashboardUseCaseImplTest {
         assertFalse(result.stats().hasBudget());
         assertFalse(result.stats().hasPackages());
         assertFalse(result.stats().hasAllocations());
+        verify(companyRepository, never()).findById(any(CompanyId.class));
     }
 
     @Test
     void shouldThrowWhenCompanyNotFound() {
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
+                .thenReturn(Optional.empty());
         when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.empty());
 
         GetCompanyDashboardQuery query = new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID);
@@ -85,11 +82,9 @@ class GetCompanyDashboardUseCaseImplTest {
 
     @Test
     void shouldThrowWhenUserNotMember() {
-        Company company = createTestCompany();
-
-        when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.of(company));
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
                 .thenReturn(Optional.empty());
+        when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.of(createTestCompany()));
 
         GetCompanyDashboardQuery query = new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID);
 
@@ -103,36 +98,39 @@ class GetCompanyDashboardUseCaseImplTest {
 
     @Test
     void shouldReturnCorrectTotalMembers() {
-        Company company = createTestCompany();
-        Membership membership = createTestMembership(Role.MEMBER);
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
+                .thenReturn(Optional.of(createRow(Role.MEMBER, 4, false, 0, false)));
 
-        when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.of(company));
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(membership));
-        when(membershipRepository.countByCompanyId(any(CompanyId.class))).thenReturn(4L);
-
-        GetCompanyDashboardQuery query = new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID);
-
-        CompanyDashboard result = useCase.execute(query);
+        CompanyDashboard result = useCase.execute(new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID));
 
         assertEquals(4, result.stats().totalMembers());
     }
 
     @Test
     void shouldReturnCorrectUserRoleForMember() {
-        Company company = createTestCompany();
-        Membership membership = createTestMembership(Role.MEMBER);
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
+                .thenReturn(Optional.of(createRow(Role.MEMBER, 1, false, 0, false)));
 
-        when(companyRepository.findById(any(CompanyId.class))).thenReturn(Optional.of(company));
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(membership));
-        when(membershipRepository.countByCompanyId(any(CompanyId.class))).thenReturn(1L);
+        CompanyDashboard result = useCase.execute(new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID));
 
-        GetCompanyDashboardQuery query = new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID);
+        assertEquals(Role.MEMBER, result.userRole());
+    }
 
-        CompanyDashboard result = useCase.execute(query);
+    @Test
+    void shouldReportBudgetPackagesAndAllocationsFromStats() {
+        when(companyRepository.findDashboard(any(CompanyId.class), any(CustomerId.class)))
+                .thenReturn(Optional.of(createRow(Role.OWNER, 3, true, 5, true)));
 
-        assertEquals(Role.MEMBER, result.userRole());
+        CompanyDashboard result = useCase.execute(new GetCompanyDashboardQuery(CUSTOMER_ID, COMPANY_ID));
+
+        assertTrue(result.stats().hasBudget());
+        assertTrue(result.stats().hasPackages());
+        assertTrue(result.stats().hasAllocations());
+    }
+
+    private CompanyDashboardRow createRow(Role role, int members, boolean hasBudget, int packages, boolean hasAllocations) {
+        return new CompanyDashboardRow(CompanyId.from(COMPANY_ID), "Acme Inc", "acme-inc", role,
+                members, hasBudget, packages, hasAllocations);
     }
 
     private Company createTestCompany() {
@@ -144,15 +142,4 @@ class GetCompanyDashboardUseCaseImplTest {
                 Instant.now()
         );
     }
-
-    private Membership createTestMembership(Role role) {
-        return Membership.reconstitute(
-                MembershipId.from(UUID.randomUUID()),
-                CustomerId.from(CUSTOMER_ID),
-                CompanyId.from(COMPANY_ID),
-                role,
-                Instant.now(),
-                Instant.now()
-        );
-    }
 }
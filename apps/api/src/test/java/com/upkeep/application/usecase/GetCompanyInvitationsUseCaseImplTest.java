@@ -0,0 +1,149 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase.GetCompanyInvitationsQuery;
+import com.upkeep.application.port.in.GetCompanyInvitationsUseCase.InvitationPage;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationCursor;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationRow;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GetCompanyInvitationsUseCaseImpl")
+class GetCompanyInvitationsUseCaseImplTest {
+
+    private InvitationRepository invitationRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private GetCompanyInvitationsUseCaseImpl useCase;
+
+    private String requesterId;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        invitationRepository = mock(InvitationRepository.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new GetCompanyInvitationsUseCaseImpl(invitationRepository, membershipRoleCache);
+
+        requesterId = UUID.randomUUID().toString();
+        companyId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("should return the first page of invitations for an owner")
+    void shouldReturnInvitations() {
+        InvitationRow newest = createRow("new@test.com", InvitationStatus.PENDING, Instant.parse("2024-02-01T00:00:00Z"));
+        InvitationRow older = createRow("old@test.com", InvitationStatus.ACCEPTED, Instant.parse("2024-01-01T00:00:00Z"));
+
+        givenRole(Role.OWNER);
+        when(invitationRepository.findInvitationPage(any(CompanyId.class), eq(Set.of()), isNull(), anyInt()))
+                .thenReturn(List.of(newest, older));
+
+        InvitationPage result = useCase.execute(new GetCompanyInvitationsQuery(requesterId, companyId));
+
+        assertEquals(2, result.invitations().size());
+        assertEquals("new@test.com", result.invitations().get(0).email());
+        assertEquals(older.invitationId().toString(), result.invitations().get(1).invitationId());
+        assertEquals(InvitationStatus.ACCEPTED, result.invitations().get(1).status());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("should return a cursor that resumes after the last invitation of the page")
+    void shouldReturnCursorResumingAfterLastInvitation() {
+        InvitationRow first = createRow("a@test.com", InvitationStatus.PENDING, Instant.parse("2024-01-03T00:00:00.123456Z"));
+        InvitationRow second = createRow("b@test.com", InvitationStatus.PENDING, Instant.parse("2024-01-02T00:00:00Z"));
+        InvitationRow extra = createRow("c@test.com", InvitationStatus.PENDING, Instant.parse("2024-01-01T00:00:00Z"));
+        Set<InvitationStatus> pending = Set.of(InvitationStatus.PENDING);
+
+        givenRole(Role.OWNER);
+        when(invitationRepository.findInvitationPage(any(CompanyId.class), eq(pending), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        InvitationPage page = useCase.execute(new GetCompanyInvitationsQuery(requesterId, companyId, pending, null, 2));
+
+        assertEquals(2, page.invitations().size());
+        assertNotNull(page.nextCursor());
+
+        useCase.execute(new GetCompanyInvitationsQuery(requesterId, companyId, pending, page.nextCursor(), 2));
+
+        verify(invitationRepository).findInvitationPage(CompanyId.from(companyId), pending,
+                new InvitationCursor(second.createdAt(), second.invitationId()), 3);
+    }
+
+    @Test
+    @DisplayName("should throw MembershipNotFoundException when requester is not a member")
+    void shouldThrowWhenRequesterNotMember() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.empty());
+
+        GetCompanyInvitationsQuery query = new GetCompanyInvitationsQuery(requesterId, companyId);
+
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(query));
+    }
+
+    @Test
+    @DisplayName("should only let owners view invitations")
+    void shouldRejectNonOwner() {
+        givenRole(Role.MEMBER);
+
+        GetCompanyInvitationsQuery query = new GetCompanyInvitationsQuery(requesterId, companyId);
+
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(query));
+        verify(invitationRepository, never()).findInvitationPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        givenRole(Role.OWNER);
+
+        GetCompanyInvitationsQuery query = new GetCompanyInvitationsQuery(requesterId, companyId, Set.of(), "not-a-cursor", 10);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
+    }
+
+    @Test
+    @DisplayName("should reject a limit outside the allowed range")
+    void shouldRejectOutOfRangeLimit() {
+        GetCompanyInvitationsQuery query = new GetCompanyInvitationsQuery(requesterId, companyId, Set.of(), null, 201);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
+    }
+
+    private void givenRole(Role role) {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(role));
+    }
+
+    private InvitationRow createRow(String email, InvitationStatus status, Instant createdAt) {
+        return new InvitationRow(InvitationId.generate(), email, Role.MEMBER, status, CustomerId.generate(),
+                createdAt, createdAt.plusSeconds(7 * 24 * 3600));
+    }
+}
@@ -1,13 +1,15 @@
 package com.upkeep.application.usecase;
 
 import com.upkeep.application.port.in.GetCompanyMembersUseCase.GetCompanyMembersQuery;
-import com.upkeep.application.port.in.GetCompanyMembersUseCase.MemberInfo;
-import com.upkeep.application.port.out.customer.CustomerRepository;
+import com.upkeep.application.port.in.GetCompanyMembersUseCase.MemberPage;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberCursor;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberRow;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.model.company.CompanyId;
-import com.upkeep.domain.model.customer.*;
-import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.membership.MembershipId;
 import com.upkeep.domain.model.membership.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,17 +23,23 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("GetCompanyMembersUseCaseImpl")
 class GetCompanyMembersUseCaseImplTest {
 
     private MembershipRepository membershipRepository;
-    private CustomerRepository customerRepository;
+    private MembershipRoleCache membershipRoleCache;
     private GetCompanyMembersUseCaseImpl useCase;
 
     private String requesterId;
@@ -40,8 +48,8 @@ class GetCompanyMembersUseCaseImplTest {
     @BeforeEach
     void setUp() {
         membershipRepository = mock(MembershipRepository.class);
-        customerRepository = mock(CustomerRepository.class);
-        useCase = new GetCompanyMembersUseCaseImpl(membershipRepository, customerRepository);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new GetCompanyMembersUseCaseImpl(membershipRepository, membershipRoleCache);
 
         requesterId = UUID.randomUUID().toString();
         companyId = UUID.randomUUID().toString();
@@ -50,37 +58,26 @@ class GetCompanyMembersUseCaseImplTest {
     @Test
     @DisplayName("should return list of members for company")
     void shouldReturnMembersList() {
-        Membership requesterMembership = createMembership(requesterId, companyId, Role.OWNER);
-        String member1Id = UUID.randomUUID().toString();
-        String member2Id = UUID.randomUUID().toString();
-        Membership membership1 = createMembership(member1Id, companyId, Role.OWNER);
-        Membership membership2 = createMembership(member2Id, companyId, Role.MEMBER);
-
-        Customer customer1 = createCustomer(member1Id, "user1@test.com");
-        Customer customer2 = createCustomer(member2Id, "user2@test.com");
-
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
-        when(membershipRepository.findAllByCompanyId(any(CompanyId.class)))
-                .thenReturn(List.of(membership1, membership2));
-        when(customerRepository.findById(CustomerId.from(member1Id)))
-                .thenReturn(Optional.of(customer1));
-        when(customerRepository.findById(CustomerId.from(member2Id)))
-                .thenReturn(Optional.of(customer2));
+        MemberRow row1 = createRow("user1@test.com", Role.OWNER, Instant.parse("2024-01-01T00:00:00Z"));
+        MemberRow row2 = createRow("user2@test.com", Role.MEMBER, Instant.parse("2024-01-02T00:00:00Z"));
 
-        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId);
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.OWNER));
+        when(membershipRepository.findMemberPage(any(CompanyId.class), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(row1, row2));
 
-        List<MemberInfo> result = useCase.execute(query);
+        MemberPage result = useCase.execute(new GetCompanyMembersQuery(requesterId, companyId));
 
-        assertEquals(2, result.size());
-        assertTrue(result.stream().anyMatch(m -> m.email().equals("user1@test.com")));
-        assertTrue(result.stream().anyMatch(m -> m.email().equals("user2@test.com")));
+        assertEquals(2, result.members().size());
+        assertEquals("user1@test.com", result.members().get(0).email());
+        assertEquals(row2.membershipId().toString(), result.members().get(1).membershipId());
+        assertNull(result.nextCursor());
     }
 
     @Test
     @DisplayName("should throw MembershipNotFoundException when requester is not a member")
     void shouldThrowWhenRequesterNotMember() {
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
                 .thenReturn(Optional.empty());
 
         GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId);
@@ -89,85 +86,75 @@ class GetCompanyMembersUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("should return empty list when company has no members")
-    void shouldReturnEmptyListWhenNoMembers() {
-        Membership requesterMembership = createMembership(requesterId, companyId, Role.OWNER);
-
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
-        when(membershipRepository.findAllByCompanyId(any(CompanyId.class)))
+    @DisplayName("should return empty page when company has no members")
+    void shouldReturnEmptyPageWhenNoMembers() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.OWNER));
+        when(membershipRepository.findMemberPage(any(CompanyId.class), any(), any(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
-        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId);
+        MemberPage result = useCase.execute(new GetCompanyMembersQuery(requesterId, companyId));
 
-        List<MemberInfo> result = useCase.execute(query);
-
-        assertTrue(result.isEmpty());
+        assertTrue(result.members().isEmpty());
+        assertNull(result.nextCursor());
     }
 
     @Test
-    @DisplayName("should return 'unknown' email when customer not found")
-    void shouldReturnUnknownEmailWhenCustomerNotFound() {
-        Membership requesterMembership = createMembership(requesterId, companyId, Role.OWNER);
-        String memberId = UUID.randomUUID().toString();
-        Membership membership = createMembership(memberId, companyId, Role.MEMBER);
-
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
-        when(membershipRepository.findAllByCompanyId(any(CompanyId.class)))
-                .thenReturn(List.of(membership));
-        when(customerRepository.findById(any(CustomerId.class)))
-                .thenReturn(Optional.empty());
-
-        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId);
+    @DisplayName("should allow MEMBER role to view company members")
+    void shouldAllowMemberToViewMembers() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.MEMBER));
+        when(membershipRepository.findMemberPage(any(CompanyId.class), any(), any(), anyInt()))
+                .thenReturn(List.of(createRow("owner@test.com", Role.OWNER, Instant.now())));
 
-        List<MemberInfo> result = useCase.execute(query);
+        MemberPage result = useCase.execute(new GetCompanyMembersQuery(requesterId, companyId));
 
-        assertEquals(1, result.size());
-        assertEquals("unknown", result.get(0).email());
+        assertEquals(1, result.members().size());
     }
 
     @Test
-    @DisplayName("should allow MEMBER role to view company members")
-    void shouldAllowMemberToViewMembers() {
-        Membership requesterMembership = createMembership(requesterId, companyId, Role.MEMBER);
-        Membership ownerMembership = createMembership(UUID.randomUUID().toString(), companyId, Role.OWNER);
+    @DisplayName("should return a cursor that resumes after the last member of the page")
+    void shouldReturnCursorResumingAfterLastMember() {
+        MemberRow first = createRow("a@test.com", Role.OWNER, Instant.parse("2024-01-01T00:00:00.123456Z"));
+        MemberRow second = createRow("b@test.com", Role.MEMBER, Instant.parse("2024-01-02T00:00:00Z"));
+        MemberRow extra = createRow("c@test.com", Role.MEMBER, Instant.parse("2024-01-03T00:00:00Z"));
 
-        Customer owner = createCustomer(ownerMembership.getCustomerId().toString(), "owner@test.com");
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.OWNER));
+        when(membershipRepository.findMemberPage(any(CompanyId.class), eq(Role.MEMBER), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
-        when(membershipRepository.findAllByCompanyId(any(CompanyId.class)))
-                .thenReturn(List.of(ownerMembership));
-        when(customerRepository.findById(any(CustomerId.class)))
-                .thenReturn(Optional.of(owner));
+        MemberPage page = useCase.execute(new GetCompanyMembersQuery(requesterId, companyId, Role.MEMBER, null, 2));
 
-        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId);
+        assertEquals(2, page.members().size());
+        assertNotNull(page.nextCursor());
 
-        List<MemberInfo> result = useCase.execute(query);
+        useCase.execute(new GetCompanyMembersQuery(requesterId, companyId, Role.MEMBER, page.nextCursor(), 2));
 
-        assertEquals(1, result.size());
+        verify(membershipRepository).findMemberPage(CompanyId.from(companyId), Role.MEMBER,
+                new MemberCursor(second.joinedAt(), second.membershipId()), 3);
     }
 
-    private Membership createMembership(String customerId, String companyId, Role role) {
-        return Membership.reconstitute(
-                MembershipId.generate(),
-                CustomerId.from(customerId),
-                CompanyId.from(companyId),
-                role,
-                Instant.now(),
-                Instant.now()
-        );
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(Role.OWNER));
+
+        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId, null, "not-a-cursor", 10);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
+    }
+
+    @Test
+    @DisplayName("should reject a limit outside the allowed range")
+    void shouldRejectOutOfRangeLimit() {
+        GetCompanyMembersQuery query = new GetCompanyMembersQuery(requesterId, companyId, null, null, 0);
+
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query));
     }
 
-    private Customer createCustomer(String customerId, String email) {
-        return Customer.reconstitute(
-                CustomerId.from(customerId),
-                new Email(email),
-                new PasswordHash("hashedPassword"),
-                AccountType.BOTH,
-                Instant.now(),
-                Instant.now()
-        );
+    private MemberRow createRow(String email, Role role, Instant joinedAt) {
+        return new MemberRow(MembershipId.generate(), CustomerId.generate(), email, role, joinedAt);
     }
 }
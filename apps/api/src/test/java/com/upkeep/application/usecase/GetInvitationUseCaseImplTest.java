@@ -3,7 +3,8 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.GetInvitationUseCase.GetInvitationQuery;
 import com.upkeep.application.port.in.GetInvitationUseCase.InvitationDetails;
 import com.upkeep.application.port.out.company.CompanyRepository;
-import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache.InvitationSummary;
 import com.upkeep.domain.exception.CompanyNotFoundException;
 import com.upkeep.domain.exception.InvitationNotFoundException;
 import com.upkeep.domain.model.company.Company;
@@ -38,7 +39,7 @@ import static org.mockito.Mockito.when;
 @DisplayName("GetInvitationUseCaseImpl")
 class GetInvitationUseCaseImplTest {
 
-    private InvitationRepository invitationRepository;
+    private InvitationTokenCache invitationTokenCache;
     private CompanyRepository companyRepository;
     private GetInvitationUseCaseImpl useCase;
 
@@ -47,9 +48,9 @@ class GetInvitationUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
-        invitationRepository = mock(InvitationRepository.class);
+        invitationTokenCache = mock(InvitationTokenCache.class);
         companyRepository = mock(CompanyRepository.class);
-        useCase = new GetInvitationUseCaseImpl(invitationRepository, companyRepository);
+        useCase = new GetInvitationUseCaseImpl(invitationTokenCache, companyRepository);
 
         token = "test-token";
         companyId = UUID.randomUUID().toString();
@@ -61,8 +62,8 @@ class GetInvitationUseCaseImplTest {
         Invitation invitation = createPendingInvitation(companyId, token, Role.MEMBER);
         Company company = createCompany(companyId, "Test Company", "test-company");
 
-        when(invitationRepository.findByToken(any(InvitationToken.class)))
-                .thenReturn(Optional.of(invitation));
+        when(invitationTokenCache.findByToken(any(InvitationToken.class)))
+                .thenReturn(Optional.of(summary(invitation)));
         when(companyRepository.findById(any(CompanyId.class)))
                 .thenReturn(Optional.of(company));
 
@@ -81,7 +82,7 @@ class GetInvitationUseCaseImplTest {
     @Test
     @DisplayName("should throw InvitationNotFoundException when token not found")
     void shouldThrowWhenTokenNotFound() {
-        when(invitationRepository.findByToken(any(InvitationToken.class)))
+        when(invitationTokenCache.findByToken(any(InvitationToken.class)))
                 .thenReturn(Optional.empty());
 
         GetInvitationQuery query = new GetInvitationQuery(token);
@@ -94,8 +95,8 @@ class GetInvitationUseCaseImplTest {
     void shouldThrowWhenCompanyNotFound() {
         Invitation invitation = createPendingInvitation(companyId, token, Role.MEMBER);
 
-        when(invitationRepository.findByToken(any(InvitationToken.class)))
-                .thenReturn(Optional.of(invitation));
+        when(invitationTokenCache.findByToken(any(InvitationToken.class)))
+                .thenReturn(Optional.of(summary(invitation)));
         when(companyRepository.findById(any(CompanyId.class)))
                 .thenReturn(Optional.empty());
 
@@ -110,8 +111,8 @@ class GetInvitationUseCaseImplTest {
         Invitation expiredInvitation = createExpiredInvitation(companyId, token);
         Company company = createCompany(companyId, "Test Company", "test-company");
 
-        when(invitationRepository.findByToken(any(InvitationToken.class)))
-                .thenReturn(Optional.of(expiredInvitation));
+        when(invitationTokenCache.findByToken(any(InvitationToken.class)))
+                .thenReturn(Optional.of(summary(expiredInvitation)));
         when(companyRepository.findById(any(CompanyId.class)))
                 .thenReturn(Optional.of(company));
 
@@ -128,8 +129,8 @@ class GetInvitationUseCaseImplTest {
         Invitation acceptedInvitation = createAcceptedInvitation(companyId, token);
         Company company = createCompany(companyId, "Test Company", "test-company");
 
-        when(invitationRepository.findByToken(any(InvitationToken.class)))
-                .thenReturn(Optional.of(acceptedInvitation));
+        when(invitationTokenCache.findByToken(any(InvitationToken.class)))
+                .thenReturn(Optional.of(summary(acceptedInvitation)));
         when(companyRepository.findById(any(CompanyId.class)))
                 .thenReturn(Optional.of(company));
 
@@ -185,6 +186,11 @@ class GetInvitationUseCaseImplTest {
         );
     }
 
+    private InvitationSummary summary(Invitation invitation) {
+        return new InvitationSummary(invitation.getId(), invitation.getCompanyId(), invitation.getRole(),
+                invitation.getStatus(), invitation.getExpiresAt());
+    }
+
     private Company createCompany(String companyId, String name, String slug) {
         return Company.reconstitute(
                 CompanyId.from(companyId),
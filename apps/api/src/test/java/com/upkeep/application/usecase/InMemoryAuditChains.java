@@ -0,0 +1,234 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.domain.model.audit.AuditChain;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.audit.MerkleNode;
+import com.upkeep.domain.model.audit.MerkleSpan;
+import com.upkeep.domain.model.company.CompanyId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AuditChainRepository} over in-memory chains, with helpers to append events and tamper with them.
+ */
+final class InMemoryAuditChains implements AuditChainRepository {
+
+    private final Map<CompanyId, TreeMap<Long, Row>> rows = new ConcurrentHashMap<>();
+    private final Map<CompanyId, AuditChainLink> heads = new ConcurrentHashMap<>();
+    private final Map<CompanyId, ConcurrentSkipListMap<Long, AuditCheckpoint>> checkpoints = new ConcurrentHashMap<>();
+    private final Map<CompanyId, Set<Long>> archived = new ConcurrentHashMap<>();
+    private final Set<CompanyId> retiring = ConcurrentHashMap.newKeySet();
+    private final Map<CompanyId, Map<MerkleSpan, String>> merkleNodes = new ConcurrentHashMap<>();
+    private final AtomicLong entriesRead = new AtomicLong();
+
+    void append(CompanyId companyId, int count, Instant start) {
+        for (int i = 0; i < count; i++) {
+            AuditChainLink head = heads.getOrDefault(companyId, new AuditChainLink(0, AuditChain.GENESIS));
+            long sequence = head.sequence() + 1;
+            String leafHash = leaf(companyId + "/" + sequence);
+            String chainHash = AuditChain.link(head.chainHash(), leafHash);
+            rows.computeIfAbsent(companyId, id -> new TreeMap<>())
+                    .put(sequence, new Row(leafHash, chainHash, start.plusSeconds(i)));
+            heads.put(companyId, new AuditChainLink(sequence, chainHash));
+        }
+    }
+
+    /**
+     * Edits an event's content without touching any stored hash.
+     */
+    void editContent(CompanyId companyId, long sequence) {
+        rows.get(companyId).computeIfPresent(sequence, (key, row) -> new Row(leaf("edited"), row.chainHash(), row.timestamp()));
+    }
+
+    /**
+     * Edits an event and rewrites every chain hash after it, as someone covering their tracks would.
+     */
+    void rewriteFrom(CompanyId companyId, long sequence) {
+        TreeMap<Long, Row> chain = rows.get(companyId);
+        String previous = sequence == 1 ? AuditChain.GENESIS : chain.get(sequence - 1).chainHash();
+        for (Map.Entry<Long, Row> entry : chain.tailMap(sequence).entrySet()) {
+            String leafHash = entry.getKey() == sequence ? leaf("rewritten") : entry.getValue().leafHash();
+            previous = AuditChain.link(previous, leafHash);
+            entry.setValue(new Row(leafHash, previous, entry.getValue().timestamp()));
+        }
+        heads.put(companyId, new AuditChainLink(chain.lastKey(), previous));
+    }
+
+    void remove(CompanyId companyId, long sequence) {
+        rows.get(companyId).remove(sequence);
+    }
+
+    /**
+     * Drops every event with {@code from <= timestamp < to}, like detaching their audit partition.
+     */
+    void detach(Instant from, Instant to) {
+        rows.values().forEach(chain -> chain.values()
+                .removeIf(row -> !row.timestamp().isBefore(from) && row.timestamp().isBefore(to)));
+    }
+
+    /**
+     * Deletes the company's chain as soon as its entries are read, like a company deletion committing mid-verification.
+     */
+    void retireOnNextRead(CompanyId companyId) {
+        retiring.add(companyId);
+    }
+
+    /**
+     * Forgets the company's Merkle nodes, like checkpoints sealed before nodes were stored.
+     */
+    void dropMerkleNodes(CompanyId companyId) {
+        merkleNodes.remove(companyId);
+    }
+
+    long entriesRead() {
+        return entriesRead.get();
+    }
+
+    List<AuditCheckpoint> checkpoints(CompanyId companyId) {
+        return List.copyOf(checkpoints.getOrDefault(companyId, new ConcurrentSkipListMap<>()).values());
+    }
+
+    boolean isArchived(AuditCheckpoint checkpoint) {
+        return archived.getOrDefault(checkpoint.companyId(), Set.of()).contains(checkpoint.toSequence());
+    }
+
+    @Override
+    public Optional<AuditChainLink> findHead(CompanyId companyId) {
+        return Optional.ofNullable(heads.get(companyId));
+    }
+
+    @Override
+    public List<CompanyId> findChainedCompanies() {
+        return List.copyOf(heads.keySet());
+    }
+
+    @Override
+    public List<AuditChainEntry> findEntries(CompanyId companyId, long fromSequence, long toSequence) {
+        if (retiring.remove(companyId)) {
+            deleteChain(companyId);
+        }
+        TreeMap<Long, Row> chain = rows.getOrDefault(companyId, new TreeMap<>());
+        List<AuditChainEntry> entries = new ArrayList<>();
+        chain.subMap(fromSequence, true, toSequence, true)
+                .forEach((sequence, row) -> entries.add(new AuditChainEntry(sequence, row.leafHash(), row.chainHash())));
+        entriesRead.addAndGet(entries.size());
+        return entries;
+    }
+
+    @Override
+    public Optional<SequenceRange> findSequenceRange(CompanyId companyId, Instant from, Instant to) {
+        List<Long> sequences = rows.getOrDefault(companyId, new TreeMap<>()).entrySet().stream()
+                .filter(entry -> from == null || !entry.getValue().timestamp().isBefore(from))
+                .filter(entry -> to == null || entry.getValue().timestamp().isBefore(to))
+                .map(Map.Entry::getKey)
+                .toList();
+        return sequences.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new SequenceRange(sequences.getFirst(), sequences.getLast()));
+    }
+
+    @Override
+    public Map<CompanyId, Long> findLastSequences(Instant from, Instant to) {
+        Map<CompanyId, Long> last = new HashMap<>();
+        rows.forEach((companyId, chain) -> chain.forEach((sequence, row) -> {
+            if (!row.timestamp().isBefore(from) && row.timestamp().isBefore(to)) {
+                last.merge(companyId, sequence, Math::max);
+            }
+        }));
+        return last;
+    }
+
+    @Override
+    public Optional<AuditCheckpoint> findLatestCheckpoint(CompanyId companyId) {
+        ConcurrentSkipListMap<Long, AuditCheckpoint> sealed = checkpoints.get(companyId);
+        return sealed == null || sealed.isEmpty() ? Optional.empty() : Optional.of(sealed.lastEntry().getValue());
+    }
+
+    @Override
+    public List<AuditCheckpoint> findCheckpoints(CompanyId companyId, long fromSequence, long toSequence) {
+        return checkpoints(companyId).stream()
+                .filter(checkpoint -> checkpoint.toSequence() >= fromSequence && checkpoint.fromSequence() <= toSequence)
+                .filter(checkpoint -> !isArchived(checkpoint))
+                .toList();
+    }
+
+    @Override
+    public List<AuditCheckpoint> findLeastRecentlyVerified(CompanyId companyId, int limit) {
+        return checkpoints(companyId).stream()
+                .filter(checkpoint -> !isArchived(checkpoint))
+                .sorted(Comparator.comparing(AuditCheckpoint::lastVerifiedAt).thenComparing(AuditCheckpoint::toSequence))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void saveCheckpoint(AuditCheckpoint checkpoint, List<MerkleNode> nodes) {
+        checkpoints.computeIfAbsent(checkpoint.companyId(), id -> new ConcurrentSkipListMap<>())
+                .put(checkpoint.toSequence(), checkpoint);
+        Map<MerkleSpan, String> stored = merkleNodes.computeIfAbsent(checkpoint.companyId(), id -> new ConcurrentHashMap<>());
+        nodes.forEach(node -> stored.put(node.span(), node.hash()));
+    }
+
+    @Override
+    public List<MerkleNode> findMerkleNodes(CompanyId companyId, Collection<MerkleSpan> spans) {
+        Map<MerkleSpan, String> stored = merkleNodes.getOrDefault(companyId, Map.of());
+        return spans.stream()
+                .filter(stored::containsKey)
+                .map(span -> new MerkleNode(span, stored.get(span)))
+                .toList();
+    }
+
+    @Override
+    public void markVerified(CompanyId companyId, long toSequence, Instant verifiedAt) {
+        checkpoints.get(companyId).computeIfPresent(toSequence, (key, checkpoint) -> new AuditCheckpoint(
+                checkpoint.companyId(), checkpoint.fromSequence(), checkpoint.toSequence(), checkpoint.anchorHash(),
+                checkpoint.chainHash(), checkpoint.merkleRoot(), checkpoint.createdAt(), verifiedAt));
+    }
+
+    @Override
+    public void archiveCheckpoints(CompanyId companyId, long throughSequence, Instant archivedAt) {
+        checkpoints(companyId).stream()
+                .filter(checkpoint -> checkpoint.fromSequence() <= throughSequence)
+                .forEach(checkpoint -> {
+                    archived.computeIfAbsent(companyId, id -> ConcurrentHashMap.newKeySet()).add(checkpoint.toSequence());
+                    merkleNodes.getOrDefault(companyId, new HashMap<>()).keySet()
+                            .removeIf(span -> span.toSequence() <= checkpoint.toSequence());
+                });
+    }
+
+    @Override
+    public int deleteChain(CompanyId companyId) {
+        archived.remove(companyId);
+        Map<Long, AuditCheckpoint> removed = checkpoints.remove(companyId);
+        return (heads.remove(companyId) != null ? 1 : 0) + (removed != null ? removed.size() : 0);
+    }
+
+    @Override
+    public int deleteMerkleNodesChunk(CompanyId companyId, int limit) {
+        Map<MerkleSpan, String> stored = merkleNodes.getOrDefault(companyId, new HashMap<>());
+        List<MerkleSpan> chunk = stored.keySet().stream().limit(limit).toList();
+        chunk.forEach(stored::remove);
+        return chunk.size();
+    }
+
+    private static String leaf(String content) {
+        return HexFormat.of().formatHex(AuditChain.sha256().digest(content.getBytes()));
+    }
+
+    private record Row(String leafHash, String chainHash, Instant timestamp) {}
+}
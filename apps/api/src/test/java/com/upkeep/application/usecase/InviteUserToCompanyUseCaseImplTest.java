@@ -3,8 +3,9 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase.InviteCommand;
 import com.upkeep.application.port.in.InviteUserToCompanyUseCase.InviteResult;
 import com.upkeep.application.port.out.invitation.InvitationRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
-import com.upkeep.application.port.out.notification.EmailService;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.notification.EmailQueue;
+import com.upkeep.application.port.out.notification.EmailQueue.InvitationEmail;
 import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.exception.InvitationAlreadyExistsException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,9 +35,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("InviteUserToCompanyUseCaseImpl")
 class InviteUserToCompanyUseCaseImplTest {
 
-    private MembershipRepository membershipRepository;
+    private MembershipRoleCache membershipRoleCache;
     private InvitationRepository invitationRepository;
-    private EmailService emailService;
+    private EmailQueue emailQueue;
     private InviteUserToCompanyUseCaseImpl useCase;
 
     private String inviterId;
@@ -44,10 +46,10 @@ class InviteUserToCompanyUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
-        membershipRepository = mock(MembershipRepository.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
         invitationRepository = mock(InvitationRepository.class);
-        emailService = mock(EmailService.class);
-        useCase = new InviteUserToCompanyUseCaseImpl(membershipRepository, invitationRepository, emailService);
+        emailQueue = mock(EmailQueue.class);
+        useCase = new InviteUserToCompanyUseCaseImpl(membershipRoleCache, invitationRepository, emailQueue);
 
         inviterId = UUID.randomUUID().toString();
         companyId = UUID.randomUUID().toString();
@@ -59,8 +61,8 @@ class InviteUserToCompanyUseCaseImplTest {
     void shouldCreateInvitationSuccessfully() {
         Membership ownerMembership = createOwnerMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(invitationRepository.existsByCompanyIdAndEmailAndStatus(any(CompanyId.class), any(Email.class), eq(InvitationStatus.PENDING)))
                 .thenReturn(false);
         when(invitationRepository.save(any(Invitation.class)))
@@ -78,7 +80,7 @@ class InviteUserToCompanyUseCaseImplTest {
         assertNotNull(result.expiresAt());
 
         verify(invitationRepository).save(any(Invitation.class));
-        verify(emailService).sendInvitationEmail(any(Email.class), anyString());
+        verify(emailQueue).enqueueInvitationEmails(anyList());
     }
 
     @Test
@@ -86,8 +88,8 @@ class InviteUserToCompanyUseCaseImplTest {
     void shouldThrowUnauthorizedWhenInviterNotOwner() {
         Membership memberMembership = createMemberMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(memberMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(memberMembership.getRole()));
 
         InviteCommand command = new InviteCommand(inviterId, companyId, inviteeEmail, Role.MEMBER);
 
@@ -97,13 +99,13 @@ class InviteUserToCompanyUseCaseImplTest {
         );
         assertEquals("Only owners can invite members", exception.getMessage());
         verify(invitationRepository, never()).save(any(Invitation.class));
-        verify(emailService, never()).sendInvitationEmail(any(Email.class), anyString());
+        verify(emailQueue, never()).enqueueInvitationEmails(anyList());
     }
 
     @Test
     @DisplayName("should throw MembershipNotFoundException when inviter is not a member")
     void shouldThrowMembershipNotFoundWhenInviterNotMember() {
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
                 .thenReturn(Optional.empty());
 
         InviteCommand command = new InviteCommand(inviterId, companyId, inviteeEmail, Role.MEMBER);
@@ -117,8 +119,8 @@ class InviteUserToCompanyUseCaseImplTest {
     void shouldThrowInvitationAlreadyExistsWhenPendingExists() {
         Membership ownerMembership = createOwnerMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(invitationRepository.existsByCompanyIdAndEmailAndStatus(any(CompanyId.class), any(Email.class), eq(InvitationStatus.PENDING)))
                 .thenReturn(true);
 
@@ -137,8 +139,8 @@ class InviteUserToCompanyUseCaseImplTest {
     void shouldCreateInvitationWithOwnerRole() {
         Membership ownerMembership = createOwnerMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(invitationRepository.existsByCompanyIdAndEmailAndStatus(any(CompanyId.class), any(Email.class), eq(InvitationStatus.PENDING)))
                 .thenReturn(false);
         when(invitationRepository.save(any(Invitation.class)))
@@ -152,12 +154,12 @@ class InviteUserToCompanyUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("should send invitation email with correct token")
+    @DisplayName("should queue invitation email with correct token")
     void shouldSendEmailWithCorrectToken() {
         Membership ownerMembership = createOwnerMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(invitationRepository.existsByCompanyIdAndEmailAndStatus(any(CompanyId.class), any(Email.class), eq(InvitationStatus.PENDING)))
                 .thenReturn(false);
         when(invitationRepository.save(any(Invitation.class)))
@@ -167,12 +169,12 @@ class InviteUserToCompanyUseCaseImplTest {
 
         useCase.execute(command);
 
-        ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
-        ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
-        verify(emailService).sendInvitationEmail(emailCaptor.capture(), tokenCaptor.capture());
+        ArgumentCaptor<List<InvitationEmail>> queued = ArgumentCaptor.forClass(List.class);
+        verify(emailQueue).enqueueInvitationEmails(queued.capture());
 
-        assertEquals(inviteeEmail, emailCaptor.getValue().value());
-        assertNotNull(tokenCaptor.getValue());
+        assertEquals(1, queued.getValue().size());
+        assertEquals(inviteeEmail, queued.getValue().getFirst().email().value());
+        assertNotNull(queued.getValue().getFirst().invitationToken());
     }
 
     @Test
@@ -180,8 +182,8 @@ class InviteUserToCompanyUseCaseImplTest {
     void shouldThrowIllegalArgumentForInvalidEmail() {
         Membership ownerMembership = createOwnerMembership(inviterId, companyId);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
 
         InviteCommand command = new InviteCommand(inviterId, companyId, "invalid-email", Role.MEMBER);
 
@@ -0,0 +1,169 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainCommand;
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainResult;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyCommand;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyResult;
+import com.upkeep.application.port.out.audit.AuditPartitionManager;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.company.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MaintainAuditPartitionsUseCaseImpl")
+class MaintainAuditPartitionsUseCaseImplTest {
+
+    private AuditPartitionManager partitionManager;
+    private InMemoryAuditChains auditChains;
+    private FakeClusterLock clusterLock;
+    private MaintainAuditPartitionsUseCaseImpl useCase;
+    private YearMonth current;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = mock(AuditPartitionManager.class);
+        auditChains = new InMemoryAuditChains();
+        clusterLock = new FakeClusterLock();
+        useCase = new MaintainAuditPartitionsUseCaseImpl(partitionManager, auditChains, clusterLock);
+        current = YearMonth.now(ZoneOffset.UTC);
+    }
+
+    @Test
+    @DisplayName("should create the partitions of the coming months under the lock")
+    void shouldCreatePartitionsAhead() {
+        when(partitionManager.createPartitions(current, current.plusMonths(3))).thenReturn(List.of(current.plusMonths(3)));
+
+        MaintainResult result = useCase.execute(new MaintainCommand(3, 0, 4));
+
+        assertTrue(result.lockAcquired());
+        assertEquals(List.of(current.plusMonths(3)), result.created());
+        assertTrue(result.detached().isEmpty());
+        assertEquals(MaintainAuditPartitionsUseCaseImpl.LOCK_NAME, clusterLock.lastLockName);
+        verify(partitionManager, never()).detachPartition(any());
+    }
+
+    @Test
+    @DisplayName("should count the consecutive months covered from the current one")
+    void shouldReportMonthsCovered() {
+        when(partitionManager.createPartitions(any(), any())).thenReturn(List.of());
+        when(partitionManager.findAttachedPartitions())
+                .thenReturn(List.of(current.minusMonths(1), current, current.plusMonths(1), current.plusMonths(3)));
+
+        assertEquals(2, useCase.execute(new MaintainCommand(3, 0, 4)).monthsCovered());
+
+        when(partitionManager.findAttachedPartitions()).thenReturn(List.of(current.minusMonths(1)));
+        assertEquals(0, useCase.execute(new MaintainCommand(3, 0, 4)).monthsCovered());
+    }
+
+    @Test
+    @DisplayName("should detach only the partitions older than the retention")
+    void shouldDetachExpiredPartitions() {
+        YearMonth expired = current.minusMonths(13);
+        YearMonth oldestKept = current.minusMonths(12);
+        when(partitionManager.createPartitions(any(), any())).thenReturn(List.of());
+        when(partitionManager.findAttachedPartitions()).thenReturn(List.of(expired, oldestKept, current));
+        when(partitionManager.detachPartition(expired)).thenReturn(true);
+
+        MaintainResult result = useCase.execute(new MaintainCommand(3, 12, 4));
+
+        assertEquals(List.of(expired), result.detached());
+        verify(partitionManager, never()).detachPartition(oldestKept);
+        verify(partitionManager, never()).detachPartition(current);
+    }
+
+    @Test
+    @DisplayName("should seal and archive the checkpoints of a month before detaching it")
+    void shouldArchiveCheckpointsBeforeDetaching() {
+        YearMonth expired = current.minusMonths(13);
+        CompanyId companyId = CompanyId.generate();
+        auditChains.append(companyId, 5, start(expired).plusSeconds(60));
+        auditChains.append(companyId, 3, start(current));
+        when(partitionManager.createPartitions(any(), any())).thenReturn(List.of());
+        when(partitionManager.findAttachedPartitions()).thenReturn(List.of(expired, current));
+        when(partitionManager.detachPartition(expired)).thenAnswer(invocation -> {
+            auditChains.detach(start(expired), start(expired.plusMonths(1)));
+            return true;
+        });
+
+        MaintainResult result = useCase.execute(new MaintainCommand(3, 12, 2));
+
+        assertEquals(List.of(expired), result.detached());
+        List<AuditCheckpoint> checkpoints = auditChains.checkpoints(companyId);
+        assertEquals(List.of(2L, 4L, 5L), checkpoints.stream().map(AuditCheckpoint::toSequence).toList());
+        assertTrue(checkpoints.stream().allMatch(auditChains::isArchived));
+
+        VerifyResult verified = new VerifyAuditChainsUseCaseImpl(auditChains, clusterLock)
+                .execute(new VerifyCommand(1, 2, 10, 64));
+        assertTrue(verified.breaks().isEmpty(), () -> verified.breaks().toString());
+        assertEquals(0, verified.checkpointsRechecked());
+        assertTrue(auditChains.findLeastRecentlyVerified(companyId, 10).stream().noneMatch(auditChains::isArchived));
+    }
+
+    @Test
+    @DisplayName("should keep a month attached while a company's chain is being verified")
+    void shouldKeepPartitionWhileChainIsLocked() {
+        YearMonth expired = current.minusMonths(13);
+        CompanyId companyId = CompanyId.generate();
+        auditChains.append(companyId, 3, start(expired));
+        when(partitionManager.createPartitions(any(), any())).thenReturn(List.of());
+        when(partitionManager.findAttachedPartitions()).thenReturn(List.of(expired, current));
+        clusterLock.busy.add(VerifyAuditChainsUseCaseImpl.LOCK_PREFIX + companyId);
+
+        MaintainResult result = useCase.execute(new MaintainCommand(3, 12, 2));
+
+        assertTrue(result.lockAcquired());
+        assertTrue(result.detached().isEmpty());
+        assertTrue(auditChains.checkpoints(companyId).isEmpty());
+        verify(partitionManager, never()).detachPartition(any());
+    }
+
+    @Test
+    @DisplayName("should leave the partitions alone when another node holds the lock")
+    void shouldSkipWhenLockIsHeld() {
+        clusterLock.available = false;
+
+        MaintainResult result = useCase.execute(new MaintainCommand(3, 12, 4));
+
+        assertFalse(result.lockAcquired());
+        assertEquals(0, result.monthsCovered());
+        verify(partitionManager, never()).createPartitions(any(), any());
+        verify(partitionManager, never()).detachPartition(any());
+    }
+
+    private static final class FakeClusterLock implements ClusterLock {
+
+        private final Set<String> busy = new HashSet<>();
+        private boolean available = true;
+        private String lastLockName;
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            lastLockName = lockName;
+            return available && !busy.contains(lockName) ? Optional.ofNullable(work.get()) : Optional.empty();
+        }
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
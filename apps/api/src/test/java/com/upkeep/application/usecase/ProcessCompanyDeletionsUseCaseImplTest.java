@@ -0,0 +1,211 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessCommand;
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessResult;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.budget.BudgetRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProcessCompanyDeletionsUseCaseImpl")
+class ProcessCompanyDeletionsUseCaseImplTest {
+
+    private InMemoryCompanyDeletions deletions;
+    private MembershipRepository membershipRepository;
+    private InvitationRepository invitationRepository;
+    private BudgetRepository budgetRepository;
+    private AuditEventRepository auditEventRepository;
+    private AuditChainRepository auditChainRepository;
+    private CompanyRepository companyRepository;
+    private FakeClusterLock clusterLock;
+    private ProcessCompanyDeletionsUseCaseImpl useCase;
+
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        deletions = new InMemoryCompanyDeletions();
+        membershipRepository = mock(MembershipRepository.class);
+        invitationRepository = mock(InvitationRepository.class);
+        budgetRepository = mock(BudgetRepository.class);
+        auditEventRepository = mock(AuditEventRepository.class);
+        auditChainRepository = mock(AuditChainRepository.class);
+        companyRepository = mock(CompanyRepository.class);
+        clusterLock = new FakeClusterLock();
+        useCase = new ProcessCompanyDeletionsUseCaseImpl(deletions, membershipRepository, invitationRepository,
+                budgetRepository, auditEventRepository, auditChainRepository, companyRepository, clusterLock);
+
+        companyId = CompanyId.generate();
+        deletions.create(companyId, CustomerId.generate(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("should remove every step in chunks and finish with the company row")
+    void shouldDeleteStepByStep() {
+        when(membershipRepository.deleteChunkByCompanyId(companyId, 100)).thenReturn(100, 30);
+        when(invitationRepository.deleteChunkByCompanyId(companyId, 100)).thenReturn(100, 100, 0);
+        when(budgetRepository.deleteChunkByCompanyId(companyId, 100)).thenReturn(2);
+        when(auditChainRepository.deleteChain(companyId)).thenReturn(5);
+        when(auditChainRepository.deleteMerkleNodesChunk(companyId, 100)).thenReturn(100, 10);
+        when(auditEventRepository.detachChunkFromCompany(companyId, 100)).thenReturn(100, 57);
+
+        ProcessResult result = useCase.execute(new ProcessCommand(100, 50, Duration.ZERO));
+
+        assertTrue(result.lockAcquired());
+        assertEquals(1, result.companiesDeleted());
+        assertEquals(605, result.rowsDeleted());
+        verify(membershipRepository, times(2)).deleteChunkByCompanyId(companyId, 100);
+        verify(invitationRepository, times(3)).deleteChunkByCompanyId(companyId, 100);
+        verify(auditChainRepository, times(1)).deleteChain(companyId);
+        verify(auditChainRepository, times(2)).deleteMerkleNodesChunk(companyId, 100);
+        verify(auditEventRepository, times(2)).detachChunkFromCompany(companyId, 100);
+        verify(companyRepository).delete(companyId);
+        CompanyDeletionRepository.CompanyDeletion deletion = deletions.findByCompanyId(companyId).orElseThrow();
+        assertEquals(CompanyDeletionStep.COMPLETED, deletion.step());
+        assertEquals(605, deletion.rowsDeleted());
+        assertNotNull(deletion.completedAt());
+        assertEquals(ProcessCompanyDeletionsUseCaseImpl.LOCK_NAME, clusterLock.lastLockName);
+    }
+
+    @Test
+    @DisplayName("should resume from the recorded step after the run budget runs out")
+    void shouldResumeFromRecordedStep() {
+        when(membershipRepository.deleteChunkByCompanyId(companyId, 10)).thenReturn(10, 10, 10, 4);
+
+        useCase.execute(new ProcessCommand(10, 2, Duration.ZERO));
+
+        CompanyDeletionRepository.CompanyDeletion paused = deletions.findByCompanyId(companyId).orElseThrow();
+        assertEquals(CompanyDeletionStep.MEMBERSHIPS, paused.step());
+        assertEquals(20, paused.rowsDeleted());
+
+        useCase.execute(new ProcessCommand(10, 100, Duration.ZERO));
+
+        verify(membershipRepository, times(4)).deleteChunkByCompanyId(companyId, 10);
+        verify(invitationRepository).deleteChunkByCompanyId(companyId, 10);
+        assertEquals(CompanyDeletionStep.COMPLETED, deletions.findByCompanyId(companyId).orElseThrow().step());
+    }
+
+    @Test
+    @DisplayName("should finish the company row even with a batch size of one")
+    void shouldFinishWithSingleRowBatches() {
+        useCase.execute(new ProcessCommand(1, 100, Duration.ZERO));
+
+        verify(companyRepository, times(1)).delete(companyId);
+        assertEquals(CompanyDeletionStep.COMPLETED, deletions.findByCompanyId(companyId).orElseThrow().step());
+    }
+
+    @Test
+    @DisplayName("should go idle once no deletion is pending")
+    void shouldStopWhenIdle() {
+        useCase.execute(new ProcessCommand(100, 100, Duration.ZERO));
+        int callsAfterFirstRun = clusterLock.calls;
+
+        ProcessResult result = useCase.execute(new ProcessCommand(100, 100, Duration.ZERO));
+
+        assertTrue(result.lockAcquired());
+        assertEquals(0, result.rowsDeleted());
+        assertEquals(callsAfterFirstRun + 1, clusterLock.calls);
+    }
+
+    @Test
+    @DisplayName("should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeld() {
+        clusterLock.available = false;
+
+        ProcessResult result = useCase.execute(new ProcessCommand(100, 10, Duration.ZERO));
+
+        assertFalse(result.lockAcquired());
+        verify(membershipRepository, never()).deleteChunkByCompanyId(any(), anyInt());
+        assertEquals(CompanyDeletionStep.MEMBERSHIPS, deletions.findByCompanyId(companyId).orElseThrow().step());
+    }
+
+    @Test
+    @DisplayName("should work through deletions oldest first")
+    void shouldProcessOldestFirst() {
+        CompanyId newer = CompanyId.generate();
+        deletions.create(newer, CustomerId.generate(), Instant.now().plusSeconds(60));
+
+        useCase.execute(new ProcessCommand(100, 7, Duration.ZERO));
+
+        verify(companyRepository).delete(companyId);
+        verify(companyRepository, never()).delete(eq(newer));
+    }
+
+    private static final class InMemoryCompanyDeletions implements CompanyDeletionRepository {
+
+        private final Map<CompanyId, CompanyDeletion> deletions = new LinkedHashMap<>();
+
+        @Override
+        public CompanyDeletion create(CompanyId companyId, CustomerId requestedBy, Instant requestedAt) {
+            CompanyDeletion deletion = new CompanyDeletion(companyId, requestedBy, CompanyDeletionStep.MEMBERSHIPS, 0,
+                    requestedAt, null);
+            deletions.put(companyId, deletion);
+            return deletion;
+        }
+
+        @Override
+        public Optional<CompanyDeletion> findByCompanyId(CompanyId companyId) {
+            return Optional.ofNullable(deletions.get(companyId));
+        }
+
+        @Override
+        public Optional<CompanyDeletion> findNextPending() {
+            return deletions.values().stream()
+                    .filter(deletion -> deletion.completedAt() == null)
+                    .min(Comparator.comparing(CompanyDeletion::requestedAt));
+        }
+
+        @Override
+        public void recordProgress(CompanyId companyId, CompanyDeletionStep step, int rowsDeleted, Instant at) {
+            CompanyDeletion current = deletions.get(companyId);
+            deletions.put(companyId, new CompanyDeletion(companyId, current.requestedBy(), step,
+                    current.rowsDeleted() + rowsDeleted, current.requestedAt(),
+                    step == CompanyDeletionStep.COMPLETED ? at : null));
+        }
+    }
+
+    private static final class FakeClusterLock implements ClusterLock {
+
+        private boolean available = true;
+        private int calls;
+        private String lastLockName;
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            calls++;
+            lastLockName = lockName;
+            return available ? Optional.ofNullable(work.get()) : Optional.empty();
+        }
+    }
+}
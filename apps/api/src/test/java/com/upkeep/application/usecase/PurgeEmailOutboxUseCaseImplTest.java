@@ -0,0 +1,64 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeEmailOutboxUseCase.PurgeCommand;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PurgeEmailOutboxUseCaseImpl")
+class PurgeEmailOutboxUseCaseImplTest {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private PurgeEmailOutboxUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        useCase = new PurgeEmailOutboxUseCaseImpl(emailOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("should delete chunks until one comes back short")
+    void shouldDeleteUntilShortChunk() {
+        when(emailOutboxRepository.deleteFinishedBefore(any(Instant.class), eq(100))).thenReturn(100, 100, 40);
+
+        assertEquals(240, useCase.execute(new PurgeCommand(RETENTION, 100, 10)));
+        verify(emailOutboxRepository, times(3)).deleteFinishedBefore(any(Instant.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("should only purge emails older than the retention")
+    void shouldPurgeOlderThanRetention() {
+        Instant before = Instant.now();
+
+        useCase.execute(new PurgeCommand(RETENTION, 100, 10));
+
+        verify(emailOutboxRepository).deleteFinishedBefore(
+                argThat(cutoff -> !cutoff.isAfter(Instant.now().minus(RETENTION)) && !cutoff.isBefore(before.minus(RETENTION))),
+                eq(100));
+    }
+
+    @Test
+    @DisplayName("should stop after the configured number of chunks")
+    void shouldStopAtMaxBatches() {
+        when(emailOutboxRepository.deleteFinishedBefore(any(Instant.class), eq(100))).thenReturn(100);
+
+        assertEquals(200, useCase.execute(new PurgeCommand(RETENTION, 100, 2)));
+        verify(emailOutboxRepository, times(2)).deleteFinishedBefore(any(Instant.class), eq(100));
+    }
+}
@@ -0,0 +1,48 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeOAuthNoncesUseCase.PurgeCommand;
+import com.upkeep.application.port.out.oauth.OAuthNonceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PurgeOAuthNoncesUseCaseImpl")
+class PurgeOAuthNoncesUseCaseImplTest {
+
+    private OAuthNonceRepository oauthNonceRepository;
+    private PurgeOAuthNoncesUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        oauthNonceRepository = mock(OAuthNonceRepository.class);
+        useCase = new PurgeOAuthNoncesUseCaseImpl(oauthNonceRepository);
+    }
+
+    @Test
+    @DisplayName("should delete chunks until one comes back short")
+    void shouldDeleteUntilShortChunk() {
+        when(oauthNonceRepository.deleteExpired(any(Instant.class), eq(100))).thenReturn(100, 100, 40);
+
+        assertEquals(240, useCase.execute(new PurgeCommand(100, 10)));
+        verify(oauthNonceRepository, times(3)).deleteExpired(any(Instant.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("should stop after the configured number of chunks")
+    void shouldStopAtMaxBatches() {
+        when(oauthNonceRepository.deleteExpired(any(Instant.class), eq(100))).thenReturn(100);
+
+        assertEquals(200, useCase.execute(new PurgeCommand(100, 2)));
+        verify(oauthNonceRepository, times(2)).deleteExpired(any(Instant.class), eq(100));
+    }
+}
@@ -0,0 +1,102 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeCommand;
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeResult;
+import com.upkeep.application.port.out.auth.RefreshTokenRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PurgeRefreshTokensUseCaseImpl")
+class PurgeRefreshTokensUseCaseImplTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private FakeClusterLock clusterLock;
+    private PurgeRefreshTokensUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        clusterLock = new FakeClusterLock();
+        useCase = new PurgeRefreshTokensUseCaseImpl(refreshTokenRepository, clusterLock);
+    }
+
+    @Test
+    @DisplayName("should delete expired then revoked tokens until a chunk comes back short")
+    void shouldDeleteInChunks() {
+        when(refreshTokenRepository.deleteExpiredTokens(any(), eq(100))).thenReturn(100, 100, 42);
+        when(refreshTokenRepository.deleteRevokedTokens(any(), eq(100))).thenReturn(7);
+
+        PurgeResult result = useCase.execute(new PurgeCommand(100, 10, Duration.ZERO));
+
+        assertTrue(result.lockAcquired());
+        assertEquals(242, result.expiredDeleted());
+        assertEquals(7, result.revokedDeleted());
+        assertEquals(249, result.totalDeleted());
+        verify(refreshTokenRepository, times(3)).deleteExpiredTokens(any(), eq(100));
+        assertEquals(4, clusterLock.calls);
+    }
+
+    @Test
+    @DisplayName("should stop after the maximum number of batches")
+    void shouldStopAfterMaxBatches() {
+        when(refreshTokenRepository.deleteExpiredTokens(any(), eq(50))).thenReturn(50);
+
+        PurgeResult result = useCase.execute(new PurgeCommand(50, 3, Duration.ZERO));
+
+        assertEquals(150, result.expiredDeleted());
+        verify(refreshTokenRepository, times(3)).deleteExpiredTokens(any(), eq(50));
+        verify(refreshTokenRepository, never()).deleteRevokedTokens(any(), eq(50));
+    }
+
+    @Test
+    @DisplayName("should skip the run when another node holds the lock")
+    void shouldSkipWhenLockHeld() {
+        clusterLock.available = false;
+
+        PurgeResult result = useCase.execute(new PurgeCommand(100, 10, Duration.ZERO));
+
+        assertFalse(result.lockAcquired());
+        assertEquals(0, result.totalDeleted());
+        verify(refreshTokenRepository, never()).deleteExpiredTokens(any(), eq(100));
+        verify(refreshTokenRepository, never()).deleteRevokedTokens(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("should use the refresh token purge lock")
+    void shouldUsePurgeLock() {
+        useCase.execute(new PurgeCommand(100, 10, Duration.ZERO));
+
+        assertEquals(PurgeRefreshTokensUseCaseImpl.LOCK_NAME, clusterLock.lastLockName);
+    }
+
+    private static final class FakeClusterLock implements ClusterLock {
+
+        private boolean available = true;
+        private int calls;
+        private String lastLockName;
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            calls++;
+            lastLockName = lockName;
+            return available ? Optional.ofNullable(work.get()) : Optional.empty();
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.RegisterCustomerUseCase;
 import com.upkeep.application.port.out.auth.PasswordHasher;
 import com.upkeep.application.port.out.customer.CustomerRepository;
-import com.upkeep.application.port.out.notification.EmailService;
+import com.upkeep.application.port.out.notification.EmailQueue;
 import com.upkeep.domain.exception.CustomerAlreadyExistsException;
 import com.upkeep.domain.exception.DomainValidationException;
 import com.upkeep.domain.model.customer.AccountType;
@@ -27,15 +27,15 @@ class RegisterCustomerUseCaseImplTest {
 
     private CustomerRepository customerRepository;
     private PasswordHasher passwordHasher;
-    private EmailService emailService;
+    private EmailQueue emailQueue;
     private RegisterCustomerUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
         customerRepository = mock(CustomerRepository.class);
         passwordHasher = mock(PasswordHasher.class);
-        emailService = mock(EmailService.class);
-        useCase = new RegisterCustomerUseCaseImpl(customerRepository, passwordHasher, emailService);
+        emailQueue = mock(EmailQueue.class);
+        useCase = new RegisterCustomerUseCaseImpl(customerRepository, passwordHasher, emailQueue);
     }
 
     @Test
@@ -63,7 +63,7 @@ class RegisterCustomerUseCaseImplTest {
         assertNotNull(result.customerId());
 
         verify(customerRepository).save(any(Customer.class));
-        verify(emailService).sendWelcomeEmail(any(Email.class));
+        verify(emailQueue).enqueueWelcomeEmail(any(Email.class));
     }
 
     @Test
@@ -0,0 +1,116 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.CompanyDeletionStatus;
+import com.upkeep.application.port.in.RequestCompanyDeletionUseCase.RequestCompanyDeletionCommand;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository.CompanyDeletion;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyDeletionStep;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RequestCompanyDeletionUseCaseImpl")
+class RequestCompanyDeletionUseCaseImplTest {
+
+    private CompanyDeletionRepository companyDeletionRepository;
+    private MembershipRepository membershipRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private UserCompaniesCache userCompaniesCache;
+    private MembershipVersionStore membershipVersions;
+    private RequestCompanyDeletionUseCaseImpl useCase;
+
+    private CustomerId ownerId;
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        companyDeletionRepository = mock(CompanyDeletionRepository.class);
+        membershipRepository = mock(MembershipRepository.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        userCompaniesCache = mock(UserCompaniesCache.class);
+        membershipVersions = mock(MembershipVersionStore.class);
+        useCase = new RequestCompanyDeletionUseCaseImpl(companyDeletionRepository, membershipRepository, membershipRoleCache,
+                userCompaniesCache, membershipVersions);
+
+        ownerId = CustomerId.generate();
+        companyId = CompanyId.generate();
+        when(companyDeletionRepository.findByCompanyId(companyId)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("should record the deletion and hide the company from every member")
+    void shouldRequestDeletion() {
+        when(membershipRoleCache.findRole(ownerId, companyId)).thenReturn(Optional.of(Role.OWNER));
+        when(companyDeletionRepository.create(any(), any(), any())).thenReturn(pending(ownerId));
+        List<CustomerId> members = List.of(ownerId, CustomerId.generate());
+        when(membershipRepository.findCustomerIdsByCompanyId(companyId)).thenReturn(members);
+
+        CompanyDeletionStatus status = useCase.execute(command(ownerId));
+
+        assertEquals(companyId.toString(), status.companyId());
+        assertEquals(CompanyDeletionStep.MEMBERSHIPS, status.step());
+        verify(companyDeletionRepository).create(any(), any(), any());
+        verify(membershipVersions).bumpVersions(members);
+        verify(membershipRoleCache).invalidateAllAfterCommit(companyId, members);
+        verify(userCompaniesCache).invalidateAllAfterCommit(members);
+    }
+
+    @Test
+    @DisplayName("should return the deletion in progress when the requester asks again")
+    void shouldBeIdempotentForRequester() {
+        CompanyDeletion inProgress = pending(ownerId);
+        when(companyDeletionRepository.findByCompanyId(companyId)).thenReturn(Optional.of(inProgress));
+
+        CompanyDeletionStatus status = useCase.execute(command(ownerId));
+
+        assertEquals(inProgress.requestedAt(), status.requestedAt());
+        verify(companyDeletionRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should only let owners delete the company")
+    void shouldRejectNonOwner() {
+        CustomerId memberId = CustomerId.generate();
+        when(membershipRoleCache.findRole(memberId, companyId)).thenReturn(Optional.of(Role.MEMBER));
+
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(command(memberId)));
+        verify(companyDeletionRepository, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should throw MembershipNotFoundException when requester is not a member")
+    void shouldRejectNonMember() {
+        when(membershipRoleCache.findRole(ownerId, companyId)).thenReturn(Optional.empty());
+
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(command(ownerId)));
+    }
+
+    private RequestCompanyDeletionCommand command(CustomerId customerId) {
+        return new RequestCompanyDeletionCommand(customerId.toString(), companyId.toString());
+    }
+
+    private CompanyDeletion pending(CustomerId requestedBy) {
+        return new CompanyDeletion(companyId, requestedBy, CompanyDeletionStep.MEMBERSHIPS, 0, Instant.now(), null);
+    }
+}
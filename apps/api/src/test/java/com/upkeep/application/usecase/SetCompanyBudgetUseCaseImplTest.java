@@ -3,9 +3,9 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase.SetBudgetCommand;
 import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase.SetBudgetResult;
-import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditLog;
 import com.upkeep.application.port.out.budget.BudgetRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
 import com.upkeep.domain.exception.BudgetAlreadyExistsException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -37,19 +37,19 @@ import static org.mockito.Mockito.when;
 class SetCompanyBudgetUseCaseImplTest {
 
     private BudgetRepository budgetRepository;
-    private AuditEventRepository auditEventRepository;
-    private MembershipRepository membershipRepository;
+    private AuditLog auditLog;
+    private MembershipRoleCache membershipRoleCache;
     private SetCompanyBudgetUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
         budgetRepository = mock(BudgetRepository.class);
-        auditEventRepository = mock(AuditEventRepository.class);
-        membershipRepository = mock(MembershipRepository.class);
+        auditLog = mock(AuditLog.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
         useCase = new SetCompanyBudgetUseCaseImpl(
             budgetRepository,
-            auditEventRepository,
-            membershipRepository
+            auditLog,
+            membershipRoleCache
         );
     }
 
@@ -62,10 +62,10 @@ class SetCompanyBudgetUseCaseImplTest {
         Currency currency = Currency.EUR;
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
             any(CustomerId.class),
             any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         SetBudgetCommand command = new SetBudgetCommand(companyId, userId, amountCents, currency);
 
@@ -77,7 +77,7 @@ class SetCompanyBudgetUseCaseImplTest {
         assertEquals(currency.name(), result.currency());
 
         verify(budgetRepository).save(any(Budget.class));
-        verify(auditEventRepository).save(any(AuditEvent.class));
+        verify(auditLog).record(any(AuditEvent.class));
     }
 
     @Test
@@ -86,7 +86,7 @@ class SetCompanyBudgetUseCaseImplTest {
         String companyId = UUID.randomUUID().toString();
         String userId = UUID.randomUUID().toString();
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
             any(CustomerId.class),
             any(CompanyId.class)
         )).thenReturn(Optional.empty());
@@ -96,7 +96,7 @@ class SetCompanyBudgetUseCaseImplTest {
         assertThrows(MembershipNotFoundException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     @Test
@@ -106,17 +106,17 @@ class SetCompanyBudgetUseCaseImplTest {
         String userId = UUID.randomUUID().toString();
 
         Membership memberMembership = createMemberMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
             any(CustomerId.class),
             any(CompanyId.class)
-        )).thenReturn(Optional.of(memberMembership));
+        )).thenReturn(Optional.of(memberMembership.getRole()));
 
         SetBudgetCommand command = new SetBudgetCommand(companyId, userId, 50000L, Currency.EUR);
 
         assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     @Test
@@ -126,10 +126,10 @@ class SetCompanyBudgetUseCaseImplTest {
         String userId = UUID.randomUUID().toString();
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
             any(CustomerId.class),
             any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         SetBudgetCommand command = new SetBudgetCommand(companyId, userId, 100000L, Currency.USD);
 
@@ -146,10 +146,10 @@ class SetCompanyBudgetUseCaseImplTest {
         String userId = UUID.randomUUID().toString();
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
             any(CustomerId.class),
             any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         // Mock that a budget already exists for the current month
         Budget existingBudget = mock(Budget.class);
@@ -163,7 +163,7 @@ class SetCompanyBudgetUseCaseImplTest {
         assertThrows(BudgetAlreadyExistsException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     private Membership createOwnerMembership(String userId, String companyId) {
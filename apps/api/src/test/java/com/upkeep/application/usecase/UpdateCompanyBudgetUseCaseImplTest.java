@@ -3,9 +3,9 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase.UpdateBudgetCommand;
 import com.upkeep.application.port.in.budget.UpdateCompanyBudgetUseCase.UpdateBudgetResult;
-import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.audit.AuditLog;
 import com.upkeep.application.port.out.budget.BudgetRepository;
-import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
 import com.upkeep.domain.exception.BudgetNotFoundException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -38,19 +38,19 @@ import static org.mockito.Mockito.when;
 class UpdateCompanyBudgetUseCaseImplTest {
 
     private BudgetRepository budgetRepository;
-    private AuditEventRepository auditEventRepository;
-    private MembershipRepository membershipRepository;
+    private AuditLog auditLog;
+    private MembershipRoleCache membershipRoleCache;
     private UpdateCompanyBudgetUseCase useCase;
 
     @BeforeEach
     void setUp() {
         budgetRepository = mock(BudgetRepository.class);
-        auditEventRepository = mock(AuditEventRepository.class);
-        membershipRepository = mock(MembershipRepository.class);
+        auditLog = mock(AuditLog.class);
+        membershipRoleCache = mock(MembershipRoleCache.class);
         useCase = new UpdateCompanyBudgetUseCaseImpl(
                 budgetRepository,
-                auditEventRepository,
-                membershipRepository
+                auditLog,
+                membershipRoleCache
         );
     }
 
@@ -62,10 +62,10 @@ class UpdateCompanyBudgetUseCaseImplTest {
         long newAmountCents = 100000L;
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         Budget existingBudget = Budget.create(
                 CompanyId.from(companyId),
@@ -90,7 +90,7 @@ class UpdateCompanyBudgetUseCaseImplTest {
         assertEquals(0L, result.currentAllocationsCents());
 
         verify(budgetRepository).save(any(Budget.class));
-        verify(auditEventRepository).save(any(AuditEvent.class));
+        verify(auditLog).record(any(AuditEvent.class));
     }
 
     @Test
@@ -99,7 +99,7 @@ class UpdateCompanyBudgetUseCaseImplTest {
         String companyId = UUID.randomUUID().toString();
         String userId = UUID.randomUUID().toString();
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
         )).thenReturn(Optional.empty());
@@ -114,7 +114,7 @@ class UpdateCompanyBudgetUseCaseImplTest {
         assertThrows(MembershipNotFoundException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     @Test
@@ -124,10 +124,10 @@ class UpdateCompanyBudgetUseCaseImplTest {
         String userId = UUID.randomUUID().toString();
 
         Membership memberMembership = createMemberMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
-        )).thenReturn(Optional.of(memberMembership));
+        )).thenReturn(Optional.of(memberMembership.getRole()));
 
         UpdateBudgetCommand command = new UpdateBudgetCommand(
                 companyId,
@@ -139,7 +139,7 @@ class UpdateCompanyBudgetUseCaseImplTest {
         assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     @Test
@@ -149,10 +149,10 @@ class UpdateCompanyBudgetUseCaseImplTest {
         String userId = UUID.randomUUID().toString();
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         when(budgetRepository.findByCompanyId(any(CompanyId.class)))
                 .thenReturn(Optional.empty());
@@ -167,7 +167,7 @@ class UpdateCompanyBudgetUseCaseImplTest {
         assertThrows(BudgetNotFoundException.class, () -> useCase.execute(command));
 
         verify(budgetRepository, never()).save(any(Budget.class));
-        verify(auditEventRepository, never()).save(any(AuditEvent.class));
+        verify(auditLog, never()).record(any(AuditEvent.class));
     }
 
     @Test
@@ -178,10 +178,10 @@ class UpdateCompanyBudgetUseCaseImplTest {
         long newAmountCents = 10000L;
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         Budget existingBudget = Budget.create(
                 CompanyId.from(companyId),
@@ -212,10 +212,10 @@ class UpdateCompanyBudgetUseCaseImplTest {
         long newAmountCents = 100000L;
 
         Membership ownerMembership = createOwnerMembership(userId, companyId);
-        when(membershipRepository.findByCustomerIdAndCompanyId(
+        when(membershipRoleCache.findRole(
                 any(CustomerId.class),
                 any(CompanyId.class)
-        )).thenReturn(Optional.of(ownerMembership));
+        )).thenReturn(Optional.of(ownerMembership.getRole()));
 
         Budget existingBudget = Budget.create(
                 CompanyId.from(companyId),
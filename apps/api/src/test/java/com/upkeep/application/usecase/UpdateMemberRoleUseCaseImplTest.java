@@ -3,6 +3,8 @@ package com.upkeep.application.usecase;
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase.UpdateMemberRoleCommand;
 import com.upkeep.application.port.in.UpdateMemberRoleUseCase.UpdateMemberRoleResult;
 import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.application.port.out.membership.UserCompaniesCache;
 import com.upkeep.domain.exception.LastOwnerException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
@@ -32,6 +34,8 @@ import static org.mockito.Mockito.when;
 class UpdateMemberRoleUseCaseImplTest {
 
     private MembershipRepository membershipRepository;
+    private MembershipRoleCache membershipRoleCache;
+    private UserCompaniesCache userCompaniesCache;
     private UpdateMemberRoleUseCaseImpl useCase;
 
     private String ownerId;
@@ -42,7 +46,9 @@ class UpdateMemberRoleUseCaseImplTest {
     @BeforeEach
     void setUp() {
         membershipRepository = mock(MembershipRepository.class);
-        useCase = new UpdateMemberRoleUseCaseImpl(membershipRepository);
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        userCompaniesCache = mock(UserCompaniesCache.class);
+        useCase = new UpdateMemberRoleUseCaseImpl(membershipRepository, membershipRoleCache, userCompaniesCache);
 
         ownerId = UUID.randomUUID().toString();
         companyId = UUID.randomUUID().toString();
@@ -56,8 +62,8 @@ class UpdateMemberRoleUseCaseImplTest {
         Membership ownerMembership = createMembership(ownerId, companyId, Role.OWNER);
         Membership targetMembership = createMembershipWithId(targetMembershipId, UUID.randomUUID().toString(), companyId, Role.MEMBER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(membershipRepository.findById(any(MembershipId.class)))
                 .thenReturn(Optional.of(targetMembership));
         when(membershipRepository.save(any(Membership.class)))
@@ -74,6 +80,8 @@ class UpdateMemberRoleUseCaseImplTest {
         assertEquals(Role.MEMBER, result.previousRole());
         assertEquals(Role.OWNER, result.newRole());
         verify(membershipRepository).save(any(Membership.class));
+        verify(membershipRoleCache).invalidateAfterCommit(targetMembership.getCustomerId(), companyIdObj);
+        verify(userCompaniesCache).invalidateAfterCommit(targetMembership.getCustomerId());
     }
 
     @Test
@@ -82,8 +90,8 @@ class UpdateMemberRoleUseCaseImplTest {
         Membership requesterMembership = createMembership(ownerId, companyId, Role.OWNER);
         Membership targetMembership = createMembershipWithId(targetMembershipId, UUID.randomUUID().toString(), companyId, Role.OWNER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(requesterMembership.getRole()));
         when(membershipRepository.findById(any(MembershipId.class)))
                 .thenReturn(Optional.of(targetMembership));
         when(membershipRepository.countByCompanyIdAndRole(companyIdObj, Role.OWNER))
@@ -108,8 +116,8 @@ class UpdateMemberRoleUseCaseImplTest {
         Membership requesterMembership = createMembership(ownerId, companyId, Role.OWNER);
         Membership targetMembership = createMembershipWithId(targetMembershipId, ownerId, companyId, Role.OWNER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(requesterMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(requesterMembership.getRole()));
         when(membershipRepository.findById(any(MembershipId.class)))
                 .thenReturn(Optional.of(targetMembership));
         when(membershipRepository.countByCompanyIdAndRole(companyIdObj, Role.OWNER))
@@ -128,8 +136,8 @@ class UpdateMemberRoleUseCaseImplTest {
     void shouldThrowUnauthorizedWhenRequesterIsNotOwner() {
         Membership memberMembership = createMembership(ownerId, companyId, Role.MEMBER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(memberMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(memberMembership.getRole()));
 
         UpdateMemberRoleCommand command = new UpdateMemberRoleCommand(
                 ownerId, companyId, targetMembershipId, Role.OWNER
@@ -146,7 +154,7 @@ class UpdateMemberRoleUseCaseImplTest {
     @Test
     @DisplayName("should throw MembershipNotFoundException when requester is not a member")
     void shouldThrowMembershipNotFoundWhenRequesterNotMember() {
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
                 .thenReturn(Optional.empty());
 
         UpdateMemberRoleCommand command = new UpdateMemberRoleCommand(
@@ -161,8 +169,8 @@ class UpdateMemberRoleUseCaseImplTest {
     void shouldThrowMembershipNotFoundWhenTargetNotFound() {
         Membership ownerMembership = createMembership(ownerId, companyId, Role.OWNER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(membershipRepository.findById(any(MembershipId.class)))
                 .thenReturn(Optional.empty());
 
@@ -180,8 +188,8 @@ class UpdateMemberRoleUseCaseImplTest {
         Membership ownerMembership = createMembership(ownerId, companyId, Role.OWNER);
         Membership targetMembership = createMembershipWithId(targetMembershipId, UUID.randomUUID().toString(), differentCompanyId, Role.MEMBER);
 
-        when(membershipRepository.findByCustomerIdAndCompanyId(any(CustomerId.class), any(CompanyId.class)))
-                .thenReturn(Optional.of(ownerMembership));
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class)))
+                .thenReturn(Optional.of(ownerMembership.getRole()));
         when(membershipRepository.findById(any(MembershipId.class)))
                 .thenReturn(Optional.of(targetMembership));
 
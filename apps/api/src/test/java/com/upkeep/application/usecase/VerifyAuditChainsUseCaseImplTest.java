@@ -0,0 +1,189 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyCommand;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyResult;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.company.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("VerifyAuditChainsUseCaseImpl")
+class VerifyAuditChainsUseCaseImplTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final VerifyCommand COMMAND = new VerifyCommand(4, 4, 2, 64);
+
+    private InMemoryAuditChains chains;
+    private FakeClusterLock clusterLock;
+    private VerifyAuditChainsUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        chains = new InMemoryAuditChains();
+        clusterLock = new FakeClusterLock();
+        useCase = new VerifyAuditChainsUseCaseImpl(chains, clusterLock);
+    }
+
+    @Test
+    @DisplayName("should seal each full block of an intact tail and leave the rest for later")
+    void shouldSealFullBlocks() {
+        CompanyId companyId = CompanyId.generate();
+        chains.append(companyId, 10, START);
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(1, result.companiesVerified());
+        assertEquals(2, result.checkpointsSealed());
+        assertTrue(result.breaks().isEmpty());
+        List<AuditCheckpoint> sealed = chains.checkpoints(companyId);
+        assertEquals(List.of(4L, 8L), sealed.stream().map(AuditCheckpoint::toSequence).toList());
+        assertEquals(sealed.get(0).chainHash(), sealed.get(1).anchorHash());
+
+        chains.append(companyId, 2, START.plusSeconds(10));
+        assertEquals(1, useCase.execute(COMMAND).checkpointsSealed());
+    }
+
+    @Test
+    @DisplayName("should seal a long tail a bounded number of blocks per run, each in its own lock call")
+    void shouldSealLongTailOverRuns() {
+        CompanyId companyId = CompanyId.generate();
+        chains.append(companyId, 20, START);
+        VerifyCommand bounded = new VerifyCommand(1, 4, 2, 2);
+
+        VerifyResult first = useCase.execute(bounded);
+
+        assertEquals(2, first.checkpointsSealed());
+        assertTrue(first.breaks().isEmpty());
+        assertEquals(3, clusterLock.calls.get());
+        assertEquals(List.of(4L, 8L), chains.checkpoints(companyId).stream().map(AuditCheckpoint::toSequence).toList());
+
+        assertEquals(2, useCase.execute(bounded).checkpointsSealed());
+        assertEquals(1, useCase.execute(bounded).checkpointsSealed());
+        assertEquals(0, useCase.execute(bounded).checkpointsSealed());
+        assertEquals(List.of(4L, 8L, 12L, 16L, 20L), chains.checkpoints(companyId).stream()
+                .map(AuditCheckpoint::toSequence)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("should verify every company in parallel, each under its own lock")
+    void shouldVerifyCompaniesInParallel() {
+        List<CompanyId> companies = IntStream.range(0, 12).mapToObj(i -> CompanyId.generate()).toList();
+        companies.forEach(companyId -> chains.append(companyId, 5, START));
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(12, result.companiesVerified());
+        assertEquals(12, result.checkpointsSealed());
+        assertEquals(12, clusterLock.lockNames.size());
+        assertTrue(clusterLock.lockNames.contains(VerifyAuditChainsUseCaseImpl.LOCK_PREFIX + companies.getFirst()));
+        assertTrue(clusterLock.threads.size() > 1);
+    }
+
+    @Test
+    @DisplayName("should report an edited event in the tail and stop sealing before it")
+    void shouldReportEditedTailEvent() {
+        CompanyId companyId = CompanyId.generate();
+        chains.append(companyId, 6, START);
+        chains.editContent(companyId, 3);
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(0, result.checkpointsSealed());
+        assertEquals(List.of(new AuditChainBreak(companyId, 3, 3, "Event does not match its chain hash")), result.breaks());
+    }
+
+    @Test
+    @DisplayName("should catch a rewritten chain when re-verifying its checkpoint")
+    void shouldCatchRewrittenCheckpoint() {
+        CompanyId companyId = CompanyId.generate();
+        chains.append(companyId, 8, START);
+        useCase.execute(COMMAND);
+
+        chains.rewriteFrom(companyId, 2);
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(2, result.checkpointsRechecked());
+        assertTrue(result.breaks().contains(new AuditChainBreak(companyId, 1, 4,
+                "Block does not match its checkpoint's Merkle root")));
+        assertTrue(result.breaks().contains(new AuditChainBreak(companyId, 5, 8,
+                "Block does not end on its checkpoint's chain hash")));
+    }
+
+    @Test
+    @DisplayName("should skip companies another node is verifying")
+    void shouldSkipLockedCompanies() {
+        chains.append(CompanyId.generate(), 3, START);
+        clusterLock.available = false;
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(0, result.companiesVerified());
+        assertEquals(1, result.companiesSkipped());
+    }
+
+    @Test
+    @DisplayName("should count a company whose verification throws as failed and carry on with the others")
+    void shouldCountFailedCompany() {
+        CompanyId broken = CompanyId.generate();
+        chains.append(broken, 3, START);
+        chains.append(CompanyId.generate(), 3, START);
+        clusterLock.failing.add(VerifyAuditChainsUseCaseImpl.LOCK_PREFIX + broken);
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertEquals(1, result.companiesFailed());
+        assertEquals(1, result.companiesVerified());
+    }
+
+    @Test
+    @DisplayName("should drop the breaks of a chain retired while it was being verified")
+    void shouldIgnoreRetiredChain() {
+        CompanyId companyId = CompanyId.generate();
+        chains.append(companyId, 3, START);
+        chains.remove(companyId, 2);
+        chains.retireOnNextRead(companyId);
+
+        VerifyResult result = useCase.execute(COMMAND);
+
+        assertTrue(result.breaks().isEmpty());
+    }
+
+    private static final class FakeClusterLock implements ClusterLock {
+
+        private final Set<String> lockNames = ConcurrentHashMap.newKeySet();
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private final Set<String> failing = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean available = true;
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            lockNames.add(lockName);
+            calls.incrementAndGet();
+            threads.add(Thread.currentThread());
+            if (!available) {
+                return Optional.empty();
+            }
+            if (failing.contains(lockName)) {
+                throw new IllegalStateException("Connection lost");
+            }
+            return Optional.ofNullable(work.get());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.upkeep.application.usecase;
+
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase.VerificationReport;
+import com.upkeep.application.port.in.audit.VerifyCompanyAuditChainUseCase.VerifyCompanyAuditChainQuery;
+import com.upkeep.application.port.out.membership.MembershipRoleCache;
+import com.upkeep.domain.exception.DomainValidationException;
+import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("VerifyCompanyAuditChainUseCaseImpl")
+class VerifyCompanyAuditChainUseCaseImplTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final int BLOCK_SIZE = 4;
+
+    private InMemoryAuditChains chains;
+    private MembershipRoleCache membershipRoleCache;
+    private VerifyCompanyAuditChainUseCaseImpl useCase;
+
+    private String requesterId;
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        chains = new InMemoryAuditChains();
+        membershipRoleCache = mock(MembershipRoleCache.class);
+        useCase = new VerifyCompanyAuditChainUseCaseImpl(chains, membershipRoleCache, BLOCK_SIZE);
+
+        requesterId = UUID.randomUUID().toString();
+        companyId = CompanyId.generate();
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(Role.OWNER));
+
+        // Sequences 1-8 sealed in two checkpoints, 9-10 left as the tail; event n is at START + (n - 1) seconds
+        chains.append(companyId, 8, START);
+        new AuditChainVerifier(chains).sealThrough(companyId, null, 8, BLOCK_SIZE, START);
+        chains.append(companyId, 2, START.plusSeconds(8));
+    }
+
+    @Test
+    @DisplayName("should verify the checkpoints and the tail of the whole chain")
+    void shouldVerifyWholeChain() {
+        VerificationReport report = useCase.execute(query(null, null));
+
+        assertTrue(report.intact());
+        assertEquals(1L, report.firstSequence());
+        assertEquals(10L, report.lastSequence());
+        assertEquals(2, report.checkpointsVerified());
+        assertEquals(2, report.tailEventsVerified());
+        assertTrue(report.tailReachedHead());
+    }
+
+    @Test
+    @DisplayName("should only read the checkpoints overlapping a range that ends before the tail")
+    void shouldOnlyVerifyOverlappingCheckpoints() {
+        chains.editContent(companyId, 2);
+
+        VerificationReport report = useCase.execute(query(START.plusSeconds(5), START.plusSeconds(7)));
+
+        assertTrue(report.intact());
+        assertEquals(6L, report.firstSequence());
+        assertEquals(7L, report.lastSequence());
+        assertEquals(1, report.checkpointsVerified());
+        assertEquals(0, report.tailEventsVerified());
+    }
+
+    @Test
+    @DisplayName("should report edited and missing events")
+    void shouldReportBreaks() {
+        chains.editContent(companyId, 2);
+        chains.remove(companyId, 9);
+
+        VerificationReport report = useCase.execute(query(null, null));
+
+        assertFalse(report.intact());
+        assertEquals(List.of(
+                new AuditChainBreak(companyId, 2, 2, "Event does not match its chain hash"),
+                new AuditChainBreak(companyId, 1, 4, "Block does not match its checkpoint's Merkle root"),
+                new AuditChainBreak(companyId, 9, 9, "Events are missing"),
+                new AuditChainBreak(companyId, 10, 10, "Event does not match its chain hash")
+        ), report.breaks());
+    }
+
+    @Test
+    @DisplayName("should prove a range inside a block from the events in it and the audit path")
+    void shouldProveRangeInsideBlock() {
+        chains.editContent(companyId, 6);
+        long readBefore = chains.entriesRead();
+
+        VerificationReport report = useCase.execute(query(START.plusSeconds(5), START.plusSeconds(7)));
+
+        // Events 6 and 7, plus event 5 for the chain hash before them
+        assertEquals(3, chains.entriesRead() - readBefore);
+        assertEquals(List.of(
+                new AuditChainBreak(companyId, 6, 6, "Event does not match its chain hash"),
+                new AuditChainBreak(companyId, 6, 7, "Block does not match its checkpoint's Merkle root")
+        ), report.breaks());
+    }
+
+    @Test
+    @DisplayName("should verify a block sealed without Merkle nodes whole")
+    void shouldVerifyBlockWithoutNodesWhole() {
+        chains.dropMerkleNodes(companyId);
+        chains.editContent(companyId, 2);
+
+        VerificationReport report = useCase.execute(query(START.plusSeconds(2), START.plusSeconds(4)));
+
+        assertEquals(List.of(
+                new AuditChainBreak(companyId, 2, 2, "Event does not match its chain hash"),
+                new AuditChainBreak(companyId, 1, 4, "Block does not match its checkpoint's Merkle root")
+        ), report.breaks());
+    }
+
+    @Test
+    @DisplayName("should not follow a range far from the head through a long unsealed history")
+    void shouldBoundUnsealedTail() {
+        companyId = CompanyId.generate();
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(Role.OWNER));
+        chains.append(companyId, 40, START);
+
+        VerificationReport early = useCase.execute(query(START.plusSeconds(10), START.plusSeconds(12)));
+        VerificationReport recent = useCase.execute(query(START.plusSeconds(35), START.plusSeconds(37)));
+
+        assertTrue(early.intact());
+        assertEquals(2, early.tailEventsVerified());
+        assertFalse(early.tailReachedHead());
+        assertEquals(5, recent.tailEventsVerified());
+        assertTrue(recent.tailReachedHead());
+    }
+
+    @Test
+    @DisplayName("should report an intact empty range for a company without a chain")
+    void shouldHandleCompanyWithoutChain() {
+        companyId = CompanyId.generate();
+
+        VerificationReport report = useCase.execute(query(null, null));
+
+        assertTrue(report.intact());
+        assertNull(report.firstSequence());
+        assertEquals(0, report.checkpointsVerified());
+    }
+
+    @Test
+    @DisplayName("should reject an inverted range and non-owners")
+    void shouldRejectInvalidRequests() {
+        assertThrows(DomainValidationException.class, () -> useCase.execute(query(START.plusSeconds(5), START)));
+
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.of(Role.MEMBER));
+        assertThrows(UnauthorizedOperationException.class, () -> useCase.execute(query(null, null)));
+
+        when(membershipRoleCache.findRole(any(CustomerId.class), any(CompanyId.class))).thenReturn(Optional.empty());
+        assertThrows(MembershipNotFoundException.class, () -> useCase.execute(query(null, null)));
+    }
+
+    private VerifyCompanyAuditChainQuery query(Instant from, Instant to) {
+        return new VerifyCompanyAuditChainQuery(requesterId, companyId.toString(), from, to);
+    }
+}
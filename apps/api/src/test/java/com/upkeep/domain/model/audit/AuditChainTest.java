@@ -0,0 +1,102 @@
+package com.upkeep.domain.model.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AuditChain")
+class AuditChainTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String A = sha256("a");
+    private static final String B = sha256("b");
+    private static final String C = sha256("c");
+
+    @Test
+    @DisplayName("should link an event to the chain hash before it")
+    void shouldLinkToPreviousHash() {
+        String first = AuditChain.link(AuditChain.GENESIS, A);
+
+        assertEquals(64, first.length());
+        assertEquals(first, AuditChain.link(AuditChain.GENESIS, A));
+        assertNotEquals(AuditChain.link(first, B), AuditChain.link(AuditChain.GENESIS, B));
+    }
+
+    @Test
+    @DisplayName("should build the Merkle root with separate leaf and node prefixes")
+    void shouldBuildMerkleRoot() {
+        String leafA = hash(new byte[]{0x00}, A);
+        String leafB = hash(new byte[]{0x00}, B);
+        String leafC = hash(new byte[]{0x00}, C);
+        String left = hash(new byte[]{0x01}, leafA + leafB);
+
+        assertEquals(leafA, AuditChain.merkleRoot(List.of(A)));
+        assertEquals(left, AuditChain.merkleRoot(List.of(A, B)));
+        assertEquals(hash(new byte[]{0x01}, left + leafC), AuditChain.merkleRoot(List.of(A, B, C)));
+    }
+
+    @Test
+    @DisplayName("should change the Merkle root when leaves are reordered")
+    void shouldDependOnOrder() {
+        assertNotEquals(AuditChain.merkleRoot(List.of(A, B, C)), AuditChain.merkleRoot(List.of(B, A, C)));
+        assertThrows(IllegalArgumentException.class, () -> AuditChain.merkleRoot(List.of()));
+    }
+
+    @Test
+    @DisplayName("should rebuild the root of every range of a block from its audit path")
+    void shouldProveRanges() {
+        List<String> leaves = IntStream.range(0, 11).mapToObj(i -> sha256("leaf-" + i)).toList();
+        String root = AuditChain.merkleRoot(leaves);
+        Map<MerkleSpan, String> nodes = AuditChain.merkleNodes(100, leaves).stream()
+                .collect(Collectors.toMap(MerkleNode::span, MerkleNode::hash));
+        MerkleSpan block = new MerkleSpan(100, 110);
+
+        assertEquals(2 * leaves.size() - 2, nodes.size());
+        for (int from = 0; from < leaves.size(); from++) {
+            for (int to = from; to < leaves.size(); to++) {
+                MerkleSpan covered = new MerkleSpan(100 + from, 100 + to);
+                List<MerkleSpan> path = AuditChain.auditPath(block, covered);
+
+                assertTrue(path.size() <= 8, () -> covered + " needs " + path);
+                assertEquals(root, AuditChain.merkleRoot(block, covered, leaves.subList(from, to + 1), nodes));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should not rebuild the root from an edited leaf or an incomplete audit path")
+    void shouldRejectBadProofs() {
+        List<String> leaves = List.of(A, B, C, sha256("d"));
+        Map<MerkleSpan, String> nodes = AuditChain.merkleNodes(1, leaves).stream()
+                .collect(Collectors.toMap(MerkleNode::span, MerkleNode::hash));
+        MerkleSpan block = new MerkleSpan(1, 4);
+        MerkleSpan covered = new MerkleSpan(2, 2);
+
+        assertEquals(List.of(new MerkleSpan(1, 1), new MerkleSpan(3, 4)), AuditChain.auditPath(block, covered));
+        assertNotEquals(AuditChain.merkleRoot(leaves), AuditChain.merkleRoot(block, covered, List.of(C), nodes));
+        assertThrows(IllegalArgumentException.class,
+                () -> AuditChain.merkleRoot(block, covered, List.of(B), Map.of(new MerkleSpan(1, 1), nodes.get(new MerkleSpan(1, 1)))));
+    }
+
+    private static String sha256(String value) {
+        return HEX.formatHex(AuditChain.sha256().digest(value.getBytes()));
+    }
+
+    private static String hash(byte[] prefix, String hexes) {
+        MessageDigest digest = AuditChain.sha256();
+        digest.update(prefix);
+        digest.update(HEX.parseHex(hexes));
+        return HEX.formatHex(digest.digest());
+    }
+}
@@ -9,10 +9,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("AuditEvent")
@@ -38,10 +39,7 @@ class AuditEventTest {
         assertTrue(event.getTimestamp().compareTo(before) >= 0);
         assertTrue(event.getTimestamp().compareTo(after) <= 0);
 
-        Map<String, Object> payload = event.getPayload();
-        assertEquals(50000L, payload.get("amountCents"));
-        assertEquals("EUR", payload.get("currency"));
-        assertNotNull(payload.get("effectiveFrom"));
+        assertEquals(new BudgetCreatedPayload(50000, Currency.EUR, budget.getEffectiveFrom()), event.getPayload());
     }
 
     @Test
@@ -61,10 +59,7 @@ class AuditEventTest {
         assertEquals("Budget", event.getTargetType());
         assertEquals(budget.getId().toString(), event.getTargetId());
 
-        Map<String, Object> payload = event.getPayload();
-        assertEquals(previousAmountCents, payload.get("previousAmountCents"));
-        assertEquals(100000L, payload.get("newAmountCents"));
-        assertEquals("EUR", payload.get("currency"));
+        assertEquals(new BudgetUpdatedPayload(previousAmountCents, 100000, Currency.EUR), event.getPayload());
     }
 
     @Test
@@ -76,7 +71,7 @@ class AuditEventTest {
         CustomerId actorId = CustomerId.generate();
         String targetType = "Budget";
         String targetId = "test-target-id";
-        Map<String, Object> payload = Map.of("test", "data");
+        AuditPayload payload = new BudgetUpdatedPayload(100, 200, Currency.USD);
         Instant timestamp = Instant.now();
 
         AuditEvent event = AuditEvent.reconstitute(
@@ -94,18 +89,20 @@ class AuditEventTest {
     }
 
     @Test
-    @DisplayName("should return defensive copy of payload")
-    void shouldReturnDefensiveCopyOfPayload() {
-        CompanyId companyId = CompanyId.generate();
-        CustomerId actorId = CustomerId.generate();
-        Budget budget = Budget.create(companyId, new Money(50000, Currency.EUR));
-
-        AuditEvent event = AuditEvent.budgetCreated(companyId, actorId, budget);
-        Map<String, Object> payload1 = event.getPayload();
-        Map<String, Object> payload2 = event.getPayload();
-
-        payload1.put("tampered", "value");
-
-        assertEquals(false, payload2.containsKey("tampered"));
+    @DisplayName("should decode a reconstituted payload only when first accessed")
+    void shouldDecodePayloadLazily() {
+        AtomicInteger decodes = new AtomicInteger();
+        AuditPayload payload = new BudgetUpdatedPayload(100, 200, Currency.EUR);
+
+        AuditEvent event = AuditEvent.reconstitute(AuditEventId.generate(), CompanyId.generate(),
+                AuditEventType.BUDGET_UPDATED, null, "Budget", "target", () -> {
+                    decodes.incrementAndGet();
+                    return payload;
+                }, Instant.now());
+
+        assertEquals(0, decodes.get());
+        assertSame(payload, event.getPayload());
+        assertSame(payload, event.getPayload());
+        assertEquals(1, decodes.get());
     }
 }
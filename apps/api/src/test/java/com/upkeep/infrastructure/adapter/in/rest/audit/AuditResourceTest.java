@@ -0,0 +1,325 @@
+package com.upkeep.infrastructure.adapter.in.rest.audit;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("AuditResource")
+class AuditResourceTest {
+
+    private String token;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        token = createUserAndGetToken("audit-owner-" + uniqueId + "@example.com");
+        companyId = createCompany(token, "Audit Company", "audit-" + uniqueId);
+
+        changeBudget("POST", 50000, 201);
+        changeBudget("PATCH", 60000, 200);
+    }
+
+    @Test
+    @DisplayName("should list the company's audit trail newest first")
+    void shouldListAuditTrail() {
+        given()
+                .cookie("access_token", token)
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(200)
+                .body("data", hasSize(2))
+                .body("data[0].eventType", equalTo("BUDGET_UPDATED"))
+                .body("data[0].payload.newAmountCents", equalTo(60000))
+                .body("data[1].eventType", equalTo("BUDGET_CREATED"))
+                .body("data[1].actorId", notNullValue())
+                .body("meta.nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("should filter by event type and time range")
+    void shouldFilterByTypeAndTimeRange() {
+        given()
+                .cookie("access_token", token)
+                .queryParam("type", "BUDGET_CREATED")
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(200)
+                .body("data", hasSize(1))
+                .body("data[0].eventType", equalTo("BUDGET_CREATED"));
+
+        given()
+                .cookie("access_token", token)
+                .queryParam("from", "2000-01-01T00:00:00Z")
+                .queryParam("to", "2000-02-01T00:00:00Z")
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(200)
+                .body("data", hasSize(0));
+    }
+
+    @Test
+    @DisplayName("should page through the audit trail with the returned cursor")
+    void shouldPageWithCursor() {
+        String cursor = given()
+                .cookie("access_token", token)
+                .queryParam("limit", 1)
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(200)
+                .body("data", hasSize(1))
+                .body("data[0].eventType", equalTo("BUDGET_UPDATED"))
+                .extract()
+                .path("meta.nextCursor");
+
+        given()
+                .cookie("access_token", token)
+                .queryParam("limit", 1)
+                .queryParam("cursor", cursor)
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(200)
+                .body("data", hasSize(1))
+                .body("data[0].eventType", equalTo("BUDGET_CREATED"))
+                .body("meta.nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("should reject an unknown event type with 400")
+    void shouldRejectUnknownType() {
+        given()
+                .cookie("access_token", token)
+                .queryParam("type", "BUDGET_CREATED")
+                .queryParam("type", "BUDGET_FORGED")
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("should reject a time range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        given()
+                .cookie("access_token", token)
+                .queryParam("from", "2024-02-01T00:00:00Z")
+                .queryParam("to", "2024-01-01T00:00:00Z")
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("should hide the audit trail from non-members")
+    void shouldHideFromNonMembers() {
+        String outsider = createUserAndGetToken("audit-outsider-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+
+        given()
+                .cookie("access_token", outsider)
+                .when()
+                .get("/api/companies/" + companyId + "/audit")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("should export the period as gzipped NDJSON, oldest first")
+    void shouldExportNdjson() throws IOException {
+        byte[] body = given()
+                .cookie("access_token", token)
+                .queryParam("from", "2000-01-01T00:00:00Z")
+                .queryParam("to", "2100-01-01T00:00:00Z")
+                .when()
+                .get("/api/companies/" + companyId + "/audit/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/gzip")
+                .header("Content-Disposition", containsString(".ndjson.gz"))
+                .extract()
+                .asByteArray();
+
+        List<String> lines = gunzip(body).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"eventType\":\"BUDGET_CREATED\""));
+        assertTrue(lines.get(1).contains("\"newAmountCents\":60000"));
+    }
+
+    @Test
+    @DisplayName("should export the period as gzipped CSV with a header")
+    void shouldExportCsv() throws IOException {
+        byte[] body = given()
+                .cookie("access_token", token)
+                .queryParam("from", "2000-01-01T00:00:00Z")
+                .queryParam("to", "2100-01-01T00:00:00Z")
+                .queryParam("format", "csv")
+                .when()
+                .get("/api/companies/" + companyId + "/audit/export")
+                .then()
+                .statusCode(200)
+                .header("Content-Disposition", containsString(".csv.gz"))
+                .extract()
+                .asByteArray();
+
+        List<String> lines = gunzip(body).lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("id,event_type,actor_id,target_type,target_id,payload,timestamp", lines.get(0));
+        assertTrue(lines.get(1).contains(",BUDGET_CREATED,"));
+    }
+
+    @Test
+    @DisplayName("should reject an export without a period or with an unknown format")
+    void shouldRejectInvalidExport() {
+        given()
+                .cookie("access_token", token)
+                .when()
+                .get("/api/companies/" + companyId + "/audit/export")
+                .then()
+                .statusCode(400);
+
+        given()
+                .cookie("access_token", token)
+                .queryParam("from", "2000-01-01T00:00:00Z")
+                .queryParam("to", "2100-01-01T00:00:00Z")
+                .queryParam("format", "xml")
+                .when()
+                .get("/api/companies/" + companyId + "/audit/export")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("should not export to non-members")
+    void shouldNotExportToNonMembers() {
+        String outsider = createUserAndGetToken("audit-exporter-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+
+        given()
+                .cookie("access_token", outsider)
+                .queryParam("from", "2000-01-01T00:00:00Z")
+                .queryParam("to", "2100-01-01T00:00:00Z")
+                .when()
+                .get("/api/companies/" + companyId + "/audit/export")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @DisplayName("should verify the company's audit chain")
+    void shouldVerifyAuditChain() {
+        given()
+                .cookie("access_token", token)
+                .when()
+                .get("/api/companies/" + companyId + "/audit/verify")
+                .then()
+                .statusCode(200)
+                .body("data.intact", equalTo(true))
+                .body("data.firstSequence", equalTo(1))
+                .body("data.lastSequence", equalTo(2))
+                .body("data.tailEventsVerified", equalTo(2))
+                .body("data.tailReachedHead", equalTo(true))
+                .body("data.breaks", hasSize(0));
+
+        String outsider = createUserAndGetToken("audit-verifier-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+        given()
+                .cookie("access_token", outsider)
+                .when()
+                .get("/api/companies/" + companyId + "/audit/verify")
+                .then()
+                .statusCode(404);
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void changeBudget(String method, int amountCents, int expectedStatus) {
+        given()
+                .contentType(ContentType.JSON)
+                .cookie("access_token", token)
+                .body(String.format("""
+                        {
+                            "amountCents": %d,
+                            "currency": "EUR"
+                        }
+                        """, amountCents))
+                .when()
+                .request(method, "/api/companies/" + companyId + "/budget")
+                .then()
+                .statusCode(expectedStatus);
+    }
+
+    private String createUserAndGetToken(String email) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123",
+                            "confirmPassword": "SecurePass123",
+                            "accountType": "COMPANY"
+                        }
+                        """, email))
+                .when()
+                .post("/api/auth/register")
+                .then()
+                .statusCode(201);
+
+        Response loginResponse = given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123"
+                        }
+                        """, email))
+                .when()
+                .post("/api/auth/login");
+
+        return loginResponse.getCookie("access_token");
+    }
+
+    private String createCompany(String token, String companyName, String companySlug) {
+        return given()
+                .contentType(ContentType.JSON)
+                .cookie("access_token", token)
+                .body(String.format("""
+                        {
+                            "name": "%s",
+                            "slug": "%s"
+                        }
+                        """, companyName, companySlug))
+                .when()
+                .post("/api/companies")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("data.id");
+    }
+}
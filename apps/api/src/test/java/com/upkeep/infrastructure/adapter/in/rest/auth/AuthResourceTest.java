@@ -275,6 +275,36 @@ class AuthResourceTest {
                 .body("data", equalTo("Logged out"));
     }
 
+    @Test
+    void shouldThrottleRepeatedLoginsForTheSameEmail() {
+        String loginBody = """
+                {
+                    "email": "Throttled@example.com",
+                    "password": "WrongPassword123"
+                }
+                """;
+
+        for (int i = 0; i < 5; i++) {
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(loginBody)
+                    .when()
+                    .post("/api/auth/login")
+                    .then()
+                    .statusCode(401);
+        }
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(loginBody.replace("Throttled@", "throttled@"))
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(429)
+                .header("Retry-After", notNullValue())
+                .body("error.code", equalTo("RATE_LIMITED"));
+    }
+
     private void registerTestUser(String email, String password) {
         String requestBody = """
                 {
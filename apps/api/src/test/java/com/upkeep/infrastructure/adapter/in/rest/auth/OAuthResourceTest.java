@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.containsString;
@@ -184,8 +185,8 @@ class OAuthResourceTest {
     void callback_whenCodeExchangeFails_shouldRedirectWithOAuthError() {
         when(stateService.consumeState(VALID_STATE))
                 .thenReturn(Optional.of(new OAuthStateService.StateData(AccountType.COMPANY)));
-        when(githubProvider.exchangeCode(VALID_CODE))
-                .thenThrow(new GitHubOAuthAdapter.OAuthException("Failed to exchange code"));
+        when(githubProvider.exchangeCodeAsync(VALID_CODE))
+                .thenReturn(CompletableFuture.failedFuture(new GitHubOAuthAdapter.OAuthException("Failed to exchange code")));
 
         given()
                 .redirects().follow(false)
@@ -202,10 +203,11 @@ class OAuthResourceTest {
     void callback_whenGetUserInfoFails_shouldRedirectWithOAuthError() {
         when(stateService.consumeState(VALID_STATE))
                 .thenReturn(Optional.of(new OAuthStateService.StateData(AccountType.COMPANY)));
-        when(githubProvider.exchangeCode(VALID_CODE))
-                .thenReturn(new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email"));
-        when(githubProvider.getUserInfo(MOCK_ACCESS_TOKEN))
-                .thenThrow(new GitHubOAuthAdapter.OAuthException("Failed to get user info"));
+        when(githubProvider.exchangeCodeAsync(VALID_CODE))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email")));
+        when(githubProvider.getUserInfoAsync(MOCK_ACCESS_TOKEN))
+                .thenReturn(CompletableFuture.failedFuture(new GitHubOAuthAdapter.OAuthException("Failed to get user info")));
 
         given()
                 .redirects().follow(false)
@@ -218,11 +220,26 @@ class OAuthResourceTest {
                 .header("Location", containsString("error=oauth_error"));
     }
 
+    @Test
+    void callback_whenStateCannotBeChecked_shouldRedirectWithServerError() {
+        when(stateService.consumeState(VALID_STATE)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        given()
+                .redirects().follow(false)
+                .queryParam("code", VALID_CODE)
+                .queryParam("state", VALID_STATE)
+                .when()
+                .get("/api/auth/oauth/github/callback")
+                .then()
+                .statusCode(307)
+                .header("Location", containsString("error=server_error"));
+    }
+
     @Test
     void callback_whenUnexpectedErrorOccurs_shouldRedirectWithServerError() {
         when(stateService.consumeState(VALID_STATE))
                 .thenReturn(Optional.of(new OAuthStateService.StateData(AccountType.COMPANY)));
-        when(githubProvider.exchangeCode(VALID_CODE))
+        when(githubProvider.exchangeCodeAsync(VALID_CODE))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
         given()
@@ -242,10 +259,11 @@ class OAuthResourceTest {
 
         when(stateService.consumeState(VALID_STATE))
                 .thenReturn(Optional.of(new OAuthStateService.StateData(AccountType.MAINTAINER)));
-        when(githubProvider.exchangeCode(VALID_CODE))
-                .thenReturn(new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email"));
-        when(githubProvider.getUserInfo(MOCK_ACCESS_TOKEN))
-                .thenReturn(userInfo);
+        when(githubProvider.exchangeCodeAsync(VALID_CODE))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email")));
+        when(githubProvider.getUserInfoAsync(MOCK_ACCESS_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(userInfo));
         when(oauthLoginUseCase.execute(any(OAuthLoginUseCase.OAuthCommand.class)))
                 .thenReturn(new OAuthLoginUseCase.OAuthResult(
                         MOCK_JWT_ACCESS,
@@ -274,10 +292,11 @@ class OAuthResourceTest {
 
         when(stateService.consumeState(VALID_STATE))
                 .thenReturn(Optional.of(new OAuthStateService.StateData(AccountType.COMPANY)));
-        when(githubProvider.exchangeCode(VALID_CODE))
-                .thenReturn(new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email"));
-        when(githubProvider.getUserInfo(MOCK_ACCESS_TOKEN))
-                .thenReturn(userInfo);
+        when(githubProvider.exchangeCodeAsync(VALID_CODE))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new OAuthProviderAdapter.OAuthTokenResponse(MOCK_ACCESS_TOKEN, "Bearer", "user:email")));
+        when(githubProvider.getUserInfoAsync(MOCK_ACCESS_TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(userInfo));
         when(oauthLoginUseCase.execute(any(OAuthLoginUseCase.OAuthCommand.class)))
                 .thenReturn(new OAuthLoginUseCase.OAuthResult(
                         MOCK_JWT_ACCESS,
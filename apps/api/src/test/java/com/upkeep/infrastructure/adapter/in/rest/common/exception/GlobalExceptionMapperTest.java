@@ -15,6 +15,8 @@ import com.upkeep.domain.exception.InvitationExpiredException;
 import com.upkeep.domain.exception.InvitationNotFoundException;
 import com.upkeep.domain.exception.LastOwnerException;
 import com.upkeep.domain.exception.MembershipNotFoundException;
+import com.upkeep.domain.exception.RateLimitExceededException;
+import com.upkeep.domain.exception.ServiceBusyException;
 import com.upkeep.domain.exception.UnauthorizedOperationException;
 import com.upkeep.infrastructure.adapter.in.rest.common.response.ApiResponse;
 import jakarta.ws.rs.core.Response;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -262,6 +265,35 @@ class GlobalExceptionMapperTest {
             assertNotNull(body.error().traceId());
         }
 
+        @Test
+        @DisplayName("should return 429 with RATE_LIMITED and Retry-After for RateLimitExceededException")
+        void shouldReturn429ForRateLimitExceededException() {
+            RateLimitExceededException exception = new RateLimitExceededException("Slow down", Duration.ofMillis(1500));
+
+            Response response = mapper.toResponse(exception);
+
+            assertEquals(429, response.getStatus());
+            assertEquals("2", String.valueOf(response.getHeaders().getFirst("Retry-After")));
+            ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+            assertNotNull(body.error());
+            assertEquals("RATE_LIMITED", body.error().code());
+        }
+
+        @Test
+        @DisplayName("should return 503 with SERVICE_BUSY and Retry-After for ServiceBusyException")
+        void shouldReturn503ForServiceBusyException() {
+            ServiceBusyException exception = new ServiceBusyException("Busy", Duration.ofSeconds(2));
+
+            Response response = mapper.toResponse(exception);
+
+            assertEquals(503, response.getStatus());
+            assertEquals("2", String.valueOf(response.getHeaders().getFirst("Retry-After")));
+            ApiResponse<?> body = (ApiResponse<?>) response.getEntity();
+            assertNotNull(body.error());
+            assertEquals("SERVICE_BUSY", body.error().code());
+            assertNotNull(body.error().traceId());
+        }
+
         @Test
         @DisplayName("should return 422 with DOMAIN_ERROR for generic DomainException")
         void shouldReturn422ForGenericDomainException() {
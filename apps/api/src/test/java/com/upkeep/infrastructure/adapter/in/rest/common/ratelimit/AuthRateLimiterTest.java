@@ -0,0 +1,86 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.ratelimit;
+
+import com.upkeep.domain.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AuthRateLimiter")
+class AuthRateLimiterTest {
+
+    private MeterRegistry meterRegistry;
+    private AuthRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new AuthRateLimiter(3, 2, Duration.ofMinutes(1), 1000, 16, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should throttle an email regardless of case and surrounding whitespace")
+    void shouldNormalizeEmail() {
+        rateLimiter.check("10.0.0.1", "User@Example.com");
+        rateLimiter.check("10.0.0.2", " user@example.com ");
+
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.check("10.0.0.3", "USER@EXAMPLE.COM"));
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    @DisplayName("should throttle a client IP across different emails")
+    void shouldThrottleClientIp() {
+        rateLimiter.check("10.0.0.1", "a@example.com");
+        rateLimiter.check("10.0.0.1", "b@example.com");
+        rateLimiter.check("10.0.0.1", "c@example.com");
+
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.check("10.0.0.1", "d@example.com"));
+    }
+
+    @Test
+    @DisplayName("should not key the email scope on an invalid address")
+    void shouldSkipInvalidEmail() {
+        assertDoesNotThrow(() -> {
+            rateLimiter.check("10.0.0.1", "not-an-email");
+            rateLimiter.check("10.0.0.2", "not-an-email");
+            rateLimiter.check("10.0.0.3", "not-an-email");
+            rateLimiter.check("10.0.0.4", "   ");
+        });
+    }
+
+    @Test
+    @DisplayName("should skip scopes without a key")
+    void shouldSkipMissingKeys() {
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < 10; i++) {
+                rateLimiter.check(null, null);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("should count allowed and throttled decisions per scope")
+    void shouldRecordMetrics() {
+        rateLimiter.check("10.0.0.1", "a@example.com");
+        rateLimiter.check("10.0.0.2", "a@example.com");
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.check("10.0.0.3", "a@example.com"));
+
+        assertEquals(3.0, counter("ip", "allowed"));
+        assertEquals(2.0, counter("email", "allowed"));
+        assertEquals(1.0, counter("email", "throttled"));
+    }
+
+    private double counter(String scope, String outcome) {
+        return meterRegistry.get("upkeep.auth.rate.limit.requests").tags("scope", scope, "outcome", outcome).counter().count();
+    }
+}
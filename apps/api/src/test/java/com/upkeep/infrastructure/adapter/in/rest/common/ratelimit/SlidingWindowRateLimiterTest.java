@@ -0,0 +1,151 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SlidingWindowRateLimiter")
+class SlidingWindowRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private AtomicLong clock;
+    private AtomicInteger evictions;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+        evictions = new AtomicInteger();
+    }
+
+    private SlidingWindowRateLimiter limiter(int limit, long maxKeys) {
+        return new SlidingWindowRateLimiter(limit, WINDOW, maxKeys, 8, evictions::incrementAndGet, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("tryAcquire")
+    class TryAcquire {
+
+        @Test
+        @DisplayName("should allow up to the limit and reject the next attempt with the time left in the window")
+        void shouldRejectBeyondLimit() {
+            SlidingWindowRateLimiter limiter = limiter(3, 100);
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(limiter.tryAcquire("key").allowed());
+            }
+            advance(Duration.ofSeconds(20));
+            SlidingWindowRateLimiter.Decision decision = limiter.tryAcquire("key");
+
+            assertFalse(decision.allowed());
+            assertEquals(Duration.ofSeconds(40), decision.retryAfter());
+        }
+
+        @Test
+        @DisplayName("should count keys independently")
+        void shouldCountKeysIndependently() {
+            SlidingWindowRateLimiter limiter = limiter(1, 100);
+
+            assertTrue(limiter.tryAcquire("a").allowed());
+            assertTrue(limiter.tryAcquire("b").allowed());
+            assertFalse(limiter.tryAcquire("a").allowed());
+        }
+
+        @Test
+        @DisplayName("should weight the previous window by its remaining overlap")
+        void shouldWeightPreviousWindow() {
+            SlidingWindowRateLimiter limiter = limiter(4, 100);
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire("key");
+            }
+
+            advance(WINDOW.plusSeconds(30));
+
+            assertTrue(limiter.tryAcquire("key").allowed());
+            assertTrue(limiter.tryAcquire("key").allowed());
+            assertFalse(limiter.tryAcquire("key").allowed());
+        }
+
+        @Test
+        @DisplayName("should start fresh after two idle windows")
+        void shouldResetAfterIdleWindows() {
+            SlidingWindowRateLimiter limiter = limiter(2, 100);
+            limiter.tryAcquire("key");
+            limiter.tryAcquire("key");
+
+            advance(WINDOW.multipliedBy(2));
+
+            assertTrue(limiter.tryAcquire("key").allowed());
+            assertTrue(limiter.tryAcquire("key").allowed());
+        }
+
+        @Test
+        @DisplayName("should never admit more than the limit under concurrent attempts")
+        void shouldHoldLimitUnderConcurrency() throws Exception {
+            SlidingWindowRateLimiter limiter = limiter(50, 100);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    results.add(executor.submit(() -> limiter.tryAcquire("shared").allowed()));
+                }
+                int allowed = 0;
+                for (Future<Boolean> result : results) {
+                    allowed += result.get() ? 1 : 0;
+                }
+                assertEquals(50, allowed);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should drop idle keys and report each eviction")
+        void shouldEvictIdleKeys() {
+            SlidingWindowRateLimiter limiter = limiter(5, 100);
+            limiter.tryAcquire("a");
+            limiter.tryAcquire("b");
+
+            advance(WINDOW.multipliedBy(3));
+
+            assertEquals(0, limiter.trackedKeys());
+            assertEquals(2, evictions.get());
+        }
+
+        @Test
+        @DisplayName("should bound the number of tracked keys")
+        void shouldBoundTrackedKeys() {
+            SlidingWindowRateLimiter limiter = limiter(5, 10);
+
+            for (int i = 0; i < 50; i++) {
+                limiter.tryAcquire("key-" + i);
+            }
+
+            assertTrue(limiter.trackedKeys() <= 10);
+            assertEquals(50 - limiter.trackedKeys(), evictions.get());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.upkeep.infrastructure.adapter.in.rest.common.security;
+
+import com.upkeep.application.port.out.customer.CustomerRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.Customer;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
+import com.upkeep.infrastructure.adapter.out.persistence.membership.CaffeineMembershipRoleCache;
+import com.upkeep.infrastructure.adapter.out.security.AccessTokenSigningKey;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.build.JwtSignatureBuilder;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures database round trips per company-scoped read with and without membership claims in the access token.
+ * The role cache is emptied before every measured request, so the baseline pays for its membership lookup.
+ */
+@QuarkusTest
+@DisplayName("Membership claims")
+class MembershipClaimsQueryCountTest {
+
+    @Inject
+    CustomerRepository customerRepository;
+
+    @Inject
+    MembershipRepository membershipRepository;
+
+    @Inject
+    CaffeineMembershipRoleCache roleCache;
+
+    @Inject
+    AccessTokenSigningKey signingKey;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private String email;
+    private String companyId;
+    private String claimsToken;
+    private String plainToken;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        email = "claims-" + suffix + "@example.com";
+        register(email);
+        companyId = createCompany(login(email), "Claims " + suffix, "claims-" + suffix);
+        claimsToken = login(email);
+        plainToken = tokenWithoutMembershipClaims(email);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "dashboard, /dashboard, 1, 1",
+            "members, /members, 2, 1",
+            "budget, /budget, 2, 1"
+    })
+    @DisplayName("should authorize reads from the token instead of the database")
+    void shouldNeedFewerQueriesWithClaims(String endpoint, String path, long expectedPlain, long expectedWithClaims) {
+        String url = "/api/companies/" + companyId + path;
+        get(url, claimsToken, 200);
+
+        long plainQueries = countQueries(() -> get(url, plainToken, 200));
+        long claimsQueries = countQueries(() -> get(url, claimsToken, 200));
+
+        assertEquals(expectedPlain, plainQueries, endpoint + " without claims");
+        assertEquals(expectedWithClaims, claimsQueries, endpoint + " with claims");
+    }
+
+    @Test
+    @DisplayName("should stop trusting claims once the caller's memberships change")
+    void shouldIgnoreStaleClaims() {
+        String memberEmail = "claims-member-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        register(memberEmail);
+        Customer member = customerRepository.findByEmail(new Email(memberEmail)).orElseThrow();
+        Membership membership = QuarkusTransaction.requiringNew().call(() -> membershipRepository.save(
+                Membership.create(member.getId(), CompanyId.from(companyId), Role.MEMBER)));
+        String memberToken = login(memberEmail);
+        get("/api/companies/" + companyId + "/members", memberToken, 200);
+
+        QuarkusTransaction.requiringNew().run(() -> membershipRepository.delete(membership));
+
+        get("/api/companies/" + companyId + "/members", memberToken, 404);
+        get("/api/companies/" + companyId + "/budget", memberToken, 404);
+    }
+
+    private long countQueries(Runnable request) {
+        roleCache.invalidateAll();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void get(String url, String token, int expectedStatus) {
+        given()
+                .cookie("access_token", token)
+                .when()
+                .get(url)
+                .then()
+                .statusCode(expectedStatus);
+    }
+
+    private String tokenWithoutMembershipClaims(String customerEmail) {
+        Customer customer = customerRepository.findByEmail(new Email(customerEmail)).orElseThrow();
+        JwtSignatureBuilder signature = Jwt.issuer("upkeep")
+                .subject(customer.getId().toString())
+                .claim("email", customer.getEmail().value())
+                .claim("accountType", customer.getAccountType().name())
+                .expiresIn(Duration.ofMinutes(15))
+                .jws()
+                .algorithm(signingKey.algorithm());
+        signingKey.keyId().ifPresent(signature::keyId);
+        return signature.sign(signingKey.privateKey());
+    }
+
+    private void register(String customerEmail) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123",
+                            "confirmPassword": "SecurePass123",
+                            "accountType": "COMPANY"
+                        }
+                        """, customerEmail))
+                .when()
+                .post("/api/auth/register")
+                .then()
+                .statusCode(201);
+    }
+
+    private String login(String customerEmail) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123"
+                        }
+                        """, customerEmail))
+                .when()
+                .post("/api/auth/login")
+                .getCookie("access_token");
+    }
+
+    private String createCompany(String token, String name, String slug) {
+        return given()
+                .contentType(ContentType.JSON)
+                .cookie("access_token", token)
+                .body(String.format("""
+                        {
+                            "name": "%s",
+                            "slug": "%s"
+                        }
+                        """, name, slug))
+                .when()
+                .post("/api/companies")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("data.id");
+    }
+}
@@ -0,0 +1,502 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessCommand;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.application.port.out.budget.BudgetRepository;
+import com.upkeep.application.port.out.company.CompanyDeletionRepository;
+import com.upkeep.application.port.out.company.CompanyRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.usecase.ProcessCompanyDeletionsUseCaseImpl;
+import com.upkeep.domain.model.company.CompanyId;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("CompanyResource")
+class CompanyResourceTest {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    CompanyDeletionRepository companyDeletionRepository;
+
+    @Inject
+    MembershipRepository membershipRepository;
+
+    @Inject
+    InvitationRepository invitationRepository;
+
+    @Inject
+    BudgetRepository budgetRepository;
+
+    @Inject
+    AuditEventRepository auditEventRepository;
+
+    @Inject
+    AuditChainRepository auditChainRepository;
+
+    @Inject
+    CompanyRepository companyRepository;
+
+    private String ownerEmail;
+    private String token;
+    private String companyId;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+        ownerEmail = "batch-owner-" + uniqueId + "@example.com";
+        token = createUserAndGetToken(ownerEmail);
+        companyId = createCompany(token, "Batch Company " + uniqueId, "batch-" + uniqueId);
+    }
+
+    @Nested
+    @DisplayName("POST /api/companies/{id}/invitations:batch")
+    class BatchInvitations {
+
+        @Test
+        @DisplayName("should invite a JSON array and report each row")
+        void shouldInviteJsonArray() {
+            given()
+                    .contentType(ContentType.JSON)
+                    .cookie("access_token", token)
+                    .body("""
+                            [
+                                {"email": "one@example.com", "role": "MEMBER"},
+                                {"email": "two@example.com"},
+                                {"email": "one@example.com", "role": "OWNER"},
+                                {"email": "broken", "role": "MEMBER"}
+                            ]
+                            """)
+                    .when()
+                    .urlEncodingEnabled(false)
+                    .post("/api/companies/" + companyId + "/invitations:batch")
+                    .then()
+                    .statusCode(200)
+                    .body("data.invited", equalTo(2))
+                    .body("data.skipped", equalTo(2))
+                    .body("data.rows[0].status", equalTo("INVITED"))
+                    .body("data.rows[0].invitationId", notNullValue())
+                    .body("data.rows[1].status", equalTo("INVITED"))
+                    .body("data.rows[2].status", equalTo("DUPLICATE"))
+                    .body("data.rows[3].status", equalTo("INVALID"));
+        }
+
+        @Test
+        @DisplayName("should accept CSV and skip emails with a pending invitation")
+        void shouldInviteCsvAndSkipPending() {
+            postCsv("email,role\nfirst@example.com,MEMBER\n")
+                    .then()
+                    .statusCode(200)
+                    .body("data.invited", equalTo(1));
+
+            postCsv("email,role\nfirst@example.com,MEMBER\nsecond@example.com,OWNER\n")
+                    .then()
+                    .statusCode(200)
+                    .body("data.invited", equalTo(1))
+                    .body("data.rows[0].status", equalTo("ALREADY_PENDING"))
+                    .body("data.rows[1].status", equalTo("INVITED"));
+        }
+
+        @Test
+        @DisplayName("should skip emails that already belong to a member")
+        void shouldSkipExistingMembers() {
+            postCsv("email\n" + ownerEmail + "\nnewcomer@example.com\n")
+                    .then()
+                    .statusCode(200)
+                    .body("data.invited", equalTo(1))
+                    .body("data.rows[0].status", equalTo("ALREADY_MEMBER"))
+                    .body("data.rows[1].status", equalTo("INVITED"));
+        }
+
+        @Test
+        @DisplayName("should insert a large batch with a bounded number of statements")
+        void shouldBatchInserts() {
+            String csv = IntStream.range(0, 500)
+                    .mapToObj(i -> "bulk-" + i + "@example.com")
+                    .collect(Collectors.joining("\n"));
+
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            postCsv(csv)
+                    .then()
+                    .statusCode(200)
+                    .body("data.invited", equalTo(500));
+
+            long statements = statistics.getPrepareStatementCount();
+            assertTrue(statements <= 15, "expected batched inserts, got " + statements + " statements for 500 rows");
+        }
+
+        @Test
+        @DisplayName("should return 404 when caller is not a member")
+        void shouldRejectNonMember() {
+            String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+            String outsider = createUserAndGetToken("batch-outsider-" + uniqueId + "@example.com");
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .cookie("access_token", outsider)
+                    .body("[{\"email\": \"x@example.com\"}]")
+                    .when()
+                    .urlEncodingEnabled(false)
+                    .post("/api/companies/" + companyId + "/invitations:batch")
+                    .then()
+                    .statusCode(404);
+        }
+
+        private Response postCsv(String csv) {
+            return given()
+                    .contentType("text/csv")
+                    .cookie("access_token", token)
+                    .body(csv)
+                    .when()
+                    .urlEncodingEnabled(false)
+                    .post("/api/companies/" + companyId + "/invitations:batch");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/companies/{id}/invitations")
+    class ListInvitations {
+
+        @Test
+        @DisplayName("should page invitations newest first and filter by status")
+        void shouldPageInvitations() {
+            given()
+                    .contentType(ContentType.JSON)
+                    .cookie("access_token", token)
+                    .body("[{\"email\": \"first@example.com\"}, {\"email\": \"second@example.com\"}]")
+                    .when()
+                    .urlEncodingEnabled(false)
+                    .post("/api/companies/" + companyId + "/invitations:batch")
+                    .then()
+                    .statusCode(200);
+
+            String cursor = given()
+                    .cookie("access_token", token)
+                    .queryParam("status", "PENDING")
+                    .queryParam("limit", 1)
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(200)
+                    .body("data.size()", equalTo(1))
+                    .body("data[0].status", equalTo("PENDING"))
+                    .body("meta.nextCursor", notNullValue())
+                    .extract()
+                    .path("meta.nextCursor");
+
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("status", "PENDING")
+                    .queryParam("limit", 1)
+                    .queryParam("cursor", cursor)
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(200)
+                    .body("data.size()", equalTo(1))
+                    .body("meta.nextCursor", nullValue());
+
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("status", "ACCEPTED")
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(200)
+                    .body("data.size()", equalTo(0));
+        }
+
+        @Test
+        @DisplayName("should return 404 when caller is not a member")
+        void shouldRejectNonMember() {
+            String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+            String outsider = createUserAndGetToken("list-outsider-" + uniqueId + "@example.com");
+
+            given()
+                    .cookie("access_token", outsider)
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(404);
+        }
+
+        @Test
+        @DisplayName("should reject an out-of-range limit")
+        void shouldRejectOutOfRangeLimit() {
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("limit", 500)
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("should reject an unknown status with 400")
+        void shouldRejectUnknownStatus() {
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("status", "PENDING")
+                    .queryParam("status", "REVOKED")
+                    .when()
+                    .get("/api/companies/" + companyId + "/invitations")
+                    .then()
+                    .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/companies/{id}/members")
+    class ListMembers {
+
+        @Test
+        @DisplayName("should filter members by role regardless of case")
+        void shouldFilterByRole() {
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("role", "owner")
+                    .when()
+                    .get("/api/companies/" + companyId + "/members")
+                    .then()
+                    .statusCode(200)
+                    .body("data.size()", equalTo(1))
+                    .body("data[0].role", equalTo("OWNER"));
+        }
+
+        @Test
+        @DisplayName("should reject an unknown role with 400")
+        void shouldRejectUnknownRole() {
+            given()
+                    .cookie("access_token", token)
+                    .queryParam("role", "ADMIN")
+                    .when()
+                    .get("/api/companies/" + companyId + "/members")
+                    .then()
+                    .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/companies/{id}")
+    class DeleteCompany {
+
+        @Test
+        @DisplayName("should hide the company at once and remove it in chunks in the background")
+        void shouldDeleteCompanyInBackground() {
+            String csv = IntStream.range(0, 7)
+                    .mapToObj(i -> "leaving-" + i + "@example.com")
+                    .collect(Collectors.joining("\n"));
+            given()
+                    .contentType("text/csv")
+                    .cookie("access_token", token)
+                    .body(csv)
+                    .when()
+                    .urlEncodingEnabled(false)
+                    .post("/api/companies/" + companyId + "/invitations:batch")
+                    .then()
+                    .statusCode(200);
+
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .delete("/api/companies/" + companyId)
+                    .then()
+                    .statusCode(202)
+                    .body("data.step", equalTo("MEMBERSHIPS"))
+                    .body("data.rowsDeleted", equalTo(0));
+
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .get("/api/companies")
+                    .then()
+                    .statusCode(200)
+                    .body("data.findAll { it.id == '" + companyId + "' }.size()", equalTo(0));
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .get("/api/companies/" + companyId + "/dashboard")
+                    .then()
+                    .statusCode(404);
+
+            // H2 has no advisory locks, so chunks run in plain transactions here
+            ProcessCompanyDeletionsUseCaseImpl processor = new ProcessCompanyDeletionsUseCaseImpl(companyDeletionRepository,
+                    membershipRepository, invitationRepository, budgetRepository, auditEventRepository,
+                    auditChainRepository, companyRepository, new TransactionalLock());
+            for (int run = 0; run < 20 && !deletionStep().equals("COMPLETED"); run++) {
+                processor.execute(new ProcessCommand(3, 4, Duration.ZERO));
+            }
+
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .get("/api/companies/" + companyId + "/deletion")
+                    .then()
+                    .statusCode(200)
+                    .body("data.step", equalTo("COMPLETED"))
+                    .body("data.rowsDeleted", equalTo(9))
+                    .body("data.completedAt", notNullValue());
+            assertTrue(companyRepository.findById(CompanyId.from(companyId)).isEmpty());
+            assertEquals(0, membershipRepository.countByCompanyId(CompanyId.from(companyId)));
+        }
+
+        @Test
+        @DisplayName("should deny reads with membership claims minted before the request")
+        void shouldDenyClaimsMintedBeforeRequest() {
+            String claimsToken = login(ownerEmail);
+            given()
+                    .cookie("access_token", claimsToken)
+                    .when()
+                    .get("/api/companies/" + companyId + "/members")
+                    .then()
+                    .statusCode(200);
+
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .delete("/api/companies/" + companyId)
+                    .then()
+                    .statusCode(202);
+
+            given()
+                    .cookie("access_token", claimsToken)
+                    .when()
+                    .get("/api/companies/" + companyId + "/members")
+                    .then()
+                    .statusCode(404);
+            given()
+                    .cookie("access_token", login(ownerEmail))
+                    .when()
+                    .get("/api/companies/" + companyId + "/members")
+                    .then()
+                    .statusCode(404);
+        }
+
+        @Test
+        @DisplayName("should not show deletion progress to anyone but the requester")
+        void shouldHideProgressFromOthers() {
+            String uniqueId = UUID.randomUUID().toString().substring(0, 8);
+            String outsider = createUserAndGetToken("deletion-outsider-" + uniqueId + "@example.com");
+            given()
+                    .cookie("access_token", token)
+                    .when()
+                    .delete("/api/companies/" + companyId)
+                    .then()
+                    .statusCode(202);
+
+            given()
+                    .cookie("access_token", outsider)
+                    .when()
+                    .delete("/api/companies/" + companyId)
+                    .then()
+                    .statusCode(404);
+            given()
+                    .cookie("access_token", outsider)
+                    .when()
+                    .get("/api/companies/" + companyId + "/deletion")
+                    .then()
+                    .statusCode(404);
+        }
+
+        private String deletionStep() {
+            return given()
+                    .cookie("access_token", token)
+                    .when()
+                    .get("/api/companies/" + companyId + "/deletion")
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .path("data.step");
+        }
+    }
+
+    private static final class TransactionalLock implements ClusterLock {
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            return QuarkusTransaction.requiringNew().call(() -> Optional.ofNullable(work.get()));
+        }
+    }
+
+    private String createUserAndGetToken(String email) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123",
+                            "confirmPassword": "SecurePass123",
+                            "accountType": "COMPANY"
+                        }
+                        """, email))
+                .when()
+                .post("/api/auth/register")
+                .then()
+                .statusCode(201);
+
+        return login(email);
+    }
+
+    private String login(String email) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(String.format("""
+                        {
+                            "email": "%s",
+                            "password": "SecurePass123"
+                        }
+                        """, email))
+                .when()
+                .post("/api/auth/login")
+                .getCookie("access_token");
+    }
+
+    private String createCompany(String accessToken, String name, String slug) {
+        return given()
+                .contentType(ContentType.JSON)
+                .cookie("access_token", accessToken)
+                .body(String.format("""
+                        {
+                            "name": "%s",
+                            "slug": "%s"
+                        }
+                        """, name, slug))
+                .when()
+                .post("/api/companies")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("data.id");
+    }
+}
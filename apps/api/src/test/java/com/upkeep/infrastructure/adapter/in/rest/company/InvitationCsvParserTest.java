@@ -0,0 +1,40 @@
+package com.upkeep.infrastructure.adapter.in.rest.company;
+
+import com.upkeep.application.port.in.BulkInviteUsersUseCase.InviteeRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("InvitationCsvParser")
+class InvitationCsvParserTest {
+
+    @Test
+    @DisplayName("should skip the header and blank lines and keep row order")
+    void shouldParseRows() {
+        List<InviteeRow> rows = InvitationCsvParser.parse("email,role\r\na@example.com,OWNER\n\n b@example.com \n");
+
+        assertEquals(List.of(
+                new InviteeRow("a@example.com", "OWNER"),
+                new InviteeRow("b@example.com", null)
+        ), rows);
+    }
+
+    @Test
+    @DisplayName("should treat the first line as data when it is not a header")
+    void shouldParseWithoutHeader() {
+        List<InviteeRow> rows = InvitationCsvParser.parse("a@example.com,member");
+
+        assertEquals(List.of(new InviteeRow("a@example.com", "member")), rows);
+    }
+
+    @Test
+    @DisplayName("should return no rows for an empty body")
+    void shouldHandleEmptyBody() {
+        assertTrue(InvitationCsvParser.parse("").isEmpty());
+        assertTrue(InvitationCsvParser.parse(null).isEmpty());
+    }
+}
@@ -218,7 +218,7 @@ class InvitationResourceTest {
         @DisplayName("should return 401 when access token is invalid")
         void shouldReturn401WhenAccessTokenInvalid() {
             when(tokenService.validateAccessToken("invalid-token"))
-                    .thenThrow(new RuntimeException("Invalid token"));
+                    .thenThrow(new IllegalArgumentException("Invalid token"));
 
             given()
                     .contentType(ContentType.JSON)
@@ -0,0 +1,47 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyCommand;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyResult;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.company.CompanyId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuditChainVerificationJob")
+class AuditChainVerificationJobTest {
+
+    private static final VerifyCommand COMMAND = new VerifyCommand(4, 1024, 4, 64);
+
+    private VerifyAuditChainsUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditChainVerificationJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(VerifyAuditChainsUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new AuditChainVerificationJob(useCase, 4, 1024, 4, 64, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should count sealed and rechecked checkpoints and chain breaks")
+    void shouldCountResults() {
+        AuditChainBreak chainBreak = new AuditChainBreak(CompanyId.generate(), 7, 7, "Event does not match its chain hash");
+        when(useCase.execute(COMMAND)).thenReturn(new VerifyResult(3, 1, 0, 5, 8, List.of(chainBreak)));
+
+        job.run();
+
+        assertEquals(5.0, meterRegistry.get("upkeep.audit.chain.checkpoints.sealed").counter().count());
+        assertEquals(8.0, meterRegistry.get("upkeep.audit.chain.checkpoints.rechecked").counter().count());
+        assertEquals(1.0, meterRegistry.get("upkeep.audit.chain.breaks").counter().count());
+    }
+}
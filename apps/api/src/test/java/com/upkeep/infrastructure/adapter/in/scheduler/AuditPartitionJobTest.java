@@ -0,0 +1,65 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase;
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainCommand;
+import com.upkeep.application.port.in.audit.MaintainAuditPartitionsUseCase.MaintainResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuditPartitionJob")
+class AuditPartitionJobTest {
+
+    private static final MaintainCommand COMMAND = new MaintainCommand(3, 12, 1024);
+
+    private MaintainAuditPartitionsUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditPartitionJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(MaintainAuditPartitionsUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new AuditPartitionJob(useCase, 3, 12, 1024, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should count created and detached partitions")
+    void shouldCountPartitions() {
+        when(useCase.execute(COMMAND)).thenReturn(new MaintainResult(
+                List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)), List.of(YearMonth.of(2025, 9)), true, 4));
+
+        job.run();
+
+        assertEquals(2.0, meterRegistry.get("upkeep.audit.partitions.created").counter().count());
+        assertEquals(1.0, meterRegistry.get("upkeep.audit.partitions.detached").counter().count());
+    }
+
+    @Test
+    @DisplayName("should not count a run skipped for the lock")
+    void shouldNotCountSkippedRun() {
+        when(useCase.execute(COMMAND)).thenReturn(new MaintainResult(List.of(), List.of(), false, 4));
+
+        job.run();
+
+        assertEquals(0.0, meterRegistry.get("upkeep.audit.partitions.created").counter().count());
+    }
+
+    @Test
+    @DisplayName("should report partition coverage on every node, lock or not")
+    void shouldReportCoverage() {
+        when(useCase.execute(COMMAND)).thenReturn(new MaintainResult(List.of(), List.of(), false, 1));
+
+        job.run();
+
+        assertEquals(1.0, meterRegistry.get("upkeep.audit.partitions.months.covered").gauge().value());
+    }
+}
@@ -0,0 +1,59 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase;
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessCommand;
+import com.upkeep.application.port.in.ProcessCompanyDeletionsUseCase.ProcessResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CompanyDeletionJob")
+class CompanyDeletionJobTest {
+
+    private static final ProcessCommand COMMAND = new ProcessCommand(500, 200, Duration.ofMillis(10));
+
+    private ProcessCompanyDeletionsUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private CompanyDeletionJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(ProcessCompanyDeletionsUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new CompanyDeletionJob(useCase, 500, 200, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should record rows removed and companies finished per run")
+    void shouldRecordProgress() {
+        when(useCase.execute(COMMAND)).thenReturn(new ProcessResult(1234, 1, true));
+
+        job.run();
+
+        verify(useCase).execute(COMMAND);
+        DistributionSummary summary = meterRegistry.get("upkeep.companies.deletion.rows").summary();
+        assertEquals(1, summary.count());
+        assertEquals(1234.0, summary.totalAmount());
+        assertEquals(1.0, meterRegistry.get("upkeep.companies.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("should not record idle or skipped runs")
+    void shouldNotRecordIdleRuns() {
+        when(useCase.execute(COMMAND)).thenReturn(new ProcessResult(0, 0, true), new ProcessResult(0, 0, false));
+
+        job.run();
+        job.run();
+
+        assertEquals(0, meterRegistry.get("upkeep.companies.deletion.rows").summary().count());
+    }
+}
@@ -0,0 +1,64 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase;
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchCommand;
+import com.upkeep.application.port.in.DispatchEmailOutboxUseCase.DispatchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmailOutboxDispatchJob")
+class EmailOutboxDispatchJobTest {
+
+    private static final DispatchCommand COMMAND = new DispatchCommand(
+            50, 20, 8, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofHours(1));
+
+    private DispatchEmailOutboxUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatchJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(DispatchEmailOutboxUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new EmailOutboxDispatchJob(useCase, 50, 20, 8, Duration.ofMinutes(2), Duration.ofSeconds(30),
+                Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should count delivery outcomes per run")
+    void shouldCountOutcomes() {
+        when(useCase.execute(COMMAND)).thenReturn(new DispatchResult(40, 3, 1, Duration.ZERO));
+
+        job.run();
+        job.run();
+
+        verify(useCase, times(2)).execute(COMMAND);
+        assertEquals(80.0, meterRegistry.get("upkeep.email.outbox.sent").counter().count());
+        assertEquals(6.0, meterRegistry.get("upkeep.email.outbox.retried").counter().count());
+        assertEquals(2.0, meterRegistry.get("upkeep.email.outbox.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("should expose the outbox lag of the latest run")
+    void shouldExposeOutboxLag() {
+        when(useCase.execute(COMMAND))
+                .thenReturn(new DispatchResult(0, 0, 0, Duration.ofSeconds(45)), new DispatchResult(5, 0, 0, Duration.ZERO));
+
+        job.run();
+        assertEquals(45.0, meterRegistry.get("upkeep.email.outbox.lag").timeGauge().value(TimeUnit.SECONDS));
+
+        job.run();
+        assertEquals(0.0, meterRegistry.get("upkeep.email.outbox.lag").timeGauge().value(TimeUnit.SECONDS));
+    }
+}
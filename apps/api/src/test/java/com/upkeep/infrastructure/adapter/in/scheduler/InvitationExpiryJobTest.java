@@ -0,0 +1,57 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.ExpireInvitationsUseCase;
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireCommand;
+import com.upkeep.application.port.in.ExpireInvitationsUseCase.ExpireResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("InvitationExpiryJob")
+class InvitationExpiryJobTest {
+
+    private static final ExpireCommand COMMAND = new ExpireCommand(500, 20, Duration.ofMillis(10));
+
+    private ExpireInvitationsUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private InvitationExpiryJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(ExpireInvitationsUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new InvitationExpiryJob(useCase, 500, 20, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should record invitations expired per run")
+    void shouldRecordExpiredInvitations() {
+        when(useCase.execute(COMMAND)).thenReturn(new ExpireResult(42, true));
+
+        job.run();
+
+        verify(useCase).execute(COMMAND);
+        DistributionSummary summary = meterRegistry.get("upkeep.invitations.expired").summary();
+        assertEquals(1, summary.count());
+        assertEquals(42.0, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("should not record a run skipped for the lock")
+    void shouldNotRecordSkippedRun() {
+        when(useCase.execute(COMMAND)).thenReturn(new ExpireResult(0, false));
+
+        job.run();
+
+        assertEquals(0, meterRegistry.get("upkeep.invitations.expired").summary().count());
+    }
+}
@@ -0,0 +1,57 @@
+package com.upkeep.infrastructure.adapter.in.scheduler;
+
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase;
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeCommand;
+import com.upkeep.application.port.in.PurgeRefreshTokensUseCase.PurgeResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RefreshTokenPurgeJob")
+class RefreshTokenPurgeJobTest {
+
+    private PurgeRefreshTokensUseCase useCase;
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        useCase = mock(PurgeRefreshTokensUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new RefreshTokenPurgeJob(useCase, 500, 20, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should record rows purged per run")
+    void shouldRecordRowsPurged() {
+        PurgeCommand command = new PurgeCommand(500, 20, Duration.ofMillis(10));
+        when(useCase.execute(command)).thenReturn(new PurgeResult(30, 12, true));
+
+        job.run();
+
+        verify(useCase).execute(command);
+        DistributionSummary summary = meterRegistry.get("upkeep.refresh.tokens.purged").summary();
+        assertEquals(1, summary.count());
+        assertEquals(42.0, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("should not record a run skipped for the lock")
+    void shouldNotRecordSkippedRun() {
+        when(useCase.execute(new PurgeCommand(500, 20, Duration.ofMillis(10))))
+                .thenReturn(new PurgeResult(0, 0, false));
+
+        job.run();
+
+        assertEquals(0, meterRegistry.get("upkeep.refresh.tokens.purged").summary().count());
+    }
+}
@@ -0,0 +1,55 @@
+package com.upkeep.infrastructure.adapter.out.email;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Starts a {@link LocalSmtpServer} and points the {@value #MAILER} mailer at it, so tests send through the real
+ * mailer and SMTP client rather than the mock mailbox. The server is injected into {@link LocalSmtpServer} fields of
+ * the test.
+ */
+public class LocalSmtpServerResource implements QuarkusTestResourceLifecycleManager {
+
+    static final String MAILER = "local-smtp";
+    static final String FROM = "noreply@upkeep.test";
+    static final Map<String, String> REJECTIONS = Map.of(
+            "bounce@example.com", "550 No such user",
+            "busy@example.com", "451 Mailbox busy, try again later"
+    );
+
+    private LocalSmtpServer server;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = new LocalSmtpServer(REJECTIONS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String prefix = "quarkus.mailer." + MAILER + ".";
+        return Map.of(
+                prefix + "host", "127.0.0.1",
+                prefix + "port", String.valueOf(server.port()),
+                prefix + "from", FROM,
+                prefix + "mock", "false",
+                prefix + "start-tls", "DISABLED"
+        );
+    }
+
+    @Override
+    public void inject(TestInjector testInjector) {
+        testInjector.injectIntoFields(server, new TestInjector.MatchesType(LocalSmtpServer.class));
+    }
+
+    @Override
+    public void stop() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
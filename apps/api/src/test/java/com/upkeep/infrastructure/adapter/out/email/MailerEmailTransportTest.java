@@ -0,0 +1,80 @@
+package com.upkeep.infrastructure.adapter.out.email;
+
+import com.upkeep.application.port.out.notification.EmailKind;
+import com.upkeep.application.port.out.notification.EmailTransport.DeliveryResult;
+import com.upkeep.application.port.out.notification.EmailTransport.OutgoingEmail;
+import com.upkeep.domain.model.customer.Email;
+import io.quarkus.mailer.Mailer;
+import io.quarkus.mailer.MailerName;
+import io.quarkus.test.common.WithTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@WithTestResource(LocalSmtpServerResource.class)
+@DisplayName("MailerEmailTransport")
+class MailerEmailTransportTest {
+
+    @Inject
+    @MailerName(LocalSmtpServerResource.MAILER)
+    Mailer mailer;
+
+    LocalSmtpServer server;
+
+    private MailerEmailTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new MailerEmailTransport(new EmailTemplates("http://localhost:5173"), mailer);
+    }
+
+    @Test
+    @DisplayName("should render and send the email over SMTP")
+    void shouldSendEmail() {
+        DeliveryResult result = transport.send(invitation("b@example.com", "tok-b"));
+
+        assertTrue(result.delivered());
+        LocalSmtpServer.ReceivedMessage invitation = server.messages().stream()
+                .filter(message -> message.to().equals("b@example.com"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(LocalSmtpServerResource.FROM, invitation.from());
+        assertTrue(invitation.data().contains("Subject: You've been invited to join a company on Upkeep"));
+        assertTrue(invitation.data().contains("http://localhost:5173/invitations/accept?token=tok-b"), invitation.data());
+    }
+
+    @Test
+    @DisplayName("should not retry a permanent rejection")
+    void shouldNotRetryPermanentRejection() {
+        DeliveryResult result = transport.send(welcome("bounce@example.com"));
+
+        assertFalse(result.delivered());
+        assertFalse(result.retryable());
+        assertTrue(result.error().contains("550"), result.error());
+    }
+
+    @Test
+    @DisplayName("should retry a transient rejection")
+    void shouldRetryTransientRejection() {
+        DeliveryResult result = transport.send(welcome("busy@example.com"));
+
+        assertFalse(result.delivered());
+        assertTrue(result.retryable());
+        assertTrue(result.error().contains("451"), result.error());
+    }
+
+    private static OutgoingEmail welcome(String recipient) {
+        return new OutgoingEmail(EmailKind.WELCOME, new Email(recipient), null);
+    }
+
+    private static OutgoingEmail invitation(String recipient, String token) {
+        return new OutgoingEmail(EmailKind.INVITATION, new Email(recipient), token);
+    }
+}
@@ -0,0 +1,240 @@
+package com.upkeep.infrastructure.adapter.out.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.upkeep.application.port.out.oauth.OAuthProviderAdapter;
+import com.upkeep.domain.model.oauth.OAuthUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GitHubOAuthAdapter")
+class GitHubOAuthAdapterTest {
+
+    private static final String USER_WITH_EMAIL =
+            "{\"id\":42,\"email\":\"octo@example.com\",\"name\":\"Octo\",\"avatar_url\":\"https://avatar\"}";
+    private static final String USER_WITHOUT_EMAIL = "{\"id\":42,\"email\":null,\"name\":\"Octo\"}";
+    private static final String EMAILS = "[{\"email\":\"other@example.com\",\"primary\":false,\"verified\":true},"
+            + "{\"email\":\"primary@example.com\",\"primary\":true,\"verified\":true}]";
+
+    private final Map<String, StubResponse> routes = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private GitHubOAuthAdapter adapter(long requestTimeoutMillis, int maxConcurrentRequests) {
+        GitHubOAuthAdapter adapter = new GitHubOAuthAdapter(
+                new ObjectMapper(), baseUrl, baseUrl, 1000, requestTimeoutMillis, maxConcurrentRequests);
+        adapter.clientId = "client-id";
+        adapter.clientSecret = "client-secret";
+        adapter.redirectUri = "http://localhost/callback";
+        return adapter;
+    }
+
+    @Nested
+    @DisplayName("getUserInfoAsync")
+    class GetUserInfo {
+
+        @Test
+        @DisplayName("should return profile email when present")
+        void shouldReturnProfileEmail() {
+            routes.put("/user", StubResponse.ok(USER_WITH_EMAIL));
+            routes.put("/user/emails", StubResponse.ok(EMAILS));
+
+            OAuthUserInfo userInfo = adapter(2000, 8).getUserInfo("token");
+
+            assertEquals("42", userInfo.providerUserId());
+            assertEquals("octo@example.com", userInfo.email());
+            assertEquals("Octo", userInfo.name());
+        }
+
+        @Test
+        @DisplayName("should fall back to primary verified email")
+        void shouldFallBackToPrimaryEmail() {
+            routes.put("/user", StubResponse.ok(USER_WITHOUT_EMAIL));
+            routes.put("/user/emails", StubResponse.ok(EMAILS));
+
+            OAuthUserInfo userInfo = adapter(2000, 8).getUserInfo("token");
+
+            assertEquals("primary@example.com", userInfo.email());
+        }
+
+        @Test
+        @DisplayName("should fetch user and emails concurrently")
+        void shouldFetchConcurrently() {
+            routes.put("/user", StubResponse.ok(USER_WITHOUT_EMAIL).delayed(400));
+            routes.put("/user/emails", StubResponse.ok(EMAILS).delayed(400));
+            GitHubOAuthAdapter adapter = adapter(5000, 8);
+
+            long start = System.nanoTime();
+            adapter.getUserInfo("token");
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMillis < 750, "expected parallel fetch, took " + elapsedMillis + " ms");
+        }
+
+        @Test
+        @DisplayName("should ignore emails failure when profile has an email")
+        void shouldIgnoreEmailsFailure() {
+            routes.put("/user", StubResponse.ok(USER_WITH_EMAIL));
+            routes.put("/user/emails", StubResponse.status(500));
+
+            assertEquals("octo@example.com", adapter(2000, 8).getUserInfo("token").email());
+        }
+
+        @Test
+        @DisplayName("should fail when no email is available")
+        void shouldFailWithoutEmail() {
+            routes.put("/user", StubResponse.ok(USER_WITHOUT_EMAIL));
+            routes.put("/user/emails", StubResponse.status(403));
+
+            GitHubOAuthAdapter adapter = adapter(2000, 8);
+
+            assertThrows(GitHubOAuthAdapter.OAuthException.class, () -> adapter.getUserInfo("token"));
+        }
+
+        @Test
+        @DisplayName("should report an emails error instead of a missing email")
+        void shouldReportEmailsError() {
+            routes.put("/user", StubResponse.ok(USER_WITHOUT_EMAIL));
+            routes.put("/user/emails", StubResponse.status(500));
+
+            GitHubOAuthAdapter adapter = adapter(2000, 8);
+
+            GitHubOAuthAdapter.OAuthException e =
+                    assertThrows(GitHubOAuthAdapter.OAuthException.class, () -> adapter.getUserInfo("token"));
+            assertTrue(e.getMessage().contains("get user emails: 500"));
+        }
+
+        @Test
+        @DisplayName("should fail when user endpoint errors")
+        void shouldFailOnUserError() {
+            routes.put("/user", StubResponse.status(502));
+            routes.put("/user/emails", StubResponse.ok(EMAILS));
+
+            GitHubOAuthAdapter adapter = adapter(2000, 8);
+
+            GitHubOAuthAdapter.OAuthException e =
+                    assertThrows(GitHubOAuthAdapter.OAuthException.class, () -> adapter.getUserInfo("token"));
+            assertTrue(e.getMessage().contains("502"));
+        }
+
+        @Test
+        @DisplayName("should time out slow responses")
+        void shouldTimeOutSlowResponses() {
+            routes.put("/user", StubResponse.ok(USER_WITH_EMAIL).delayed(2000));
+            routes.put("/user/emails", StubResponse.ok(EMAILS));
+
+            GitHubOAuthAdapter adapter = adapter(200, 8);
+
+            GitHubOAuthAdapter.OAuthException e =
+                    assertThrows(GitHubOAuthAdapter.OAuthException.class, () -> adapter.getUserInfo("token"));
+            assertTrue(e.getMessage().contains("timed out"));
+        }
+    }
+
+    @Nested
+    @DisplayName("exchangeCodeAsync")
+    class ExchangeCode {
+
+        @Test
+        @DisplayName("should return access token")
+        void shouldReturnAccessToken() {
+            routes.put("/login/oauth/access_token",
+                    StubResponse.ok("{\"access_token\":\"gho_123\",\"token_type\":\"bearer\",\"scope\":\"user:email\"}"));
+
+            OAuthProviderAdapter.OAuthTokenResponse response = adapter(2000, 8).exchangeCode("code");
+
+            assertEquals("gho_123", response.accessToken());
+        }
+
+        @Test
+        @DisplayName("should fail on OAuth error body")
+        void shouldFailOnErrorBody() {
+            routes.put("/login/oauth/access_token",
+                    StubResponse.ok("{\"error\":\"bad_verification_code\",\"error_description\":\"expired\"}"));
+
+            GitHubOAuthAdapter adapter = adapter(2000, 8);
+
+            assertThrows(GitHubOAuthAdapter.OAuthException.class, () -> adapter.exchangeCode("code"));
+        }
+
+        @Test
+        @DisplayName("should reject calls beyond the bulkhead without waiting")
+        void shouldRejectBeyondBulkhead() {
+            routes.put("/login/oauth/access_token", StubResponse.ok("{\"access_token\":\"gho_123\"}").delayed(500));
+            GitHubOAuthAdapter adapter = adapter(2000, 1);
+
+            CompletableFuture<OAuthProviderAdapter.OAuthTokenResponse> first =
+                    adapter.exchangeCodeAsync("code").toCompletableFuture();
+            CompletableFuture<OAuthProviderAdapter.OAuthTokenResponse> second =
+                    adapter.exchangeCodeAsync("code").toCompletableFuture();
+
+            assertTrue(second.isCompletedExceptionally());
+            assertFalse(first.isDone());
+            assertEquals("gho_123", first.join().accessToken());
+            assertEquals("gho_123", adapter.exchangeCode("code").accessToken());
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        StubResponse stub = routes.getOrDefault(exchange.getRequestURI().getPath(), StubResponse.status(404));
+        try {
+            Thread.sleep(stub.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(stub.status(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    private record StubResponse(int status, String body, long delayMillis) {
+
+        static StubResponse ok(String body) {
+            return new StubResponse(200, body, 0);
+        }
+
+        static StubResponse status(int status) {
+            return new StubResponse(status, "", 0);
+        }
+
+        StubResponse delayed(long millis) {
+            return new StubResponse(status, body, millis);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,4 +62,16 @@ class InMemoryOAuthStateServiceTest {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    @DisplayName("should prune expired states on generation")
+    void shouldPruneExpiredStatesOnGeneration() {
+        InMemoryOAuthStateService expiring = new InMemoryOAuthStateService(Duration.ofSeconds(-1));
+        expiring.generateState(AccountType.COMPANY);
+        expiring.generateState(AccountType.COMPANY);
+
+        expiring.generateState(AccountType.COMPANY);
+
+        assertEquals(1, expiring.pendingStates());
+    }
 }
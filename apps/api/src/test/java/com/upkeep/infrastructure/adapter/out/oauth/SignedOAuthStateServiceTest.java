@@ -0,0 +1,144 @@
+package com.upkeep.infrastructure.adapter.out.oauth;
+
+import com.upkeep.application.port.out.oauth.OAuthNonceRepository;
+import com.upkeep.application.port.out.oauth.OAuthStateService;
+import com.upkeep.domain.model.customer.AccountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SignedOAuthStateService")
+class SignedOAuthStateServiceTest {
+
+    private static final byte[] SECRET = "test-secret".getBytes(StandardCharsets.UTF_8);
+
+    private SharedNonces nonces;
+    private SignedOAuthStateService service;
+
+    @BeforeEach
+    void setUp() {
+        nonces = new SharedNonces();
+        service = new SignedOAuthStateService(SECRET, Duration.ofMinutes(10), nonces);
+    }
+
+    @Test
+    @DisplayName("should consume valid state and return account type")
+    void shouldConsumeValidState() {
+        String state = service.generateState(AccountType.MAINTAINER);
+
+        Optional<OAuthStateService.StateData> result = service.consumeState(state);
+
+        assertTrue(result.isPresent());
+        assertEquals(AccountType.MAINTAINER, result.get().accountType());
+    }
+
+    @Test
+    @DisplayName("should generate unique states")
+    void shouldGenerateUniqueStates() {
+        assertNotEquals(service.generateState(AccountType.COMPANY), service.generateState(AccountType.COMPANY));
+    }
+
+    @Test
+    @DisplayName("should accept state generated by another node sharing the secret")
+    void shouldAcceptStateFromAnotherNode() {
+        SignedOAuthStateService otherNode = new SignedOAuthStateService(SECRET, Duration.ofMinutes(10), nonces);
+        String state = otherNode.generateState(AccountType.COMPANY);
+
+        assertTrue(service.consumeState(state).isPresent());
+    }
+
+    @Test
+    @DisplayName("should reject state replayed after consumption")
+    void shouldRejectReplayedState() {
+        String state = service.generateState(AccountType.COMPANY);
+
+        service.consumeState(state);
+
+        assertTrue(service.consumeState(state).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should reject state replayed on another node")
+    void shouldRejectStateReplayedOnAnotherNode() {
+        SignedOAuthStateService otherNode = new SignedOAuthStateService(SECRET, Duration.ofMinutes(10), nonces);
+        String state = service.generateState(AccountType.COMPANY);
+
+        assertTrue(service.consumeState(state).isPresent());
+
+        assertTrue(otherNode.consumeState(state).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should keep a consumed nonce until its state expires")
+    void shouldKeepNonceUntilStateExpires() {
+        Instant before = Instant.now();
+
+        service.consumeState(service.generateState(AccountType.COMPANY));
+
+        Instant expiresAt = nonces.consumed.values().iterator().next();
+        assertFalse(expiresAt.isBefore(before.plus(Duration.ofMinutes(10)).minusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("should reject state signed with a different secret")
+    void shouldRejectStateWithDifferentSecret() {
+        SignedOAuthStateService otherKey =
+                new SignedOAuthStateService("other".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(10), nonces);
+
+        assertTrue(service.consumeState(otherKey.generateState(AccountType.COMPANY)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should reject tampered payload")
+    void shouldRejectTamperedPayload() {
+        String state = service.generateState(AccountType.COMPANY);
+        char first = state.charAt(0);
+        String tampered = (first == 'A' ? 'B' : 'A') + state.substring(1);
+
+        assertTrue(service.consumeState(tampered).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should reject expired state")
+    void shouldRejectExpiredState() {
+        SignedOAuthStateService expired = new SignedOAuthStateService(SECRET, Duration.ofSeconds(-5), nonces);
+
+        assertTrue(expired.consumeState(expired.generateState(AccountType.COMPANY)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should return empty for malformed state")
+    void shouldReturnEmptyForMalformedState() {
+        assertTrue(service.consumeState("non-existent-state").isEmpty());
+        assertTrue(service.consumeState("a.b").isEmpty());
+        assertTrue(service.consumeState("!!!.???").isEmpty());
+        assertTrue(service.consumeState(null).isEmpty());
+    }
+
+    private static final class SharedNonces implements OAuthNonceRepository {
+
+        private final Map<String, Instant> consumed = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean markConsumed(String nonce, Instant expiresAt) {
+            return consumed.putIfAbsent(nonce, expiresAt) == null;
+        }
+
+        @Override
+        public int deleteExpired(Instant cutoff, int limit) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyCommand;
+import com.upkeep.application.port.in.audit.VerifyAuditChainsUseCase.VerifyResult;
+import com.upkeep.application.port.out.audit.AuditChainRepository;
+import com.upkeep.application.port.out.lock.ClusterLock;
+import com.upkeep.application.usecase.VerifyAuditChainsUseCaseImpl;
+import com.upkeep.domain.model.audit.AuditChainBreak;
+import com.upkeep.domain.model.audit.AuditChainLink;
+import com.upkeep.domain.model.audit.AuditCheckpoint;
+import com.upkeep.domain.model.audit.AuditEvent;
+import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.AuditPayload;
+import com.upkeep.domain.model.audit.MerkleNode;
+import com.upkeep.domain.model.audit.MerkleSpan;
+import com.upkeep.domain.model.audit.BudgetCreatedPayload;
+import com.upkeep.domain.model.audit.BudgetUpdatedPayload;
+import com.upkeep.domain.model.audit.UnstructuredPayload;
+import com.upkeep.domain.model.budget.Currency;
+import com.upkeep.domain.model.company.CompanyId;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("AuditChainJpaRepository")
+class AuditChainJpaRepositoryTest {
+
+    private static final VerifyCommand COMMAND = new VerifyCommand(4, 4, 4, 64);
+
+    @Inject
+    TransactionalAuditLog auditLog;
+
+    @Inject
+    AuditChainRepository auditChainRepository;
+
+    private VerifyAuditChainsUseCaseImpl verifier;
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        // H2 has no advisory locks, so each company is verified in a plain transaction here
+        verifier = new VerifyAuditChainsUseCaseImpl(auditChainRepository, new TransactionalLock());
+        companyId = CompanyId.generate();
+    }
+
+    @Test
+    @DisplayName("should chain each company's events in commit order")
+    void shouldChainEvents() {
+        List<AuditEvent> first = record(3);
+        List<AuditEvent> second = record(2);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), IntStream.range(0, 5)
+                .mapToObj(i -> (i < 3 ? first.get(i) : second.get(i - 3)).getChainLink().sequence())
+                .toList());
+        AuditChainLink head = auditChainRepository.findHead(companyId).orElseThrow();
+        assertEquals(second.getLast().getChainLink(), head);
+    }
+
+    @Test
+    @DisplayName("should recompute the stored leaf hashes and seal full blocks")
+    void shouldSealStoredChain() {
+        record(10);
+
+        VerifyResult result = verifier.execute(COMMAND);
+
+        assertTrue(breaksOf(result).isEmpty(), () -> breaksOf(result).toString());
+        assertEquals(List.of(4L, 8L), auditChainRepository.findCheckpoints(companyId, 1, 10).stream()
+                .map(AuditCheckpoint::toSequence)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("should find a row edited in the database")
+    void shouldFindEditedRow() {
+        List<AuditEvent> events = record(6);
+        verifier.execute(COMMAND);
+
+        QuarkusTransaction.requiringNew().run(() -> Panache.getEntityManager()
+                .createNativeQuery("UPDATE audit_events SET target_id = 'forged' WHERE id = :id")
+                .setParameter("id", events.get(1).getId().value())
+                .executeUpdate());
+        VerifyResult result = verifier.execute(COMMAND);
+
+        assertTrue(breaksOf(result).contains(new AuditChainBreak(companyId, 2, 2, "Event does not match its chain hash")));
+        assertTrue(breaksOf(result).contains(new AuditChainBreak(companyId, 1, 4,
+                "Block does not match its checkpoint's Merkle root")));
+    }
+
+    @Test
+    @DisplayName("should leave archived checkpoints out of rechecks")
+    void shouldSkipArchivedCheckpoints() {
+        List<AuditEvent> events = record(10);
+        verifier.execute(COMMAND);
+        Instant recordedAt = events.getFirst().getTimestamp();
+
+        assertEquals(10L, auditChainRepository.findLastSequences(recordedAt, recordedAt.plusSeconds(3600)).get(companyId));
+        QuarkusTransaction.requiringNew().run(() -> auditChainRepository.archiveCheckpoints(companyId, 4, Instant.now()));
+
+        assertEquals(List.of(8L), auditChainRepository.findCheckpoints(companyId, 1, 10).stream()
+                .map(AuditCheckpoint::toSequence)
+                .toList());
+        assertEquals(List.of(8L), auditChainRepository.findLeastRecentlyVerified(companyId, 4).stream()
+                .map(AuditCheckpoint::toSequence)
+                .toList());
+        assertEquals(8L, auditChainRepository.findLatestCheckpoint(companyId).orElseThrow().toSequence());
+    }
+
+    @Test
+    @DisplayName("should store each sealed block's Merkle nodes and drop them with its archived checkpoint")
+    void shouldStoreMerkleNodes() {
+        record(8);
+        verifier.execute(COMMAND);
+        List<MerkleSpan> spans = List.of(new MerkleSpan(1, 1), new MerkleSpan(3, 4), new MerkleSpan(5, 6), new MerkleSpan(1, 4));
+
+        assertEquals(List.of(new MerkleSpan(1, 1), new MerkleSpan(3, 4), new MerkleSpan(5, 6)),
+                auditChainRepository.findMerkleNodes(companyId, spans).stream()
+                        .map(MerkleNode::span)
+                        .sorted((a, b) -> Long.compare(a.fromSequence(), b.fromSequence()))
+                        .toList());
+
+        QuarkusTransaction.requiringNew().run(() -> auditChainRepository.archiveCheckpoints(companyId, 4, Instant.now()));
+        assertEquals(List.of(new MerkleSpan(5, 6)), auditChainRepository.findMerkleNodes(companyId, spans).stream()
+                .map(MerkleNode::span)
+                .toList());
+        assertEquals(6, QuarkusTransaction.requiringNew().call(() -> auditChainRepository.deleteMerkleNodesChunk(companyId, 10)));
+    }
+
+    private List<AuditEvent> record(int count) {
+        List<AuditEvent> events = IntStream.range(0, count).mapToObj(this::event).toList();
+        QuarkusTransaction.requiringNew().run(() -> events.forEach(auditLog::record));
+        return events;
+    }
+
+    private List<AuditChainBreak> breaksOf(VerifyResult result) {
+        return result.breaks().stream()
+                .filter(chainBreak -> chainBreak.companyId().equals(companyId))
+                .toList();
+    }
+
+    // Cycles through the payload shapes so the leaf hash is checked against each one's stored JSON
+    private AuditEvent event(int index) {
+        return switch (index % 3) {
+            case 0 -> event(index, AuditEventType.BUDGET_CREATED,
+                    new BudgetCreatedPayload(100 + index, Currency.EUR, Instant.parse("2024-01-01T00:00:00Z")));
+            case 1 -> event(index, AuditEventType.BUDGET_UPDATED, new BudgetUpdatedPayload(100, 200 + index, Currency.USD));
+            default -> event(index, AuditEventType.CLAIM_VERIFIED,
+                    new UnstructuredPayload(Map.of("zeta", index, "alpha", Map.of("nested", "value \"quoted\""))));
+        };
+    }
+
+    private AuditEvent event(int index, AuditEventType type, AuditPayload payload) {
+        return AuditEvent.reconstitute(AuditEventId.generate(), companyId, type, null, "Budget", "budget-" + index,
+                payload, Instant.now());
+    }
+
+    private static final class TransactionalLock implements ClusterLock {
+
+        @Override
+        public <T> Optional<T> callWithLock(String lockName, Supplier<T> work) {
+            return QuarkusTransaction.requiringNew().call(() -> Optional.ofNullable(work.get()));
+        }
+    }
+}
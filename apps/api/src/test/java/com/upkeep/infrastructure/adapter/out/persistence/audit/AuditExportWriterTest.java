@@ -0,0 +1,162 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AuditExportWriter")
+class AuditExportWriterTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2024-03-01T12:30:45.123456Z");
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+
+    @Test
+    @DisplayName("should write one JSON object per line with the payload embedded as JSON")
+    void shouldWriteNdjson() throws IOException {
+        String output = write(AuditExportFormat.NDJSON,
+                new AuditExportWriter.Row(ID, "BUDGET_UPDATED", null, "BUDGET", "b-1", "{\"newAmountCents\":200}", TIMESTAMP),
+                new AuditExportWriter.Row(ID, "BUDGET_CREATED", ID, "BUDGET", "b-1", null, TIMESTAMP));
+
+        List<String> lines = output.lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(output.endsWith("\n"));
+
+        JsonNode first = new ObjectMapper().readTree(lines.get(0));
+        assertEquals("BUDGET_UPDATED", first.get("eventType").asText());
+        assertTrue(first.get("actorId").isNull());
+        assertEquals(200, first.get("payload").get("newAmountCents").asInt());
+        assertEquals("2024-03-01T12:30:45.123456Z", first.get("timestamp").asText());
+        assertTrue(new ObjectMapper().readTree(lines.get(1)).get("payload").isNull());
+    }
+
+    @Test
+    @DisplayName("should quote CSV fields the way COPY does")
+    void shouldWriteCsv() throws IOException {
+        String output = write(AuditExportFormat.CSV,
+                new AuditExportWriter.Row(ID, "BUDGET_UPDATED", null, "BUDGET", "", "{\"note\":\"a,b\"}", TIMESTAMP));
+
+        assertEquals("""
+                id,event_type,actor_id,target_type,target_id,payload,timestamp
+                %s,BUDGET_UPDATED,,BUDGET,"","{""note"":""a,b""}",2024-03-01T12:30:45.123456Z
+                """.formatted(ID), output);
+    }
+
+    @Test
+    @DisplayName("should stream five million events through gzip within a fixed heap")
+    void shouldStreamWithinFixedHeap() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-Xmx32m", "-XX:+UseSerialGC",
+                "-cp", System.getProperty("java.class.path"),
+                HeapCappedExport.class.getName(), "NDJSON", String.valueOf(HeapCappedExport.ROWS))
+                .redirectErrorStream(true)
+                .start();
+
+        boolean finished = process.waitFor(5, TimeUnit.MINUTES);
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (!finished) {
+            process.destroyForcibly();
+        }
+
+        assertTrue(finished, "export did not finish: " + output);
+        assertEquals(0, process.exitValue(), output);
+        assertTrue(output.contains("lines=" + HeapCappedExport.ROWS), output);
+    }
+
+    private static String write(AuditExportFormat format, AuditExportWriter.Row... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AuditExportWriter writer = AuditExportWriter.open(format, new JsonFactory(), out)) {
+            for (AuditExportWriter.Row row : rows) {
+                writer.write(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs in a child JVM whose heap is far smaller than the export, so holding on to rows fails with an
+     * {@link OutOfMemoryError} instead of passing unnoticed. Compressed output is discarded after counting.
+     */
+    static final class HeapCappedExport {
+
+        static final int ROWS = 5_000_000;
+
+        public static void main(String[] args) throws IOException {
+            AuditExportFormat format = AuditExportFormat.valueOf(args[0]);
+            int rows = Integer.parseInt(args[1]);
+            String companyTarget = UUID.randomUUID().toString();
+            Instant start = Instant.parse("2024-01-01T00:00:00Z");
+
+            LineCounter lines = new LineCounter(new GZIPOutputStream(OutputStream.nullOutputStream(), 64 * 1024));
+            try (OutputStream out = new BufferedOutputStream(lines, 64 * 1024);
+                 AuditExportWriter writer = AuditExportWriter.open(format, new JsonFactory(), out)) {
+                for (int i = 0; i < rows; i++) {
+                    writer.write(new AuditExportWriter.Row(
+                            new UUID(0, i).toString(),
+                            "BUDGET_UPDATED",
+                            new UUID(1, i % 1000).toString(),
+                            "BUDGET",
+                            companyTarget,
+                            "{\"previousAmountCents\":" + i + ",\"newAmountCents\":" + (i + 100) + ",\"currency\":\"EUR\"}",
+                            start.plusMillis(i)
+                    ));
+                }
+            }
+            System.out.println("lines=" + lines.count());
+        }
+    }
+
+    static final class LineCounter extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        LineCounter(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b == '\n') {
+                count++;
+            }
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] == '\n') {
+                    count++;
+                }
+            }
+            delegate.write(bytes, offset, length);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.AuditPayload;
+import com.upkeep.domain.model.audit.BudgetCreatedPayload;
+import com.upkeep.domain.model.audit.BudgetUpdatedPayload;
+import com.upkeep.domain.model.audit.UnstructuredPayload;
+import com.upkeep.domain.model.budget.Currency;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+@DisplayName("AuditPayloadCodec")
+class AuditPayloadCodecTest {
+
+    @Inject
+    AuditPayloadCodec codec;
+
+    @Test
+    @DisplayName("should round-trip typed payloads")
+    void shouldRoundTripTypedPayloads() {
+        AuditPayload created = new BudgetCreatedPayload(50000, Currency.EUR, Instant.parse("2024-03-01T00:00:00Z"));
+        AuditPayload updated = new BudgetUpdatedPayload(50000, 60000, Currency.USD);
+
+        assertEquals(created, codec.decode(AuditEventType.BUDGET_CREATED, codec.encode(created)));
+        assertEquals(updated, codec.decode(AuditEventType.BUDGET_UPDATED, codec.encode(updated)));
+    }
+
+    @Test
+    @DisplayName("should keep the JSON shape of payloads stored before they were typed")
+    void shouldReadLegacyPayloads() {
+        String legacy = "{\"amountCents\":50000,\"currency\":\"EUR\",\"effectiveFrom\":\"2024-03-01T00:00:00Z\"}";
+
+        AuditPayload decoded = codec.decode(AuditEventType.BUDGET_CREATED, legacy);
+
+        assertEquals(new BudgetCreatedPayload(50000, Currency.EUR, Instant.parse("2024-03-01T00:00:00Z")), decoded);
+        assertEquals(legacy, codec.encode(decoded));
+    }
+
+    @Test
+    @DisplayName("should fall back to unstructured payloads for event types without a record")
+    void shouldDecodeUntypedEventsAsUnstructured() {
+        AuditPayload decoded = codec.decode(AuditEventType.PAYOUT_RUN_EXECUTED, "{\"payouts\":3}");
+
+        assertEquals(new UnstructuredPayload(Map.of("payouts", 3)), decoded);
+        assertEquals("{\"payouts\":3}", codec.encode(decoded));
+        assertEquals(new UnstructuredPayload(Map.of()), codec.decode(AuditEventType.CLAIM_VERIFIED, null));
+    }
+}
@@ -0,0 +1,197 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upkeep.domain.model.audit.AuditExportFormat;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.infrastructure.adapter.out.persistence.audit.AuditExportWriterTest.LineCounter;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JdbcAuditEventExporter")
+class JdbcAuditEventExporterTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("on H2, through the JDBC cursor")
+    class Cursor {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("should stream a company's events through gzip within a fixed heap")
+        void shouldStreamRowsWithinFixedHeap() throws Exception {
+            // A file database keeps the rows out of the child's heap, so only the export itself is measured
+            String url = "jdbc:h2:file:" + directory.resolve("audit") + ";CACHE_SIZE=4096;LAZY_QUERY_EXECUTION=TRUE";
+            CompanyId companyId = CompanyId.generate();
+            try (Connection connection = DriverManager.getConnection(url);
+                 Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE audit_events (
+                            id UUID NOT NULL,
+                            company_id UUID,
+                            event_type VARCHAR(50) NOT NULL,
+                            actor_id UUID,
+                            target_type VARCHAR(50),
+                            target_id VARCHAR(255),
+                            payload VARCHAR(1000),
+                            timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+                            PRIMARY KEY (id, timestamp)
+                        )
+                        """);
+                statement.execute("CREATE INDEX idx_audit_events_company_timestamp ON audit_events (company_id, timestamp, id)");
+                insertEvents(statement, companyId, HeapCappedExport.ROWS);
+                insertEvents(statement, CompanyId.generate(), 1000);
+            }
+
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            Process process = new ProcessBuilder(java, "-Xmx48m", "-XX:+UseSerialGC",
+                    "-cp", System.getProperty("java.class.path"),
+                    HeapCappedExport.class.getName(), url, companyId.toString())
+                    .redirectErrorStream(true)
+                    .start();
+
+            boolean finished = process.waitFor(5, TimeUnit.MINUTES);
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (!finished) {
+                process.destroyForcibly();
+            }
+
+            assertTrue(finished, "export did not finish: " + output);
+            assertEquals(0, process.exitValue(), output);
+            assertTrue(output.contains("lines=" + HeapCappedExport.ROWS), output);
+        }
+
+        private static void insertEvents(Statement statement, CompanyId companyId, int rows) throws SQLException {
+            statement.execute("""
+                    INSERT INTO audit_events (id, company_id, event_type, actor_id, target_type, target_id, payload, timestamp)
+                    SELECT RANDOM_UUID(), CAST('%s' AS UUID), 'BUDGET_UPDATED', NULL, 'BUDGET', CAST(X AS VARCHAR),
+                           '{"previousAmountCents":' || X || ',"newAmountCents":' || (X + 100) || ',"currency":"EUR"}',
+                           DATEADD(SECOND, X, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00')
+                    FROM SYSTEM_RANGE(1, %d)
+                    """.formatted(companyId, rows));
+        }
+    }
+
+    /**
+     * Needs Docker; skipped where it is not available. Covers what H2 cannot: the {@code COPY} statements and the
+     * control-character quote and delimiter that keep NDJSON lines unquoted.
+     */
+    @Nested
+    @Testcontainers(disabledWithoutDocker = true)
+    @DisplayName("on PostgreSQL, through COPY")
+    class Copy {
+
+        @Container
+        private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+        @Test
+        @DisplayName("should write JSON lines that survive quotes, commas, backslashes and newlines in the payload")
+        void shouldCopyNdjson() throws Exception {
+            CompanyId companyId = CompanyId.generate();
+            String tricky = "{\"note\": \"say \\\"hi\\\", then\\nleave C:\\\\temp\", \"tab\": \"a\\tb\"}";
+            try (Connection connection = POSTGRES.createConnection("");
+                 Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS audit_events (
+                            id UUID NOT NULL,
+                            company_id UUID,
+                            event_type VARCHAR(50) NOT NULL,
+                            actor_id UUID,
+                            target_type VARCHAR(50),
+                            target_id VARCHAR(255),
+                            payload JSONB,
+                            timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+                            PRIMARY KEY (id, timestamp)
+                        )
+                        """);
+                statement.execute("""
+                        INSERT INTO audit_events VALUES
+                            (gen_random_uuid(), '%1$s', 'BUDGET_UPDATED', NULL, 'BUDGET', 'a,b', '%2$s', '2024-03-01T12:30:45.123456Z'),
+                            (gen_random_uuid(), '%1$s', 'BUDGET_CREATED', gen_random_uuid(), 'BUDGET', '"q"', NULL, '2024-03-02T00:00:00Z')
+                        """.formatted(companyId, tricky.replace("'", "''")));
+            }
+
+            List<String> lines = export(companyId, AuditExportFormat.NDJSON).lines().toList();
+
+            assertEquals(2, lines.size());
+            ObjectMapper mapper = new ObjectMapper();
+            JsonNode first = mapper.readTree(lines.get(0));
+            assertEquals(mapper.readTree(tricky), first.get("payload"));
+            assertTrue(first.get("actorId").isNull());
+            assertEquals("a,b", first.get("targetId").asText());
+            assertEquals("2024-03-01T12:30:45.123456Z", first.get("timestamp").asText());
+            JsonNode second = mapper.readTree(lines.get(1));
+            assertEquals("\"q\"", second.get("targetId").asText());
+            assertTrue(second.get("payload").isNull());
+        }
+
+        @Test
+        @DisplayName("should write CSV with a header row")
+        void shouldCopyCsv() throws Exception {
+            String output = export(CompanyId.generate(), AuditExportFormat.CSV);
+
+            assertEquals(String.join(",", AuditExportWriter.CSV_HEADER) + "\n", output);
+        }
+
+        private static String export(CompanyId companyId, AuditExportFormat format) throws IOException {
+            PGSimpleDataSource dataSource = new PGSimpleDataSource();
+            dataSource.setUrl(POSTGRES.getJdbcUrl());
+            dataSource.setUser(POSTGRES.getUsername());
+            dataSource.setPassword(POSTGRES.getPassword());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new JdbcAuditEventExporter(dataSource, new ObjectMapper(), 100).export(companyId, FROM, TO, format, out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Runs in a child JVM whose heap is far smaller than the export, so holding on to rows fails with an
+     * {@link OutOfMemoryError} instead of passing unnoticed. The output goes through the same gzip stream as the
+     * REST response and is discarded after counting.
+     */
+    static final class HeapCappedExport {
+
+        static final int ROWS = 300_000;
+
+        public static void main(String[] args) throws IOException {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(args[0]);
+            JdbcAuditEventExporter exporter = new JdbcAuditEventExporter(dataSource, new ObjectMapper(), 1000);
+
+            LineCounter lines = new LineCounter(new GZIPOutputStream(OutputStream.nullOutputStream(), 64 * 1024));
+            try (OutputStream out = new BufferedOutputStream(lines, 64 * 1024)) {
+                exporter.export(CompanyId.from(args[1]), FROM, TO, AuditExportFormat.NDJSON, out);
+            }
+            System.out.println("lines=" + lines.count());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.upkeep.infrastructure.adapter.out.persistence.audit;
+
+import com.upkeep.application.port.out.audit.AuditEventRepository;
+import com.upkeep.domain.model.audit.AuditEvent;
+import com.upkeep.domain.model.audit.AuditEventId;
+import com.upkeep.domain.model.audit.AuditEventType;
+import com.upkeep.domain.model.audit.BudgetCreatedPayload;
+import com.upkeep.domain.model.budget.Currency;
+import com.upkeep.domain.model.company.CompanyId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("TransactionalAuditLog")
+class TransactionalAuditLogTest {
+
+    @Inject
+    TransactionalAuditLog auditLog;
+
+    @Inject
+    AuditEventRepository auditEventRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("should only record inside the caller's transaction")
+    void shouldRequireTransaction() {
+        assertThrows(TransactionalException.class, () -> auditLog.record(event()));
+    }
+
+    @Test
+    @DisplayName("should write every event of a committed transaction in one flush")
+    void shouldWriteEventsOnCommit() {
+        List<AuditEvent> events = IntStream.range(0, 120).mapToObj(i -> event()).toList();
+        long flushesBefore = meterRegistry.get("upkeep.audit.flush.size").summary().count();
+
+        QuarkusTransaction.requiringNew().run(() -> events.forEach(auditLog::record));
+
+        events.forEach(event -> assertTrue(auditEventRepository.findById(event.getId()).isPresent()));
+        assertEquals(flushesBefore + 1, meterRegistry.get("upkeep.audit.flush.size").summary().count());
+    }
+
+    @Test
+    @DisplayName("should drop events recorded by a transaction that rolls back")
+    void shouldDropEventsOnRollback() {
+        AuditEvent event = event();
+
+        QuarkusTransaction.begin();
+        auditLog.record(event);
+        QuarkusTransaction.rollback();
+
+        assertTrue(auditEventRepository.findById(event.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should fail the commit when its events cannot be written")
+    void shouldFailCommitWhenFlushFails() {
+        AuditEvent stored = event();
+        QuarkusTransaction.requiringNew().run(() -> auditLog.record(stored));
+        AuditEvent duplicate = AuditEvent.reconstitute(stored.getId(), stored.getCompanyId(), stored.getEventType(),
+                null, stored.getTargetType(), stored.getTargetId(), stored.getPayload(), stored.getTimestamp());
+        AuditEvent sibling = event();
+        double failuresBefore = meterRegistry.get("upkeep.audit.flush.failures").counter().count();
+
+        assertThrows(RuntimeException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            auditLog.record(sibling);
+            auditLog.record(duplicate);
+        }));
+
+        assertTrue(auditEventRepository.findById(sibling.getId()).isEmpty());
+        assertEquals(failuresBefore + 1, meterRegistry.get("upkeep.audit.flush.failures").counter().count());
+    }
+
+    private static AuditEvent event() {
+        return AuditEvent.reconstitute(AuditEventId.generate(), CompanyId.generate(),
+                AuditEventType.BUDGET_CREATED, null, "Budget", "budget-1", new BudgetCreatedPayload(100, Currency.EUR, Instant.EPOCH),
+                Instant.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,124 @@
+package com.upkeep.infrastructure.adapter.out.persistence.company;
+
+import com.upkeep.application.port.in.CreateCompanyUseCase;
+import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyCommand;
+import com.upkeep.application.port.in.GetCompanyDashboardUseCase;
+import com.upkeep.application.port.in.GetCompanyDashboardUseCase.CompanyDashboard;
+import com.upkeep.application.port.in.GetCompanyDashboardUseCase.GetCompanyDashboardQuery;
+import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase;
+import com.upkeep.application.port.in.budget.SetCompanyBudgetUseCase.SetBudgetCommand;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.domain.model.budget.Currency;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("CompanyStatsProjection")
+class CompanyStatsProjectionTest {
+
+    @Inject
+    CreateCompanyUseCase createCompanyUseCase;
+
+    @Inject
+    GetCompanyDashboardUseCase getCompanyDashboardUseCase;
+
+    @Inject
+    SetCompanyBudgetUseCase setCompanyBudgetUseCase;
+
+    @Inject
+    MembershipRepository membershipRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private CustomerId ownerId;
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = CustomerId.generate();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        companyId = CompanyId.from(createCompanyUseCase.execute(
+                new CreateCompanyCommand(ownerId.toString(), "Stats " + suffix, "stats-" + suffix)).companyId());
+    }
+
+    @Test
+    @DisplayName("should start with the owner counted and nothing else set")
+    void shouldInitializeStatsWithCompany() {
+        CompanyDashboard dashboard = dashboard();
+
+        assertEquals(1, dashboard.stats().totalMembers());
+        assertFalse(dashboard.stats().hasBudget());
+        assertFalse(dashboard.stats().hasPackages());
+        assertFalse(dashboard.stats().hasAllocations());
+    }
+
+    @Test
+    @DisplayName("should track members joining and leaving")
+    void shouldTrackMemberCount() {
+        Membership joined = addMember();
+        addMember();
+        assertEquals(3, dashboard().stats().totalMembers());
+
+        QuarkusTransaction.requiringNew().run(() -> membershipRepository.delete(joined));
+
+        assertEquals(2, dashboard().stats().totalMembers());
+    }
+
+    @Test
+    @DisplayName("should flag the budget once one is set")
+    void shouldFlagBudget() {
+        setCompanyBudgetUseCase.execute(new SetBudgetCommand(companyId.toString(), ownerId.toString(), 50_000, Currency.EUR));
+
+        assertTrue(dashboard().stats().hasBudget());
+    }
+
+    @Test
+    @DisplayName("should serve the dashboard with a single query regardless of team size")
+    void shouldServeDashboardInOneQuery() {
+        for (int i = 0; i < 25; i++) {
+            addMember();
+        }
+
+        AtomicReference<CompanyDashboard> dashboard = new AtomicReference<>();
+        long queries = countQueries(() -> dashboard.set(dashboard()));
+
+        assertEquals(1, queries);
+        assertEquals(26, dashboard.get().stats().totalMembers());
+        assertEquals(Role.OWNER, dashboard.get().userRole());
+    }
+
+    private CompanyDashboard dashboard() {
+        return getCompanyDashboardUseCase.execute(new GetCompanyDashboardQuery(ownerId.toString(), companyId.toString()));
+    }
+
+    private Membership addMember() {
+        return QuarkusTransaction.requiringNew().call(() ->
+                membershipRepository.save(Membership.create(CustomerId.generate(), companyId, Role.MEMBER)));
+    }
+
+    private long countQueries(Runnable work) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,143 @@
+package com.upkeep.infrastructure.adapter.out.persistence.invitation;
+
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationTokenCache.InvitationSummary;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.invitation.Invitation;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("CaffeineInvitationTokenCache")
+class CaffeineInvitationTokenCacheTest {
+
+    @Inject
+    CaffeineInvitationTokenCache tokenCache;
+
+    @Inject
+    InvitationRepository invitationRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("should answer most guessed tokens without touching the database")
+    void shouldFilterUnknownTokens() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        double filteredBefore = requests("filtered");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(Optional.empty(), tokenCache.findByToken(InvitationToken.generate()));
+        }
+
+        long queries = statistics.getPrepareStatementCount();
+        assertTrue(queries < 50, "expected guesses to be filtered in memory, got " + queries + " queries for 1000");
+        assertTrue(requests("filtered") - filteredBefore > 950);
+    }
+
+    @Test
+    @DisplayName("should resolve a new invitation once it commits and serve repeats from the cache")
+    void shouldResolveNewInvitation() {
+        Invitation invitation = pendingInvitation();
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.insertAll(List.of(invitation)));
+        double hitsBefore = requests("hit");
+
+        InvitationSummary summary = tokenCache.findByToken(invitation.getToken()).orElseThrow();
+        tokenCache.findByToken(invitation.getToken());
+
+        assertEquals(invitation.getId(), summary.invitationId());
+        assertEquals(invitation.getCompanyId(), summary.companyId());
+        assertEquals(InvitationStatus.PENDING, summary.status());
+        assertEquals(1.0, requests("hit") - hitsBefore);
+    }
+
+    @Test
+    @DisplayName("should report an accepted invitation as accepted on the next lookup")
+    void shouldRefreshAcceptedInvitation() {
+        Invitation invitation = pendingInvitation();
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.save(invitation));
+        assertEquals(InvitationStatus.PENDING, tokenCache.findByToken(invitation.getToken()).orElseThrow().status());
+
+        invitation.accept();
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.save(invitation));
+
+        assertEquals(InvitationStatus.ACCEPTED, tokenCache.findByToken(invitation.getToken()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("should report a swept invitation as expired on the next lookup")
+    void shouldRefreshExpiredInvitation() {
+        Instant now = Instant.now();
+        Invitation invitation = invitation(InvitationStatus.PENDING, now.minus(Duration.ofMinutes(1)));
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.save(invitation));
+        assertEquals(InvitationStatus.PENDING, tokenCache.findByToken(invitation.getToken()).orElseThrow().status());
+
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.expireOverdue(now, Integer.MAX_VALUE));
+
+        assertEquals(InvitationStatus.EXPIRED, tokenCache.findByToken(invitation.getToken()).orElseThrow().status());
+    }
+
+    @Test
+    @DisplayName("should pick up tokens written behind its back when the filter is rebuilt")
+    void shouldRebuildFilterFromDatabase() {
+        InvitationToken token = InvitationToken.generate();
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+                .createNativeQuery("""
+                        INSERT INTO invitations (id, company_id, invited_by, email, role, token, status,
+                                                 created_at, expires_at, updated_at)
+                        VALUES (RANDOM_UUID(), RANDOM_UUID(), RANDOM_UUID(), 'raw@example.com', 'MEMBER', :token,
+                                'PENDING', CURRENT_TIMESTAMP, DATEADD(DAY, 7, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP)
+                        """)
+                .setParameter("token", token.value())
+                .executeUpdate());
+
+        tokenCache.rebuildFilter();
+
+        assertTrue(tokenCache.mightExist(token));
+        assertTrue(tokenCache.findByToken(token).isPresent());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("upkeep.invitation.token.cache.requests", "result", result).count();
+    }
+
+    private Invitation pendingInvitation() {
+        return invitation(InvitationStatus.PENDING, Instant.now().plus(Duration.ofDays(7)));
+    }
+
+    private Invitation invitation(InvitationStatus status, Instant expiresAt) {
+        Instant createdAt = expiresAt.minus(Duration.ofDays(7));
+        return Invitation.reconstitute(InvitationId.generate(), CompanyId.generate(), CustomerId.generate(),
+                new Email("token-cache@example.com"), Role.MEMBER, InvitationToken.generate(), status, createdAt,
+                expiresAt, createdAt);
+    }
+}
@@ -0,0 +1,204 @@
+package com.upkeep.infrastructure.adapter.out.persistence.invitation;
+
+import com.upkeep.application.port.out.invitation.InvitationRepository;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationCursor;
+import com.upkeep.application.port.out.invitation.InvitationRepository.InvitationRow;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.invitation.Invitation;
+import com.upkeep.domain.model.invitation.InvitationId;
+import com.upkeep.domain.model.invitation.InvitationStatus;
+import com.upkeep.domain.model.invitation.InvitationToken;
+import com.upkeep.domain.model.membership.Role;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("InvitationJpaRepository")
+class InvitationJpaRepositoryTest {
+
+    @Inject
+    InvitationRepository invitationRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        companyId = CompanyId.generate();
+        // other tests leave overdue invitations behind in the shared database
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.expireOverdue(Instant.now(), Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("should expire overdue pending invitations oldest first, one chunk at a time")
+    void shouldExpireOverdueInChunks() {
+        Instant now = Instant.now();
+        Invitation oldest = invitation("oldest@example.com", InvitationStatus.PENDING, now.minus(Duration.ofDays(3)));
+        Invitation older = invitation("older@example.com", InvitationStatus.PENDING, now.minus(Duration.ofDays(2)));
+        Invitation overdue = invitation("overdue@example.com", InvitationStatus.PENDING, now.minus(Duration.ofDays(1)));
+        Invitation live = invitation("live@example.com", InvitationStatus.PENDING, now.plus(Duration.ofDays(1)));
+        Invitation accepted = invitation("accepted@example.com", InvitationStatus.ACCEPTED, now.minus(Duration.ofDays(5)));
+        insert(List.of(oldest, older, overdue, live, accepted));
+
+        int firstChunk = QuarkusTransaction.requiringNew().call(() -> invitationRepository.expireOverdue(now, 2));
+
+        assertEquals(2, firstChunk);
+        assertEquals(InvitationStatus.EXPIRED, status(oldest));
+        assertEquals(InvitationStatus.EXPIRED, status(older));
+        assertEquals(InvitationStatus.PENDING, status(overdue));
+
+        int secondChunk = QuarkusTransaction.requiringNew().call(() -> invitationRepository.expireOverdue(now, 2));
+
+        assertEquals(1, secondChunk);
+        assertEquals(InvitationStatus.EXPIRED, status(overdue));
+        assertEquals(InvitationStatus.PENDING, status(live));
+        assertEquals(InvitationStatus.ACCEPTED, status(accepted));
+        assertEquals(0, QuarkusTransaction.requiringNew().call(() -> invitationRepository.expireOverdue(now, 2)));
+    }
+
+    @Test
+    @DisplayName("should no longer report swept invitations as pending duplicates")
+    void shouldIgnoreExpiredInvitationsInDuplicateChecks() {
+        Instant now = Instant.now();
+        Email swept = new Email("swept@example.com");
+        Email live = new Email("still-live@example.com");
+        insert(List.of(
+                invitation(swept.value(), InvitationStatus.PENDING, now.minus(Duration.ofHours(1))),
+                invitation(live.value(), InvitationStatus.PENDING, now.plus(Duration.ofDays(7)))));
+
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.expireOverdue(now, 100));
+
+        assertFalse(invitationRepository.existsByCompanyIdAndEmailAndStatus(companyId, swept, InvitationStatus.PENDING));
+        assertTrue(invitationRepository.existsByCompanyIdAndEmailAndStatus(companyId, live, InvitationStatus.PENDING));
+        assertTrue(invitationRepository.existsByCompanyIdAndEmailAndStatus(companyId, swept, InvitationStatus.EXPIRED));
+        assertEquals(Set.of(live),
+                invitationRepository.findEmailsWithStatus(companyId, List.of(swept, live), InvitationStatus.PENDING));
+        assertEquals(Set.of(swept),
+                invitationRepository.findEmailsWithStatus(companyId, List.of(swept, live), InvitationStatus.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("should page invitations newest first, filtered by status")
+    void shouldPageInvitationsNewestFirst() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Invitation oldest = invitation("oldest@example.com", InvitationStatus.PENDING, now.plus(Duration.ofDays(1)));
+        Invitation accepted = invitation("accepted@example.com", InvitationStatus.ACCEPTED, now.plus(Duration.ofDays(2)));
+        Invitation newest = invitation("newest@example.com", InvitationStatus.PENDING, now.plus(Duration.ofDays(3)));
+        Invitation declined = invitation("declined@example.com", InvitationStatus.DECLINED, now.plus(Duration.ofDays(4)));
+        insert(List.of(oldest, accepted, newest, declined));
+        Set<InvitationStatus> open = Set.of(InvitationStatus.PENDING, InvitationStatus.ACCEPTED);
+
+        List<InvitationRow> first = invitationRepository.findInvitationPage(companyId, open, null, 2);
+        InvitationRow last = first.getLast();
+        List<InvitationRow> second = invitationRepository.findInvitationPage(companyId, open,
+                new InvitationCursor(last.createdAt(), last.invitationId()), 2);
+
+        assertEquals(List.of(newest.getId(), accepted.getId()), first.stream().map(InvitationRow::invitationId).toList());
+        assertEquals(List.of(oldest.getId()), second.stream().map(InvitationRow::invitationId).toList());
+        assertEquals(4, invitationRepository.findInvitationPage(companyId, Set.of(), null, 10).size());
+        assertEquals("newest@example.com", first.getFirst().email());
+        assertEquals(newest.getInvitedBy(), first.getFirst().invitedBy());
+    }
+
+    @Test
+    @DisplayName("should walk 100k invitations page by page as projections of at most the limit")
+    void shouldWalkLargeHistoryWithBoundedPages() {
+        // Memory per request is bounded by what is checked here: no page exceeds the limit and none hydrates entities
+        int total = 100_000;
+        int limit = 1_000;
+        insertGenerated(total);
+        try {
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            Set<InvitationId> seen = new HashSet<>(total * 2);
+            InvitationCursor cursor = null;
+            Instant previous = Instant.MAX;
+            int pages = 0;
+            while (true) {
+                List<InvitationRow> page = invitationRepository.findInvitationPage(companyId, Set.of(), cursor, limit);
+                if (page.isEmpty()) {
+                    break;
+                }
+                assertTrue(page.size() <= limit);
+                for (InvitationRow row : page) {
+                    assertFalse(row.createdAt().isAfter(previous), "rows must come newest first");
+                    assertTrue(seen.add(row.invitationId()), "row returned twice: " + row.invitationId());
+                    previous = row.createdAt();
+                }
+                InvitationRow last = page.getLast();
+                cursor = new InvitationCursor(last.createdAt(), last.invitationId());
+                pages++;
+            }
+
+            assertEquals(total, seen.size());
+            assertEquals(total / limit, pages);
+            assertEquals(0, statistics.getEntityLoadCount(), "pages must be read as projections");
+        } finally {
+            QuarkusTransaction.requiringNew().run(() -> entityManager
+                    .createNativeQuery("DELETE FROM invitations WHERE company_id = :companyId")
+                    .setParameter("companyId", companyId.value())
+                    .executeUpdate());
+        }
+    }
+
+    private void insertGenerated(int count) {
+        // Two rows per timestamp so the id tie-breaker is exercised across page boundaries
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+                .createNativeQuery("""
+                        INSERT INTO invitations (id, company_id, invited_by, email, role, token, status,
+                                                 created_at, expires_at, updated_at)
+                        SELECT RANDOM_UUID(), :companyId, :invitedBy, CONCAT('bulk-', r."X", '@example.com'), 'MEMBER',
+                               CONCAT('token-', RANDOM_UUID()),
+                               CASE MOD(r."X", 3) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'ACCEPTED' ELSE 'DECLINED' END,
+                               DATEADD(SECOND, -(r."X" / 2), CURRENT_TIMESTAMP), DATEADD(DAY, 7, CURRENT_TIMESTAMP),
+                               CURRENT_TIMESTAMP
+                        FROM SYSTEM_RANGE(1, :count) r
+                        """)
+                .setParameter("companyId", companyId.value())
+                .setParameter("invitedBy", CustomerId.generate().value())
+                .setParameter("count", count)
+                .executeUpdate());
+    }
+
+    private void insert(List<Invitation> invitations) {
+        QuarkusTransaction.requiringNew().run(() -> invitationRepository.insertAll(invitations));
+    }
+
+    private InvitationStatus status(Invitation invitation) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> invitationRepository.findById(invitation.getId()).orElseThrow().getStatus());
+    }
+
+    private Invitation invitation(String email, InvitationStatus status, Instant expiresAt) {
+        Instant createdAt = expiresAt.minus(Duration.ofDays(7));
+        return Invitation.reconstitute(InvitationId.generate(), companyId, CustomerId.generate(), new Email(email),
+                Role.MEMBER, InvitationToken.generate(), status, createdAt, expiresAt, createdAt);
+    }
+}
@@ -0,0 +1,38 @@
+package com.upkeep.infrastructure.adapter.out.persistence.invitation;
+
+import com.upkeep.domain.model.invitation.InvitationToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TokenBloomFilter")
+class TokenBloomFilterTest {
+
+    @Test
+    @DisplayName("should never reject a token that was added")
+    void shouldKeepEveryAddedToken() {
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.01);
+        List<String> tokens = IntStream.range(0, 10_000).mapToObj(i -> InvitationToken.generate().value()).toList();
+
+        tokens.forEach(filter::put);
+
+        assertTrue(tokens.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    @DisplayName("should reject unknown tokens at close to the configured rate")
+    void shouldRejectMostUnknownTokens() {
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(InvitationToken.generate().value()));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(InvitationToken.generate().value()))
+                .count();
+
+        assertTrue(falsePositives < 2_000, "expected about 1% false positives, got " + falsePositives + " in 100000");
+    }
+}
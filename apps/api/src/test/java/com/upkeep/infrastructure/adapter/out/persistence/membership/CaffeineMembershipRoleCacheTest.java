@@ -0,0 +1,118 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.upkeep.application.port.in.CreateCompanyUseCase;
+import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyCommand;
+import com.upkeep.application.port.in.UpdateMemberRoleUseCase;
+import com.upkeep.application.port.in.UpdateMemberRoleUseCase.UpdateMemberRoleCommand;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.domain.exception.UnauthorizedOperationException;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@QuarkusTest
+@DisplayName("CaffeineMembershipRoleCache")
+class CaffeineMembershipRoleCacheTest {
+
+    @Inject
+    CaffeineMembershipRoleCache roleCache;
+
+    @Inject
+    MembershipRepository membershipRepository;
+
+    @Inject
+    CreateCompanyUseCase createCompanyUseCase;
+
+    @Inject
+    UpdateMemberRoleUseCase updateMemberRoleUseCase;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private CustomerId ownerId;
+    private CompanyId companyId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = CustomerId.generate();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        companyId = CompanyId.from(createCompanyUseCase.execute(
+                new CreateCompanyCommand(ownerId.toString(), "Role Cache " + suffix, "role-cache-" + suffix)).companyId());
+    }
+
+    @Test
+    @DisplayName("should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        double hitsBefore = requests("hit");
+        double missesBefore = requests("miss");
+
+        assertEquals(Optional.of(Role.OWNER), roleCache.findRole(ownerId, companyId));
+        assertEquals(Optional.of(Role.OWNER), roleCache.findRole(ownerId, companyId));
+
+        assertEquals(1.0, requests("miss") - missesBefore);
+        assertEquals(1.0, requests("hit") - hitsBefore);
+    }
+
+    @Test
+    @DisplayName("should revoke a demoted owner's rights on the next request")
+    void shouldRevokeDemotedOwnerImmediately() {
+        CustomerId otherOwnerId = CustomerId.generate();
+        Membership otherOwner = QuarkusTransaction.requiringNew().call(() ->
+                membershipRepository.save(Membership.create(otherOwnerId, companyId, Role.OWNER)));
+        Membership demoted = membershipRepository.findByCustomerIdAndCompanyId(ownerId, companyId).orElseThrow();
+        assertEquals(Optional.of(Role.OWNER), roleCache.findRole(ownerId, companyId));
+
+        updateMemberRoleUseCase.execute(new UpdateMemberRoleCommand(
+                otherOwnerId.toString(), companyId.toString(), demoted.getId().toString(), Role.MEMBER));
+
+        assertEquals(Optional.of(Role.MEMBER), roleCache.findRole(ownerId, companyId));
+        assertThrows(UnauthorizedOperationException.class, () -> updateMemberRoleUseCase.execute(new UpdateMemberRoleCommand(
+                ownerId.toString(), companyId.toString(), otherOwner.getId().toString(), Role.MEMBER)));
+    }
+
+    @Test
+    @DisplayName("should keep the entry when the invalidating transaction rolls back")
+    void shouldKeepEntryOnRollback() {
+        roleCache.findRole(ownerId, companyId);
+        double missesBefore = requests("miss");
+
+        assertThrows(IllegalStateException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            roleCache.invalidateAfterCommit(ownerId, companyId);
+            throw new IllegalStateException("rolled back");
+        }));
+        roleCache.findRole(ownerId, companyId);
+
+        assertEquals(0.0, requests("miss") - missesBefore);
+    }
+
+    @Test
+    @DisplayName("should evict entries named in cluster notifications")
+    void shouldEvictOnNotification() {
+        roleCache.findRole(ownerId, companyId);
+        double missesBefore = requests("miss");
+
+        roleCache.onInvalidation(new CaffeineMembershipRoleCache.Key(ownerId.value(), companyId.value()).toPayload());
+        roleCache.onInvalidation("not-a-key");
+        roleCache.findRole(ownerId, companyId);
+
+        assertEquals(1.0, requests("miss") - missesBefore);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("upkeep.membership.role.cache.requests").tag("result", result).counter().count();
+    }
+}
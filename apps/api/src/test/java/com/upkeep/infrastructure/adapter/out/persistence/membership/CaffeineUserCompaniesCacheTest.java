@@ -0,0 +1,120 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.upkeep.application.port.in.CreateCompanyUseCase;
+import com.upkeep.application.port.in.CreateCompanyUseCase.CreateCompanyCommand;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.CustomerId;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("CaffeineUserCompaniesCache")
+class CaffeineUserCompaniesCacheTest {
+
+    @Inject
+    CaffeineUserCompaniesCache userCompaniesCache;
+
+    @Inject
+    CreateCompanyUseCase createCompanyUseCase;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    @DisplayName("should load the switcher list with the same number of queries regardless of company count")
+    void shouldUseConstantQueryCount() {
+        CustomerId fewCompanies = CustomerId.generate();
+        CustomerId manyCompanies = CustomerId.generate();
+        createCompanies(fewCompanies, 2);
+        createCompanies(manyCompanies, 20);
+
+        long fewQueries = countQueries(() -> assertEquals(2, userCompaniesCache.findCompanies(fewCompanies).size()));
+        long manyQueries = countQueries(() -> assertEquals(20, userCompaniesCache.findCompanies(manyCompanies).size()));
+
+        assertEquals(fewQueries, manyQueries);
+        assertEquals(1, manyQueries);
+    }
+
+    @Test
+    @DisplayName("should serve repeated lookups without touching the database")
+    void shouldServeRepeatedLookupsFromCache() {
+        CustomerId customerId = CustomerId.generate();
+        createCompanies(customerId, 3);
+        userCompaniesCache.findCompanies(customerId);
+
+        long queries = countQueries(() -> userCompaniesCache.findCompanies(customerId));
+
+        assertEquals(0, queries);
+    }
+
+    @Test
+    @DisplayName("should include a company joined after the list was cached")
+    void shouldInvalidateOnNewMembership() {
+        CustomerId customerId = CustomerId.generate();
+        createCompanies(customerId, 1);
+        assertEquals(1, userCompaniesCache.findCompanies(customerId).size());
+
+        createCompanies(customerId, 1);
+
+        assertEquals(2, userCompaniesCache.findCompanies(customerId).size());
+    }
+
+    @Test
+    @DisplayName("should evict every customer named in a peer notification")
+    void shouldEvictOnPeerNotification() {
+        CustomerId first = CustomerId.generate();
+        CustomerId second = CustomerId.generate();
+        createCompanies(first, 1);
+        createCompanies(second, 1);
+        userCompaniesCache.findCompanies(first);
+        userCompaniesCache.findCompanies(second);
+
+        userCompaniesCache.onInvalidation("customer:" + first + "," + second);
+
+        assertTrue(countQueries(() -> userCompaniesCache.findCompanies(first)) > 0);
+        assertTrue(countQueries(() -> userCompaniesCache.findCompanies(second)) > 0);
+    }
+
+    @Test
+    @DisplayName("should evict large member lists after commit")
+    void shouldEvictManyCustomersAfterCommit() {
+        List<CustomerId> customerIds = IntStream.range(0, 250).mapToObj(i -> CustomerId.generate()).toList();
+        CustomerId cached = customerIds.getLast();
+        createCompanies(cached, 1);
+        userCompaniesCache.findCompanies(cached);
+
+        QuarkusTransaction.requiringNew().run(() -> userCompaniesCache.invalidateAllAfterCommit(customerIds));
+
+        assertTrue(countQueries(() -> userCompaniesCache.findCompanies(cached)) > 0);
+    }
+
+    private long countQueries(Runnable work) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<CompanyId> createCompanies(CustomerId ownerId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    String suffix = UUID.randomUUID().toString().substring(0, 8);
+                    return CompanyId.from(createCompanyUseCase.execute(new CreateCompanyCommand(
+                            ownerId.toString(), "Switcher " + suffix, "switcher-" + suffix)).companyId());
+                })
+                .toList();
+    }
+}
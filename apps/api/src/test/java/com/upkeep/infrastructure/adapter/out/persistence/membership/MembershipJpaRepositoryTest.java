@@ -0,0 +1,134 @@
+package com.upkeep.infrastructure.adapter.out.persistence.membership;
+
+import com.upkeep.application.port.in.GetCompanyMembersUseCase;
+import com.upkeep.application.port.in.GetCompanyMembersUseCase.GetCompanyMembersQuery;
+import com.upkeep.application.port.out.customer.CustomerRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberCursor;
+import com.upkeep.application.port.out.membership.MembershipRepository.MemberRow;
+import com.upkeep.domain.model.company.CompanyId;
+import com.upkeep.domain.model.customer.AccountType;
+import com.upkeep.domain.model.customer.Customer;
+import com.upkeep.domain.model.customer.CustomerId;
+import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.customer.PasswordHash;
+import com.upkeep.domain.model.membership.Membership;
+import com.upkeep.domain.model.membership.MembershipId;
+import com.upkeep.domain.model.membership.Role;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("MembershipJpaRepository")
+class MembershipJpaRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Inject
+    MembershipRepository membershipRepository;
+
+    @Inject
+    CustomerRepository customerRepository;
+
+    @Inject
+    GetCompanyMembersUseCase getCompanyMembersUseCase;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    @DisplayName("should walk every member exactly once in (joinedAt, id) order")
+    void shouldWalkAllMembersInKeysetOrder() {
+        CompanyId companyId = CompanyId.generate();
+        List<Membership> memberships = createMembers(companyId, 7);
+
+        List<MemberRow> walked = new ArrayList<>();
+        MemberCursor after = null;
+        List<MemberRow> page;
+        do {
+            page = membershipRepository.findMemberPage(companyId, null, after, 3);
+            walked.addAll(page);
+            if (!page.isEmpty()) {
+                MemberRow last = page.getLast();
+                after = new MemberCursor(last.joinedAt(), last.membershipId());
+            }
+        } while (page.size() == 3);
+
+        List<MembershipId> expected = memberships.stream()
+                .sorted((a, b) -> a.getJoinedAt().equals(b.getJoinedAt())
+                        ? a.getId().value().toString().compareTo(b.getId().value().toString())
+                        : a.getJoinedAt().compareTo(b.getJoinedAt()))
+                .map(Membership::getId)
+                .toList();
+        assertEquals(expected, walked.stream().map(MemberRow::membershipId).toList());
+        assertTrue(walked.stream().allMatch(row -> row.email().endsWith("@keyset.test")));
+    }
+
+    @Test
+    @DisplayName("should filter by role")
+    void shouldFilterByRole() {
+        CompanyId companyId = CompanyId.generate();
+        createMembers(companyId, 5);
+
+        List<MemberRow> owners = membershipRepository.findMemberPage(companyId, Role.OWNER, null, 10);
+
+        assertEquals(1, owners.size());
+        assertEquals(Role.OWNER, owners.getFirst().role());
+    }
+
+    @Test
+    @DisplayName("should list members with the same number of queries regardless of team size")
+    void shouldUseConstantQueryCount() {
+        CompanyId smallCompany = CompanyId.generate();
+        CompanyId largeCompany = CompanyId.generate();
+        CustomerId smallOwner = createMembers(smallCompany, 3).getFirst().getCustomerId();
+        CustomerId largeOwner = createMembers(largeCompany, 40).getFirst().getCustomerId();
+
+        long smallQueries = countQueries(() -> getCompanyMembersUseCase.execute(
+                new GetCompanyMembersQuery(smallOwner.toString(), smallCompany.toString())));
+        long largeQueries = countQueries(() -> getCompanyMembersUseCase.execute(
+                new GetCompanyMembersQuery(largeOwner.toString(), largeCompany.toString())));
+
+        assertEquals(smallQueries, largeQueries);
+        assertTrue(largeQueries <= 2, "expected role lookup and one page query, got " + largeQueries);
+    }
+
+    private long countQueries(Runnable work) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Membership> createMembers(CompanyId companyId, int count) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            List<Membership> created = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Customer customer = Customer.create(
+                        new Email("member-" + UUID.randomUUID() + "@keyset.test"),
+                        new PasswordHash("hash"),
+                        AccountType.COMPANY);
+                customerRepository.save(customer);
+                Instant joinedAt = BASE.plusSeconds(i / 2);
+                created.add(membershipRepository.save(Membership.reconstitute(
+                        MembershipId.generate(), customer.getId(), companyId,
+                        i == 0 ? Role.OWNER : Role.MEMBER, joinedAt, joinedAt)));
+            }
+            return created;
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package com.upkeep.infrastructure.adapter.out.persistence.notification;
+
+import com.upkeep.application.port.out.notification.EmailKind;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.ClaimedEmail;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryOutcome;
+import com.upkeep.application.port.out.notification.EmailOutboxRepository.DeliveryStatus;
+import com.upkeep.application.port.out.notification.EmailQueue.InvitationEmail;
+import com.upkeep.domain.model.customer.Email;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("EmailOutboxJpaRepository")
+class EmailOutboxJpaRepositoryTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Inject
+    EmailOutboxJpaRepository outbox;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> outbox.deleteAll());
+    }
+
+    @Test
+    @DisplayName("should only enqueue inside the caller's transaction")
+    void shouldRequireTransaction() {
+        assertThrows(TransactionalException.class, () -> outbox.enqueueWelcomeEmail(new Email("nobody@example.com")));
+    }
+
+    @Test
+    @DisplayName("should drop emails enqueued by a transaction that rolls back")
+    void shouldDropEmailsOnRollback() {
+        QuarkusTransaction.begin();
+        outbox.enqueueWelcomeEmail(new Email("rolled-back@example.com"));
+        QuarkusTransaction.rollback();
+
+        assertTrue(claim(Instant.now(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should lease claimed emails so the next claim skips them")
+    void shouldLeaseClaimedEmails() {
+        enqueueInvitations(3);
+        Instant now = now();
+
+        List<ClaimedEmail> first = claim(now, 2);
+        List<ClaimedEmail> second = claim(now, 10);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertTrue(claim(now, 10).isEmpty());
+        assertEquals(EmailKind.INVITATION, first.getFirst().email().kind());
+        assertEquals(1, first.getFirst().attempts());
+        assertEquals(3, claim(now.plus(LEASE), 10).size(), "an expired lease makes the emails due again");
+    }
+
+    @Test
+    @DisplayName("should skip rows another dispatcher has locked instead of waiting")
+    void shouldSkipLockedRows() throws Exception {
+        enqueueInvitations(3);
+        Instant now = now();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(() ->
+                QuarkusTransaction.requiringNew().call(() -> {
+                    int size = outbox.claimDue(now, now.plus(LEASE), 3).size();
+                    claimed.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return size;
+                }));
+        assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+        List<ClaimedEmail> concurrent = claim(now, 10);
+        release.countDown();
+
+        // H2 locks every row its scan reads, so unlike PostgreSQL a partial claim would hide the rest; claim them all
+        assertEquals(3, holder.get(10, TimeUnit.SECONDS));
+        assertTrue(concurrent.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should record sent, retried and failed outcomes")
+    void shouldRecordOutcomes() {
+        enqueueInvitations(3);
+        Instant now = now();
+        List<ClaimedEmail> claimed = claim(now, 3);
+        Instant retryAt = now.plus(Duration.ofMinutes(5));
+
+        outbox.recordOutcomes(List.of(
+                DeliveryOutcome.sent(claimed.get(0), now),
+                DeliveryOutcome.retryAt(claimed.get(1), retryAt, "451 try later"),
+                DeliveryOutcome.failed(claimed.get(2), now, "550 no such user")
+        ));
+
+        assertEquals(DeliveryStatus.SENT, status(claimed.get(0)));
+        assertEquals(DeliveryStatus.PENDING, status(claimed.get(1)));
+        assertEquals(DeliveryStatus.FAILED, status(claimed.get(2)));
+        assertEquals("550 no such user", QuarkusTransaction.requiringNew()
+                .call(() -> outbox.findById(claimed.get(2).id()).lastError));
+
+        List<ClaimedEmail> retried = claim(retryAt, 10);
+        assertEquals(1, retried.size());
+        assertEquals(claimed.get(1).id(), retried.getFirst().id());
+        assertEquals(2, retried.getFirst().attempts());
+    }
+
+    @Test
+    @DisplayName("should drop a late outcome for an email claimed again since")
+    void shouldFenceLateOutcomes() {
+        enqueueInvitations(1);
+        Instant now = now();
+        ClaimedEmail stale = claim(now, 1).getFirst();
+        ClaimedEmail reclaimed = claim(now.plus(LEASE), 1).getFirst();
+
+        outbox.recordOutcomes(List.of(DeliveryOutcome.sent(reclaimed, now.plus(LEASE))));
+        outbox.recordOutcomes(List.of(DeliveryOutcome.failed(stale, now.plus(LEASE), "421 timed out")));
+
+        assertEquals(DeliveryStatus.SENT, status(reclaimed));
+        assertNull(QuarkusTransaction.requiringNew().call(() -> outbox.findById(reclaimed.id()).lastError));
+    }
+
+    @Test
+    @DisplayName("should renew only the leases nobody has claimed since")
+    void shouldRenewHeldLeases() {
+        enqueueInvitations(2);
+        Instant now = now();
+        List<ClaimedEmail> claimed = claim(now, 2);
+        outbox.recordOutcomes(List.of(DeliveryOutcome.retryAt(claimed.get(1), now, "451 try later")));
+        List<ClaimedEmail> reclaimed = claim(now, 10);
+        assertEquals(1, reclaimed.size());
+
+        Instant renewedUntil = now.plus(LEASE.multipliedBy(2));
+        Set<UUID> held = outbox.renewLease(claimed, renewedUntil);
+
+        assertEquals(Set.of(claimed.get(0).id()), held);
+        assertEquals(List.of(reclaimed.getFirst().id()), claim(now.plus(LEASE), 10).stream().map(ClaimedEmail::id).toList(),
+                "the renewed email stays leased after the original lease has run out");
+    }
+
+    @Test
+    @DisplayName("should report the creation time of the oldest pending email")
+    void shouldFindOldestPendingEmail() {
+        assertTrue(outbox.findOldestPendingCreatedAt().isEmpty());
+
+        Instant before = Instant.now();
+        enqueueInvitations(2);
+        List<ClaimedEmail> claimed = claim(Instant.now(), 2);
+        outbox.recordOutcomes(List.of(DeliveryOutcome.sent(claimed.getFirst(), Instant.now())));
+
+        Instant oldest = outbox.findOldestPendingCreatedAt().orElseThrow();
+        assertFalse(oldest.isBefore(before.minusMillis(1)));
+    }
+
+    @Test
+    @DisplayName("should purge only sent and failed emails older than the cutoff")
+    void shouldPurgeFinishedEmails() {
+        enqueueInvitations(4);
+        Instant now = now();
+        List<ClaimedEmail> claimed = claim(now, 4);
+        outbox.recordOutcomes(List.of(
+                DeliveryOutcome.sent(claimed.get(0), now),
+                DeliveryOutcome.failed(claimed.get(1), now, "550 no such user"),
+                DeliveryOutcome.sent(claimed.get(2), now),
+                DeliveryOutcome.retryAt(claimed.get(3), now, "451 try later")
+        ));
+        Instant old = now.minus(Duration.ofDays(40));
+        QuarkusTransaction.requiringNew().run(() -> List.of(claimed.get(0), claimed.get(1), claimed.get(3))
+                .forEach(email -> outbox.findById(email.id()).createdAt = old));
+
+        Instant cutoff = now.minus(Duration.ofDays(30));
+        assertEquals(1, outbox.deleteFinishedBefore(cutoff, 1));
+        assertEquals(1, outbox.deleteFinishedBefore(cutoff, 10));
+        assertEquals(0, outbox.deleteFinishedBefore(cutoff, 10));
+        assertEquals(2L, QuarkusTransaction.requiringNew().call(() -> outbox.count()),
+                "a recent sent email and an old pending one are kept");
+    }
+
+    // Timestamps are stored with microsecond precision; a nanosecond "now" could round below a row's due time
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void enqueueInvitations(int count) {
+        QuarkusTransaction.requiringNew().run(() -> outbox.enqueueInvitationEmails(
+                IntStream.range(0, count)
+                        .mapToObj(i -> new InvitationEmail(new Email("invitee-" + i + "@example.com"), "token-" + i))
+                        .toList()));
+    }
+
+    private List<ClaimedEmail> claim(Instant now, int limit) {
+        return outbox.claimDue(now, now.plus(LEASE), limit);
+    }
+
+    private DeliveryStatus status(ClaimedEmail email) {
+        return QuarkusTransaction.requiringNew().call(() -> outbox.findById(email.id()).status);
+    }
+}
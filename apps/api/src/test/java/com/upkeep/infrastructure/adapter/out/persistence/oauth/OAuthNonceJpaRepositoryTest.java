@@ -0,0 +1,53 @@
+package com.upkeep.infrastructure.adapter.out.persistence.oauth;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@DisplayName("OAuthNonceJpaRepository")
+class OAuthNonceJpaRepositoryTest {
+
+    @Inject
+    OAuthNonceJpaRepository nonces;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> nonces.deleteAll());
+    }
+
+    @Test
+    @DisplayName("should consume a nonce only once")
+    void shouldConsumeNonceOnce() {
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(10));
+
+        assertTrue(nonces.markConsumed("nonce-a", expiresAt));
+        assertFalse(nonces.markConsumed("nonce-a", expiresAt));
+        assertTrue(nonces.markConsumed("nonce-b", expiresAt));
+    }
+
+    @Test
+    @DisplayName("should delete only expired nonces, up to the limit")
+    void shouldDeleteExpiredNonces() {
+        Instant now = Instant.now();
+        nonces.markConsumed("expired-1", now.minusSeconds(30));
+        nonces.markConsumed("expired-2", now.minusSeconds(20));
+        nonces.markConsumed("expired-3", now.minusSeconds(10));
+        nonces.markConsumed("live", now.plusSeconds(600));
+
+        assertEquals(2, nonces.deleteExpired(now, 2));
+        assertEquals(1, nonces.deleteExpired(now, 2));
+        assertEquals(1L, QuarkusTransaction.requiringNew().call(() -> nonces.count()));
+        assertFalse(nonces.markConsumed("live", now.plusSeconds(600)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.upkeep.domain.model.customer.Password;
+import com.upkeep.domain.model.customer.PasswordHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Argon2idPasswordHasher")
+class Argon2idPasswordHasherTest {
+
+    private PasswordHashingExecutor executor;
+    private BcryptPasswordHasher bcryptHasher;
+    private Argon2idPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashingExecutor(2, 4, 1, new SimpleMeterRegistry());
+        bcryptHasher = new BcryptPasswordHasher(executor, 4);
+        hasher = new Argon2idPasswordHasher(executor, bcryptHasher, 1024, 2, 1);
+    }
+
+    @Test
+    @DisplayName("should produce PHC string carrying its parameters")
+    void shouldProducePhcString() {
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+
+        assertTrue(hash.value().startsWith("$argon2id$v=19$m=1024,t=2,p=1$"));
+    }
+
+    @Test
+    @DisplayName("should generate different hashes for same password")
+    void shouldGenerateDifferentHashesForSamePassword() {
+        Password password = new Password("SecurePass123");
+
+        assertNotEquals(hasher.hash(password).value(), hasher.hash(password).value());
+    }
+
+    @Test
+    @DisplayName("should verify correct password and reject incorrect one")
+    void shouldVerifyPassword() {
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+
+        assertTrue(hasher.verify(new Password("SecurePass123"), hash));
+        assertFalse(hasher.verify(new Password("WrongPass123"), hash));
+    }
+
+    @Test
+    @DisplayName("should verify legacy bcrypt hash and flag it for rehash")
+    void shouldVerifyLegacyBcryptHash() {
+        PasswordHash legacy = bcryptHasher.hash(new Password("SecurePass123"));
+
+        assertTrue(hasher.verify(new Password("SecurePass123"), legacy));
+        assertTrue(hasher.needsRehash(legacy));
+    }
+
+    @Test
+    @DisplayName("should need rehash only when parameters are weaker")
+    void shouldNeedRehashWhenParametersAreWeaker() {
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+        Argon2idPasswordHasher moreIterations = new Argon2idPasswordHasher(executor, bcryptHasher, 1024, 3, 1);
+
+        assertFalse(hasher.needsRehash(hash));
+        assertTrue(moreIterations.needsRehash(hash));
+        assertTrue(moreIterations.verify(new Password("SecurePass123"), hash));
+        assertFalse(hasher.needsRehash(moreIterations.hash(new Password("SecurePass123"))));
+    }
+
+    @Test
+    @DisplayName("should reject malformed hash")
+    void shouldRejectMalformedHash() {
+        assertFalse(hasher.verify(new Password("SecurePass123"), new PasswordHash("not-a-hash")));
+    }
+}
@@ -2,6 +2,7 @@ package com.upkeep.infrastructure.adapter.out.security;
 
 import com.upkeep.domain.model.customer.Password;
 import com.upkeep.domain.model.customer.PasswordHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,7 @@ class BcryptPasswordHasherTest {
 
     @BeforeEach
     void setUp() {
-        hasher = new BcryptPasswordHasher();
+        hasher = new BcryptPasswordHasher(new PasswordHashingExecutor(2, 4, 1, new SimpleMeterRegistry()), 4);
     }
 
     @Test
@@ -61,4 +62,48 @@ class BcryptPasswordHasherTest {
 
         assertFalse(hasher.verify(wrongPassword, hash));
     }
+
+    @Test
+    @DisplayName("should embed cost factor in hash")
+    void shouldEmbedCostFactorInHash() {
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+
+        assertTrue(hash.value().startsWith("$2a$04$"));
+    }
+
+    @Test
+    @DisplayName("should not need rehash when cost matches")
+    void shouldNotNeedRehashWhenCostMatches() {
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+
+        assertFalse(hasher.needsRehash(hash));
+    }
+
+    @Test
+    @DisplayName("should need rehash when cost is lower than configured")
+    void shouldNeedRehashWhenCostIsLower() {
+        BcryptPasswordHasher strongerHasher =
+                new BcryptPasswordHasher(new PasswordHashingExecutor(2, 4, 1, new SimpleMeterRegistry()), 5);
+        PasswordHash hash = hasher.hash(new Password("SecurePass123"));
+
+        assertTrue(strongerHasher.needsRehash(hash));
+        assertTrue(strongerHasher.verify(new Password("SecurePass123"), hash));
+    }
+
+    @Test
+    @DisplayName("should keep hashes made at a higher cost")
+    void shouldNotRehashDownToLowerCost() {
+        BcryptPasswordHasher strongerHasher =
+                new BcryptPasswordHasher(new PasswordHashingExecutor(2, 4, 1, new SimpleMeterRegistry()), 5);
+        PasswordHash hash = strongerHasher.hash(new Password("SecurePass123"));
+
+        assertFalse(hasher.needsRehash(hash));
+        assertTrue(hasher.verify(new Password("SecurePass123"), hash));
+    }
+
+    @Test
+    @DisplayName("should need rehash when hash is not bcrypt")
+    void shouldNeedRehashWhenHashIsNotBcrypt() {
+        assertTrue(hasher.needsRehash(new PasswordHash("$argon2id$v=19$m=8,t=1,p=1$c2FsdA$aGFzaA")));
+    }
 }
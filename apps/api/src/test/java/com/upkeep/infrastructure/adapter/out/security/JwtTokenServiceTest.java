@@ -2,31 +2,53 @@ package com.upkeep.infrastructure.adapter.out.security;
 
 import com.upkeep.application.port.out.auth.RefreshTokenRepository;
 import com.upkeep.application.port.out.auth.RefreshTokenRepository.RefreshTokenData;
+import com.upkeep.application.port.out.auth.RefreshTokenRepository.RefreshTokenSession;
+import com.upkeep.application.port.out.auth.TokenService.RefreshResult;
+import com.upkeep.application.port.out.auth.TokenService.MembershipClaims;
 import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
-import com.upkeep.application.port.out.customer.CustomerRepository;
-import com.upkeep.domain.exception.CustomerNotFoundException;
+import com.upkeep.application.port.out.membership.MembershipVersionStore;
+import com.upkeep.application.port.out.membership.MembershipVersionStore.MembershipSnapshot;
 import com.upkeep.domain.exception.InvalidRefreshTokenException;
+import com.upkeep.domain.model.company.CompanyId;
 import com.upkeep.domain.model.customer.AccountType;
 import com.upkeep.domain.model.customer.Customer;
 import com.upkeep.domain.model.customer.CustomerId;
 import com.upkeep.domain.model.customer.Email;
+import com.upkeep.domain.model.membership.Role;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.jwt.algorithm.SignatureAlgorithm;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,13 +59,18 @@ class JwtTokenServiceTest {
     @Inject
     JwtTokenService tokenService;
 
+    @Inject
+    AccessTokenSigningKey signingKey;
+
     private RefreshTokenRepository refreshTokenRepository;
-    private CustomerRepository customerRepository;
+    private RevokedRefreshTokenFilter revokedFilter;
+    private MembershipVersionStore membershipVersions;
 
     @BeforeEach
     void setUp() {
+        membershipVersions = mock(MembershipVersionStore.class);
         refreshTokenRepository = mock(RefreshTokenRepository.class);
-        customerRepository = mock(CustomerRepository.class);
+        revokedFilter = new RevokedRefreshTokenFilter(1000, 0.000001, Duration.ofDays(7));
     }
 
     @Nested
@@ -62,6 +89,98 @@ class JwtTokenServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("signing algorithms")
+    class SigningAlgorithms {
+
+        @Test
+        @DisplayName("should sign with the configured algorithm and key ID")
+        void shouldSignWithConfiguredAlgorithmAndKeyId() {
+            String token = tokenService.generateAccessToken(createTestCustomer());
+
+            String header = decodeHeader(token);
+            assertTrue(header.contains("\"alg\":\"RS256\""));
+            assertTrue(header.contains("\"kid\":\"upkeep-rs256-1\""));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"ES256, EC", "EDDSA, Ed25519"})
+        @DisplayName("should issue tokens verifiable with the matching public key")
+        void shouldIssueVerifiableTokens(SignatureAlgorithm algorithm, String keyType) throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyType);
+            if ("EC".equals(keyType)) {
+                generator.initialize(256);
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+            JwtTokenService service = new JwtTokenService(refreshTokenRepository, null, new VerifiedTokenCache(0),
+                    revokedFilter, new AccessTokenSigningKey(algorithm, "rotated-key", keyPair.getPrivate()), membershipVersions);
+            service.accessTokenExpirySeconds = 900;
+            Customer customer = createTestCustomer();
+
+            String token = service.generateAccessToken(customer);
+
+            JWTAuthContextInfo verification = new JWTAuthContextInfo(keyPair.getPublic(), "upkeep");
+            verification.setSignatureAlgorithm(Set.of(algorithm));
+            JsonWebToken jwt = new DefaultJWTParser(verification).parse(token);
+            assertEquals(customer.getId().value().toString(), jwt.getSubject());
+            assertTrue(decodeHeader(token).contains("\"kid\":\"rotated-key\""));
+        }
+
+        private String decodeHeader(String token) {
+            return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("membership claims")
+    class MembershipClaimsInToken {
+
+        @Test
+        @DisplayName("should embed the caller's company roles and membership version")
+        void shouldEmbedRolesAndVersion() {
+            Customer customer = createTestCustomer();
+            CompanyId owned = CompanyId.generate();
+            CompanyId joined = CompanyId.generate();
+            when(membershipVersions.snapshot(customer.getId()))
+                    .thenReturn(new MembershipSnapshot(7, Map.of(owned, Role.OWNER, joined, Role.MEMBER)));
+            JwtTokenService service = newService();
+            service.membershipClaimsMaxCompanies = 50;
+
+            TokenClaims claims = tokenService.validateAccessToken(service.generateAccessToken(customer));
+
+            MembershipClaims memberships = claims.memberships();
+            assertEquals(7, memberships.version());
+            assertEquals(Map.of(owned.toString(), Role.OWNER, joined.toString(), Role.MEMBER), memberships.roles());
+        }
+
+        @Test
+        @DisplayName("should carry an empty claim for customers without companies")
+        void shouldCarryEmptyClaim() {
+            Customer customer = createTestCustomer();
+            when(membershipVersions.snapshot(customer.getId())).thenReturn(new MembershipSnapshot(0, Map.of()));
+            JwtTokenService service = newService();
+            service.membershipClaimsMaxCompanies = 50;
+
+            TokenClaims claims = tokenService.validateAccessToken(service.generateAccessToken(customer));
+
+            assertEquals(new MembershipClaims(0, Map.of()), claims.memberships());
+        }
+
+        @Test
+        @DisplayName("should omit the claim when the customer belongs to more companies than allowed")
+        void shouldOmitClaimAboveLimit() {
+            Customer customer = createTestCustomer();
+            when(membershipVersions.snapshot(customer.getId()))
+                    .thenReturn(new MembershipSnapshot(1, Map.of(CompanyId.generate(), Role.OWNER, CompanyId.generate(), Role.OWNER)));
+            JwtTokenService service = newService();
+            service.membershipClaimsMaxCompanies = 1;
+
+            TokenClaims claims = tokenService.validateAccessToken(service.generateAccessToken(customer));
+
+            assertNull(claims.memberships());
+        }
+    }
+
     @Nested
     @DisplayName("generateRefreshToken")
     class GenerateRefreshToken {
@@ -69,14 +188,15 @@ class JwtTokenServiceTest {
         @Test
         @DisplayName("should generate refresh token and save to repository")
         void shouldGenerateAndSaveRefreshToken() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
+            JwtTokenService service = newService();
             Customer customer = createTestCustomer();
 
             String token = service.generateRefreshToken(customer);
 
             assertNotNull(token);
             assertFalse(token.isBlank());
-            verify(refreshTokenRepository).save(any(RefreshTokenData.class));
+            verify(refreshTokenRepository).save(argThat((RefreshTokenData data) ->
+                    Arrays.equals(data.tokenHash(), TokenDigests.sha256(token))));
         }
     }
 
@@ -98,6 +218,18 @@ class JwtTokenServiceTest {
             assertEquals(customer.getAccountType().name(), claims.accountType());
         }
 
+        @Test
+        @DisplayName("should return the same claims when validating a token again")
+        void shouldReturnSameClaimsOnRepeatedValidation() {
+            Customer customer = createTestCustomer();
+            String token = tokenService.generateAccessToken(customer);
+
+            TokenClaims first = tokenService.validateAccessToken(token);
+            TokenClaims second = tokenService.validateAccessToken(token);
+
+            assertEquals(first, second);
+        }
+
         @Test
         @DisplayName("should throw IllegalArgumentException for invalid token")
         void shouldThrowForInvalidToken() {
@@ -113,8 +245,8 @@ class JwtTokenServiceTest {
         @Test
         @DisplayName("should throw InvalidRefreshTokenException when token not found")
         void shouldThrowWhenTokenNotFound() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
-            when(refreshTokenRepository.findByToken("invalid-token"))
+            JwtTokenService service = newService();
+            when(refreshTokenRepository.findSessionByTokenHash(any()))
                     .thenReturn(Optional.empty());
 
             assertThrows(InvalidRefreshTokenException.class,
@@ -124,10 +256,9 @@ class JwtTokenServiceTest {
         @Test
         @DisplayName("should throw InvalidRefreshTokenException when token is expired")
         void shouldThrowWhenTokenExpired() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
-            RefreshTokenData expiredToken = createRefreshTokenData(true, false);
-            when(refreshTokenRepository.findByToken("expired-token"))
-                    .thenReturn(Optional.of(expiredToken));
+            JwtTokenService service = newService();
+            when(refreshTokenRepository.findSessionByTokenHash(any()))
+                    .thenReturn(Optional.of(createSession(true, false)));
 
             assertThrows(InvalidRefreshTokenException.class,
                     () -> service.refreshAccessToken("expired-token"));
@@ -136,28 +267,29 @@ class JwtTokenServiceTest {
         @Test
         @DisplayName("should throw InvalidRefreshTokenException when token is revoked")
         void shouldThrowWhenTokenRevoked() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
-            RefreshTokenData revokedToken = createRefreshTokenData(false, true);
-            when(refreshTokenRepository.findByToken("revoked-token"))
-                    .thenReturn(Optional.of(revokedToken));
+            JwtTokenService service = newService();
+            when(refreshTokenRepository.findSessionByTokenHash(any()))
+                    .thenReturn(Optional.of(createSession(false, true)));
 
             assertThrows(InvalidRefreshTokenException.class,
                     () -> service.refreshAccessToken("revoked-token"));
+            assertTrue(revokedFilter.mightBeRevoked(TokenDigests.sha256("revoked-token")));
         }
 
         @Test
-        @DisplayName("should throw CustomerNotFoundException when customer not found")
-        void shouldThrowWhenCustomerNotFound() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
-            CustomerId customerId = CustomerId.generate();
-            RefreshTokenData validToken = createRefreshTokenData(customerId, false, false);
-            when(refreshTokenRepository.findByToken("valid-token"))
-                    .thenReturn(Optional.of(validToken));
-            when(customerRepository.findById(customerId))
-                    .thenReturn(Optional.empty());
-
-            assertThrows(CustomerNotFoundException.class,
-                    () -> service.refreshAccessToken("valid-token"));
+        @DisplayName("should look up the token by its digest and mint an access token from the joined session")
+        void shouldMintAccessTokenFromSession() {
+            RefreshTokenSession session = createSession(false, false);
+            when(refreshTokenRepository.findSessionByTokenHash(argThat(hash ->
+                    Arrays.equals(hash, TokenDigests.sha256("valid-token")))))
+                    .thenReturn(Optional.of(session));
+
+            RefreshResult result = newService().refreshAccessToken("valid-token");
+
+            assertEquals(session.customerId().value().toString(), result.userId());
+            TokenClaims claims = tokenService.validateAccessToken(result.accessToken());
+            assertEquals(session.email(), claims.email());
+            assertEquals(session.accountType().name(), claims.accountType());
         }
     }
 
@@ -166,17 +298,40 @@ class JwtTokenServiceTest {
     class RevokeRefreshToken {
 
         @Test
-        @DisplayName("should call repository revokeByToken")
-        void shouldCallRepositoryRevokeByToken() {
-            JwtTokenService service = new JwtTokenService(refreshTokenRepository, customerRepository, null);
+        @DisplayName("should revoke by digest and reject later refreshes without a lookup")
+        void shouldRevokeAndShortCircuitRefresh() {
+            JwtTokenService service = newService();
             String token = "some-token";
 
             service.revokeRefreshToken(token);
 
-            verify(refreshTokenRepository).revokeByToken(token);
+            verify(refreshTokenRepository).revokeByTokenHash(argThat(hash ->
+                    Arrays.equals(hash, TokenDigests.sha256(token))));
+            assertThrows(InvalidRefreshTokenException.class, () -> service.refreshAccessToken(token));
+            verify(refreshTokenRepository, never()).findSessionByTokenHash(any());
         }
     }
 
+    private JwtTokenService newService() {
+        JwtTokenService service = new JwtTokenService(refreshTokenRepository, null, new VerifiedTokenCache(0), revokedFilter, signingKey,
+                membershipVersions);
+        service.accessTokenExpirySeconds = 900;
+        return service;
+    }
+
+    private RefreshTokenSession createSession(boolean expired, boolean revoked) {
+        Instant expiresAt = expired ? Instant.now().minusSeconds(600) : Instant.now().plusSeconds(600);
+        Instant revokedAt = revoked ? Instant.now() : null;
+
+        return new RefreshTokenSession(
+                CustomerId.generate(),
+                "test@example.com",
+                AccountType.COMPANY,
+                expiresAt,
+                revokedAt
+        );
+    }
+
     private Customer createTestCustomer() {
         return Customer.reconstitute(
                 CustomerId.generate(),
@@ -187,23 +342,4 @@ class JwtTokenServiceTest {
                 Instant.now()
         );
     }
-
-    private RefreshTokenData createRefreshTokenData(boolean expired, boolean revoked) {
-        return createRefreshTokenData(CustomerId.generate(), expired, revoked);
-    }
-
-    private RefreshTokenData createRefreshTokenData(CustomerId customerId, boolean expired, boolean revoked) {
-        String token = UUID.randomUUID().toString();
-        Instant expiresAt = expired ? Instant.now().minusSeconds(600) : Instant.now().plusSeconds(600);
-        Instant createdAt = Instant.now().minusSeconds(3600);
-        Instant revokedAt = revoked ? Instant.now() : null;
-
-        return new RefreshTokenData(
-                token,
-                customerId,
-                expiresAt,
-                createdAt,
-                revokedAt
-        );
-    }
 }
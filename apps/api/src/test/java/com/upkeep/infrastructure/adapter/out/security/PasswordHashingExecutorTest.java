@@ -0,0 +1,97 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.upkeep.domain.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PasswordHashingExecutor")
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor hashingExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashingExecutor = new PasswordHashingExecutor(1, 1, 3, meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("should return the task result and record its duration")
+    void shouldReturnResultAndRecordDuration() {
+        String result = hashingExecutor.execute("hash", () -> "hashed");
+
+        assertEquals("hashed", result);
+        assertEquals(1, meterRegistry.get("upkeep.password.hashing.duration").tag("operation", "hash").timer().count());
+    }
+
+    @Test
+    @DisplayName("should propagate runtime exceptions thrown by the task")
+    void shouldPropagateTaskException() {
+        assertThrows(IllegalArgumentException.class, () -> hashingExecutor.execute("verify", () -> {
+            throw new IllegalArgumentException("bad hash");
+        }));
+    }
+
+    @Test
+    @DisplayName("should reject immediately with retry hint when pool and queue are saturated")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        callers.submit(() -> hashingExecutor.execute("hash", () -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hashingExecutor.execute("hash", () -> "queued"));
+        waitForQueueDepth(1);
+
+        ServiceBusyException exception = assertThrows(ServiceBusyException.class,
+                () -> hashingExecutor.execute("hash", () -> "rejected"));
+
+        assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("upkeep.password.hashing.rejected").counter().count());
+        release.countDown();
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("upkeep.password.hashing.queue.depth").gauge().value() < depth) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Queue never reached depth " + depth);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RevokedRefreshTokenFilter")
+class RevokedRefreshTokenFilterTest {
+
+    @Test
+    @DisplayName("should report revoked tokens")
+    void shouldReportRevokedTokens() {
+        RevokedRefreshTokenFilter filter = new RevokedRefreshTokenFilter(1000, 0.000001, Duration.ofDays(7));
+        byte[] revoked = TokenDigests.sha256("revoked");
+
+        filter.markRevoked(revoked);
+
+        assertTrue(filter.mightBeRevoked(revoked));
+        assertFalse(filter.mightBeRevoked(TokenDigests.sha256("still-valid")));
+    }
+
+    @Test
+    @DisplayName("should stay near the configured false positive rate")
+    void shouldStayNearFalsePositiveRate() {
+        RevokedRefreshTokenFilter filter = new RevokedRefreshTokenFilter(10_000, 0.001, Duration.ofDays(7));
+        for (int i = 0; i < 10_000; i++) {
+            filter.markRevoked(TokenDigests.sha256("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightBeRevoked(TokenDigests.sha256("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertEquals(10, filter.hashCount());
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("should forget revocations after two generations")
+    void shouldForgetAfterTwoGenerations() throws InterruptedException {
+        RevokedRefreshTokenFilter filter = new RevokedRefreshTokenFilter(1000, 0.000001, Duration.ofMillis(50));
+        byte[] revoked = TokenDigests.sha256("revoked");
+        filter.markRevoked(revoked);
+
+        Thread.sleep(60);
+        assertTrue(filter.mightBeRevoked(revoked));
+
+        Thread.sleep(60);
+        assertFalse(filter.mightBeRevoked(revoked));
+    }
+}
@@ -0,0 +1,68 @@
+package com.upkeep.infrastructure.adapter.out.security;
+
+import com.upkeep.application.port.out.auth.TokenService.TokenClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("VerifiedTokenCache")
+class VerifiedTokenCacheTest {
+
+    private static final TokenClaims CLAIMS = new TokenClaims("user-1", "user@example.com", "COMPANY");
+
+    @Test
+    @DisplayName("should return claims for a token cached before its expiry")
+    void shouldReturnCachedClaims() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+        cache.put("token", CLAIMS, Instant.now().plusSeconds(60));
+
+        assertEquals(CLAIMS, cache.get("token"));
+    }
+
+    @Test
+    @DisplayName("should return null for an unknown token")
+    void shouldReturnNullForUnknownToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+        cache.put("token", CLAIMS, Instant.now().plusSeconds(60));
+
+        assertNull(cache.get("other-token"));
+    }
+
+    @Test
+    @DisplayName("should not cache a token that is already expired")
+    void shouldNotCacheExpiredToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+        cache.put("token", CLAIMS, Instant.now().minusSeconds(1));
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("should stop returning claims once the token expires")
+    void shouldEvictAtExpiry() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+        cache.put("token", CLAIMS, Instant.now().plusMillis(50));
+        Thread.sleep(100);
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    @DisplayName("should never cache when disabled")
+    void shouldNeverCacheWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put("token", CLAIMS, Instant.now().plusSeconds(60));
+
+        assertNull(cache.get("token"));
+    }
+}
@@ -1,4 +1,6 @@
-import {apiRequest} from '@/lib/api';
+import {apiPageRequest, apiRequest, type Page} from '@/lib/api';
+
+const MEMBERS_PAGE_SIZE = 200;
 
 export enum Role {
     OWNER = 'OWNER',
@@ -115,10 +117,25 @@ export async function getCompanyDashboard(companyId: string): Promise<CompanyDas
     });
 }
 
+/**
+ * Loads every member, following the server's cursor page by page.
+ */
 export async function getCompanyMembers(companyId: string): Promise<MemberInfo[]> {
-    return apiRequest<MemberInfo[]>(`/api/companies/${companyId}/members`, {
-        method: 'GET',
-    });
+    const members: MemberInfo[] = [];
+    let cursor: string | null = null;
+    do {
+        const params = new URLSearchParams({limit: String(MEMBERS_PAGE_SIZE)});
+        if (cursor) {
+            params.set('cursor', cursor);
+        }
+        const page: Page<MemberInfo> = await apiPageRequest<MemberInfo>(
+            `/api/companies/${companyId}/members?${params}`,
+            {method: 'GET'}
+        );
+        members.push(...page.items);
+        cursor = page.nextCursor;
+    } while (cursor);
+    return members;
 }
 
 export async function inviteUser(companyId: string, data: InviteUserRequest): Promise<InvitationInfo> {
@@ -4,6 +4,8 @@ export interface ApiResponse<T> {
     data: T | null;
     meta: {
         timestamp: string;
+        pageSize?: number;
+        nextCursor?: string;
     } | null;
     error: {
         code: string;
@@ -28,10 +30,37 @@ export class ApiError extends Error {
     }
 }
 
+export interface Page<T> {
+    items: T[];
+    nextCursor: string | null;
+}
+
 export async function apiRequest<T>(
     endpoint: string,
     options?: RequestInit
 ): Promise<T> {
+    const response = await apiResponse<T>(endpoint, options);
+    return response.data as T;
+}
+
+/**
+ * One page of a keyset-paginated endpoint; nextCursor is null on the last page.
+ */
+export async function apiPageRequest<T>(
+    endpoint: string,
+    options?: RequestInit
+): Promise<Page<T>> {
+    const response = await apiResponse<T[]>(endpoint, options);
+    return {
+        items: response.data ?? [],
+        nextCursor: response.meta?.nextCursor ?? null,
+    };
+}
+
+async function apiResponse<T>(
+    endpoint: string,
+    options?: RequestInit
+): Promise<ApiResponse<T>> {
     const url = `${API_BASE_URL}${endpoint}`;
 
     let response: Response;
@@ -80,5 +109,5 @@ export async function apiRequest<T>(
         );
     }
 
-    return data.data as T;
+    return data;
 }